@@ -1,30 +1,110 @@
 package com.manufacturing.system.application;
 
+import com.manufacturing.system.application.monitoring.EventMetrics;
+import com.manufacturing.system.application.pipeline.PipelineReport;
+import com.manufacturing.system.application.pipeline.ProductionPipeline;
+import com.manufacturing.system.application.planning.AllocationPlan;
+import com.manufacturing.system.application.planning.AllocationPlanner;
+import com.manufacturing.system.application.planning.PlanningObjective;
+import com.manufacturing.system.application.scheduling.OrderScheduler;
+import com.manufacturing.system.application.scheduling.SchedulingPolicies;
+import com.manufacturing.system.application.scheduling.SchedulingPolicy;
+import com.manufacturing.system.application.scheduling.SchedulingReport;
+import com.manufacturing.system.data.BinaryCatalogSource;
+import com.manufacturing.system.data.CatalogSource;
+import com.manufacturing.system.data.CatalogSources;
+import com.manufacturing.system.data.CatalogWatcher;
 import com.manufacturing.system.data.ComponentRepository;
+import com.manufacturing.system.data.ComponentStore;
+import com.manufacturing.system.data.CsvCatalogSource;
+import com.manufacturing.system.data.ObjectComponentStore;
+import com.manufacturing.system.data.PrimitiveComponentStore;
+import com.manufacturing.system.data.StockJournal;
 import com.manufacturing.system.data.ProductRepository;
+import com.manufacturing.system.domain.inventory.Availability;
+import com.manufacturing.system.domain.inventory.AvailableToPromise;
+import com.manufacturing.system.domain.inventory.InventorySnapshot;
+import com.manufacturing.system.domain.inventory.InventoryVersions;
+import com.manufacturing.system.domain.inventory.ShardedInventory;
+import com.manufacturing.system.domain.inventory.StockWaitQueue;
 import com.manufacturing.system.domain.model.Component;
 import com.manufacturing.system.domain.model.Product;
 import com.manufacturing.system.domain.model.ProductionOrder;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.StockEvents;
 import com.manufacturing.system.domain.state.ManufacturingProcess;
+import com.manufacturing.system.domain.state.ProductionEvents;
 import com.manufacturing.system.presentation.Logger;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 /**
  * Üretim süreçlerini koordine eden servis sınıfı.
  * GRASP - Controller prensibine uygun olarak domain nesneleri arasındaki etkileşimi yönetir.
  */
 public class ManufacturingService {
+    private static final String SNAPSHOT_PATH = "target/catalog.snapshot";
+    private static final String CATALOG_SOURCE_PROPERTY = "catalog.source";
+    // "primitive": bileşenler ilkel dizilerde saklanır (çok büyük kataloglar için)
+    private static final String CATALOG_STORE_PROPERTY = "catalog.store";
+    // Stok günlüğü dizini; verilirse tüketim çökmelere karşı kalıcı hale getirilir
+    private static final String STOCK_JOURNAL_PROPERTY = "stock.journal";
+    // Stoğu yetmeyen birimin ikmal için bekleyeceği en uzun süre (ms); verilmezse birim hemen başarısız olur
+    private static final String STOCK_WAIT_PROPERTY = "stock.wait.millis";
+    // Aynı anda yürütülecek en fazla sipariş sayısı; verilirse siparişler sanal iş parçacıklarında eşzamanlı yürütülür
+    private static final String CONCURRENCY_PROPERTY = "manufacturing.concurrency";
+    // Toplu üretimde parti başına birim sayısı; verilmezse birimler tek tek üretilir
+    private static final String BATCH_SIZE_PROPERTY = "manufacturing.batch.size";
+    // Zamanlama politikası ("fifo", "edf", "shortest-bom", "scarce-margin"); verilirse siparişler üretim hatlarına dağıtılır
+    private static final String SCHEDULER_PROPERTY = "manufacturing.scheduler";
+    // Zamanlayıcının kullanacağı üretim hattı sayısı; verilmezse işlemci sayısı
+    private static final String LINES_PROPERTY = "manufacturing.lines";
+    // Örnek siparişlerin satış fiyatı için maliyet üzerine eklenen kâr oranı
+    private static final double SAMPLE_MARGIN_RATE = 0.25;
+    // Örnek siparişlerin teslim süreleri arasındaki fark (ms)
+    private static final long SAMPLE_DUE_STEP_MILLIS = 10;
+    // "true" ise güncel stokla üretilemeyecek siparişler sipariş alımında reddedilir
+    private static final String ATP_CHECK_PROPERTY = "order.atp.check";
+    // Planlama hedefi ("units" veya "margin"); verilirse üretimden önce kıt stok siparişlere tahsis edilir
+    private static final String PLAN_PROPERTY = "manufacturing.plan";
+    // "true" ise tahsis planı açgözlü çözümden başlayan tam çözücüyle iyileştirilir
+    private static final String PLAN_EXACT_PROPERTY = "manufacturing.plan.exact";
+    // Tam çözücüye ayrılan süre (ms)
+    private static final long PLAN_EXACT_MILLIS = 200;
+    // "true" ise her siparişin birimleri rezervasyon, üretim, kalite kontrol ve tamamlama aşamalarından oluşan boru hattında üretilir
+    private static final String PIPELINE_PROPERTY = "manufacturing.pipeline";
+    // Boru hattında aşama başına işçi iş parçacığı sayısı
+    private static final String PIPELINE_WORKERS_PROPERTY = "manufacturing.pipeline.workers";
+    // Boru hattı aşamaları arasındaki kuyrukların kapasitesi
+    private static final String PIPELINE_QUEUE_PROPERTY = "manufacturing.pipeline.queue";
+    private static final int DEFAULT_PIPELINE_QUEUE = 256;
+    // Olay yolu halka tamponunun yuva sayısı; verilirse durum geçişleri ve stok değişiklikleri olay olarak yayımlanır
+    private static final String EVENT_RING_PROPERTY = "events.ring";
+    // Parçalı envanterin parça sayısı; verilirse reçete rezervasyonları bileşen parçalarının sahip iş parçacıklarında yapılır
+    private static final String INVENTORY_SHARDS_PROPERTY = "inventory.shards";
+    
     private final ComponentRepository componentRepository;
     private final ProductRepository productRepository;
     private final Logger logger;
+    private final CatalogWatcher catalogWatcher;
+    private final AvailableToPromise availableToPromise = new AvailableToPromise();
+    private StockJournal stockJournal;
     private final List<ManufacturingProcess> completedProcesses = new ArrayList<>();
     
     public ManufacturingService(Logger logger) {
         this.logger = logger;
-        this.componentRepository = new ComponentRepository("src/main/resources/components.csv", logger);
+        this.componentRepository = new ComponentRepository("src/main/resources/components.csv", logger, createComponentStore());
         this.productRepository = new ProductRepository("src/main/resources/products.csv", componentRepository, logger);
+        this.catalogWatcher = new CatalogWatcher(componentRepository, productRepository, logger);
     }
     
     /**
@@ -34,52 +114,387 @@ public class ManufacturingService {
     public String startManufacturing() {
         logger.log("Üretim Firması Sistemi başlatılıyor...");
         
-        // Veri katmanından bileşenleri yükle
-        logger.log("Bileşenler yükleniyor...");
-        componentRepository.loadComponents();
+        // Kataloğu anlık görüntüden veya CSV dosyalarından yükle
+        loadCatalog();
+        
+        // Ürünlerin üretilebilir miktarlarını stok değiştikçe güncel tut
+        availableToPromise.track(productRepository.getAll());
+        StockEvents.addListener(availableToPromise);
         
-        // Veri katmanından ürünleri yükle
-        logger.log("Ürünler yükleniyor...");
-        productRepository.loadProducts();
+        // Önceki çalışmalardaki stok tüketimini günlükten geri yükle
+        openStockJournal();
+        
+        // Üretim sürerken CSV dosyalarındaki değişiklikleri canlı kataloğa uygula
+        try {
+            catalogWatcher.start();
+        } catch (IOException e) {
+            logger.log("Uyarı: Katalog dosyaları izlenemiyor, değişiklikler yeniden başlatmada yüklenecek: " + e.getMessage());
+        }
         
         // Üretim siparişlerini oluştur (Burada bir örnek oluşturuyoruz, gerçek uygulamada kullanıcı girişi veya dosyadan okunabilir)
         createSampleProductionOrders();
         
         logger.log("\n=== Üretim Başlıyor ===");
+        EventMetrics eventMetrics = openEventBus();
+        openShardedInventory();
         
         // State Pattern kullanarak her ürün için üretim sürecini çalıştır
-        List<ProductionOrder> orders = productRepository.getProductionOrders();
+        long stockWaitMillis = Long.getLong(STOCK_WAIT_PROPERTY, 0);
+        StockWaitQueue stockWaitQueue = null;
+        if (stockWaitMillis > 0) {
+            stockWaitQueue = new StockWaitQueue();
+            StockEvents.addListener(stockWaitQueue);
+        }
+        List<ProductionOrder> orders = planAllocation(productRepository.getProductionOrders());
+        int concurrency = Integer.getInteger(CONCURRENCY_PROPERTY, 0);
+        int batchSize = Math.max(1, Integer.getInteger(BATCH_SIZE_PROPERTY, 1));
+        String schedulerName = System.getProperty(SCHEDULER_PROPERTY);
+        long startTime = System.nanoTime();
+        if (schedulerName != null && !schedulerName.isBlank()) {
+            runScheduled(orders, schedulerName, stockWaitQueue, stockWaitMillis, batchSize);
+        } else if (Boolean.getBoolean(PIPELINE_PROPERTY)) {
+            runPipelined(orders);
+        } else if (concurrency > 0) {
+            runConcurrently(orders, concurrency, stockWaitQueue, stockWaitMillis, batchSize);
+        } else {
+            runSequentially(orders, stockWaitQueue, stockWaitMillis, batchSize);
+        }
+        logProductionThroughput(System.nanoTime() - startTime);
+        if (stockWaitQueue != null) {
+            StockEvents.removeListener(stockWaitQueue);
+            stockWaitQueue.close();
+        }
+        ShardedInventory.close();
+        closeEventBus(eventMetrics);
+        
+        logger.log("\n=== Üretim Tamamlandı ===");
+        catalogWatcher.close();
+        StockEvents.removeListener(availableToPromise);
+        closeStockJournal();
+        long droppedEvents = ProductionEvents.getDroppedEvents();
+        if (droppedEvents > 0) {
+            logger.log("Uyarı: Olay yolu kapandıktan sonra " + droppedEvents + " olay yayımlanamadı");
+        }
+        
+        return generateSummaryReport();
+    }
+    
+    /**
+     * "events.ring" sistem özelliği verilmişse olay yolunu açar ve metrik abonesini ekler. Olay yolu açıkken
+     * oluşturulan süreçler birim ve geçiş çıktısı yazmaz; geçişler abonelerde işlenir.
+     * @return Metrik abonesi; olay yolu açılmadıysa null
+     */
+    private EventMetrics openEventBus() {
+        int capacity = Integer.getInteger(EVENT_RING_PROPERTY, 0);
+        if (capacity <= 0) {
+            return null;
+        }
+        ProductionEvents.open(capacity, logger);
+        EventMetrics metrics = new EventMetrics();
+        ProductionEvents.subscribe("event-metrics", metrics);
+        logger.log("Durum geçişleri ve stok değişiklikleri olay yoluna yayımlanıyor (" + capacity + " yuva)");
+        return metrics;
+    }
+    
+    /**
+     * "inventory.shards" sistem özelliği verilmişse parçalı envanteri açar; üretim bitince kapatılır
+     */
+    private void openShardedInventory() {
+        int shards = Integer.getInteger(INVENTORY_SHARDS_PROPERTY, 0);
+        if (shards <= 0) {
+            return;
+        }
+        ShardedInventory.open(shards);
+        logger.log("Stok rezervasyonları " + shards + " parçalı envantere yönlendiriliyor");
+    }
+    
+    /**
+     * Olay yolunu kapatır ve abonelerin bitirmesini bekledikten sonra metrikleri yazar
+     */
+    private void closeEventBus(EventMetrics metrics) {
+        if (metrics == null) {
+            return;
+        }
+        ProductionEvents.close();
+        logger.log(metrics.toString());
+    }
+    
+    /**
+     * "manufacturing.plan" sistem özelliği verilmişse kıt stoğu siparişlere hedefe göre tahsis eder ve
+     * yalnızca planlanan adetleri döndürür; verilmemişse siparişler olduğu gibi yürütülür.
+     */
+    private List<ProductionOrder> planAllocation(List<ProductionOrder> orders) {
+        String objectiveName = System.getProperty(PLAN_PROPERTY);
+        if (objectiveName == null || objectiveName.isBlank()) {
+            return orders;
+        }
+        PlanningObjective objective;
+        try {
+            objective = PlanningObjective.forName(objectiveName);
+        } catch (IllegalArgumentException e) {
+            logger.log("Uyarı: " + e.getMessage() + ", siparişler planlanmadan yürütülecek");
+            return orders;
+        }
+        AllocationPlanner planner = new AllocationPlanner(objective, Boolean.getBoolean(PLAN_EXACT_PROPERTY), PLAN_EXACT_MILLIS);
+        AllocationPlan plan = planner.plan(orders);
+        logger.log(plan.toString());
+        return plan.getPlannedOrders();
+    }
+    
+    /**
+     * Siparişleri sırayla yürütür. Stok bekleyen siparişler sonraki siparişleri engellemez.
+     */
+    private void runSequentially(List<ProductionOrder> orders, StockWaitQueue stockWaitQueue, long stockWaitMillis, int batchSize) {
+        List<CompletableFuture<ManufacturingProcess>> waitingProcesses = new ArrayList<>();
         for (ProductionOrder order : orders) {
             Product product = order.getProduct();
             int quantity = order.getQuantity();
             
             logger.log("\n--- " + product.getName() + " Üretimi (" + quantity + " adet) ---");
             
-            ManufacturingProcess process = new ManufacturingProcess(product, quantity);
-            process.run();
-            
-            completedProcesses.add(process);
-            logger.log(process.generateReport());
+            ManufacturingProcess process = new ManufacturingProcess(order, stockWaitQueue, stockWaitMillis, batchSize);
+            CompletableFuture<ManufacturingProcess> result = process.start();
+            if (!result.isDone()) {
+                logger.log(product.getName() + " stok bekliyor");
+                waitingProcesses.add(result);
+                continue;
+            }
+            finishProcess(process);
+        }
+        for (CompletableFuture<ManufacturingProcess> result : waitingProcesses) {
+            finishProcess(result.join());
+        }
+    }
+    
+    /**
+     * Her siparişi ayrı bir sanal iş parçacığında, en fazla verilen sayıda sipariş aynı anda olacak şekilde
+     * yürütür. Stok işlemleri kilitsiz ve hepsi ya da hiçbiri olduğu için siparişler aynı bileşenler için
+     * yarışabilir. Sonuçlar iş parçacıklarından toplanmaz; siparişler bittikten sonra sipariş sırasıyla
+     * raporlanır. Stok bekleyen sipariş bekleme süresince eşzamanlılık hakkını bırakır; stok geldiğinde
+     * aynı yürütücüde ve yine eşzamanlılık sınırı içinde devam eder.
+     */
+    private void runConcurrently(List<ProductionOrder> orders, int concurrency, StockWaitQueue stockWaitQueue, long stockWaitMillis,
+                                 int batchSize) {
+        logger.log("Siparişler sanal iş parçacıklarında eşzamanlı yürütülüyor (en fazla " + concurrency + " sipariş)");
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<ManufacturingProcess>> started = new ArrayList<>(orders.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Executor limited = task -> executor.execute(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+            for (ProductionOrder order : orders) {
+                ManufacturingProcess process = new ManufacturingProcess(order, stockWaitQueue, stockWaitMillis, batchSize);
+                process.setResumeExecutor(limited);
+                started.add(CompletableFuture.supplyAsync(process::start, limited).thenCompose(result -> result));
+            }
+            // Stok bekleyen siparişler yürütücüye geri döneceği için yürütücü hepsi bitmeden kapatılmaz
+            CompletableFuture.allOf(started.toArray(new CompletableFuture<?>[0])).join();
+        }
+        for (CompletableFuture<ManufacturingProcess> result : started) {
+            finishProcess(result.join());
+        }
+    }
+    
+    /**
+     * Siparişleri verilen zamanlama politikasıyla üretim hatlarına dağıtır; süreçler politikanın dağıtım
+     * sırasıyla raporlanır ve ardından politikanın verim, gecikme ve teslim tarihi raporu yazılır.
+     */
+    private void runScheduled(List<ProductionOrder> orders, String schedulerName, StockWaitQueue stockWaitQueue,
+                              long stockWaitMillis, int batchSize) {
+        SchedulingPolicy policy;
+        try {
+            policy = SchedulingPolicies.forName(schedulerName);
+        } catch (IllegalArgumentException e) {
+            logger.log("Uyarı: " + e.getMessage() + ", geliş sırası kullanılacak");
+            policy = SchedulingPolicies.FIFO;
+        }
+        int lines = Math.max(1, Integer.getInteger(LINES_PROPERTY, Runtime.getRuntime().availableProcessors()));
+        logger.log("Siparişler '" + policy.getName() + "' politikasıyla " + lines + " üretim hattına dağıtılıyor");
+        SchedulingReport report = new OrderScheduler(lines, stockWaitQueue, stockWaitMillis, batchSize).run(orders, policy);
+        for (ManufacturingProcess process : report.getProcesses()) {
+            finishProcess(process);
+        }
+        logger.log(report.toString());
+    }
+    
+    /**
+     * Her siparişin birimlerini aşamalı boru hattında üretir ve siparişten sonra aşama raporunu yazar.
+     * Boru hattında birimler stok beklemez; stoğu yetmeyen birim rezervasyon aşamasında başarısız olur.
+     */
+    private void runPipelined(List<ProductionOrder> orders) {
+        int workers = Math.max(1, Integer.getInteger(PIPELINE_WORKERS_PROPERTY, 1));
+        int queueCapacity = Math.max(1, Integer.getInteger(PIPELINE_QUEUE_PROPERTY, DEFAULT_PIPELINE_QUEUE));
+        logger.log("Siparişler boru hattında üretiliyor (aşama başına " + workers + " işçi, kuyruk " + queueCapacity + ")");
+        ProductionPipeline pipeline = new ProductionPipeline(workers, queueCapacity, 0);
+        for (ProductionOrder order : orders) {
+            logger.log("\n--- " + order.getProduct().getName() + " Üretimi (" + order.getQuantity() + " adet) ---");
+            PipelineReport report = pipeline.run(order);
+            finishProcess(report.getProcess());
+            logger.log(report.toString());
+        }
+    }
+    
+    /**
+     * Üretim süresini ve işlenen birim başına verimi yazar
+     */
+    private void logProductionThroughput(long elapsedNanos) {
+        long units = 0;
+        for (ManufacturingProcess process : completedProcesses) {
+            units += process.getTotalProcessedCount();
+        }
+        double elapsedMillis = elapsedNanos / 1_000_000.0;
+        logger.log(String.format("Üretim süresi: %.1f ms, %d birim (%.0f birim/sn)", elapsedMillis, units,
+                elapsedMillis > 0 ? units * 1000 / elapsedMillis : 0));
+    }
+    
+    /**
+     * Tamamlanan sürecin stok değişikliklerinin kalıcı olmasını bekler ve raporunu yazar
+     */
+    private void finishProcess(ManufacturingProcess process) {
+        awaitStockJournal();
+        completedProcesses.add(process);
+        logger.log(process.generateReport());
+    }
+    
+    /**
+     * "stock.journal" sistem özelliği verilmişse stok günlüğünü kurtarır ve stok değişikliklerini dinlemeye başlar.
+     */
+    private void openStockJournal() {
+        String directory = System.getProperty(STOCK_JOURNAL_PROPERTY);
+        if (directory == null || directory.isBlank()) {
+            return;
+        }
+        StockJournal journal = new StockJournal(directory, logger);
+        try {
+            journal.recover(componentRepository, productRepository);
+        } catch (IOException e) {
+            logger.log("Uyarı: Stok günlüğü açılamadı, stok değişiklikleri kalıcı olmayacak: " + e.getMessage());
+            return;
+        }
+        journal.start();
+        StockEvents.addListener(journal);
+        stockJournal = journal;
+    }
+    
+    /**
+     * Siparişin stok değişiklikleri günlüğe kalıcı olarak yazılana kadar bekler
+     */
+    private void awaitStockJournal() {
+        if (stockJournal == null) {
+            return;
+        }
+        try {
+            stockJournal.awaitDurable();
+        } catch (IOException e) {
+            logger.log("Uyarı: Stok günlüğü yazılamadı: " + e.getMessage());
+        }
+    }
+    
+    private void closeStockJournal() {
+        if (stockJournal != null) {
+            StockEvents.removeListener(stockJournal);
+            stockJournal.close();
+            stockJournal = null;
+        }
+    }
+    
+    /**
+     * "catalog.store" sistem özelliğine göre bileşen saklama arka ucunu oluşturur.
+     */
+    private ComponentStore createComponentStore() {
+        if ("primitive".equalsIgnoreCase(System.getProperty(CATALOG_STORE_PROPERTY))) {
+            logger.log("Bileşenler ilkel dizi tabanlı depoda saklanacak");
+            return new PrimitiveComponentStore();
+        }
+        return new ObjectComponentStore();
+    }
+    
+    /**
+     * Kataloğu yükler. Varsayılan "binary" kaynağında kaynak CSV'ler değişmemişse ikili anlık görüntü
+     * kullanılır, aksi halde CSV'ler ayrıştırılır ve yeni bir anlık görüntü yazılır.
+     * Diğer kaynaklar ("csv", "commons-csv") doğrudan kullanılır; böylece kurulum başına
+     * en hızlı kaynak "catalog.source" sistem özelliğiyle seçilebilir.
+     */
+    private void loadCatalog() {
+        String sourceName = System.getProperty(CATALOG_SOURCE_PROPERTY, BinaryCatalogSource.NAME);
+        CatalogSource source;
+        try {
+            source = CatalogSources.forName(sourceName, SNAPSHOT_PATH, logger);
+        } catch (IllegalArgumentException e) {
+            logger.log("Uyarı: " + e.getMessage() + ", varsayılan kaynak kullanılacak");
+            source = CatalogSources.forName(BinaryCatalogSource.NAME, SNAPSHOT_PATH, logger);
         }
         
-        logger.log("\n=== Üretim Tamamlandı ===");
+        if (loadFrom(source) || !(source instanceof BinaryCatalogSource)) {
+            return;
+        }
         
-        return generateSummaryReport();
+        // Anlık görüntü kullanılamadı: CSV'den yükle ve bir sonraki açılış için anlık görüntüyü yaz
+        if (loadFrom(new CsvCatalogSource())) {
+            ((BinaryCatalogSource) source).store(componentRepository, productRepository);
+        }
+    }
+    
+    /**
+     * Kataloğu verilen kaynaktan yükler ve süre ile bellek ayırma miktarını raporlar.
+     * Paralel yüklemede diğer iş parçacıklarının ayırdığı bellek sayılmaz.
+     */
+    private boolean loadFrom(CatalogSource source) {
+        long startTime = System.nanoTime();
+        long startAllocation = allocatedBytes();
+        
+        if (!source.load(componentRepository, productRepository)) {
+            return false;
+        }
+        
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        long allocatedKb = (allocatedBytes() - startAllocation) / 1024;
+        logger.log("Katalog '" + source.getName() + "' kaynağından yüklendi: " + componentRepository.getAll().size()
+                + " bileşen, " + productRepository.getAll().size() + " ürün (" + elapsedMillis + " ms, "
+                + allocatedKb + " KB bellek ayrıldı)");
+        return true;
+    }
+    
+    /**
+     * Geçerli iş parçacığının şimdiye kadar ayırdığı bellek miktarını döndürür (desteklenmiyorsa 0)
+     */
+    private long allocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadBean).getCurrentThreadAllocatedBytes();
+        }
+        return 0;
     }
     
     /**
      * Örnek üretim siparişleri oluşturur.
-     * Bu metot, ürünlerin tamamı için birer sipariş oluşturur.
+     * Bu metot, ürünlerin tamamı için birer sipariş oluşturur. Satış fiyatı maliyetin sabit bir oran
+     * fazlasıdır; teslim süreleri sonraki siparişler için daha kısadır, böylece zamanlama politikaları
+     * geliş sırasından farklı sıralar üretir.
      */
     private void createSampleProductionOrders() {
         List<Product> products = productRepository.getAll();
         
         logger.log("Üretim siparişleri oluşturuluyor...");
+        boolean atpCheck = Boolean.getBoolean(ATP_CHECK_PROPERTY);
         
         // Her ürün için bir üretim siparişi oluştur
-        for (Product product : products) {
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
             // Her üründen 1 adet üretilecek
-            ProductionOrder order = new ProductionOrder(product, 1);
+            long dueMillis = (products.size() - i) * SAMPLE_DUE_STEP_MILLIS;
+            if (atpCheck && !availableToPromise.canPromise(product, 1)) {
+                Availability availability = availableToPromise.query(product);
+                logger.log("Sipariş reddedildi: " + product.getName() + " - 1 adet, hemen üretilebilir: "
+                        + availability.getBuildableUnits() + " adet (darboğaz: " + availability.getBottleneck().getName() + ")");
+                continue;
+            }
+            ProductionOrder order = new ProductionOrder(product, 1, 0, dueMillis, product.getCost() * (1 + SAMPLE_MARGIN_RATE));
             productRepository.addProductionOrder(order);
             logger.log("Sipariş oluşturuldu: " + product.getName() + " - 1 adet");
         }
@@ -120,7 +535,38 @@ public class ManufacturingService {
         report.append("  - Sistem Hatası: ").append(totalSystemError).append(" adet\n");
         report.append("  - Hasarlı Bileşen: ").append(totalDamagedComponent).append(" adet\n");
         report.append("  - Stok Yetersizliği: ").append(totalStockShortage).append(" adet\n");
+        appendInventorySummary(report);
         
         return report.toString();
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Envanterin tutarlı bir anlık görüntüsünden stok özetini rapora ekler.
+     * Rapor, üretim devam ederken de stok düşümlerini engellemeden tek bir ana ait değerleri gösterir.
+     */
+    private void appendInventorySummary(StringBuilder report) {
+        long componentUnits = 0;
+        int outOfStock = 0;
+        long productUnits = 0;
+        try (InventorySnapshot snapshot = InventoryVersions.openSnapshot()) {
+            for (Component component : componentRepository.getAll()) {
+                long stock = component.getStockMilli(snapshot);
+                componentUnits += stock;
+                if (stock == 0) {
+                    outOfStock++;
+                }
+            }
+            for (Product product : productRepository.getAll()) {
+                productUnits += product.getStockMilli(snapshot);
+            }
+        }
+        report.append("Stok Durumu:\n");
+        report.append("  - Bileşen Stoğu: ").append(Quantities.format(componentUnits)).append(" adet\n");
+        report.append("  - Stoğu Tükenen Bileşen: ").append(outOfStock).append(" çeşit\n");
+        report.append("  - Ürün Stoğu: ").append(Quantities.format(productUnits)).append(" adet\n");
+        report.append("Hemen Üretilebilir:\n");
+        for (Availability availability : availableToPromise.queryAll(productRepository.getAll())) {
+            report.append("  - ").append(availability).append('\n');
+        }
+    }
+}
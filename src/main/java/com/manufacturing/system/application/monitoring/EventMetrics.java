@@ -0,0 +1,96 @@
+package com.manufacturing.system.application.monitoring;
+
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.state.ManufacturingState;
+import com.manufacturing.system.domain.state.ProductionEvent;
+import com.manufacturing.system.infrastructure.EventHandler;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Olay yolundan durum geçişi ve stok tüketimi metriklerini toplayan abone.
+ * Olaylar tek bir abone iş parçacığında işlendiği için sayaçlar eşzamanlılık gerektirmez; sonuçlar
+ * olay yolu kapatıldıktan sonra okunmalıdır.
+ */
+public final class EventMetrics implements EventHandler<ProductionEvent> {
+    // Raporda gösterilecek en çok tüketilen bileşen sayısı
+    private static final int TOP_COMPONENTS = 5;
+
+    // Önceki durum -> yeni durum -> geçiş sayısı (başlangıç durumuna giriş için önceki durum null)
+    private final Map<ManufacturingState, Map<ManufacturingState, long[]>> transitions = new IdentityHashMap<>();
+    // Bileşen -> üretimde tüketilen miktar (binde bir birim)
+    private final Map<Component, long[]> consumed = new IdentityHashMap<>();
+    private long events;
+    private long batches;
+    private long stockChanges;
+    private long stockAdjustments;
+
+    @Override
+    public void onEvent(ProductionEvent event, long sequence, boolean endOfBatch) {
+        events++;
+        if (endOfBatch) {
+            batches++;
+        }
+        switch (event.getType()) {
+            case STATE_CHANGED:
+                transitions.computeIfAbsent(event.getFromState(), state -> new IdentityHashMap<>())
+                        .computeIfAbsent(event.getToState(), state -> new long[1])[0]++;
+                break;
+            case STOCK_CHANGED:
+                stockChanges++;
+                if (event.getDeltaMilli() < 0) {
+                    consumed.computeIfAbsent(event.getComponent(), component -> new long[1])[0] -= event.getDeltaMilli();
+                }
+                break;
+            default:
+                stockAdjustments++;
+                break;
+        }
+    }
+
+    /**
+     * İşlenen toplam olay sayısı
+     */
+    public long getEvents() {
+        return events;
+    }
+
+    /**
+     * Verilen geçişin sayısı
+     * @param fromState Önceki durum; başlangıç durumuna giriş için null
+     * @param toState Yeni durum
+     * @return Geçiş sayısı
+     */
+    public long getTransitions(ManufacturingState fromState, ManufacturingState toState) {
+        Map<ManufacturingState, long[]> row = transitions.get(fromState);
+        long[] count = row != null ? row.get(toState) : null;
+        return count != null ? count[0] : 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append("Olay yolu: ").append(events).append(" olay, ").append(batches).append(" toplu işleme (ort. ")
+                .append(String.format("%.1f", batches > 0 ? (double) events / batches : 0)).append(" olay)\n");
+        for (Map.Entry<ManufacturingState, Map<ManufacturingState, long[]>> row : transitions.entrySet()) {
+            String from = row.getKey() != null ? row.getKey().getName() : "Başlangıç";
+            for (Map.Entry<ManufacturingState, long[]> entry : row.getValue().entrySet()) {
+                report.append("  - ").append(from).append(" -> ").append(entry.getKey().getName()).append(": ")
+                        .append(entry.getValue()[0]).append('\n');
+            }
+        }
+        report.append("  - Stok değişikliği: ").append(stockChanges).append(", katalog düzeltmesi: ")
+                .append(stockAdjustments).append('\n');
+        List<Map.Entry<Component, long[]>> top = new ArrayList<>(consumed.entrySet());
+        top.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+        for (Map.Entry<Component, long[]> entry : top.subList(0, Math.min(TOP_COMPONENTS, top.size()))) {
+            report.append("  - Tüketilen ").append(entry.getKey().getName()).append(": ")
+                    .append(Quantities.format(entry.getValue()[0])).append('\n');
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package com.manufacturing.system.application.pipeline;
+
+import com.manufacturing.system.domain.state.ManufacturingProcess;
+
+/**
+ * Bir siparişin boru hattı çalışmasının sonuçları: aşama başına kullanım oranı, kuyruk derinliği ve
+ * geri basınç süresi ile uçtan uca verim.
+ */
+public final class PipelineReport {
+    private final ManufacturingProcess process;
+    private final PipelineStage[] stages;
+    private final long elapsedNanos;
+    private final long sourceBlockedNanos;
+
+    PipelineReport(ManufacturingProcess process, PipelineStage[] stages, long elapsedNanos, long sourceBlockedNanos) {
+        this.process = process;
+        this.stages = stages;
+        this.elapsedNanos = elapsedNanos;
+        this.sourceBlockedNanos = sourceBlockedNanos;
+    }
+
+    /**
+     * Siparişin sonuçlarını toplayan süreç
+     */
+    public ManufacturingProcess getProcess() {
+        return process;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Saniyede tamamlanan birim sayısı
+     */
+    public double getThroughput() {
+        return elapsedNanos > 0 ? process.getTotalProcessedCount() * 1e9 / elapsedNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append("Boru hattı: ").append(process.getProduct().getName()).append('\n');
+        report.append(String.format("  - Süre: %.1f ms, %d birim (%.0f birim/sn)%n",
+                elapsedNanos / 1e6, process.getTotalProcessedCount(), getThroughput()));
+        report.append(String.format("  - Kaynak tıkanması: %.1f ms%n", sourceBlockedNanos / 1e6));
+        for (PipelineStage stage : stages) {
+            report.append(String.format("  - %s: %d işçi, %d birim, %%%.0f kullanım, kuyruk ort. %.1f / en fazla %d, tıkanma %.1f ms%n",
+                    stage.getName(), stage.getWorkers(), stage.getProcessed(), stage.utilization(elapsedNanos) * 100,
+                    stage.averageDepth(), stage.getMaxDepth(), stage.getBlockedNanos() / 1e6));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.manufacturing.system.application.pipeline;
+
+import com.manufacturing.system.domain.state.ManufacturingProcess;
+import com.manufacturing.system.infrastructure.BoundedQueue;
+
+/**
+ * Boru hattının bir aşaması: giriş kuyruğu, işçi sayısı ve işçilerden toplanan istatistikler.
+ * İşçiler istatistiklerini kendi yerel değişkenlerinde tutar ve bitişte bir kez birleştirir.
+ */
+final class PipelineStage {
+    private final String name;
+    private final int workers;
+    private final BoundedQueue<ManufacturingProcess> queue;
+    // Aşağıdaki alanlar this ile korunur
+    private long processed;
+    private long busyNanos;
+    private long blockedNanos;
+    private long depthSamples;
+    private long depthSum;
+    private int maxDepth;
+
+    PipelineStage(String name, int workers, int queueCapacity) {
+        this.name = name;
+        this.workers = workers;
+        this.queue = new BoundedQueue<>(queueCapacity);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getWorkers() {
+        return workers;
+    }
+
+    BoundedQueue<ManufacturingProcess> getQueue() {
+        return queue;
+    }
+
+    synchronized void merge(long processed, long busyNanos, long blockedNanos, long depthSamples, long depthSum, int maxDepth) {
+        this.processed += processed;
+        this.busyNanos += busyNanos;
+        this.blockedNanos += blockedNanos;
+        this.depthSamples += depthSamples;
+        this.depthSum += depthSum;
+        this.maxDepth = Math.max(this.maxDepth, maxDepth);
+    }
+
+    synchronized long getProcessed() {
+        return processed;
+    }
+
+    /**
+     * İşçilerin birim işlemekle geçirdiği sürenin toplam işçi süresine oranı
+     */
+    synchronized double utilization(long elapsedNanos) {
+        return elapsedNanos > 0 ? (double) busyNanos / (elapsedNanos * workers) : 0;
+    }
+
+    /**
+     * Sonraki aşamanın kuyruğu dolu olduğu için beklenen toplam süre (geri basınç)
+     */
+    synchronized long getBlockedNanos() {
+        return blockedNanos;
+    }
+
+    /**
+     * Birim alındığı anlarda ölçülen ortalama kuyruk derinliği
+     */
+    synchronized double averageDepth() {
+        return depthSamples > 0 ? (double) depthSum / depthSamples : 0;
+    }
+
+    synchronized int getMaxDepth() {
+        return maxDepth;
+    }
+}
@@ -0,0 +1,243 @@
+package com.manufacturing.system.application.pipeline;
+
+import com.manufacturing.system.domain.model.ProductionOrder;
+import com.manufacturing.system.domain.state.InManufacturingState;
+import com.manufacturing.system.domain.state.ManufacturingProcess;
+import com.manufacturing.system.domain.state.ManufacturingState;
+import com.manufacturing.system.domain.state.ManufacturingStateMachine;
+import com.manufacturing.system.domain.state.QualityCheckState;
+import com.manufacturing.system.domain.state.StageResult;
+import com.manufacturing.system.domain.state.CompletedState;
+import com.manufacturing.system.domain.state.WaitingForStockState;
+import com.manufacturing.system.infrastructure.BoundedQueue;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bir siparişin birimlerini aşamalı bir boru hattında üreten yürütücü.
+ * <p>
+ * Stok kontrolü (rezervasyon), üretim, kalite kontrol ve tamamlama aşamalarının her biri kendi işçi iş parçacıklarında
+ * çalışır; aşamalar arasında sınırlı, kilitsiz kuyruklar vardır. Böylece farklı birimler aynı anda farklı
+ * aşamalarda bulunur. Sonraki aşamanın kuyruğu doluysa aşama bekler (geri basınç); dolaşımdaki birim
+ * bağlamı sayısı sabit olduğu için sipariş kaynağı da sınırlanır. Geçişler durum makinesinin tablosundan
+ * seçilir; başarısız birimler doğrudan tamamlama aşamasına gider.
+ */
+public final class ProductionPipeline {
+    /**
+     * Boru hattı akışı: stok kontrolü (rezervasyon), üretim, kalite kontrol, tamamlanma. Boru hattında
+     * bekleme kuyruğu olmadığı için stoğu yetmeyen birim beklemez, doğrudan başarısız olur.
+     */
+    public static final ManufacturingStateMachine STAGES = ManufacturingStateMachine.builder(WaitingForStockState.INSTANCE)
+            .on(WaitingForStockState.INSTANCE, StageResult.PASSED, InManufacturingState.INSTANCE)
+            .on(InManufacturingState.INSTANCE, StageResult.PASSED, QualityCheckState.INSTANCE)
+            .on(QualityCheckState.INSTANCE, StageResult.PASSED, CompletedState.INSTANCE)
+            .build();
+
+    // Boş kuyrukta meşgul beklemeden uykuya geçiş eşikleri
+    private static final int SPIN_LIMIT = 100;
+    private static final int YIELD_LIMIT = 200;
+    private static final long PARK_NANOS = 20_000;
+
+    private final int workersPerStage;
+    private final int queueCapacity;
+    private final long stageWorkNanos;
+
+    /**
+     * @param workersPerStage Aşama başına işçi iş parçacığı sayısı
+     * @param queueCapacity Aşamalar arası kuyruk kapasitesi
+     * @param stageWorkNanos Her aşamada birim başına simüle edilen iş süresi (0 ise yalnızca durum işlenir)
+     */
+    public ProductionPipeline(int workersPerStage, int queueCapacity, long stageWorkNanos) {
+        if (workersPerStage < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("İşçi sayısı ve kuyruk kapasitesi en az 1 olmalı");
+        }
+        this.workersPerStage = workersPerStage;
+        this.queueCapacity = queueCapacity;
+        this.stageWorkNanos = stageWorkNanos;
+    }
+
+    /**
+     * Siparişin tüm birimlerini boru hattında üretir ve bitene kadar bekler
+     *
+     * @param order Üretim emri
+     * @return Aşama istatistikleri ve siparişin sonuçlarını toplayan süreç
+     */
+    public PipelineReport run(ProductionOrder order) {
+        ManufacturingProcess process = new ManufacturingProcess(order, null, 0, 1, STAGES);
+        PipelineStage[] stages = {
+                new PipelineStage(WaitingForStockState.INSTANCE.getName(), workersPerStage, queueCapacity),
+                new PipelineStage(InManufacturingState.INSTANCE.getName(), workersPerStage, queueCapacity),
+                new PipelineStage(QualityCheckState.INSTANCE.getName(), workersPerStage, queueCapacity),
+                new PipelineStage("Tamamlama", workersPerStage, queueCapacity)
+        };
+        Map<ManufacturingState, PipelineStage> routes = new IdentityHashMap<>();
+        routes.put(WaitingForStockState.INSTANCE, stages[0]);
+        routes.put(InManufacturingState.INSTANCE, stages[1]);
+        routes.put(QualityCheckState.INSTANCE, stages[2]);
+        PipelineStage completion = stages[3];
+
+        // Dolaşımdaki birim bağlamları: tüm kuyruklar dolu ve tüm işçiler meşgulken bile yeter
+        int contexts = stages.length * (queueCapacity + workersPerStage);
+        BoundedQueue<ManufacturingProcess> free = new BoundedQueue<>(contexts);
+        for (int i = 0; i < contexts; i++) {
+            free.offer(process.createUnitContext());
+        }
+
+        int quantity = Math.max(0, order.getQuantity());
+        CountDownLatch remaining = new CountDownLatch(quantity);
+        Run run = new Run(routes, completion, free, remaining);
+        List<Thread> workers = new ArrayList<>();
+        for (PipelineStage stage : stages) {
+            for (int i = 0; i < stage.getWorkers(); i++) {
+                workers.add(Thread.ofPlatform().daemon().name("pipeline-" + stage.getName() + "-" + (i + 1))
+                        .start(() -> run.work(stage)));
+            }
+        }
+
+        long startTime = System.nanoTime();
+        long sourceBlockedNanos = 0;
+        for (int unit = 0; unit < quantity; unit++) {
+            ManufacturingProcess context = free.poll();
+            if (context == null) {
+                long blockedAt = System.nanoTime();
+                context = take(free);
+                sourceBlockedNanos += System.nanoTime() - blockedAt;
+            }
+            context.resetToInitialState();
+            sourceBlockedNanos += put(stages[0].getQueue(), context);
+        }
+        try {
+            remaining.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        run.done = true;
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return new PipelineReport(process, stages, elapsedNanos, sourceBlockedNanos);
+    }
+
+    /**
+     * Bir çalışmanın işçiler arasında paylaşılan durumu
+     */
+    private final class Run {
+        private final Map<ManufacturingState, PipelineStage> routes;
+        private final PipelineStage completion;
+        private final BoundedQueue<ManufacturingProcess> free;
+        private final CountDownLatch remaining;
+        private volatile boolean done;
+
+        private Run(Map<ManufacturingState, PipelineStage> routes, PipelineStage completion,
+                    BoundedQueue<ManufacturingProcess> free, CountDownLatch remaining) {
+            this.routes = routes;
+            this.completion = completion;
+            this.free = free;
+            this.remaining = remaining;
+        }
+
+        /**
+         * Aşamanın kuyruğundaki birimleri çalışma bitene kadar işler
+         */
+        private void work(PipelineStage stage) {
+            BoundedQueue<ManufacturingProcess> queue = stage.getQueue();
+            long processed = 0;
+            long busyNanos = 0;
+            long blockedNanos = 0;
+            long depthSum = 0;
+            int maxDepth = 0;
+            int idle = 0;
+            while (true) {
+                ManufacturingProcess unit = queue.poll();
+                if (unit == null) {
+                    if (done) {
+                        break;
+                    }
+                    idle = backOff(idle);
+                    continue;
+                }
+                idle = 0;
+                int depth = queue.size();
+                depthSum += depth;
+                maxDepth = Math.max(maxDepth, depth);
+
+                long startTime = System.nanoTime();
+                ManufacturingState state = unit.getCurrentState();
+                StageResult result = state.handle(unit);
+                simulateWork();
+                busyNanos += System.nanoTime() - startTime;
+                processed++;
+
+                if (result == StageResult.FINISHED) {
+                    remaining.countDown();
+                    // Havuz tüm bağlamları alacak kadar büyük; ekleme başarısız olmaz
+                    free.offer(unit);
+                } else {
+                    ManufacturingState next = STAGES.next(state, result, unit);
+                    unit.setState(next);
+                    blockedNanos += put(routes.getOrDefault(next, completion).getQueue(), unit);
+                }
+            }
+            stage.merge(processed, busyNanos, blockedNanos, processed, depthSum, maxDepth);
+        }
+    }
+
+    private void simulateWork() {
+        if (stageWorkNanos <= 0) {
+            return;
+        }
+        long end = System.nanoTime() + stageWorkNanos;
+        while (System.nanoTime() - end < 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Birimi kuyruğa ekler; kuyruk doluysa yer açılana kadar bekler
+     * @return Beklenen süre
+     */
+    private static long put(BoundedQueue<ManufacturingProcess> queue, ManufacturingProcess unit) {
+        if (queue.offer(unit)) {
+            return 0;
+        }
+        long startTime = System.nanoTime();
+        int idle = 0;
+        while (!queue.offer(unit)) {
+            idle = backOff(idle);
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    private static ManufacturingProcess take(BoundedQueue<ManufacturingProcess> queue) {
+        int idle = 0;
+        ManufacturingProcess unit;
+        while ((unit = queue.poll()) == null) {
+            idle = backOff(idle);
+        }
+        return unit;
+    }
+
+    /**
+     * Kısa süre meşgul bekler, sonra iş parçacığını bırakır, en sonunda kısa süre uyur
+     */
+    private static int backOff(int idle) {
+        if (idle < SPIN_LIMIT) {
+            Thread.onSpinWait();
+        } else if (idle < YIELD_LIMIT) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return idle + 1;
+    }
+}
@@ -0,0 +1,92 @@
+package com.manufacturing.system.application.planning;
+
+import com.manufacturing.system.domain.model.ProductionOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kıt stoğun siparişlere tahsis planı: her siparişten kaç adet üretileceği ve planın hedef değeri.
+ */
+public final class AllocationPlan {
+    private final List<ProductionOrder> orders;
+    private final int[] allocation;
+    private final PlanningObjective objective;
+    private final double value;
+    private final String solver;
+    private final boolean optimal;
+    private final long elapsedNanos;
+
+    AllocationPlan(List<ProductionOrder> orders, int[] allocation, PlanningObjective objective, double value,
+                   String solver, boolean optimal, long elapsedNanos) {
+        this.orders = orders;
+        this.allocation = allocation;
+        this.objective = objective;
+        this.value = value;
+        this.solver = solver;
+        this.optimal = optimal;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Siparişe tahsis edilen adet
+     * @param index Siparişin listedeki sırası
+     * @return Üretilecek adet
+     */
+    public int getAllocatedUnits(int index) {
+        return allocation[index];
+    }
+
+    /**
+     * Planın hedef değeri (birim sayısı veya toplam marj)
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Optimumluk kanıtlandı mı? Açgözlü planlar için yalnızca tüm siparişler sığıyorsa true
+     */
+    public boolean isOptimal() {
+        return optimal;
+    }
+
+    /**
+     * Planlanan adetlerle yeniden oluşturulmuş siparişler; hiç adet almayan siparişler çıkarılır
+     */
+    public List<ProductionOrder> getPlannedOrders() {
+        List<ProductionOrder> planned = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            ProductionOrder order = orders.get(i);
+            if (allocation[i] == order.getQuantity()) {
+                planned.add(order);
+            } else if (allocation[i] > 0) {
+                planned.add(new ProductionOrder(order.getProduct(), allocation[i], order.getPriority(), order.getDueMillis(),
+                        order.getUnitPrice()));
+            }
+        }
+        return planned;
+    }
+
+    @Override
+    public String toString() {
+        int requested = 0;
+        int allocated = 0;
+        for (int i = 0; i < orders.size(); i++) {
+            requested += orders.get(i).getQuantity();
+            allocated += allocation[i];
+        }
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Tahsis planı (%s, %s): %d/%d birim, hedef değeri %.2f %s, %.1f ms%n", solver,
+                optimal ? "optimum" : "optimum kanıtlanmadı", allocated, requested, value, objective.getUnit(),
+                elapsedNanos / 1e6));
+        for (int i = 0; i < orders.size(); i++) {
+            ProductionOrder order = orders.get(i);
+            if (allocation[i] < order.getQuantity()) {
+                report.append("  - Plana alınmayan: ").append(order.getProduct().getName()).append(" - ")
+                        .append(order.getQuantity() - allocation[i]).append(" adet\n");
+            }
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.manufacturing.system.application.planning;
+
+import com.manufacturing.system.domain.model.ProductionOrder;
+
+import java.util.List;
+
+/**
+ * Üretimden önce, aynı kıt bileşenler için yarışan siparişlerden hangilerinin (ve kaç adedinin) güncel
+ * stokla karşılanacağını seçen planlayıcı. Sipariş sırası yerine seçilen hedef (tamamlanan birim veya
+ * marj) en büyüklenir.
+ * <p>
+ * Açgözlü sezgisel her zaman çalışır ve binlerce sipariş ve bileşende milisaniyeler sürer. Tam çözücü
+ * istenirse açgözlü çözümden başlayarak verilen süre boyunca dal-sınır araması yapar.
+ */
+public final class AllocationPlanner {
+    private final PlanningObjective objective;
+    private final boolean exact;
+    private final long exactTimeLimitMillis;
+
+    /**
+     * @param objective En büyüklenecek hedef
+     * @param exact Tam çözücü kullanılsın mı?
+     * @param exactTimeLimitMillis Tam çözücüye ayrılan süre
+     */
+    public AllocationPlanner(PlanningObjective objective, boolean exact, long exactTimeLimitMillis) {
+        this.objective = objective;
+        this.exact = exact;
+        this.exactTimeLimitMillis = exactTimeLimitMillis;
+    }
+
+    /**
+     * Siparişler için güncel stokla tahsis planı oluşturur. Stok değiştirilmez.
+     *
+     * @param orders Siparişler
+     * @return Tahsis planı
+     */
+    public AllocationPlan plan(List<ProductionOrder> orders) {
+        long startTime = System.nanoTime();
+        AllocationProblem problem = new AllocationProblem(orders, objective);
+        int[] allocation = GreedyAllocator.allocate(problem);
+        boolean optimal = allocatesEverything(problem, allocation);
+        String solver = "açgözlü";
+        if (exact && !optimal) {
+            BranchAndBoundAllocator.Result result = BranchAndBoundAllocator.solve(problem, allocation, exactTimeLimitMillis);
+            allocation = result.allocation;
+            optimal = result.optimal;
+            solver = "dal-sınır, " + result.nodes + " düğüm";
+        }
+        return new AllocationPlan(orders, allocation, objective, problem.value(allocation), solver, optimal,
+                System.nanoTime() - startTime);
+    }
+
+    private static boolean allocatesEverything(AllocationProblem problem, int[] allocation) {
+        for (int j = 0; j < problem.orderCount; j++) {
+            if (allocation[j] < problem.quantities[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+package com.manufacturing.system.application.planning;
+
+import com.manufacturing.system.domain.bom.BomExplosion;
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.ProductionOrder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Siparişler ve güncel stoktan kurulan tamsayılı tahsis problemi:
+ * her sipariş j için 0 &lt;= x[j] &lt;= q[j] adet seçilir, her bileşen i için
+ * toplam(a[i][j] * x[j]) &lt;= s[i] olmalıdır ve toplam(w[j] * x[j]) en büyüklenir.
+ * <p>
+ * Katsayı matrisi seyrektir; her sipariş yalnızca açılmış reçetesindeki bileşenlerin indekslerini ve
+ * birim başına miktarlarını (binde bir birim) tutar.
+ */
+final class AllocationProblem {
+    final int orderCount;
+    final int componentCount;
+    final long[] stock;
+    final int[][] components;
+    final long[][] amounts;
+    final int[] quantities;
+    final double[] values;
+
+    AllocationProblem(List<ProductionOrder> orders, PlanningObjective objective) {
+        Map<Component, Integer> indexes = new HashMap<>();
+        this.orderCount = orders.size();
+        this.components = new int[orderCount][];
+        this.amounts = new long[orderCount][];
+        this.quantities = new int[orderCount];
+        this.values = new double[orderCount];
+        for (int j = 0; j < orderCount; j++) {
+            ProductionOrder order = orders.get(j);
+            BomExplosion bom = order.getProduct().explode();
+            components[j] = new int[bom.size()];
+            amounts[j] = new long[bom.size()];
+            for (int k = 0; k < bom.size(); k++) {
+                Integer index = indexes.putIfAbsent(bom.getComponent(k), indexes.size());
+                components[j][k] = index != null ? index : indexes.size() - 1;
+                amounts[j][k] = bom.getQuantityMilli(k);
+            }
+            values[j] = objective.unitValue(order);
+            // Hedefe katkısı olmayan sipariş hiç plana alınmaz
+            quantities[j] = values[j] > 0 ? Math.max(0, order.getQuantity()) : 0;
+        }
+        this.componentCount = indexes.size();
+        this.stock = new long[componentCount];
+        for (Map.Entry<Component, Integer> entry : indexes.entrySet()) {
+            stock[entry.getValue()] = entry.getKey().getStockMilli();
+        }
+    }
+
+    /**
+     * Siparişin verilen kalan stokla üretilebilecek en fazla adedi (sipariş miktarıyla sınırlı)
+     */
+    int maxUnits(int order, long[] remaining) {
+        long units = quantities[order];
+        int[] lines = components[order];
+        for (int k = 0; k < lines.length && units > 0; k++) {
+            if (amounts[order][k] > 0) {
+                units = Math.min(units, remaining[lines[k]] / amounts[order][k]);
+            }
+        }
+        return (int) units;
+    }
+
+    /**
+     * Siparişin verilen adedinin stoğunu kalan stoktan düşer (negatif adet geri verir)
+     */
+    void take(int order, int units, long[] remaining) {
+        int[] lines = components[order];
+        for (int k = 0; k < lines.length; k++) {
+            remaining[lines[k]] -= amounts[order][k] * units;
+        }
+    }
+
+    /**
+     * Çözümün hedef değeri
+     */
+    double value(int[] allocation) {
+        double total = 0;
+        for (int j = 0; j < orderCount; j++) {
+            total += values[j] * allocation[j];
+        }
+        return total;
+    }
+}
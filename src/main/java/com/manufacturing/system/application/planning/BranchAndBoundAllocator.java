@@ -0,0 +1,204 @@
+package com.manufacturing.system.application.planning;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Tahsis problemini dal-sınır (branch and bound) ile tam çözen tamsayı programlama çözücüsü.
+ * <p>
+ * Siparişler açgözlü sırayla dallanır; her siparişin adedi en büyükten sıfıra denenir. Üst sınır, en çok
+ * aşırı talep gören (kritik) bileşen dışındaki kısıtlar yalnızca sipariş başına adet sınırı olarak
+ * tutulduğunda kalan siparişlerin kesirli sırt çantası değeridir. Başlangıç çözümü açgözlü çözümdür; süre
+ * dolarsa o ana kadarki en iyi çözüm optimum kanıtlanmadan döndürülür.
+ * <p>
+ * Arama özyinelemesizdir, böylece binlerce siparişte yığın taşmaz.
+ */
+final class BranchAndBoundAllocator {
+    private static final double EPSILON = 1e-9;
+    // Süre kontrolü bu kadar düğümde bir yapılır
+    private static final int CLOCK_INTERVAL = 64;
+
+    private final AllocationProblem problem;
+    private final long deadlineNanos;
+    private final Integer[] sequence;
+    private final int[] position;
+    private final int critical;
+    // Siparişin birimi başına kritik bileşen ihtiyacı
+    private final long[] criticalAmounts;
+    private final Integer[] byCriticalRatio;
+    private final long[] remaining;
+    private final int[] current;
+    private int[] best;
+    private double bestValue;
+    private long nodes;
+    private boolean timedOut;
+
+    private BranchAndBoundAllocator(AllocationProblem problem, int[] incumbent, long deadlineNanos) {
+        this.problem = problem;
+        this.deadlineNanos = deadlineNanos;
+        this.sequence = GreedyAllocator.order(problem);
+        this.position = new int[problem.orderCount];
+        for (int i = 0; i < sequence.length; i++) {
+            position[sequence[i]] = i;
+        }
+        this.critical = criticalComponent(problem);
+        this.criticalAmounts = new long[problem.orderCount];
+        double[] ratio = new double[problem.orderCount];
+        for (int j = 0; j < problem.orderCount; j++) {
+            criticalAmounts[j] = critical < 0 ? 0 : coefficient(j, critical);
+            ratio[j] = criticalAmounts[j] > 0 ? problem.values[j] / criticalAmounts[j] : Double.POSITIVE_INFINITY;
+        }
+        this.byCriticalRatio = sequence.clone();
+        Arrays.sort(byCriticalRatio, Comparator.comparingDouble((Integer j) -> -ratio[j]).thenComparingInt(j -> j));
+        this.remaining = problem.stock.clone();
+        this.current = new int[problem.orderCount];
+        this.best = incumbent.clone();
+        this.bestValue = problem.value(incumbent);
+    }
+
+    /**
+     * Problemi çözer
+     *
+     * @param problem Tahsis problemi
+     * @param incumbent Başlangıç çözümü (genellikle açgözlü çözüm)
+     * @param timeLimitMillis Arama için ayrılan süre
+     * @return Çözüm ve optimum kanıtlanıp kanıtlanmadığı
+     */
+    static Result solve(AllocationProblem problem, int[] incumbent, long timeLimitMillis) {
+        BranchAndBoundAllocator solver = new BranchAndBoundAllocator(problem, incumbent,
+                System.nanoTime() + timeLimitMillis * 1_000_000);
+        solver.search();
+        return new Result(solver.best, !solver.timedOut, solver.nodes);
+    }
+
+    private void search() {
+        int n = sequence.length;
+        if (critical < 0) {
+            // Hiçbir bileşen aşırı talep görmüyor: tüm siparişler sığar, açgözlü çözüm optimumdur
+            return;
+        }
+        int[] next = new int[n];
+        double[] restBound = new double[n];
+        double value = 0;
+        int depth = 0;
+        enter(depth, next, restBound);
+        while (depth >= 0) {
+            if (depth == n) {
+                depth--;
+                continue;
+            }
+            int order = sequence[depth];
+            if (current[order] > 0) {
+                problem.take(order, -current[order], remaining);
+                value -= problem.values[order] * current[order];
+                current[order] = 0;
+            }
+            int units = next[depth];
+            if (units < 0 || value + problem.values[order] * units + restBound[depth] <= bestValue + EPSILON) {
+                // Daha küçük adetler daha iyi olamaz
+                depth--;
+                continue;
+            }
+            next[depth] = units - 1;
+            if (units > 0) {
+                problem.take(order, units, remaining);
+                value += problem.values[order] * units;
+                current[order] = units;
+            }
+            if (++nodes % CLOCK_INTERVAL == 0 && System.nanoTime() - deadlineNanos > 0) {
+                timedOut = true;
+                return;
+            }
+            if (value > bestValue + EPSILON) {
+                bestValue = value;
+                best = current.clone();
+            }
+            depth++;
+            enter(depth, next, restBound);
+        }
+    }
+
+    /**
+     * Yeni derinliğe girerken siparişin en fazla adedini ve kalan siparişlerin üst sınırını hesaplar
+     */
+    private void enter(int depth, int[] next, double[] restBound) {
+        if (depth < sequence.length) {
+            next[depth] = problem.maxUnits(sequence[depth], remaining);
+            restBound[depth] = bound(depth + 1);
+        }
+    }
+
+    /**
+     * Verilen sıradaki ve sonraki siparişlerin kalan stokla alabileceği değerin üst sınırı:
+     * kritik bileşen kısıtının kesirli sırt çantası gevşetmesi
+     */
+    private double bound(int from) {
+        double capacity = remaining[critical];
+        double total = 0;
+        for (int order : byCriticalRatio) {
+            if (position[order] < from) {
+                continue;
+            }
+            int units = problem.maxUnits(order, remaining);
+            if (units == 0) {
+                continue;
+            }
+            long amount = criticalAmounts[order];
+            if (amount == 0) {
+                total += problem.values[order] * units;
+            } else if (capacity > 0) {
+                double taken = Math.min(units, capacity / amount);
+                total += problem.values[order] * taken;
+                capacity -= taken * amount;
+            }
+        }
+        return total;
+    }
+
+    private long coefficient(int order, int component) {
+        int[] lines = problem.components[order];
+        for (int k = 0; k < lines.length; k++) {
+            if (lines[k] == component) {
+                return problem.amounts[order][k];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Toplam talebinin stoğa oranı en yüksek bileşen; talep hiçbir bileşenin stoğunu aşmıyorsa -1
+     */
+    private static int criticalComponent(AllocationProblem problem) {
+        double[] demand = new double[problem.componentCount];
+        for (int j = 0; j < problem.orderCount; j++) {
+            for (int k = 0; k < problem.components[j].length; k++) {
+                demand[problem.components[j][k]] += (double) problem.amounts[j][k] * problem.quantities[j];
+            }
+        }
+        int critical = -1;
+        double worst = 1;
+        for (int i = 0; i < problem.componentCount; i++) {
+            double ratio = problem.stock[i] > 0 ? demand[i] / problem.stock[i] : demand[i] > 0 ? Double.POSITIVE_INFINITY : 0;
+            if (ratio > worst) {
+                worst = ratio;
+                critical = i;
+            }
+        }
+        return critical;
+    }
+
+    /**
+     * Çözücü sonucu
+     */
+    static final class Result {
+        final int[] allocation;
+        final boolean optimal;
+        final long nodes;
+
+        private Result(int[] allocation, boolean optimal, long nodes) {
+            this.allocation = allocation;
+            this.optimal = optimal;
+            this.nodes = nodes;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.manufacturing.system.application.planning;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Çok boyutlu sırt çantası problemi için birincil açgözlü sezgisel.
+ * <p>
+ * Her siparişin birim maliyeti, kullandığı bileşenlerin stoğundan birim başına tükettiği payların toplamıdır;
+ * az bulunan bileşeni çok tüketen siparişler pahalıdır. Siparişler birim değer / maliyet oranına göre azalan
+ * sırada dolaşılır ve her biri kalan stoğun izin verdiği en fazla adedi alır. Karmaşıklık, reçete satırı
+ * sayısı artı sıralama kadardır.
+ */
+final class GreedyAllocator {
+
+    private GreedyAllocator() {
+        // Utility sınıfını örneklemeyi engellemek için private constructor
+    }
+
+    /**
+     * Siparişlerin açgözlü sırasını döndürür (branch and bound da aynı sırayla dallanır)
+     */
+    static Integer[] order(AllocationProblem problem) {
+        double[] ratio = new double[problem.orderCount];
+        for (int j = 0; j < problem.orderCount; j++) {
+            double cost = 0;
+            for (int k = 0; k < problem.components[j].length; k++) {
+                long stock = problem.stock[problem.components[j][k]];
+                cost += stock > 0 ? (double) problem.amounts[j][k] / stock : Double.POSITIVE_INFINITY;
+            }
+            ratio[j] = cost > 0 ? problem.values[j] / cost : Double.POSITIVE_INFINITY;
+        }
+        Integer[] sequence = new Integer[problem.orderCount];
+        for (int j = 0; j < sequence.length; j++) {
+            sequence[j] = j;
+        }
+        Arrays.sort(sequence, Comparator.comparingDouble((Integer j) -> -ratio[j]).thenComparingInt(j -> j));
+        return sequence;
+    }
+
+    /**
+     * @return Sipariş başına tahsis edilen adet
+     */
+    static int[] allocate(AllocationProblem problem) {
+        long[] remaining = problem.stock.clone();
+        int[] allocation = new int[problem.orderCount];
+        for (int j : order(problem)) {
+            int units = problem.maxUnits(j, remaining);
+            if (units > 0) {
+                problem.take(j, units, remaining);
+                allocation[j] = units;
+            }
+        }
+        return allocation;
+    }
+}
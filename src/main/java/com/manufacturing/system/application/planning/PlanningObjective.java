@@ -0,0 +1,58 @@
+package com.manufacturing.system.application.planning;
+
+import com.manufacturing.system.domain.model.ProductionOrder;
+
+/**
+ * Stok tahsis planının en büyüklemeye çalıştığı değer.
+ */
+public enum PlanningObjective {
+    /**
+     * Tamamlanan birim sayısı
+     */
+    UNITS("units", "birim"),
+    /**
+     * Toplam kâr marjı (satış fiyatı eksi maliyet); marjı pozitif olmayan siparişler plana alınmaz
+     */
+    MARGIN("margin", "TL marj");
+
+    private final String name;
+    private final String unit;
+
+    PlanningObjective(String name, String unit) {
+        this.name = name;
+        this.unit = unit;
+    }
+
+    /**
+     * Siparişin bir biriminin hedefe katkısı
+     * @param order Sipariş
+     * @return Birim başına değer
+     */
+    double unitValue(ProductionOrder order) {
+        return this == UNITS ? 1 : order.getUnitPrice() - order.getProduct().getCost();
+    }
+
+    /**
+     * Raporlarda değerin yanında gösterilen birim
+     */
+    String getUnit() {
+        return unit;
+    }
+
+    /**
+     * Adı verilen hedefi döndürür.
+     *
+     * @param name Hedef adı ("units" veya "margin")
+     * @return Planlama hedefi
+     * @throws IllegalArgumentException Hedef adı bilinmiyorsa
+     */
+    public static PlanningObjective forName(String name) {
+        String key = name.toLowerCase().trim();
+        for (PlanningObjective objective : values()) {
+            if (objective.name.equals(key)) {
+                return objective;
+            }
+        }
+        throw new IllegalArgumentException("Bilinmeyen planlama hedefi: " + name);
+    }
+}
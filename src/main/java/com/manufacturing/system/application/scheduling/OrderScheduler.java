@@ -0,0 +1,87 @@
+package com.manufacturing.system.application.scheduling;
+
+import com.manufacturing.system.domain.inventory.StockWaitQueue;
+import com.manufacturing.system.domain.model.ProductionOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Siparişleri bir zamanlama politikasına göre sıralayıp simüle edilen üretim hatlarına dağıtan zamanlayıcı.
+ * <p>
+ * Sıralanan siparişler hatlara sırayla dağıtılır; her hat bir ForkJoinPool iş parçacığında kendi kuyruğunu
+ * işler ve boşalınca diğer hatlardan iş çalar. Böylece politikanın önceliği her hatta korunurken yavaş bir
+ * hat diğerlerini bekletmez. Stok bekledikten sonra devam eden siparişler de aynı havuzda yürütülür.
+ */
+public final class OrderScheduler {
+    private final int lineCount;
+    private final StockWaitQueue stockWaitQueue;
+    private final long stockWaitMillis;
+    private final int batchSize;
+
+    /**
+     * @param lineCount Üretim hattı sayısı
+     * @param stockWaitQueue Stok bekleme kuyruğu; null ise stoğu yetmeyen birim hemen başarısız olur
+     * @param stockWaitMillis Stok için en fazla bekleme süresi (ms)
+     * @param batchSize Toplu üretimde parti başına birim sayısı
+     */
+    public OrderScheduler(int lineCount, StockWaitQueue stockWaitQueue, long stockWaitMillis, int batchSize) {
+        if (lineCount < 1) {
+            throw new IllegalArgumentException("Üretim hattı sayısı en az 1 olmalı: " + lineCount);
+        }
+        this.lineCount = lineCount;
+        this.stockWaitQueue = stockWaitQueue;
+        this.stockWaitMillis = stockWaitMillis;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Siparişleri verilen politikayla yürütür ve tümü (stok bekleyenler dahil) bitince raporu döndürür.
+     *
+     * @param orders Siparişler (geliş sırasıyla)
+     * @param policy Zamanlama politikası
+     * @return Politikanın verim, kuyruk gecikmesi ve teslim tarihi raporu
+     */
+    public SchedulingReport run(List<ProductionOrder> orders, SchedulingPolicy policy) {
+        long releaseNanos = System.nanoTime();
+        List<ScheduledOrder> scheduled = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            scheduled.add(new ScheduledOrder(orders.get(i), i, releaseNanos));
+        }
+        scheduled.sort(policy.order(scheduled));
+
+        ProductionLine[] lines = new ProductionLine[lineCount];
+        for (int i = 0; i < lineCount; i++) {
+            lines[i] = new ProductionLine(i + 1);
+        }
+        for (int i = 0; i < scheduled.size(); i++) {
+            lines[i % lineCount].offer(scheduled.get(i));
+        }
+
+        try (ForkJoinPool pool = new ForkJoinPool(lineCount)) {
+            List<Callable<Void>> workers = new ArrayList<>(lineCount);
+            for (ProductionLine line : lines) {
+                workers.add(() -> {
+                    line.run(lines, stockWaitQueue, stockWaitMillis, batchSize, pool);
+                    return null;
+                });
+            }
+            for (Future<Void> worker : pool.invokeAll(workers)) {
+                if (worker.state() == Future.State.FAILED) {
+                    throw new IllegalStateException("Üretim hattı hatayla durdu", worker.exceptionNow());
+                }
+            }
+            // Stok bekleyen siparişler havuzda devam ettiği için havuz hepsi bitmeden kapatılmaz
+            for (ProductionLine line : lines) {
+                for (CompletableFuture<?> completion : line.getCompletions()) {
+                    completion.join();
+                }
+            }
+        }
+        return new SchedulingReport(policy.getName(), scheduled, lines, System.nanoTime() - releaseNanos);
+    }
+}
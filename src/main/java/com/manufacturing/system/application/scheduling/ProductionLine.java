@@ -0,0 +1,83 @@
+package com.manufacturing.system.application.scheduling;
+
+import com.manufacturing.system.domain.inventory.StockWaitQueue;
+import com.manufacturing.system.domain.state.ManufacturingProcess;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * Simüle edilen bir üretim hattı. Hat kendi kuyruğunu baştan (dağıtım sırasıyla) işler; kuyruğu boşalınca
+ * diğer hatların kuyruklarının sonundan, yani en az öncelikli siparişlerinden çalar.
+ * <p>
+ * Stok bekleyen sipariş hattı meşgul etmez; hat bir sonraki siparişe geçer ve sipariş stok
+ * geldiğinde hatların havuzunda tamamlanır.
+ */
+final class ProductionLine {
+    private final int number;
+    private final Deque<ScheduledOrder> queue = new ConcurrentLinkedDeque<>();
+    // Aşağıdaki alanlar yalnızca hattın kendi iş parçacığında yazılır
+    private final List<CompletableFuture<ManufacturingProcess>> completions = new ArrayList<>();
+    private int ordersRun;
+    private int ordersStolen;
+
+    ProductionLine(int number) {
+        this.number = number;
+    }
+
+    void offer(ScheduledOrder order) {
+        queue.offerLast(order);
+    }
+
+    /**
+     * Kendi kuyruğu ve çalınabilecek iş kalmayana kadar sipariş çalıştırır
+     * @param resumeExecutor Stok bekleyen siparişlerin devam ettirileceği yürütücü
+     */
+    void run(ProductionLine[] lines, StockWaitQueue stockWaitQueue, long stockWaitMillis, int batchSize, Executor resumeExecutor) {
+        ScheduledOrder order;
+        while ((order = next(lines)) != null) {
+            ManufacturingProcess process = new ManufacturingProcess(order.getOrder(), stockWaitQueue, stockWaitMillis, batchSize);
+            process.setResumeExecutor(resumeExecutor);
+            order.started(number, process);
+            ScheduledOrder finishing = order;
+            completions.add(process.start().whenComplete((result, error) -> finishing.finished()));
+            ordersRun++;
+        }
+    }
+
+    private ScheduledOrder next(ProductionLine[] lines) {
+        ScheduledOrder order = queue.pollFirst();
+        if (order != null) {
+            return order;
+        }
+        for (int i = 1; i < lines.length; i++) {
+            ProductionLine victim = lines[(number - 1 + i) % lines.length];
+            order = victim.queue.pollLast();
+            if (order != null) {
+                ordersStolen++;
+                return order;
+            }
+        }
+        return null;
+    }
+
+    int getNumber() {
+        return number;
+    }
+
+    List<CompletableFuture<ManufacturingProcess>> getCompletions() {
+        return completions;
+    }
+
+    int getOrdersRun() {
+        return ordersRun;
+    }
+
+    int getOrdersStolen() {
+        return ordersStolen;
+    }
+}
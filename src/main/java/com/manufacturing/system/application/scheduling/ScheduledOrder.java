@@ -0,0 +1,80 @@
+package com.manufacturing.system.application.scheduling;
+
+import com.manufacturing.system.domain.model.ProductionOrder;
+import com.manufacturing.system.domain.state.ManufacturingProcess;
+
+/**
+ * Zamanlayıcıdaki bir sipariş: geliş sırası, teslim tarihi ve hat üzerindeki zaman damgaları.
+ * Zaman damgaları System.nanoTime() değerleridir.
+ */
+public final class ScheduledOrder {
+    private final ProductionOrder order;
+    private final int sequence;
+    private final long releaseNanos;
+    private final long deadlineNanos;
+    // Aşağıdaki alanlar siparişi çalıştıran hat tarafından bir kez yazılır
+    private volatile int line = -1;
+    private volatile long startNanos;
+    private volatile long finishNanos;
+    private volatile ManufacturingProcess process;
+
+    ScheduledOrder(ProductionOrder order, int sequence, long releaseNanos) {
+        this.order = order;
+        this.sequence = sequence;
+        this.releaseNanos = releaseNanos;
+        this.deadlineNanos = order.hasDueDate() ? releaseNanos + order.getDueMillis() * 1_000_000 : Long.MAX_VALUE;
+    }
+
+    public ProductionOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Siparişin geliş sırası (0'dan başlar)
+     */
+    public int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Teslim zamanı; teslim tarihi olmayan siparişler için Long.MAX_VALUE
+     */
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    /**
+     * Siparişi çalıştıran hattın numarası (1'den başlar); henüz başlamadıysa -1
+     */
+    public int getLine() {
+        return line;
+    }
+
+    public ManufacturingProcess getProcess() {
+        return process;
+    }
+
+    /**
+     * Siparişin hatta başlamadan önce kuyrukta beklediği süre
+     */
+    public long getQueueingNanos() {
+        return startNanos - releaseNanos;
+    }
+
+    /**
+     * Sipariş teslim tarihinden sonra mı bitti?
+     */
+    public boolean missedDeadline() {
+        return finishNanos - deadlineNanos > 0 && deadlineNanos != Long.MAX_VALUE;
+    }
+
+    void started(int line, ManufacturingProcess process) {
+        this.line = line;
+        this.process = process;
+        this.startNanos = System.nanoTime();
+    }
+
+    void finished() {
+        this.finishNanos = System.nanoTime();
+    }
+}
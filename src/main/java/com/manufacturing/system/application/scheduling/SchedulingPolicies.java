@@ -0,0 +1,150 @@
+package com.manufacturing.system.application.scheduling;
+
+import com.manufacturing.system.domain.bom.BomExplosion;
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.Quantities;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Yerleşik zamanlama politikaları ve adlarına göre politika fabrikası.
+ */
+public final class SchedulingPolicies {
+    private static final Comparator<ScheduledOrder> BY_SEQUENCE = Comparator.comparingInt(ScheduledOrder::getSequence);
+
+    /**
+     * Geliş sırası
+     */
+    public static final SchedulingPolicy FIFO = new SchedulingPolicy() {
+        @Override
+        public String getName() {
+            return "fifo";
+        }
+
+        @Override
+        public Comparator<ScheduledOrder> order(List<ScheduledOrder> orders) {
+            return BY_SEQUENCE;
+        }
+    };
+
+    /**
+     * En yakın teslim tarihi önce; teslim tarihi olmayanlar en sonda
+     */
+    public static final SchedulingPolicy EARLIEST_DEADLINE = new SchedulingPolicy() {
+        @Override
+        public String getName() {
+            return "edf";
+        }
+
+        @Override
+        public Comparator<ScheduledOrder> order(List<ScheduledOrder> orders) {
+            return Comparator.comparingLong(ScheduledOrder::getDeadlineNanos).thenComparing(BY_SEQUENCE);
+        }
+    };
+
+    /**
+     * Açılmış reçetesi en az yaprak bileşen içeren sipariş önce, eşitlikte az adetli sipariş önce
+     * (en kısa iş önce)
+     */
+    public static final SchedulingPolicy SHORTEST_BOM = new SchedulingPolicy() {
+        @Override
+        public String getName() {
+            return "shortest-bom";
+        }
+
+        @Override
+        public Comparator<ScheduledOrder> order(List<ScheduledOrder> orders) {
+            Map<ScheduledOrder, Integer> lines = new HashMap<>();
+            for (ScheduledOrder order : orders) {
+                lines.put(order, order.getOrder().getProduct().explode().size());
+            }
+            return Comparator.comparingInt((ScheduledOrder order) -> lines.get(order))
+                    .thenComparingInt(order -> order.getOrder().getQuantity())
+                    .thenComparing(BY_SEQUENCE);
+        }
+    };
+
+    /**
+     * Darboğaz bileşenin birimi başına en yüksek kâr marjı önce.
+     * <p>
+     * Darboğaz, tüm siparişlerin toplam ihtiyacının stoğa oranı en yüksek olan yaprak bileşendir. Darboğazı
+     * kullanmayan siparişler kıt stoğu tüketmediği için önce gelir; hiçbir bileşen kıt değilse (oran 1'i
+     * geçmiyorsa) siparişler toplam marja göre sıralanır.
+     */
+    public static final SchedulingPolicy SCARCE_MARGIN = new SchedulingPolicy() {
+        @Override
+        public String getName() {
+            return "scarce-margin";
+        }
+
+        @Override
+        public Comparator<ScheduledOrder> order(List<ScheduledOrder> orders) {
+            Map<Component, Long> demand = new HashMap<>();
+            for (ScheduledOrder order : orders) {
+                BomExplosion bom = order.getOrder().getProduct().explode();
+                for (int i = 0; i < bom.size(); i++) {
+                    demand.merge(bom.getComponent(i), Quantities.times(bom.getQuantityMilli(i), order.getOrder().getQuantity()),
+                            Long::sum);
+                }
+            }
+            Component bottleneck = null;
+            double worstRatio = 1;
+            for (Map.Entry<Component, Long> entry : demand.entrySet()) {
+                double ratio = (double) entry.getValue() / Math.max(1, entry.getKey().getStockMilli());
+                if (ratio > worstRatio) {
+                    worstRatio = ratio;
+                    bottleneck = entry.getKey();
+                }
+            }
+            Map<ScheduledOrder, Double> score = new HashMap<>();
+            for (ScheduledOrder order : orders) {
+                double margin = order.getOrder().getTotalMargin();
+                long usage = bottleneck == null ? 0 : usage(order, bottleneck);
+                score.put(order, bottleneck == null ? margin
+                        : usage == 0 ? Double.POSITIVE_INFINITY : margin / usage);
+            }
+            return Comparator.comparingDouble((ScheduledOrder order) -> -score.get(order)).thenComparing(BY_SEQUENCE);
+        }
+
+        private long usage(ScheduledOrder order, Component component) {
+            BomExplosion bom = order.getOrder().getProduct().explode();
+            for (int i = 0; i < bom.size(); i++) {
+                if (bom.getComponent(i) == component) {
+                    return Quantities.times(bom.getQuantityMilli(i), order.getOrder().getQuantity());
+                }
+            }
+            return 0;
+        }
+    };
+
+    private SchedulingPolicies() {
+        // Utility sınıfını örneklemeyi engellemek için private constructor
+    }
+
+    /**
+     * Yerleşik politikaların tümü
+     */
+    public static List<SchedulingPolicy> all() {
+        return List.of(FIFO, EARLIEST_DEADLINE, SHORTEST_BOM, SCARCE_MARGIN);
+    }
+
+    /**
+     * Adı verilen politikayı döndürür.
+     *
+     * @param name Politika adı ("fifo", "edf", "shortest-bom" veya "scarce-margin")
+     * @return Zamanlama politikası
+     * @throws IllegalArgumentException Politika adı bilinmiyorsa
+     */
+    public static SchedulingPolicy forName(String name) {
+        String key = name.toLowerCase().trim();
+        for (SchedulingPolicy policy : all()) {
+            if (policy.getName().equals(key)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("Bilinmeyen zamanlama politikası: " + name);
+    }
+}
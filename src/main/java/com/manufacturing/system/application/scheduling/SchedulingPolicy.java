@@ -0,0 +1,24 @@
+package com.manufacturing.system.application.scheduling;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Siparişlerin üretim hatlarına dağıtılma sırasını belirleyen zamanlama politikası arayüzü.
+ */
+public interface SchedulingPolicy {
+
+    /**
+     * Politikanın adı ("manufacturing.scheduler" sistem özelliğinde kullanılır)
+     */
+    String getName();
+
+    /**
+     * Verilen sipariş kümesi için dağıtım sırasını oluşturur. Önce gelen sipariş önce dağıtılır.
+     * Bazı politikalar (ör. kıt bileşen başına marj) sırayı tüm kümeye göre belirler.
+     *
+     * @param orders Zamanlanacak siparişler
+     * @return Siparişleri karşılaştıran sıralama
+     */
+    Comparator<ScheduledOrder> order(List<ScheduledOrder> orders);
+}
@@ -0,0 +1,112 @@
+package com.manufacturing.system.application.scheduling;
+
+import com.manufacturing.system.domain.state.ManufacturingProcess;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bir zamanlama politikasıyla yapılan çalışmanın sonuçları: verim, kuyruk gecikmesi yüzdelikleri,
+ * teslim tarihi kaçırmaları ve hat başına iş dağılımı.
+ */
+public final class SchedulingReport {
+    private final String policyName;
+    private final List<ScheduledOrder> orders;
+    private final long elapsedNanos;
+    private final long[] queueingNanos;
+    private final int[] ordersRun;
+    private final int[] ordersStolen;
+
+    SchedulingReport(String policyName, List<ScheduledOrder> orders, ProductionLine[] lines, long elapsedNanos) {
+        this.policyName = policyName;
+        this.orders = orders;
+        this.elapsedNanos = elapsedNanos;
+        this.queueingNanos = new long[orders.size()];
+        for (int i = 0; i < orders.size(); i++) {
+            queueingNanos[i] = orders.get(i).getQueueingNanos();
+        }
+        Arrays.sort(queueingNanos);
+        this.ordersRun = new int[lines.length];
+        this.ordersStolen = new int[lines.length];
+        for (ProductionLine line : lines) {
+            ordersRun[line.getNumber() - 1] = line.getOrdersRun();
+            ordersStolen[line.getNumber() - 1] = line.getOrdersStolen();
+        }
+    }
+
+    public String getPolicyName() {
+        return policyName;
+    }
+
+    /**
+     * Siparişlerin süreçleri, politikanın dağıtım sırasıyla
+     */
+    public List<ManufacturingProcess> getProcesses() {
+        List<ManufacturingProcess> processes = new ArrayList<>(orders.size());
+        for (ScheduledOrder order : orders) {
+            processes.add(order.getProcess());
+        }
+        return processes;
+    }
+
+    /**
+     * İşlenen toplam birim sayısı
+     */
+    public long getUnits() {
+        long units = 0;
+        for (ScheduledOrder order : orders) {
+            units += order.getProcess().getTotalProcessedCount();
+        }
+        return units;
+    }
+
+    /**
+     * Saniyede işlenen birim sayısı
+     */
+    public double getThroughput() {
+        return elapsedNanos > 0 ? getUnits() * 1e9 / elapsedNanos : 0;
+    }
+
+    /**
+     * Kuyrukta bekleme süresinin verilen yüzdeliği (en yakın sıra yöntemi)
+     *
+     * @param percentile 0-100 arası yüzdelik
+     * @return Nanosaniye cinsinden gecikme; sipariş yoksa 0
+     */
+    public long getQueueingPercentile(double percentile) {
+        if (queueingNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * queueingNanos.length);
+        return queueingNanos[Math.max(0, Math.min(queueingNanos.length, rank) - 1)];
+    }
+
+    /**
+     * Teslim tarihinden sonra biten sipariş sayısı
+     */
+    public int getDeadlineMisses() {
+        int misses = 0;
+        for (ScheduledOrder order : orders) {
+            if (order.missedDeadline()) {
+                misses++;
+            }
+        }
+        return misses;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append("Zamanlama politikası: ").append(policyName).append('\n');
+        report.append(String.format("  - Süre: %.1f ms, %d birim (%.0f birim/sn)%n", elapsedNanos / 1e6, getUnits(), getThroughput()));
+        report.append(String.format("  - Kuyruk gecikmesi: p50 %.3f ms, p95 %.3f ms, p99 %.3f ms%n",
+                getQueueingPercentile(50) / 1e6, getQueueingPercentile(95) / 1e6, getQueueingPercentile(99) / 1e6));
+        report.append("  - Teslim tarihi kaçırılan: ").append(getDeadlineMisses()).append(" sipariş\n");
+        for (int i = 0; i < ordersRun.length; i++) {
+            report.append("  - Hat ").append(i + 1).append(": ").append(ordersRun[i]).append(" sipariş (")
+                    .append(ordersStolen[i]).append(" çalındı)\n");
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.presentation.Logger;
+
+import java.io.IOException;
+
+/**
+ * İkili katalog anlık görüntüsünü kullanan katalog kaynağı.
+ * Anlık görüntü yalnızca kaynak CSV dosyaları değişmemişse kullanılır; aksi halde
+ * yükleme yapılmaz ve çağıran taraf bir CSV kaynağına düşer.
+ */
+public class BinaryCatalogSource implements CatalogSource {
+    public static final String NAME = "binary";
+
+    private final CatalogSnapshot snapshot;
+    private final Logger logger;
+
+    public BinaryCatalogSource(String snapshotPath, Logger logger) {
+        this.snapshot = new CatalogSnapshot(snapshotPath, logger);
+        this.logger = logger;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean load(ComponentRepository componentRepository, ProductRepository productRepository) {
+        try {
+            CatalogSnapshot.SourceFingerprint fingerprint =
+                    CatalogSnapshot.fingerprint(componentRepository.getCsvPath(), productRepository.getCsvPath());
+            return snapshot.load(fingerprint, componentRepository, productRepository);
+        } catch (IOException e) {
+            logger.log("Uyarı: Kaynak CSV parmak izi hesaplanamadı: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Depolardaki kataloğu bir sonraki açılış için anlık görüntü olarak kaydeder.
+     * @param componentRepository Bileşen deposu
+     * @param productRepository Ürün deposu
+     */
+    public void store(ComponentRepository componentRepository, ProductRepository productRepository) {
+        try {
+            CatalogSnapshot.SourceFingerprint fingerprint =
+                    CatalogSnapshot.fingerprint(componentRepository.getCsvPath(), productRepository.getCsvPath());
+            snapshot.write(fingerprint, componentRepository, productRepository);
+        } catch (IOException e) {
+            logger.log("Uyarı: Kaynak CSV parmak izi hesaplanamadı: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.manufacturing.system.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * Depo kayıtları için kimlik ve ad üzerinde hash indeksleri ile ad öneki araması için sıralı indeks.
+ * Aynı kimlik veya adla birden fazla kayıt varsa ilk eklenen döndürülür (doğrusal aramayla aynı davranış).
+ * İndeksler eşzamanlı okunabilir; yazmalar depo tarafından senkronize edilir.
+ *
+ * @param <T> Kayıt tipi
+ */
+final class CatalogIndex<T> {
+    // Önek anahtarında küçük harfli ad ile kimliği ayıran karakter (adlarda bulunmaz)
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Function<T, String> idOf;
+    private final Function<T, String> nameOf;
+    private final Map<String, T> byId = new ConcurrentHashMap<>();
+    private final Map<String, T> byName = new ConcurrentHashMap<>();
+    // "küçük harfli ad + ayırıcı + kimlik" -> kayıt, ada göre sıralı
+    private final ConcurrentNavigableMap<String, T> byNamePrefix = new ConcurrentSkipListMap<>();
+
+    CatalogIndex(Function<T, String> idOf, Function<T, String> nameOf) {
+        this.idOf = idOf;
+        this.nameOf = nameOf;
+    }
+
+    void add(T item) {
+        String id = idOf.apply(item);
+        String name = nameOf.apply(item);
+        byId.putIfAbsent(id, item);
+        byName.putIfAbsent(name, item);
+        byNamePrefix.putIfAbsent(prefixKey(name, id), item);
+    }
+
+    /**
+     * Kaydı indekslerden çıkarır. Yalnızca bu kayda işaret eden girdiler silinir;
+     * aynı kimlik veya adı taşıyan diğer kayıtlar çağıran tarafından yeniden eklenmelidir.
+     */
+    void remove(T item) {
+        String id = idOf.apply(item);
+        String name = nameOf.apply(item);
+        byId.remove(id, item);
+        byName.remove(name, item);
+        byNamePrefix.remove(prefixKey(name, id), item);
+    }
+
+    void clear() {
+        byId.clear();
+        byName.clear();
+        byNamePrefix.clear();
+    }
+
+    T findById(String id) {
+        return id == null ? null : byId.get(id);
+    }
+
+    T findByName(String name) {
+        return name == null ? null : byName.get(name);
+    }
+
+    /**
+     * Adı verilen önekle başlayan kayıtları ada göre sıralı döndürür (büyük/küçük harf duyarsız).
+     * Maliyet O(log n + sonuç sayısı)'dır.
+     *
+     * @param prefix Ad öneki
+     * @param limit En fazla döndürülecek kayıt sayısı
+     * @return Eşleşen kayıtlar
+     */
+    List<T> searchByNamePrefix(String prefix, int limit) {
+        String from = prefix.toLowerCase(Locale.ROOT);
+        List<T> result = new ArrayList<>();
+        for (Map.Entry<String, T> entry : byNamePrefix.tailMap(from).entrySet()) {
+            if (result.size() >= limit || !entry.getKey().startsWith(from)) {
+                break;
+            }
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+
+    private static String prefixKey(String name, String id) {
+        return name.toLowerCase(Locale.ROOT) + KEY_SEPARATOR + id;
+    }
+}
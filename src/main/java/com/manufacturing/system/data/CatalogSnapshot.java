@@ -0,0 +1,369 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.domain.bom.BillOfMaterials;
+import com.manufacturing.system.domain.inventory.InventorySnapshot;
+import com.manufacturing.system.domain.inventory.InventoryVersions;
+import com.manufacturing.system.domain.inventory.VersionedStock;
+import com.manufacturing.system.domain.model.*;
+import com.manufacturing.system.presentation.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/**
+ * Çözülmüş kataloğun (bileşenler, ürün reçeteleri ve güncel stoklar) sürümlü ikili anlık görüntüsü.
+ * CSV'den başarılı bir yüklemenin ardından yazılır ve bir sonraki açılışta CSV ayrıştırmadan
+ * sıralı okuma ile yüklenir. Kaynak CSV dosyalarının sağlama toplamı değişmişse anlık görüntü
+ * geçersiz sayılır ve CSV'den yeniden yükleme yapılır.
+ *
+ * Dosya düzeni:
+ * <pre>
+ * int magic, int version
+ * long bileşenCsvBoyutu, long bileşenCsvCrc, long ürünCsvBoyutu, long ürünCsvCrc
+ * int bileşenSayısı  { byte tip, UTF id, UTF ad, double maliyet, double ağırlık, long stok }
+ * int ürünSayısı     { UTF id, UTF ad, long stok, int satırSayısı { int bileşenSırası, long miktar } }
+ * </pre>
+ * Stok ve miktarlar binde bir birim cinsindendir (bkz. {@link Quantities}); tam birimli eski sürüm (1)
+ * anlık görüntüler okunmaz ve CSV'den yeniden oluşturulur.
+ */
+public class CatalogSnapshot {
+    private static final int MAGIC = 0x4D464753; // "MFGS"
+    private static final int VERSION = 2;
+
+    private static final byte TYPE_RAW_MATERIAL = 1;
+    private static final byte TYPE_PAINT = 2;
+    private static final byte TYPE_HARDWARE = 3;
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    private final Path snapshotPath;
+    private final Logger logger;
+
+    public CatalogSnapshot(String snapshotPath, Logger logger) {
+        this.snapshotPath = Path.of(snapshotPath);
+        this.logger = logger;
+    }
+
+    /**
+     * Kaynak CSV dosyalarının boyut ve sağlama toplamları.
+     */
+    public static final class SourceFingerprint {
+        private final long componentsSize;
+        private final long componentsChecksum;
+        private final long productsSize;
+        private final long productsChecksum;
+
+        private SourceFingerprint(long componentsSize, long componentsChecksum, long productsSize, long productsChecksum) {
+            this.componentsSize = componentsSize;
+            this.componentsChecksum = componentsChecksum;
+            this.productsSize = productsSize;
+            this.productsChecksum = productsChecksum;
+        }
+
+        private boolean matches(SourceFingerprint other) {
+            return componentsSize == other.componentsSize && componentsChecksum == other.componentsChecksum
+                    && productsSize == other.productsSize && productsChecksum == other.productsChecksum;
+        }
+    }
+
+    /**
+     * Kaynak CSV dosyalarının parmak izini hesaplar.
+     *
+     * @param componentsCsvPath Bileşen CSV yolu
+     * @param productsCsvPath Ürün CSV yolu
+     * @return Parmak izi
+     * @throws IOException Dosyalar okunamazsa
+     */
+    public static SourceFingerprint fingerprint(String componentsCsvPath, String productsCsvPath) throws IOException {
+        Path components = Path.of(componentsCsvPath);
+        Path products = Path.of(productsCsvPath);
+        return new SourceFingerprint(Files.size(components), checksum(components),
+                                     Files.size(products), checksum(products));
+    }
+
+    /**
+     * Anlık görüntüyü depolara yükler. Dosya yoksa, sürümü farklıysa, kaynak CSV'ler değişmişse
+     * veya dosya bozuksa depolara hiçbir şey eklenmez ve false döner.
+     *
+     * @param expected Güncel kaynak parmak izi
+     * @param componentRepository Bileşenlerin ekleneceği depo
+     * @param productRepository Ürünlerin ekleneceği depo
+     * @return Yükleme başarılıysa true
+     */
+    public boolean load(SourceFingerprint expected, ComponentRepository componentRepository, ProductRepository productRepository) {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath), IO_BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC) {
+                logger.log("Uyarı: Katalog anlık görüntüsü tanınmadı, CSV kullanılacak: " + snapshotPath);
+                return false;
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                logger.log("Uyarı: Katalog anlık görüntüsü sürümü desteklenmiyor (" + version + "), CSV kullanılacak");
+                return false;
+            }
+            SourceFingerprint recorded = new SourceFingerprint(in.readLong(), in.readLong(), in.readLong(), in.readLong());
+            if (!recorded.matches(expected)) {
+                logger.log("Kaynak CSV dosyaları değişmiş, katalog anlık görüntüsü kullanılmayacak");
+                return false;
+            }
+
+            // Önce tüm veriyi oku, ancak dosyanın tamamı geçerliyse depolara ekle
+            int componentCount = in.readInt();
+            List<Component> components = new ArrayList<>(componentCount);
+            for (int i = 0; i < componentCount; i++) {
+                components.add(readComponent(in));
+            }
+
+            int productCount = in.readInt();
+            List<ProductRecord> products = new ArrayList<>(productCount);
+            for (int i = 0; i < productCount; i++) {
+                ProductRecord product = new ProductRecord(in.readUTF(), in.readUTF(), readStock(in), in.readInt());
+                for (int j = 0; j < product.componentIndexes.length; j++) {
+                    int componentIndex = in.readInt();
+                    // Negatif sıralar daha önce yazılmış bir alt montaj ürününü gösterir: -(ürün sırası + 1)
+                    if (componentIndex >= components.size() || componentIndex < -i) {
+                        throw new IOException("Geçersiz bileşen sırası: " + componentIndex);
+                    }
+                    product.componentIndexes[j] = componentIndex;
+                    product.quantities[j] = in.readLong();
+                }
+                products.add(product);
+            }
+
+            // Ürünler, depo arka ucunun döndürdüğü bileşen örneklerine bağlanır
+            List<Component> stored = new ArrayList<>(componentCount);
+            for (Component component : components) {
+                stored.add(componentRepository.add(component));
+            }
+            List<Product> built = new ArrayList<>(productCount);
+            for (ProductRecord record : products) {
+                Product product = new Product(record.id, record.name, record.stock);
+                BillOfMaterials.Builder bom = BillOfMaterials.builder(record.componentIndexes.length);
+                for (int j = 0; j < record.componentIndexes.length; j++) {
+                    int componentIndex = record.componentIndexes[j];
+                    Component component = componentIndex >= 0 ? stored.get(componentIndex) : built.get(-componentIndex - 1);
+                    bom.add(component, record.quantities[j]);
+                }
+                product.replaceComponents(bom.build());
+                built.add(product);
+            }
+            for (Product product : built) {
+                productRepository.add(product);
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.log("Uyarı: Katalog anlık görüntüsü okunamadı, CSV kullanılacak: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Depolardaki kataloğu anlık görüntü olarak yazar.
+     * Yarım kalmış bir yazmanın geçerli dosyayı bozmaması için önce geçici dosyaya yazılır.
+     *
+     * @param fingerprint Kataloğun yüklendiği kaynak CSV'lerin parmak izi
+     * @param componentRepository Bileşen deposu
+     * @param productRepository Ürün deposu
+     */
+    public void write(SourceFingerprint fingerprint, ComponentRepository componentRepository, ProductRepository productRepository) {
+        Path temporary = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try {
+            if (snapshotPath.getParent() != null) {
+                Files.createDirectories(snapshotPath.getParent());
+            }
+
+            // Stoklar tek bir anlık görüntüden okunur; dışa aktarım sırasında devam eden üretim beklemez
+            try (InventorySnapshot inventory = InventoryVersions.openSnapshot();
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), IO_BUFFER_SIZE))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(fingerprint.componentsSize);
+                out.writeLong(fingerprint.componentsChecksum);
+                out.writeLong(fingerprint.productsSize);
+                out.writeLong(fingerprint.productsChecksum);
+
+                List<Component> components = componentRepository.getAll();
+                // Görünüm tabanlı arka uçlarda aynı bileşen farklı örneklerle temsil edilebilir, bu yüzden equals kullanılır
+                Map<Component, Integer> componentIndexes = new HashMap<>(components.size() * 2);
+                out.writeInt(components.size());
+                for (Component component : components) {
+                    componentIndexes.put(component, componentIndexes.size());
+                    writeComponent(out, component, inventory);
+                }
+
+                // Alt montajlar kendilerini kullanan ürünlerden önce yazılır
+                List<Product> products = inDependencyOrder(productRepository.getAll());
+                Map<Product, Integer> productIndexes = new HashMap<>(products.size() * 2);
+                out.writeInt(products.size());
+                for (Product product : products) {
+                    out.writeUTF(product.getId());
+                    out.writeUTF(product.getName());
+                    out.writeLong(product.getStockMilli(inventory));
+                    BillOfMaterials lines = product.getBom();
+                    out.writeInt(lines.size());
+                    for (int j = 0; j < lines.size(); j++) {
+                        Component component = lines.getComponent(j);
+                        Integer index = component instanceof Product
+                                ? toSubAssemblyIndex(productIndexes.get(component))
+                                : componentIndexes.get(component);
+                        if (index == null) {
+                            throw new IOException("Ürün bileşeni depoda bulunamadı: " + component.getName());
+                        }
+                        out.writeInt(index);
+                        out.writeLong(lines.getQuantityMilli(j));
+                    }
+                    productIndexes.put(product, productIndexes.size());
+                }
+            }
+
+            Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.log("Uyarı: Katalog anlık görüntüsü yazılamadı: " + e.getMessage());
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException ignored) {
+                // Geçici dosya silinemezse bir sonraki yazmada üzerine yazılır
+            }
+        }
+    }
+
+    private static Integer toSubAssemblyIndex(Integer productIndex) {
+        return productIndex == null ? null : -productIndex - 1;
+    }
+
+    /**
+     * Ürünleri, her alt montaj kendisini kullanan ürünlerden önce gelecek şekilde sıralar.
+     * Depoda olmayan alt montajlar sıraya eklenmez; yazma sırasında hata olarak raporlanır.
+     */
+    private static List<Product> inDependencyOrder(List<Product> products) {
+        Set<Product> inRepository = Collections.newSetFromMap(new IdentityHashMap<>());
+        inRepository.addAll(products);
+        Set<Product> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Product> ordered = new ArrayList<>(products.size());
+        for (Product product : products) {
+            visitSubAssemblies(product, inRepository, visited, ordered);
+        }
+        return ordered;
+    }
+
+    private static void visitSubAssemblies(Product product, Set<Product> inRepository, Set<Product> visited, List<Product> ordered) {
+        if (!visited.add(product)) {
+            return;
+        }
+        BillOfMaterials lines = product.getBom();
+        for (int i = 0; i < lines.size(); i++) {
+            Component component = lines.getComponent(i);
+            if (component instanceof Product && inRepository.contains(component)) {
+                visitSubAssemblies((Product) component, inRepository, visited, ordered);
+            }
+        }
+        ordered.add(product);
+    }
+
+    private static void writeComponent(DataOutputStream out, Component component, InventorySnapshot inventory) throws IOException {
+        if (!(component instanceof LeafComponent)) {
+            throw new IOException("Desteklenmeyen bileşen tipi: " + component.getClass().getSimpleName());
+        }
+        byte type;
+        switch (((LeafComponent) component).getType()) {
+            case RAW_MATERIAL:
+                type = TYPE_RAW_MATERIAL;
+                break;
+            case PAINT:
+                type = TYPE_PAINT;
+                break;
+            default:
+                type = TYPE_HARDWARE;
+                break;
+        }
+        out.writeByte(type);
+        out.writeUTF(component.getId());
+        out.writeUTF(component.getName());
+        out.writeDouble(component.getCost());
+        out.writeDouble(component.getWeight());
+        out.writeLong(component.getStockMilli(inventory));
+    }
+
+    private static Component readComponent(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        String id = in.readUTF();
+        String name = in.readUTF();
+        double cost = in.readDouble();
+        double weight = in.readDouble();
+        long stock = readStock(in);
+        switch (type) {
+            case TYPE_RAW_MATERIAL:
+                return new RawMaterial(id, name, cost, weight, stock);
+            case TYPE_PAINT:
+                return new Paint(id, name, cost, weight, stock);
+            case TYPE_HARDWARE:
+                return new Hardware(id, name, cost, weight, stock);
+            default:
+                throw new IOException("Bilinmeyen bileşen tipi kodu: " + type);
+        }
+    }
+
+    /**
+     * Okunmuş ancak bileşen referansları henüz bağlanmamış ürün kaydı.
+     */
+    private static final class ProductRecord {
+        private final String id;
+        private final String name;
+        private final long stock;
+        private final int[] componentIndexes;
+        private final long[] quantities;
+
+        private ProductRecord(String id, String name, long stock, int lineCount) throws IOException {
+            if (lineCount < 0) {
+                throw new IOException("Geçersiz reçete satırı sayısı: " + lineCount);
+            }
+            this.id = id;
+            this.name = name;
+            this.stock = stock;
+            this.componentIndexes = new int[lineCount];
+            this.quantities = new long[lineCount];
+        }
+    }
+
+    private static long readStock(DataInputStream in) throws IOException {
+        long stock = in.readLong();
+        if (stock < 0 || stock > VersionedStock.MAX_VALUE) {
+            throw new IOException("Geçersiz stok değeri: " + stock);
+        }
+        return stock;
+    }
+
+    private static long checksum(Path path) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+}
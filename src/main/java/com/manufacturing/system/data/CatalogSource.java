@@ -0,0 +1,22 @@
+package com.manufacturing.system.data;
+
+/**
+ * Katalog kaynağı arayüzü (SPI).
+ * Bileşen ve ürün depolarını farklı kaynaklardan (el yazımı CSV ayrıştırıcı, Commons CSV, ikili anlık görüntü)
+ * aynı şekilde doldurmak için kullanılır. Uygulamalar birbirinin yerine kullanılabilir.
+ */
+public interface CatalogSource {
+    /**
+     * Kaynağın adını döndürür (yapılandırmada ve loglarda kullanılır)
+     * @return Kaynak adı
+     */
+    String getName();
+
+    /**
+     * Kataloğu depolara yükler. Kaynak kullanılamıyorsa depolara hiçbir şey eklenmez.
+     * @param componentRepository Bileşenlerin ekleneceği depo
+     * @param productRepository Ürünlerin ekleneceği depo
+     * @return Katalog yüklendiyse true, kaynak kullanılamıyorsa false
+     */
+    boolean load(ComponentRepository componentRepository, ProductRepository productRepository);
+}
@@ -0,0 +1,35 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.presentation.Logger;
+
+/**
+ * Katalog kaynaklarını adlarına göre oluşturan fabrika sınıfı.
+ */
+public final class CatalogSources {
+
+    private CatalogSources() {
+        // Utility sınıfını örneklemeyi engellemek için private constructor
+    }
+
+    /**
+     * Adı verilen katalog kaynağını oluşturur.
+     *
+     * @param name Kaynak adı ("csv", "commons-csv" veya "binary")
+     * @param snapshotPath İkili anlık görüntü dosyasının yolu
+     * @param logger Logger
+     * @return Katalog kaynağı
+     * @throws IllegalArgumentException Kaynak adı bilinmiyorsa
+     */
+    public static CatalogSource forName(String name, String snapshotPath, Logger logger) {
+        switch (name.toLowerCase().trim()) {
+            case CsvCatalogSource.NAME:
+                return new CsvCatalogSource();
+            case CommonsCsvCatalogSource.NAME:
+                return new CommonsCsvCatalogSource(logger);
+            case BinaryCatalogSource.NAME:
+                return new BinaryCatalogSource(snapshotPath, logger);
+            default:
+                throw new IllegalArgumentException("Bilinmeyen katalog kaynağı: " + name);
+        }
+    }
+}
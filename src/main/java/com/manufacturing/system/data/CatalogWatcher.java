@@ -0,0 +1,234 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.presentation.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bileşen ve ürün CSV dosyalarını izleyerek değişiklikleri çalışan depolara artımlı olarak uygulayan sınıf.
+ * Her satırın özeti saklanır; dosya değiştiğinde yalnızca özeti değişen veya yeni eklenen satırlar
+ * ayrıştırılıp depolara uygulanır. Silinen satırlar canlı katalogdan kaldırılmaz.
+ */
+public class CatalogWatcher implements AutoCloseable {
+    // Editörlerin art arda yaptığı yazmaları tek bir yeniden yüklemede toplamak için bekleme süresi
+    private static final long DEBOUNCE_MILLIS = 200;
+
+    private final ComponentRepository componentRepository;
+    private final ProductRepository productRepository;
+    private final Logger logger;
+    private final Path componentsPath;
+    private final Path productsPath;
+
+    // Satır anahtarı (bileşen/ürün adı) -> son uygulanan satır durumu
+    private final Map<String, RowState> componentRows = new HashMap<>();
+    private final Map<String, RowState> productRows = new HashMap<>();
+
+    private WatchService watchService;
+    private Thread thread;
+
+    public CatalogWatcher(ComponentRepository componentRepository, ProductRepository productRepository, Logger logger) {
+        this.componentRepository = componentRepository;
+        this.productRepository = productRepository;
+        this.logger = logger;
+        this.componentsPath = Path.of(componentRepository.getCsvPath()).toAbsolutePath().normalize();
+        this.productsPath = Path.of(productRepository.getCsvPath()).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Mevcut dosyaların satır özetlerini çıkarır ve izleme iş parçacığını başlatır.
+     * Depoların bu dosyalardan yüklenmiş olduğu varsayılır.
+     *
+     * @throws IOException İzleme servisi başlatılamazsa
+     */
+    public synchronized void start() throws IOException {
+        if (thread != null) {
+            return;
+        }
+        // İlk tarama: yalnızca özetleri kaydet, depolara bir şey uygulama
+        scanComponents(false);
+        scanProducts(false);
+
+        watchService = FileSystems.getDefault().newWatchService();
+        Set<Path> directories = new HashSet<>();
+        directories.add(componentsPath.getParent());
+        directories.add(productsPath.getParent());
+        for (Path directory : directories) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+        }
+
+        thread = new Thread(this::watchLoop, "catalog-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.log("Katalog dosyaları değişiklikler için izleniyor: " + directories);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.log("Uyarı: Katalog izleyici kapatılamadı: " + e.getMessage());
+            }
+        }
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Thread.sleep(DEBOUNCE_MILLIS);
+
+                boolean componentsChanged = false;
+                boolean productsChanged = false;
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        componentsChanged = true;
+                        productsChanged = true;
+                        continue;
+                    }
+                    Path changed = directory.resolve((Path) event.context()).toAbsolutePath().normalize();
+                    componentsChanged |= changed.equals(componentsPath);
+                    productsChanged |= changed.equals(productsPath);
+                }
+                key.reset();
+
+                try {
+                    reload(componentsChanged, productsChanged);
+                } catch (IOException e) {
+                    logger.log("Uyarı: Değişen katalog dosyası okunamadı: " + e.getMessage());
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // İzleyici kapatıldı
+        }
+    }
+
+    /**
+     * Değişen dosyaların özeti değişmiş satırlarını depolara uygular. Uygulamalar birbirini beklediği için
+     * satır özetleri tutarlı kalır.
+     *
+     * @param componentsChanged Bileşen dosyası değişti mi?
+     * @param productsChanged Ürün dosyası değişti mi?
+     * @throws IOException Dosya okunamazsa
+     */
+    synchronized void reload(boolean componentsChanged, boolean productsChanged) throws IOException {
+        // Yeni bileşenler ürün reçetelerinde kullanılabileceği için önce bileşenler uygulanır
+        if (componentsChanged) {
+            scanComponents(true);
+        }
+        if (productsChanged) {
+            scanProducts(true);
+        }
+    }
+
+    /**
+     * Bileşen dosyasını tarar; apply true ise değişen satırları depoya uygular.
+     */
+    private void scanComponents(boolean apply) throws IOException {
+        int changedRows = 0;
+        try (CsvCursor cursor = FileParser.openCursor(componentsPath.toString())) {
+            int[] columns = componentRepository.resolveColumns(cursor);
+            int nameColumn = columns[0];
+            while (cursor.next()) {
+                if (cursor.isEmpty(nameColumn)) {
+                    continue;
+                }
+                String name = cursor.getString(nameColumn);
+                long hash = cursor.lineHash();
+                RowState state = componentRows.get(name);
+                if (state != null && state.hash == hash) {
+                    continue;
+                }
+
+                if (!apply) {
+                    componentRows.put(name, new RowState(hash, parseStock(cursor, columns[4])));
+                    continue;
+                }
+                long previousStock = state != null ? state.stock : 0;
+                long newStock = componentRepository.applyChangedRow(cursor, columns, previousStock);
+                if (newStock >= 0) {
+                    componentRows.put(name, new RowState(hash, newStock));
+                    changedRows++;
+                }
+            }
+        }
+        if (apply) {
+            logger.log("Bileşen dosyası yeniden yüklendi: " + changedRows + " satır uygulandı");
+        }
+    }
+
+    /**
+     * Ürün dosyasını tarar; apply true ise değişen satırları depoya uygular.
+     */
+    private void scanProducts(boolean apply) throws IOException {
+        int changedRows = 0;
+        try (CsvCursor cursor = FileParser.openCursor(productsPath.toString())) {
+            int nameColumn = cursor.columnIndex("Product Name");
+            ProductRepository.ProductColumns columns = null;
+            while (cursor.next()) {
+                if (cursor.isEmpty(nameColumn)) {
+                    continue;
+                }
+                String name = cursor.getString(nameColumn);
+                long hash = cursor.lineHash();
+                RowState state = productRows.get(name);
+                if (state != null && state.hash == hash) {
+                    continue;
+                }
+
+                if (apply) {
+                    // Sütunlar yalnızca değişen bir satır bulunduğunda çözülür
+                    if (columns == null) {
+                        columns = productRepository.resolveColumns(cursor);
+                    }
+                    if (!productRepository.applyChangedRow(cursor, columns)) {
+                        continue;
+                    }
+                    changedRows++;
+                }
+                productRows.put(name, new RowState(hash, 0));
+            }
+        }
+        if (apply) {
+            logger.log("Ürün dosyası yeniden yüklendi: " + changedRows + " satır uygulandı");
+        }
+    }
+
+    private long parseStock(CsvCursor cursor, int stockColumn) {
+        try {
+            return cursor.isEmpty(stockColumn) ? 0 : cursor.getLeadingMilli(stockColumn);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Bir CSV satırının son uygulanan özeti ve (bileşenler için) CSV'deki stok değeri (binde bir birim).
+     */
+    private static final class RowState {
+        private final long hash;
+        private final long stock;
+
+        private RowState(long hash, long stock) {
+            this.hash = hash;
+            this.stock = stock;
+        }
+    }
+}
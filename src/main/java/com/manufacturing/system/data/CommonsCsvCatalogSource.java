@@ -0,0 +1,41 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.presentation.Logger;
+
+import java.io.IOException;
+
+/**
+ * Apache Commons CSV ayrıştırıcısını akış olarak kullanan katalog kaynağı.
+ * Tırnaklı alanlar içeren dışa aktarımlar için tercih edilebilir.
+ */
+public class CommonsCsvCatalogSource implements CatalogSource {
+    public static final String NAME = "commons-csv";
+
+    private final Logger logger;
+
+    public CommonsCsvCatalogSource(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean load(ComponentRepository componentRepository, ProductRepository productRepository) {
+        try (CommonsCsvRowReader reader = new CommonsCsvRowReader(componentRepository.getCsvPath())) {
+            componentRepository.loadComponents(reader);
+        } catch (IOException e) {
+            logger.log("Uyarı: Bileşen CSV dosyası boş veya okunamadı. Dosya yolu: " + componentRepository.getCsvPath() + " (" + e.getMessage() + ")");
+            return false;
+        }
+
+        try (CommonsCsvRowReader reader = new CommonsCsvRowReader(productRepository.getCsvPath())) {
+            productRepository.loadProducts(reader);
+        } catch (IOException e) {
+            logger.log("Uyarı: Ürün CSV dosyası boş veya okunamadı. Dosya yolu: " + productRepository.getCsvPath() + " (" + e.getMessage() + ")");
+        }
+        return !componentRepository.getAll().isEmpty();
+    }
+}
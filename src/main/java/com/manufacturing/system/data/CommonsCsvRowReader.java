@@ -0,0 +1,137 @@
+package com.manufacturing.system.data;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Apache Commons CSV ayrıştırıcısını {@link CsvRowReader} arayüzüne uyarlayan okuyucu.
+ * Dosya akış olarak okunur; tırnaklı alanlar gibi el yazımı ayrıştırıcının desteklemediği
+ * CSV özellikleri de işlenir, ancak her hücre için ayrı bir String oluşturulur.
+ */
+public class CommonsCsvRowReader implements CsvRowReader {
+    private static final char SEPARATOR = ';'; // CSV ayırıcı karakteri
+    private static final int BYTE_ORDER_MARK = 0xFEFF;
+
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setDelimiter(SEPARATOR)
+            .setTrim(true)
+            .setIgnoreEmptyLines(true)
+            .build();
+
+    private final String filePath;
+    private final CSVParser parser;
+    private final Iterator<CSVRecord> records;
+    private final String[] headers;
+    private CSVRecord current;
+
+    /**
+     * Dosyayı açar ve başlık satırını okur.
+     *
+     * @param filePath CSV dosya yolu
+     * @throws IOException Dosya okunamazsa veya başlık satırı yoksa
+     */
+    public CommonsCsvRowReader(String filePath) throws IOException {
+        this.filePath = filePath;
+        this.parser = CSVParser.parse(skipByteOrderMark(filePath), FORMAT);
+        try {
+            this.records = parser.iterator();
+            if (!records.hasNext()) {
+                throw new IOException("CSV başlıkları okunamadı: " + filePath);
+            }
+            List<String> values = records.next().toList();
+            this.headers = values.toArray(new String[0]);
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        try {
+            if (!records.hasNext()) {
+                current = null;
+                return false;
+            }
+            current = records.next();
+            return true;
+        } catch (IllegalStateException e) {
+            // Commons CSV okuma hatalarını IllegalStateException içinde iletir
+            throw new IOException("CSV okuma hatası: " + filePath + " - " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int getColumnCount() {
+        return headers.length;
+    }
+
+    @Override
+    public String getHeader(int column) {
+        return headers[column];
+    }
+
+    @Override
+    public int columnIndex(String header) {
+        for (int i = 0; i < headers.length; i++) {
+            if (headers[i].equals(header)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public CharSequence cell(int column) {
+        return getString(column);
+    }
+
+    @Override
+    public String getString(int column) {
+        if (current == null || column < 0 || column >= headers.length || column >= current.size()) {
+            return "";
+        }
+        return current.get(column);
+    }
+
+    @Override
+    public int nextNonZeroCell(int fromColumn) {
+        for (int column = Math.max(0, fromColumn); column < headers.length; column++) {
+            String value = getString(column);
+            if (!value.isEmpty() && !CsvNumbers.isZero(value)) {
+                return column;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String currentLine() {
+        return current == null ? "" : String.join(String.valueOf(SEPARATOR), current.toList());
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private static Reader skipByteOrderMark(String filePath) throws IOException {
+        PushbackReader reader = new PushbackReader(
+                new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8));
+        int first = reader.read();
+        if (first != -1 && first != BYTE_ORDER_MARK) {
+            reader.unread(first);
+        }
+        return reader;
+    }
+}
@@ -1,157 +1,330 @@
 package com.manufacturing.system.data;
 
+import com.manufacturing.system.domain.inventory.VersionedStock;
 import com.manufacturing.system.domain.model.*;
 import com.manufacturing.system.presentation.Logger;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToIntFunction;
 
 /**
  * Component nesnelerini depolamak ve yönetmek için kullanılan depo sınıfı.
  */
 public class ComponentRepository {
-    private final List<Component> components;
+    private final ComponentStore store;
     private final Logger logger;
     private final String componentsCsvPath;
 
     public ComponentRepository(String componentsCsvPath, Logger logger) {
-        this.components = new ArrayList<>();
+        this(componentsCsvPath, logger, new ObjectComponentStore());
+    }
+
+    /**
+     * Verilen saklama arka ucunu kullanan depo oluşturur.
+     * @param componentsCsvPath Bileşen CSV dosya yolu
+     * @param logger Logger
+     * @param store Bileşen saklama arka ucu (ör. büyük kataloglar için {@link PrimitiveComponentStore})
+     */
+    public ComponentRepository(String componentsCsvPath, Logger logger, ComponentStore store) {
+        this.store = store;
         this.logger = logger;
         this.componentsCsvPath = componentsCsvPath;
     }
 
     /**
      * CSV dosyasından bileşenleri yükler.
+     * Dosya satır satır okunur; bellek kullanımı dosya boyutundan bağımsızdır.
      */
     public void loadComponents() {
-        List<Map<String, String>> records = FileParser.parseCSV(componentsCsvPath);
-        if (records.isEmpty()) {
-            logger.log("Uyarı: Bileşen CSV dosyası boş veya okunamadı. Dosya yolu: " + componentsCsvPath);
-            return;
+        try (CsvCursor cursor = FileParser.openCursor(componentsCsvPath)) {
+            loadComponents(cursor);
+        } catch (IOException e) {
+            logger.log("Uyarı: Bileşen CSV dosyası boş veya okunamadı. Dosya yolu: " + componentsCsvPath + " (" + e.getMessage() + ")");
         }
+    }
 
+    /**
+     * Verilen satır okuyucudan bileşenleri yükler. Okuyucuyu kapatmak çağıranın sorumluluğundadır.
+     *
+     * @param reader Başlığı okunmuş satır okuyucu
+     * @throws IOException Okuma hatası olursa
+     */
+    public void loadComponents(CsvRowReader reader) throws IOException {
         logger.log("Bileşenler yükleniyor...");
+
+        // Sütun indekslerini başlıktan bir kez çöz
+        int[] columns = resolveColumns(reader);
         int successCount = 0;
         int errorCount = 0;
 
-        for (Map<String, String> record : records) {
-            try {
-                // CSV dosyasından gerekli alanları al
-                String name = record.get("Component");
-                String costStr = record.get("Unit Cost (TL)");
-                String weightStr = record.get("Unit Weight (kg)");
-                String type = record.get("Type");
-                String stockStr = record.get("Stock Quantity");
-
-                // Gerekli değerlerin varlığını kontrol et
-                if (name == null || name.isEmpty()) {
-                    logger.log("Hata: Bileşen adı eksik");
-                    errorCount++;
-                    continue;
-                }
-                if (type == null || type.isEmpty()) {
-                    logger.log("Hata: Bileşen tipi eksik - Bileşen: " + name);
-                    errorCount++;
-                    continue;
-                }
+        while (reader.next()) {
+            Component component = parseComponent(reader, columns, true);
+            if (component == null) {
+                errorCount++;
+                continue;
+            }
+            add(component);
+            successCount++;
+        }
+
+        logger.log("Bileşen yükleme tamamlandı. Başarılı: " + successCount + ", Hatalı: " + errorCount);
+        logger.log("Toplam bileşen sayısı: " + store.getAll().size());
+    }
 
-                // Benzersiz ID oluştur (bileşen adını kullanarak)
-                String id = name.replaceAll("\\s+", "_").toLowerCase();
+    /**
+     * CSV dosyasını bellek eşlemeli parçalar halinde verilen havuzda paralel olarak yükler.
+     * Parçalar bağımsız ayrıştırılır ve dosya sırası korunarak depoya eklenir.
+     * Satır bazında bilgi mesajı yazılmaz, yalnızca hatalar ve özet raporlanır.
+     *
+     * @param pool Ayrıştırmanın yapılacağı fork-join havuzu
+     */
+    public void loadComponentsParallel(ForkJoinPool pool) {
+        try (MappedCsvFile file = new MappedCsvFile(componentsCsvPath)) {
+            logger.log("Bileşenler paralel olarak yükleniyor (" + pool.getParallelism() + " iş parçacığı)...");
+            long startTime = System.nanoTime();
 
-                // Sayısal değerleri dönüştür
-                double cost = 0.0;
-                try {
-                    if (costStr != null && !costStr.isEmpty()) {
-                        cost = Double.parseDouble(costStr);
-                    } else {
-                        logger.log("Uyarı: Maliyet değeri eksik, 0 kullanılacak - Bileşen: " + name);
-                    }
-                } catch (NumberFormatException e) {
-                    logger.log("Hata: Geçersiz maliyet değeri '" + costStr + "' - Bileşen: " + name + ". Hata: " + e.getMessage());
-                    errorCount++;
-                    continue;
+            int[] columns = resolveColumns(file::columnIndex);
+            List<ParallelCsvLoader.ChunkResult<Component>> results =
+                    ParallelCsvLoader.parse(file, pool, row -> parseComponent(row, columns, false));
+
+            int successCount = 0;
+            int errorCount = 0;
+            for (ParallelCsvLoader.ChunkResult<Component> result : results) {
+                for (Component component : result.getValues()) {
+                    add(component);
                 }
+                successCount += result.getValues().size();
+                errorCount += result.getErrorCount();
+            }
 
-                float weight = 0.0f;
-                try {
-                    if (weightStr != null && !weightStr.isEmpty()) {
-                        weight = Float.parseFloat(weightStr);
-                    } else {
-                        logger.log("Uyarı: Ağırlık değeri eksik, 0 kullanılacak - Bileşen: " + name);
-                    }
-                } catch (NumberFormatException e) {
-                    logger.log("Hata: Geçersiz ağırlık değeri '" + weightStr + "' - Bileşen: " + name + ". Hata: " + e.getMessage());
-                    errorCount++;
-                    continue;
+            long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+            logger.log("Bileşen yükleme tamamlandı. Başarılı: " + successCount + ", Hatalı: " + errorCount
+                    + " (" + results.size() + " parça, " + elapsedMillis + " ms)");
+            logger.log("Toplam bileşen sayısı: " + store.getAll().size());
+        } catch (IOException e) {
+            logger.log("Uyarı: Bileşen CSV dosyası boş veya okunamadı. Dosya yolu: " + componentsCsvPath + " (" + e.getMessage() + ")");
+        }
+    }
+
+    public String getCsvPath() {
+        return componentsCsvPath;
+    }
+
+    /**
+     * Değişmiş bir CSV satırını canlı depoya uygular. Bilinen bileşenlerin maliyet ve ağırlığı güncellenir,
+     * stok ise CSV'deki eski ve yeni değer arasındaki fark kadar düzeltilir; bilinmeyen bileşenler eklenir.
+     *
+     * @param row Değişmiş satır
+     * @param columns resolveColumns ile çözülmüş sütun indeksleri
+     * @param previousCsvStock Satırın önceki CSV stok değeri, binde bir birim (yeni satırlar için kullanılmaz)
+     * @return Satırın yeni CSV stok değeri (binde bir birim), satır geçersizse -1
+     */
+    long applyChangedRow(CsvRow row, int[] columns, long previousCsvStock) {
+        Component parsed = parseComponent(row, columns, false);
+        if (parsed == null) {
+            return -1;
+        }
+
+        Component existing = findByName(parsed.getName());
+        if (existing == null) {
+            add(parsed);
+            logger.log("Yeniden yükleme: Yeni bileşen eklendi - " + parsed.generateReport());
+            return parsed.getStockMilli();
+        }
+        if (!(existing instanceof LeafComponent) || ((LeafComponent) existing).getType() != ((LeafComponent) parsed).getType()) {
+            logger.log("Uyarı: Yeniden yükleme sırasında bileşen tipi değiştirilemez - Bileşen: " + parsed.getName());
+            return parsed.getStockMilli();
+        }
+
+        LeafComponent target = (LeafComponent) existing;
+        if (target.getCost() != parsed.getCost()) {
+            logger.log("Yeniden yükleme: " + parsed.getName() + " maliyeti " + target.getCost() + " -> " + parsed.getCost());
+            target.setCost(parsed.getCost());
+        }
+        if (target.getWeight() != parsed.getWeight()) {
+            logger.log("Yeniden yükleme: " + parsed.getName() + " ağırlığı " + target.getWeight() + " -> " + parsed.getWeight());
+            target.setWeight(parsed.getWeight());
+        }
+        long stockDelta = parsed.getStockMilli() - previousCsvStock;
+        if (stockDelta != 0) {
+            long newStock = target.adjustStockMilli(stockDelta);
+            logger.log("Yeniden yükleme: " + parsed.getName() + " stoğu " + (stockDelta > 0 ? "+" : "") + Quantities.format(stockDelta) + " düzeltildi, güncel stok: " + Quantities.format(newStock));
+        }
+        return parsed.getStockMilli();
+    }
+
+    int[] resolveColumns(CsvRow header) {
+        return resolveColumns(header::columnIndex);
+    }
+
+    private int[] resolveColumns(ToIntFunction<String> columnIndex) {
+        return new int[] {
+            columnIndex.applyAsInt("Component"),
+            columnIndex.applyAsInt("Unit Cost (TL)"),
+            columnIndex.applyAsInt("Unit Weight (kg)"),
+            columnIndex.applyAsInt("Type"),
+            columnIndex.applyAsInt("Stock Quantity")
+        };
+    }
+
+    /**
+     * Tek bir CSV satırından bileşen oluşturur. Hatalar loglanır ve null döndürülür.
+     * Paralel yükleme sırasında farklı iş parçacıklarından çağrılabilir; depo durumunu değiştirmez.
+     *
+     * @param row Okunan satır
+     * @param columns resolveColumns ile çözülmüş sütun indeksleri
+     * @param verbose Başarılı eklemeler için bilgi mesajı yazılsın mı
+     * @return Oluşturulan bileşen veya hata durumunda null
+     */
+    private Component parseComponent(CsvRow row, int[] columns, boolean verbose) {
+        int nameColumn = columns[0];
+        int costColumn = columns[1];
+        int weightColumn = columns[2];
+        int typeColumn = columns[3];
+        int stockColumn = columns[4];
+
+        try {
+            // Gerekli değerlerin varlığını kontrol et
+            if (row.isEmpty(nameColumn)) {
+                logger.log("Hata: Bileşen adı eksik");
+                return null;
+            }
+            String name = row.getString(nameColumn);
+            if (row.isEmpty(typeColumn)) {
+                logger.log("Hata: Bileşen tipi eksik - Bileşen: " + name);
+                return null;
+            }
+
+            // Benzersiz ID oluştur (bileşen adını kullanarak)
+            String id = name.replaceAll("\\s+", "_").toLowerCase();
+
+            // Sayısal değerleri yerinde dönüştür
+            double cost = 0.0;
+            try {
+                if (!row.isEmpty(costColumn)) {
+                    cost = row.getDouble(costColumn);
+                } else {
+                    logger.log("Uyarı: Maliyet değeri eksik, 0 kullanılacak - Bileşen: " + name);
                 }
+            } catch (NumberFormatException e) {
+                logger.log("Hata: Geçersiz maliyet değeri '" + row.cell(costColumn) + "' - Bileşen: " + name + ". Hata: " + e.getMessage());
+                return null;
+            }
 
-                // Stok değerini sayısal kısmını çıkar
-                int stock = 0;
-                try {
-                    if (stockStr != null && !stockStr.isEmpty()) {
-                        // Stok değeri "1000 m²" gibi bir formatta olabilir, sadece sayısal kısmı al
-                        String stockNumeric = stockStr.split("\\s+")[0];
-                        stock = Integer.parseInt(stockNumeric);
-                    } else {
-                        logger.log("Uyarı: Stok değeri eksik, 0 kullanılacak - Bileşen: " + name);
-                    }
-                } catch (Exception e) {
-                    logger.log("Hata: Geçersiz stok değeri '" + stockStr + "' - Bileşen: " + name + ". Hata: " + e.getMessage());
-                    errorCount++;
-                    continue;
+            double weight = 0.0;
+            try {
+                if (!row.isEmpty(weightColumn)) {
+                    weight = row.getDouble(weightColumn);
+                } else {
+                    logger.log("Uyarı: Ağırlık değeri eksik, 0 kullanılacak - Bileşen: " + name);
                 }
+            } catch (NumberFormatException e) {
+                logger.log("Hata: Geçersiz ağırlık değeri '" + row.cell(weightColumn) + "' - Bileşen: " + name + ". Hata: " + e.getMessage());
+                return null;
+            }
 
-                // Tip kontrolü ve bileşen oluşturma
-                Component component;
-                switch (type.toLowerCase().trim()) {
-                    case "rawmaterial":
-                    case "raw material":
-                        component = new RawMaterial(id, name, cost, weight, stock);
-                        logger.log("Hammadde eklendi: " + name + " (ID: " + id + ", Maliyet: " + cost + ", Ağırlık: " + weight + ", Stok: " + stock + ")");
-                        break;
-                    case "paint":
-                        component = new Paint(id, name, cost, weight, stock);
-                        logger.log("Boya eklendi: " + name + " (ID: " + id + ", Maliyet: " + cost + ", Ağırlık: " + weight + ", Stok: " + stock + ")");
-                        break;
-                    case "hardware":
-                        component = new Hardware(id, name, cost, weight, stock);
-                        logger.log("Donanım eklendi: " + name + " (ID: " + id + ", Maliyet: " + cost + ", Ağırlık: " + weight + ", Stok: " + stock + ")");
-                        break;
-                    default:
-                        logger.log("Hata: Bilinmeyen bileşen tipi: " + type + " - Bileşen: " + name);
-                        errorCount++;
-                        continue;
+            // Stok değeri "1000 m²" veya "2,5 kg" gibi bir formatta olabilir, sadece baştaki sayısal kısmı al
+            long stock = 0;
+            try {
+                if (!row.isEmpty(stockColumn)) {
+                    stock = row.getLeadingMilli(stockColumn);
+                    if (stock < 0 || stock > VersionedStock.MAX_VALUE) {
+                        throw new NumberFormatException("Stok aralık dışında");
+                    }
+                } else {
+                    logger.log("Uyarı: Stok değeri eksik, 0 kullanılacak - Bileşen: " + name);
                 }
+            } catch (NumberFormatException e) {
+                logger.log("Hata: Geçersiz stok değeri '" + row.getString(stockColumn) + "' - Bileşen: " + name + ". Hata: " + e.getMessage());
+                return null;
+            }
 
-                components.add(component);
-                successCount++;
-            } catch (Exception e) {
-                logger.log("Beklenmeyen hata: " + e.getMessage() + " kayıt işlenemedi: " + record);
-                errorCount++;
+            // Tip kontrolü ve bileşen oluşturma
+            String type = row.getString(typeColumn);
+            switch (type.toLowerCase()) {
+                case "rawmaterial":
+                case "raw material":
+                    if (verbose) {
+                        logger.log("Hammadde eklendi: " + name + " (ID: " + id + ", Maliyet: " + cost + ", Ağırlık: " + weight + ", Stok: " + Quantities.format(stock) + ")");
+                    }
+                    return new RawMaterial(id, name, cost, weight, stock);
+                case "paint":
+                    if (verbose) {
+                        logger.log("Boya eklendi: " + name + " (ID: " + id + ", Maliyet: " + cost + ", Ağırlık: " + weight + ", Stok: " + Quantities.format(stock) + ")");
+                    }
+                    return new Paint(id, name, cost, weight, stock);
+                case "hardware":
+                    if (verbose) {
+                        logger.log("Donanım eklendi: " + name + " (ID: " + id + ", Maliyet: " + cost + ", Ağırlık: " + weight + ", Stok: " + Quantities.format(stock) + ")");
+                    }
+                    return new Hardware(id, name, cost, weight, stock);
+                default:
+                    logger.log("Hata: Bilinmeyen bileşen tipi: " + type + " - Bileşen: " + name);
+                    return null;
             }
+        } catch (Exception e) {
+            logger.log("Beklenmeyen hata: " + e.getMessage() + " kayıt işlenemedi: " + row.currentLine());
+            return null;
         }
+    }
 
-        logger.log("Bileşen yükleme tamamlandı. Başarılı: " + successCount + ", Hatalı: " + errorCount);
-        logger.log("Toplam bileşen sayısı: " + components.size());
+    /**
+     * Depoya hazır bir bileşen ekler (ör. anlık görüntüden yükleme sırasında).
+     * Kimlik, ad ve tip indeksleri birlikte güncellenir.
+     * @param component Eklenecek bileşen
+     * @return Depoda tutulan bileşen; arka uca göre verilen nesnenin kendisi veya onun görünümü olabilir
+     */
+    public synchronized Component add(Component component) {
+        return store.add(component);
+    }
+
+    /**
+     * Bileşeni depodan ve tüm indekslerden çıkarır.
+     * @param component Çıkarılacak bileşen
+     * @return Bileşen depoda bulunduysa true
+     */
+    public synchronized boolean remove(Component component) {
+        return store.remove(component);
+    }
+
+    /**
+     * Depodaki tüm bileşenleri ve indeksleri temizler (ör. kataloğun baştan yüklenmesinden önce).
+     */
+    public synchronized void clear() {
+        store.clear();
     }
 
     public List<Component> getAll() {
-        return components;
+        return store.getAll();
     }
 
     public Component findById(String id) {
-        return components.stream()
-                .filter(c -> c.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+        return store.findById(id);
     }
     
     // Bileşen adına göre bileşen bulma metodu
     public Component findByName(String name) {
-        return components.stream()
-                .filter(c -> c.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        return store.findByName(name);
+    }
+
+    /**
+     * Verilen tipteki bileşenleri döndürür.
+     * @param type Bileşen tipi
+     * @return O tipteki bileşenler
+     */
+    public List<Component> findByType(ComponentType type) {
+        return store.findByType(type);
+    }
+
+    /**
+     * Adı verilen önekle başlayan bileşenleri ada göre sıralı döndürür (katalog araması için).
+     * @param prefix Ad öneki (büyük/küçük harf duyarsız)
+     * @param limit En fazla döndürülecek bileşen sayısı
+     * @return Eşleşen bileşenler
+     */
+    public List<Component> searchByName(String prefix, int limit) {
+        return store.searchByName(prefix, limit);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.ComponentType;
+
+import java.util.List;
+
+/**
+ * {@link ComponentRepository} için bileşen saklama arka ucu.
+ * Okumalar eşzamanlı yapılabilir; yazma işlemleri (add, remove, clear) depo tarafından senkronize edilir.
+ */
+public interface ComponentStore {
+    /**
+     * Bileşeni saklar.
+     * @param component Eklenecek bileşen
+     * @return Depoda tutulan bileşen (arka uca göre verilen nesne veya onun görünümü)
+     */
+    Component add(Component component);
+
+    /**
+     * Bileşeni ve indeks girdilerini siler.
+     * @param component Silinecek bileşen (add tarafından döndürülen örnek)
+     * @return Bileşen bulunduysa true
+     */
+    boolean remove(Component component);
+
+    void clear();
+
+    /**
+     * Saklanan bileşenleri ekleme sırasıyla döndürür. Liste çağrı anındaki değişmez bir anlık görüntüdür;
+     * katalog izleyicisinin eşzamanlı eklemeleri ve silmeleri üzerinde dolaşılırken görünmez.
+     * @return Bileşen listesi
+     */
+    List<Component> getAll();
+
+    Component findById(String id);
+
+    Component findByName(String name);
+
+    List<Component> findByType(ComponentType type);
+
+    /**
+     * Adı verilen önekle başlayan bileşenleri ada göre sıralı döndürür (büyük/küçük harf duyarsız).
+     * @param prefix Ad öneki
+     * @param limit En fazla döndürülecek bileşen sayısı
+     * @return Eşleşen bileşenler
+     */
+    List<Component> searchByName(String prefix, int limit);
+}
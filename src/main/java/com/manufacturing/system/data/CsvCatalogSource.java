@@ -0,0 +1,41 @@
+package com.manufacturing.system.data;
+
+import java.io.File;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * El yazımı akış tabanlı CSV ayrıştırıcısını kullanan katalog kaynağı.
+ * Büyük dosyalar bellek eşlemeli parçalar halinde paralel olarak yüklenir.
+ */
+public class CsvCatalogSource implements CatalogSource {
+    public static final String NAME = "csv";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean load(ComponentRepository componentRepository, ProductRepository productRepository) {
+        if (ParallelCsvLoader.shouldLoadInParallel(fileSize(componentRepository.getCsvPath()))) {
+            componentRepository.loadComponentsParallel(ForkJoinPool.commonPool());
+        } else {
+            componentRepository.loadComponents();
+        }
+
+        if (ParallelCsvLoader.shouldLoadInParallel(fileSize(productRepository.getCsvPath()))) {
+            productRepository.loadProductsParallel(ForkJoinPool.commonPool());
+        } else {
+            productRepository.loadProducts();
+        }
+        return !componentRepository.getAll().isEmpty();
+    }
+
+    /**
+     * Dosya boyutunu döndürür, dosya okunamazsa 0 döner
+     */
+    private long fileSize(String path) {
+        File file = new File(path);
+        return file.isFile() ? file.length() : 0;
+    }
+}
@@ -0,0 +1,270 @@
+package com.manufacturing.system.data;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * CSV dosyasını satır satır okuyan akış tabanlı imleç (cursor).
+ * Başlık satırı bir kez okunur, sütun indeksleri önceden çözülür ve her satırdaki hücreler
+ * kopyalanmadan CharSequence görünümü olarak sunulur. Böylece dosya boyutundan bağımsız
+ * olarak bellekte yalnızca o anki satır tutulur.
+ *
+ * Bir satıra ait hücre görünümleri yalnızca bir sonraki {@link #next()} çağrısına kadar geçerlidir;
+ * değerin saklanması gerekiyorsa {@link #getString(int)} kullanılmalıdır.
+ */
+public class CsvCursor implements CsvRowReader {
+    private static final char SEPARATOR = ';'; // CSV ayırıcı karakteri
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final String filePath;
+    private final Reader reader;
+    private final char[] readBuffer = new char[8192];
+    private int readPosition;
+    private int readLimit;
+
+    // O anki satırın karakterleri (gerektiğinde büyütülür, tekrar kullanılır)
+    private char[] line = new char[256];
+    private int lineLength;
+    private long rowNumber;
+
+    private final String[] headers;
+    private final int[] cellStart;
+    private final int[] cellEnd;
+    private final CellView[] views;
+
+    /**
+     * Dosyayı açar ve başlık satırını okur.
+     *
+     * @param filePath CSV dosya yolu
+     * @throws IOException Dosya okunamazsa veya başlık satırı yoksa
+     */
+    public CsvCursor(String filePath) throws IOException {
+        this.filePath = filePath;
+        this.reader = new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8);
+
+        try {
+            if (!readLine()) {
+                throw new IOException("CSV başlıkları okunamadı: " + filePath);
+            }
+            int offset = lineLength > 0 && line[0] == BYTE_ORDER_MARK ? 1 : 0;
+            int columnCount = countCells(offset);
+            this.headers = new String[columnCount];
+            this.cellStart = new int[columnCount];
+            this.cellEnd = new int[columnCount];
+            this.views = new CellView[columnCount];
+            splitCells(offset);
+            for (int i = 0; i < columnCount; i++) {
+                headers[i] = new String(line, cellStart[i], cellEnd[i] - cellStart[i]);
+                views[i] = new CellView(i);
+            }
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int columnIndex(String header) {
+        for (int i = 0; i < headers.length; i++) {
+            if (headers[i].equals(header)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return headers.length;
+    }
+
+    @Override
+    public String getHeader(int column) {
+        return headers[column];
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        while (readLine()) {
+            if (lineLength > 0) {
+                splitCells(0);
+                rowNumber++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public CharSequence cell(int column) {
+        if (column < 0 || column >= views.length) {
+            return "";
+        }
+        return views[column];
+    }
+
+    @Override
+    public int nextNonZeroCell(int fromColumn) {
+        for (int column = Math.max(0, fromColumn); column < cellStart.length; column++) {
+            int start = cellStart[column];
+            int length = cellEnd[column] - start;
+            // En sık görülen "0" hücresi tek karşılaştırmayla atlanır
+            if (length == 0 || (length == 1 && line[start] == '0')) {
+                continue;
+            }
+            if (!CsvNumbers.isZero(views[column])) {
+                return column;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String getString(int column) {
+        return cell(column).toString();
+    }
+
+    /**
+     * O anki veri satırının sıra numarasını döndürür (1'den başlar).
+     */
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * O anki satırın 64 bitlik özetini (FNV-1a) yeni nesne oluşturmadan hesaplar.
+     * Değişen satırları tespit etmek için kullanılır.
+     */
+    public long lineHash() {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < lineLength; i++) {
+            hash ^= line[i];
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    @Override
+    public String currentLine() {
+        return new String(line, 0, lineLength);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int countCells(int offset) {
+        int count = 1;
+        for (int i = offset; i < lineLength; i++) {
+            if (line[i] == SEPARATOR) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Satırı ayırıcıya göre böler ve hücre sınırlarını boşluklardan arındırarak kaydeder.
+     * Başlıktan fazla olan hücreler yok sayılır, eksik hücreler boş kabul edilir.
+     */
+    private void splitCells(int offset) {
+        int column = 0;
+        int start = offset;
+        for (int i = offset; i <= lineLength && column < cellStart.length; i++) {
+            if (i == lineLength || line[i] == SEPARATOR) {
+                int s = start;
+                int e = i;
+                while (s < e && Character.isWhitespace(line[s])) {
+                    s++;
+                }
+                while (e > s && Character.isWhitespace(line[e - 1])) {
+                    e--;
+                }
+                cellStart[column] = s;
+                cellEnd[column] = e;
+                column++;
+                start = i + 1;
+            }
+        }
+        for (; column < cellStart.length; column++) {
+            cellStart[column] = 0;
+            cellEnd[column] = 0;
+        }
+    }
+
+    /**
+     * Okuma tamponundan bir satırı satır tamponuna kopyalar (satır sonu karakterleri hariç).
+     *
+     * @return Satır okunduysa true, dosya sonuysa false
+     */
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        boolean any = false;
+        while (true) {
+            if (readPosition == readLimit) {
+                readLimit = reader.read(readBuffer, 0, readBuffer.length);
+                readPosition = 0;
+                if (readLimit <= 0) {
+                    readLimit = 0;
+                    return any;
+                }
+            }
+            any = true;
+            char c = readBuffer[readPosition++];
+            if (c == '\n') {
+                return true;
+            }
+            if (c == '\r') {
+                continue;
+            }
+            if (lineLength == line.length) {
+                line = Arrays.copyOf(line, line.length * 2);
+            }
+            line[lineLength++] = c;
+        }
+    }
+
+    /**
+     * Satır tamponundaki bir hücreyi kopyalamadan gösteren görünüm.
+     * Her sütun için bir kez oluşturulur ve tüm satırlar boyunca tekrar kullanılır.
+     */
+    private final class CellView implements CharSequence {
+        private final int column;
+
+        private CellView(int column) {
+            this.column = column;
+        }
+
+        @Override
+        public int length() {
+            return cellEnd[column] - cellStart[column];
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return line[cellStart[column] + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(line, cellStart[column], length());
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.manufacturing.system.data;
+
+/**
+ * CSV hücrelerindeki sayısal değerleri yeni String oluşturmadan ayrıştıran yardımcı sınıf.
+ * Türkçe ondalık ayırıcı (virgül) ve İngilizce ondalık ayırıcı (nokta) birlikte desteklenir.
+ */
+public final class CsvNumbers {
+    // 10^0 .. 10^15 arası değerler double olarak tam temsil edilebilir
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+    private static final int MAX_FAST_DIGITS = 15;
+    // Sabit noktalı değerlerin ondalık basamak sayısı (Quantities.SCALE = 10^3)
+    private static final int FIXED_DIGITS = 3;
+
+    private CsvNumbers() {
+        // Utility sınıfını örneklemeyi engellemek için private constructor
+    }
+
+    /**
+     * Ondalık sayıyı ayrıştırır. "1,5" ve "1.5" aynı değeri verir.
+     * Kısa değerler için hızlı yol kullanılır; üslü gösterim gibi nadir durumlarda
+     * Double.parseDouble'a düşülür.
+     *
+     * @param value Ayrıştırılacak karakter dizisi (boşluksuz)
+     * @return Sayısal değer
+     * @throws NumberFormatException Değer geçerli bir sayı değilse
+     */
+    public static double parseDouble(CharSequence value) {
+        int length = value.length();
+        if (length == 0) {
+            throw new NumberFormatException("Boş sayısal değer");
+        }
+
+        int i = 0;
+        boolean negative = false;
+        char first = value.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean separatorSeen = false;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits == MAX_FAST_DIGITS) {
+                    return parseDoubleSlow(value);
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (separatorSeen) {
+                    fractionDigits++;
+                }
+            } else if ((c == ',' || c == '.') && !separatorSeen) {
+                separatorSeen = true;
+            } else {
+                return parseDoubleSlow(value);
+            }
+        }
+
+        if (digits == 0) {
+            throw new NumberFormatException("Geçersiz sayısal değer: " + value);
+        }
+
+        // Mantis ve 10'un kuvveti double olarak tam temsil edildiği için tek bölme doğru yuvarlanır
+        double result = fractionDigits == 0 ? mantissa : mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -result : result;
+    }
+
+    /**
+     * Tam sayıyı ayrıştırır (Integer.parseInt ile aynı kurallar).
+     *
+     * @param value Ayrıştırılacak karakter dizisi (boşluksuz)
+     * @return Tam sayı değeri
+     * @throws NumberFormatException Değer geçerli bir tam sayı değilse
+     */
+    public static int parseInt(CharSequence value) {
+        return Integer.parseInt(value, 0, value.length(), 10);
+    }
+
+    /**
+     * Değerin başındaki tam sayı kısmını ayrıştırır.
+     * Stok değerleri "1000 m²" veya "10000 pieces" gibi birim içerdiği için yalnızca baştaki rakamlar okunur.
+     *
+     * @param value Ayrıştırılacak karakter dizisi
+     * @return Baştaki tam sayı
+     * @throws NumberFormatException Değer bir rakamla başlamıyorsa veya taşma olursa
+     */
+    public static int parseLeadingInt(CharSequence value) {
+        int length = value.length();
+        int end = 0;
+        while (end < length && !Character.isWhitespace(value.charAt(end))) {
+            end++;
+        }
+        if (end == 0) {
+            throw new NumberFormatException("Boş sayısal değer");
+        }
+        return Integer.parseInt(value, 0, end, 10);
+    }
+
+    /**
+     * Ondalık sayıyı binde bir birim cinsinden, double'a çevirmeden tam olarak ayrıştırır: "1,5" → 1500.
+     * Üç basamaktan uzun kesirler yukarı yuvarlanır; reçete miktarları hiçbir zaman eksik okunmaz.
+     *
+     * @param value Ayrıştırılacak karakter dizisi (boşluksuz)
+     * @return Binde bir birim cinsinden değer
+     * @throws NumberFormatException Değer geçerli bir ondalık sayı değilse veya taşma olursa
+     */
+    public static long parseFixed(CharSequence value) {
+        return parseFixed(value, value.length(), true);
+    }
+
+    /**
+     * Değerin başındaki ondalık sayıyı binde bir birim cinsinden ayrıştırır: "2,5 kg" → 2500.
+     * Stok değerleri birim içerdiği için yalnızca ilk boşluğa kadar olan kısım okunur; üç basamaktan uzun
+     * kesirler aşağı yuvarlanır, böylece stok fazla gösterilmez.
+     *
+     * @param value Ayrıştırılacak karakter dizisi
+     * @return Binde bir birim cinsinden değer
+     * @throws NumberFormatException Değer bir sayıyla başlamıyorsa veya taşma olursa
+     */
+    public static long parseLeadingFixed(CharSequence value) {
+        int length = value.length();
+        int end = 0;
+        while (end < length && !Character.isWhitespace(value.charAt(end))) {
+            end++;
+        }
+        return parseFixed(value, end, false);
+    }
+
+    private static long parseFixed(CharSequence value, int end, boolean roundUp) {
+        if (end == 0) {
+            throw new NumberFormatException("Boş sayısal değer");
+        }
+
+        int i = 0;
+        boolean negative = false;
+        char first = value.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+
+        long units = 0;
+        long fraction = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean remainder = false;
+        boolean separatorSeen = false;
+        try {
+            for (; i < end; i++) {
+                char c = value.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    digits++;
+                    if (!separatorSeen) {
+                        units = Math.addExact(Math.multiplyExact(units, 10), c - '0');
+                    } else if (fractionDigits < FIXED_DIGITS) {
+                        fraction = fraction * 10 + (c - '0');
+                        fractionDigits++;
+                    } else if (c != '0') {
+                        remainder = true;
+                    }
+                } else if ((c == ',' || c == '.') && !separatorSeen) {
+                    separatorSeen = true;
+                } else {
+                    throw new NumberFormatException("Geçersiz sayısal değer: " + value);
+                }
+            }
+            if (digits == 0) {
+                throw new NumberFormatException("Geçersiz sayısal değer: " + value);
+            }
+
+            for (; fractionDigits < FIXED_DIGITS; fractionDigits++) {
+                fraction *= 10;
+            }
+            long result = Math.addExact(Math.multiplyExact(units, 1000), fraction);
+            // Yuvarlama mutlak değer üzerinde değil, sayı doğrusunda yapılır
+            if (remainder && roundUp != negative) {
+                result = Math.addExact(result, 1);
+            }
+            return negative ? -result : result;
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Sayısal değer çok büyük: " + value);
+        }
+    }
+
+    /**
+     * Değerin sıfır olup olmadığını kontrol eder ("0", "0,0", "0.00" gibi).
+     *
+     * @param value Kontrol edilecek karakter dizisi
+     * @return Değer yalnızca sıfır ve ondalık ayırıcıdan oluşuyorsa true
+     */
+    public static boolean isZero(CharSequence value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        boolean digitSeen = false;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '0') {
+                digitSeen = true;
+            } else if (c != ',' && c != '.') {
+                return false;
+            }
+        }
+        return digitSeen;
+    }
+
+    private static double parseDoubleSlow(CharSequence value) {
+        return Double.parseDouble(value.toString().replace(',', '.'));
+    }
+}
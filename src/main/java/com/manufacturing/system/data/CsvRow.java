@@ -0,0 +1,72 @@
+package com.manufacturing.system.data;
+
+/**
+ * Bir CSV satırına kopyasız erişim sağlayan arayüz.
+ * Hem akış tabanlı {@link CsvCursor} hem de bellek eşlemeli {@link MappedCsvFile} parçaları bu arayüzü uygular;
+ * böylece satırdan nesne üreten kod okuma yönteminden bağımsız kalır.
+ */
+public interface CsvRow {
+    /**
+     * Başlık adına karşılık gelen sütun indeksini döndürür.
+     * @param header Sütun başlığı
+     * @return Sütun indeksi, başlık yoksa -1
+     */
+    int columnIndex(String header);
+
+    /**
+     * Hücreyi kopyalamadan döndürür. Görünüm bir sonraki satıra geçilene kadar geçerlidir.
+     * @param column Sütun indeksi (-1 veya satırda olmayan sütunlar için boş döner)
+     * @return Hücre görünümü
+     */
+    CharSequence cell(int column);
+
+    /**
+     * Hücre değerini saklanabilir bir String olarak döndürür.
+     * @param column Sütun indeksi
+     * @return Hücre değeri
+     */
+    String getString(int column);
+
+    /**
+     * O anki satırın ham içeriğini döndürür (yalnızca hata mesajları için).
+     * @return Satır metni
+     */
+    String currentLine();
+
+    /**
+     * Verilen sütundan başlayarak boş veya sıfır olmayan ilk hücrenin sütun indeksini döndürür.
+     * Çoğu hücresi sıfır olan geniş satırlarda yalnızca anlamlı hücreleri ziyaret etmek için kullanılır.
+     *
+     * @param fromColumn Aramaya başlanacak sütun (dahil)
+     * @return Sıfır olmayan hücrenin sütun indeksi, yoksa -1
+     */
+    int nextNonZeroCell(int fromColumn);
+
+    default boolean isEmpty(int column) {
+        return cell(column).length() == 0;
+    }
+
+    default double getDouble(int column) {
+        return CsvNumbers.parseDouble(cell(column));
+    }
+
+    default int getInt(int column) {
+        return CsvNumbers.parseInt(cell(column));
+    }
+
+    default int getLeadingInt(int column) {
+        return CsvNumbers.parseLeadingInt(cell(column));
+    }
+
+    default long getMilli(int column) {
+        return CsvNumbers.parseFixed(cell(column));
+    }
+
+    default long getLeadingMilli(int column) {
+        return CsvNumbers.parseLeadingFixed(cell(column));
+    }
+
+    default boolean isZero(int column) {
+        return CsvNumbers.isZero(cell(column));
+    }
+}
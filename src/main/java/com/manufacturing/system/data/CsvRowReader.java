@@ -0,0 +1,30 @@
+package com.manufacturing.system.data;
+
+import java.io.IOException;
+
+/**
+ * Satırları sırayla okuyan ve her satırı {@link CsvRow} olarak sunan okuyucu.
+ * Depolar bu arayüz üzerinden yüklenir; böylece farklı CSV ayrıştırıcıları aynı yükleme kodunu kullanabilir.
+ */
+public interface CsvRowReader extends CsvRow, AutoCloseable {
+    /**
+     * Bir sonraki veri satırına geçer. Boş satırlar atlanır.
+     * @return Yeni satır varsa true, dosya sonuna gelindiyse false
+     * @throws IOException Okuma hatası olursa
+     */
+    boolean next() throws IOException;
+
+    /**
+     * @return Başlık satırındaki sütun sayısı
+     */
+    int getColumnCount();
+
+    /**
+     * @param column Sütun indeksi
+     * @return Sütun başlığı (boşlukları temizlenmiş)
+     */
+    String getHeader(int column);
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,341 @@
+package com.manufacturing.system.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bellek eşlemeli (memory-mapped) olarak okunan CSV dosyası.
+ * Başlık satırını bir kez çözer ve dosyayı satır sınırlarına hizalanmış parçalara böler.
+ * Her parça kendi bölgesini ayrı olarak eşler, böylece 2 GB'tan büyük dosyalar da okunabilir
+ * ve parçalar birbirinden bağımsız olarak farklı iş parçacıklarında ayrıştırılabilir.
+ */
+public class MappedCsvFile implements AutoCloseable {
+    private static final byte SEPARATOR = ';'; // CSV ayırıcı karakteri
+    private static final int MAX_CHUNK_SIZE = Integer.MAX_VALUE - 1024;
+    private static final int SCAN_WINDOW = 4096;
+
+    private final String filePath;
+    private final FileChannel channel;
+    private final long size;
+    private final String[] headers;
+    private final long dataStart;
+
+    /**
+     * Dosyayı açar ve başlık satırını okur.
+     *
+     * @param filePath CSV dosya yolu
+     * @throws IOException Dosya okunamazsa veya başlık satırı yoksa
+     */
+    public MappedCsvFile(String filePath) throws IOException {
+        this.filePath = filePath;
+        this.channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ);
+        try {
+            this.size = channel.size();
+            long headerEnd = findLineEnd(0);
+            if (headerEnd == 0) {
+                throw new IOException("CSV başlıkları okunamadı: " + filePath);
+            }
+            this.dataStart = Math.min(size, headerEnd + 1);
+            this.headers = readHeaders(headerEnd);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public int columnIndex(String header) {
+        for (int i = 0; i < headers.length; i++) {
+            if (headers[i].equals(header)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int getColumnCount() {
+        return headers.length;
+    }
+
+    public String getHeader(int column) {
+        return headers[column];
+    }
+
+    /**
+     * Veri bölümünü yaklaşık eşit ve satır sınırlarına hizalı parçalara böler.
+     *
+     * @param targetChunkCount İstenen parça sayısı
+     * @return Parçalar (dosya sırasına göre)
+     * @throws IOException Okuma hatası olursa
+     */
+    public List<Chunk> split(int targetChunkCount) throws IOException {
+        long dataSize = size - dataStart;
+        long chunkSize = Math.max(1, (dataSize + targetChunkCount - 1) / Math.max(1, targetChunkCount));
+        chunkSize = Math.min(chunkSize, MAX_CHUNK_SIZE);
+
+        List<Chunk> chunks = new ArrayList<>();
+        long start = dataStart;
+        while (start < size) {
+            long candidate = Math.min(size, start + chunkSize);
+            long end = candidate >= size ? size : Math.min(size, findLineEnd(candidate) + 1);
+            if (end - start > MAX_CHUNK_SIZE) {
+                throw new IOException("CSV satırı çok uzun: " + filePath + " (konum " + start + ")");
+            }
+            chunks.add(new Chunk(chunks.size(), start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Verilen konumdan itibaren ilk satır sonu karakterinin konumunu bulur.
+     * Satır sonu yoksa dosya boyutunu döndürür.
+     */
+    private long findLineEnd(long from) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(SCAN_WINDOW);
+        long position = from;
+        while (position < size) {
+            window.clear();
+            int read = channel.read(window, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private String[] readHeaders(long headerEnd) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) headerEnd);
+        channel.read(buffer, 0);
+        String line = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        if (line.startsWith("\uFEFF")) {
+            line = line.substring(1);
+        }
+        String[] values = line.split(String.valueOf((char) SEPARATOR), -1);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values[i].trim();
+        }
+        return values;
+    }
+
+    /**
+     * Dosyanın satır sınırlarına hizalı bir bölümü.
+     */
+    public final class Chunk {
+        private final int index;
+        private final long start;
+        private final long end;
+
+        private Chunk(int index, long start, long end) {
+            this.index = index;
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public long length() {
+            return end - start;
+        }
+
+        /**
+         * Parçayı eşler ve satırlarını okuyan bir imleç döndürür.
+         * İmleç tek bir iş parçacığı tarafından kullanılmalıdır.
+         *
+         * @return Parça imleci
+         * @throws IOException Eşleme başarısız olursa
+         */
+        public ChunkCursor open() throws IOException {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            return new ChunkCursor(buffer);
+        }
+    }
+
+    /**
+     * Eşlenmiş bir parçanın satırlarını bayt düzeyinde okuyan imleç.
+     * Sayısal hücreler ASCII olduğundan doğrudan bayt üzerinden ayrıştırılır;
+     * metin hücreleri yalnızca {@link #getString(int)} çağrıldığında UTF-8 olarak çözülür.
+     */
+    public final class ChunkCursor implements CsvRow {
+        private final MappedByteBuffer buffer;
+        private final int limit;
+        private int position;
+        private int lineStart;
+        private int lineEnd;
+        private final int[] cellStart = new int[headers.length];
+        private final int[] cellEnd = new int[headers.length];
+        private final ByteCellView[] views = new ByteCellView[headers.length];
+        private byte[] scratch = new byte[256];
+
+        private ChunkCursor(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+            this.limit = buffer.limit();
+            for (int i = 0; i < views.length; i++) {
+                views[i] = new ByteCellView(i);
+            }
+        }
+
+        /**
+         * Bir sonraki veri satırına geçer. Boş satırlar atlanır.
+         *
+         * @return Yeni satır varsa true, parça sonuna gelindiyse false
+         */
+        public boolean next() {
+            while (position < limit) {
+                lineStart = position;
+                int i = position;
+                while (i < limit && buffer.get(i) != '\n') {
+                    i++;
+                }
+                position = i + 1;
+                lineEnd = i > lineStart && buffer.get(i - 1) == '\r' ? i - 1 : i;
+                if (lineEnd > lineStart) {
+                    splitCells();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int columnIndex(String header) {
+            return MappedCsvFile.this.columnIndex(header);
+        }
+
+        @Override
+        public CharSequence cell(int column) {
+            if (column < 0 || column >= views.length) {
+                return "";
+            }
+            return views[column];
+        }
+
+        @Override
+        public int nextNonZeroCell(int fromColumn) {
+            for (int column = Math.max(0, fromColumn); column < cellStart.length; column++) {
+                int start = cellStart[column];
+                int length = cellEnd[column] - start;
+                // En sık görülen "0" hücresi tek karşılaştırmayla atlanır
+                if (length == 0 || (length == 1 && buffer.get(start) == '0')) {
+                    continue;
+                }
+                if (!CsvNumbers.isZero(views[column])) {
+                    return column;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public String getString(int column) {
+            if (column < 0 || column >= views.length) {
+                return "";
+            }
+            return decode(cellStart[column], cellEnd[column] - cellStart[column]);
+        }
+
+        @Override
+        public String currentLine() {
+            return decode(lineStart, lineEnd - lineStart);
+        }
+
+        private String decode(int offset, int length) {
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(offset, scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        private void splitCells() {
+            int column = 0;
+            int start = lineStart;
+            for (int i = lineStart; i <= lineEnd && column < cellStart.length; i++) {
+                if (i == lineEnd || buffer.get(i) == SEPARATOR) {
+                    int s = start;
+                    int e = i;
+                    while (s < e && isWhitespace(buffer.get(s))) {
+                        s++;
+                    }
+                    while (e > s && isWhitespace(buffer.get(e - 1))) {
+                        e--;
+                    }
+                    cellStart[column] = s;
+                    cellEnd[column] = e;
+                    column++;
+                    start = i + 1;
+                }
+            }
+            for (; column < cellStart.length; column++) {
+                cellStart[column] = 0;
+                cellEnd[column] = 0;
+            }
+        }
+
+        private boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\t';
+        }
+
+        /**
+         * Eşlenmiş bayt bölgesini karakter dizisi olarak gösteren görünüm.
+         * Baytlar tek tek karaktere çevrildiği için yalnızca ASCII içerik (sayılar) için anlamlıdır.
+         */
+        private final class ByteCellView implements CharSequence {
+            private final int column;
+
+            private ByteCellView(int column) {
+                this.column = column;
+            }
+
+            @Override
+            public int length() {
+                return cellEnd[column] - cellStart[column];
+            }
+
+            @Override
+            public char charAt(int index) {
+                if (index < 0 || index >= length()) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return (char) (buffer.get(cellStart[column] + index) & 0xFF);
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                return toString().subSequence(start, end);
+            }
+
+            @Override
+            public String toString() {
+                return getString(column);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.ComponentType;
+import com.manufacturing.system.domain.model.LeafComponent;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Her bileşeni ayrı bir nesne olarak tutan varsayılan arka uç.
+ * Kimlik ve ad aramaları hash indeksleriyle, tip aramaları tip listeleriyle yapılır.
+ */
+public class ObjectComponentStore implements ComponentStore {
+    private final List<Component> components = new ArrayList<>();
+    private final CatalogIndex<Component> index = new CatalogIndex<>(Component::getId, Component::getName);
+    // Bileşen tipi -> o tipteki bileşenler
+    private final Map<ComponentType, List<Component>> componentsByType = new EnumMap<>(ComponentType.class);
+    // getAll için yayınlanan değişmez kopya; yazmalarda geçersiz kılınır, ilk okumada yeniden oluşturulur.
+    // Toplu yüklemede okuma olmadığı için her eklemede kopyalama yapılmaz.
+    private volatile List<Component> snapshot;
+
+    @Override
+    public synchronized Component add(Component component) {
+        components.add(component);
+        snapshot = null;
+        index.add(component);
+        if (component instanceof LeafComponent) {
+            componentsByType.computeIfAbsent(((LeafComponent) component).getType(), type -> new ArrayList<>()).add(component);
+        }
+        return component;
+    }
+
+    @Override
+    public synchronized boolean remove(Component component) {
+        if (!components.remove(component)) {
+            return false;
+        }
+        snapshot = null;
+        index.remove(component);
+        if (component instanceof LeafComponent) {
+            List<Component> sameType = componentsByType.get(((LeafComponent) component).getType());
+            if (sameType != null) {
+                sameType.remove(component);
+            }
+        }
+        // Aynı kimlik veya adı taşıyan başka bir bileşen varsa indekste onun yerini alır
+        for (Component other : components) {
+            if (other.getId().equals(component.getId()) || other.getName().equals(component.getName())) {
+                index.add(other);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void clear() {
+        components.clear();
+        snapshot = null;
+        index.clear();
+        componentsByType.clear();
+    }
+
+    @Override
+    public List<Component> getAll() {
+        List<Component> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = List.copyOf(components);
+            }
+            return snapshot;
+        }
+    }
+
+    @Override
+    public Component findById(String id) {
+        return index.findById(id);
+    }
+
+    @Override
+    public Component findByName(String name) {
+        return index.findByName(name);
+    }
+
+    @Override
+    public synchronized List<Component> findByType(ComponentType type) {
+        List<Component> sameType = componentsByType.get(type);
+        return sameType == null ? new ArrayList<>() : new ArrayList<>(sameType);
+    }
+
+    @Override
+    public List<Component> searchByName(String prefix, int limit) {
+        return index.searchByNamePrefix(prefix, limit);
+    }
+}
@@ -0,0 +1,145 @@
+package com.manufacturing.system.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Büyük CSV dosyalarını bellek eşlemeli parçalar halinde fork-join havuzu üzerinde ayrıştıran yükleyici.
+ * Parçalar birbirinden bağımsız ayrıştırılır, sonuçlar dosya sırası korunarak birleştirilir.
+ */
+public class ParallelCsvLoader {
+    // Bu boyutun altındaki dosyalar için tek iş parçacıklı okuma daha hızlıdır
+    public static final long PARALLEL_THRESHOLD_BYTES = 32L * 1024 * 1024;
+    // Havuzdaki her iş parçacığı için oluşturulacak parça sayısı (yük dengesi için)
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelCsvLoader() {
+        // Utility sınıfını örneklemeyi engellemek için private constructor
+    }
+
+    /**
+     * Bir satırı ara sonuca dönüştüren fonksiyon.
+     * Farklı iş parçacıklarından eşzamanlı çağrılır; paylaşılan durumu değiştirmemelidir.
+     *
+     * @param <T> Ara sonuç tipi
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        /**
+         * @param row Ayrıştırılacak satır
+         * @return Ara sonuç, satır geçersizse null
+         */
+        T map(CsvRow row);
+    }
+
+    /**
+     * Bir parçanın ayrıştırma sonucu.
+     *
+     * @param <T> Ara sonuç tipi
+     */
+    public static final class ChunkResult<T> {
+        private final List<T> values = new ArrayList<>();
+        private int errorCount;
+
+        public List<T> getValues() {
+            return values;
+        }
+
+        public int getErrorCount() {
+            return errorCount;
+        }
+    }
+
+    /**
+     * Dosyanın büyüklüğüne göre paralel yüklemenin tercih edilip edilmeyeceğini belirtir.
+     *
+     * @param fileSize Dosya boyutu (bayt)
+     * @return Paralel yükleme önerilirse true
+     */
+    public static boolean shouldLoadInParallel(long fileSize) {
+        return fileSize >= PARALLEL_THRESHOLD_BYTES && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Dosyayı parçalara böler ve her parçayı havuzda ayrıştırır.
+     *
+     * @param file Açık CSV dosyası
+     * @param pool Kullanılacak fork-join havuzu
+     * @param mapper Satır dönüştürücü
+     * @param <T> Ara sonuç tipi
+     * @return Dosya sırasına göre parça sonuçları
+     * @throws IOException Dosya okunamazsa
+     */
+    public static <T> List<ChunkResult<T>> parse(MappedCsvFile file, ForkJoinPool pool, RowMapper<T> mapper)
+            throws IOException {
+        List<MappedCsvFile.Chunk> chunks = file.split(pool.getParallelism() * CHUNKS_PER_THREAD);
+        List<ChunkResult<T>> results = new ArrayList<>(chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            results.add(new ChunkResult<>());
+        }
+
+        try {
+            pool.invoke(new ChunkTask<>(chunks, results, mapper, 0, chunks.size()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return results;
+    }
+
+    /**
+     * Parça aralığını ikiye bölerek ayrıştıran görev.
+     */
+    private static final class ChunkTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        // Görevler yalnızca havuz içinde yaşar, serileştirilmez
+        private final transient List<MappedCsvFile.Chunk> chunks;
+        private final transient List<ChunkResult<T>> results;
+        private final transient RowMapper<T> mapper;
+        private final int from;
+        private final int to;
+
+        private ChunkTask(List<MappedCsvFile.Chunk> chunks, List<ChunkResult<T>> results,
+                          RowMapper<T> mapper, int from, int to) {
+            this.chunks = chunks;
+            this.results = results;
+            this.mapper = mapper;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    parseChunk(chunks.get(from), results.get(from));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask<>(chunks, results, mapper, from, middle),
+                      new ChunkTask<>(chunks, results, mapper, middle, to));
+        }
+
+        private void parseChunk(MappedCsvFile.Chunk chunk, ChunkResult<T> result) {
+            MappedCsvFile.ChunkCursor cursor;
+            try {
+                cursor = chunk.open();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            while (cursor.next()) {
+                T value = mapper.map(cursor);
+                if (value != null) {
+                    result.values.add(value);
+                } else {
+                    result.errorCount++;
+                }
+            }
+        }
+    }
+}
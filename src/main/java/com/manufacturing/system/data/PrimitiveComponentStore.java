@@ -0,0 +1,590 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.domain.inventory.InventorySnapshot;
+import com.manufacturing.system.domain.inventory.StockHistory;
+import com.manufacturing.system.domain.inventory.VersionedStock;
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.ComponentType;
+import com.manufacturing.system.domain.model.LeafComponent;
+import com.manufacturing.system.domain.model.ParentLinks;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.StockEvents;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Milyonlarca bileşenlik kataloglar için sütun tabanlı (struct-of-arrays) arka uç.
+ * Maliyet, ağırlık, stok ve tip ilkel dizilerde, yoğun int tutamaçlarla adreslenerek saklanır;
+ * kimlik ve ad aramaları da tutamaç dizisi olan açık adresli hash tablolarıyla yapılır.
+ * Böylece bileşen başına yalnızca ad ve kimlik String'leri yığında kalır.
+ * <p>
+ * Çağıranlara bileşen başına nesne tutulmadan, istek üzerine oluşturulan hafif {@link LeafComponent}
+ * görünümleri (flyweight) döndürülür. Aynı tutamacın görünümleri birbirine eşittir (equals/hashCode).
+ * Diziler sabit boyutlu sayfalara bölünür; sayfalar hiç taşınmadığı için büyüme sırasında
+ * eşzamanlı okumalar ve stok güncellemeleri kaybolmaz.
+ */
+public class PrimitiveComponentStore implements ComponentStore {
+    private static final int PAGE_BITS = 14;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final byte REMOVED = -1;
+    private static final ComponentType[] TYPES = ComponentType.values();
+
+    private static final VarHandle DOUBLES = MethodHandles.arrayElementVarHandle(double[].class);
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle HISTORIES = MethodHandles.arrayElementVarHandle(StockHistory[].class);
+
+    // Sayfa dizini; yalnızca büyürken yeni bir dizi yayınlanır
+    private volatile Page[] pages = new Page[0];
+    // Ayrılmış tutamaç sayısı (silinenler dahil)
+    private volatile int size;
+    // Silinmemiş tutamaçlar, ekleme sırasıyla
+    private volatile HandleList live = new HandleList(new int[16], 0);
+
+    // Açık adresli hash tabloları: tutamaç + 1 (0: boş yuva)
+    private volatile int[] nameTable = new int[16];
+    private volatile int[] idTable = new int[16];
+    private int nameCount;
+    private int idCount;
+
+    // Tutamaç -> bileşeni kullanan ürünler; yalnızca bir ürünün reçetesinde olan bileşenler için tutulur
+    private final Map<Integer, ParentLinks> parents = new ConcurrentHashMap<>();
+
+    // Ada göre sıralı tutamaçlar; önek araması sırasında gerektiğinde yeniden oluşturulur
+    private int[] sortedByName;
+    private boolean sortedDirty = true;
+
+    @Override
+    public synchronized Component add(Component component) {
+        if (!(component instanceof LeafComponent)) {
+            throw new IllegalArgumentException("Desteklenmeyen bileşen tipi: " + component.getClass().getSimpleName());
+        }
+        LeafComponent leaf = (LeafComponent) component;
+
+        int handle = size;
+        Page page = pageForWrite(handle);
+        int slot = handle & PAGE_MASK;
+        page.ids[slot] = leaf.getId();
+        page.names[slot] = leaf.getName();
+        page.types[slot] = (byte) leaf.getType().ordinal();
+        page.costs[slot] = leaf.getCost();
+        page.weights[slot] = leaf.getWeight();
+        page.stocks[slot] = VersionedStock.initialWord(leaf.getStockMilli());
+        size = handle + 1;
+
+        live = live.append(handle);
+        indexHandle(handle);
+        sortedDirty = true;
+        return new View(this, handle);
+    }
+
+    @Override
+    public synchronized boolean remove(Component component) {
+        if (!(component instanceof View) || ((View) component).store != this) {
+            return false;
+        }
+        int handle = ((View) component).handle;
+        if (handle >= size || type(handle) == REMOVED) {
+            return false;
+        }
+        page(handle).types[handle & PAGE_MASK] = REMOVED;
+        parents.remove(handle);
+        live = live.without(handle);
+        // Aynı kimlik veya adı taşıyan başka bir bileşenin indekste yerini alması için tablolar baştan kurulur
+        rebuildIndexes(nameTable.length);
+        sortedDirty = true;
+        return true;
+    }
+
+    /**
+     * Tüm bileşenleri siler. Tutamaçlar yeniden kullanılacağı için daha önce döndürülmüş görünümler geçersiz olur.
+     */
+    @Override
+    public synchronized void clear() {
+        pages = new Page[0];
+        size = 0;
+        live = new HandleList(new int[16], 0);
+        nameTable = new int[16];
+        idTable = new int[16];
+        nameCount = 0;
+        idCount = 0;
+        sortedByName = null;
+        sortedDirty = true;
+        parents.clear();
+    }
+
+    @Override
+    public List<Component> getAll() {
+        HandleList snapshot = live;
+        int count = snapshot.count;
+        return new AbstractList<Component>() {
+            @Override
+            public Component get(int index) {
+                if (index < 0 || index >= count) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return new View(PrimitiveComponentStore.this, snapshot.handles[index]);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    @Override
+    public Component findById(String id) {
+        int handle = lookup(idTable, id, true);
+        return handle < 0 ? null : new View(this, handle);
+    }
+
+    @Override
+    public Component findByName(String name) {
+        int handle = lookup(nameTable, name, false);
+        return handle < 0 ? null : new View(this, handle);
+    }
+
+    @Override
+    public List<Component> findByType(ComponentType type) {
+        HandleList snapshot = live;
+        byte code = (byte) type.ordinal();
+        List<Component> result = new ArrayList<>();
+        for (int i = 0; i < snapshot.count; i++) {
+            int handle = snapshot.handles[i];
+            if (type(handle) == code) {
+                result.add(new View(this, handle));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized List<Component> searchByName(String prefix, int limit) {
+        if (sortedDirty) {
+            HandleList snapshot = live;
+            sortedByName = Arrays.copyOf(snapshot.handles, snapshot.count);
+            sortByName(sortedByName, new int[sortedByName.length], 0, sortedByName.length);
+            sortedDirty = false;
+        }
+
+        // İlk adı önekten küçük olmayan tutamacı ikili aramayla bul
+        int low = 0;
+        int high = sortedByName.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(name(sortedByName[middle]), prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        List<Component> result = new ArrayList<>();
+        for (int i = low; i < sortedByName.length && result.size() < limit; i++) {
+            String name = name(sortedByName[i]);
+            if (!name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                break;
+            }
+            result.add(new View(this, sortedByName[i]));
+        }
+        return result;
+    }
+
+    private Page page(int handle) {
+        return pages[handle >>> PAGE_BITS];
+    }
+
+    private Page pageForWrite(int handle) {
+        int pageIndex = handle >>> PAGE_BITS;
+        Page[] current = pages;
+        if (pageIndex >= current.length) {
+            // Yalnızca dizin büyütülür; yeni sayfalar ilk kullanımda ayrılır
+            current = Arrays.copyOf(current, Math.max(pageIndex + 1, current.length * 2));
+            pages = current;
+        }
+        if (current[pageIndex] == null) {
+            // Okuyucular size alanı güncellenene kadar bu sayfaya erişmez
+            current[pageIndex] = new Page();
+        }
+        return current[pageIndex];
+    }
+
+    private String id(int handle) {
+        return page(handle).ids[handle & PAGE_MASK];
+    }
+
+    private String name(int handle) {
+        return page(handle).names[handle & PAGE_MASK];
+    }
+
+    private byte type(int handle) {
+        return page(handle).types[handle & PAGE_MASK];
+    }
+
+    private double cost(int handle) {
+        return (double) DOUBLES.getVolatile(page(handle).costs, handle & PAGE_MASK);
+    }
+
+    private void setCost(int handle, double cost) {
+        DOUBLES.setVolatile(page(handle).costs, handle & PAGE_MASK, cost);
+        invalidateParents(handle);
+    }
+
+    private double weight(int handle) {
+        return (double) DOUBLES.getVolatile(page(handle).weights, handle & PAGE_MASK);
+    }
+
+    private void setWeight(int handle, double weight) {
+        DOUBLES.setVolatile(page(handle).weights, handle & PAGE_MASK, weight);
+        invalidateParents(handle);
+    }
+
+    private void addParent(int handle, Product parent) {
+        parents.compute(handle, (key, links) -> {
+            ParentLinks updated = links == null ? new ParentLinks() : links;
+            updated.add(parent);
+            return updated;
+        });
+    }
+
+    private void removeParent(int handle, Product parent) {
+        parents.computeIfPresent(handle, (key, links) -> {
+            links.remove(parent);
+            return links.isEmpty() ? null : links;
+        });
+    }
+
+    private void invalidateParents(int handle) {
+        ParentLinks links = parents.get(handle);
+        if (links != null) {
+            links.invalidateParents();
+        }
+    }
+
+    /**
+     * Tutamacı kimlik ve ad tablolarına ekler. Aynı anahtar zaten varsa ilk eklenen korunur.
+     */
+    private void indexHandle(int handle) {
+        if ((Math.max(nameCount, idCount) + 1) * 2 > nameTable.length) {
+            rebuildIndexes(nameTable.length * 2);
+        }
+        if (insert(nameTable, handle, false)) {
+            nameCount++;
+        }
+        if (insert(idTable, handle, true)) {
+            idCount++;
+        }
+    }
+
+    private void rebuildIndexes(int capacity) {
+        int[] names = new int[capacity];
+        int[] ids = new int[capacity];
+        int nameEntries = 0;
+        int idEntries = 0;
+        HandleList snapshot = live;
+        for (int i = 0; i < snapshot.count; i++) {
+            int handle = snapshot.handles[i];
+            if (insert(names, handle, false)) {
+                nameEntries++;
+            }
+            if (insert(ids, handle, true)) {
+                idEntries++;
+            }
+        }
+        nameCount = nameEntries;
+        idCount = idEntries;
+        nameTable = names;
+        idTable = ids;
+    }
+
+    private boolean insert(int[] table, int handle, boolean byId) {
+        String key = byId ? id(handle) : name(handle);
+        int mask = table.length - 1;
+        int index = spread(key.hashCode()) & mask;
+        while (true) {
+            int entry = (int) INTS.getAcquire(table, index);
+            if (entry == 0) {
+                // Sütun değerleri yazıldıktan sonra yayınlanır; tabloyu okuyan iş parçacığı bunları görür
+                INTS.setRelease(table, index, handle + 1);
+                return true;
+            }
+            String existing = byId ? id(entry - 1) : name(entry - 1);
+            if (existing.equals(key)) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private int lookup(int[] table, String key, boolean byId) {
+        if (key == null) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        int index = spread(key.hashCode()) & mask;
+        while (true) {
+            int entry = (int) INTS.getAcquire(table, index);
+            if (entry == 0) {
+                return -1;
+            }
+            int handle = entry - 1;
+            String candidate = byId ? id(handle) : name(handle);
+            if (candidate.equals(key)) {
+                return handle;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private static int spread(int hash) {
+        return (hash ^ (hash >>> 16)) * 0x9E3779B1;
+    }
+
+    /**
+     * Tutamaçları ada göre (büyük/küçük harf duyarsız) kararlı birleştirmeli sıralama ile sıralar.
+     * Karşılaştırıcı ile kutulanmış Integer dizisi oluşturmamak için elle yazılmıştır.
+     */
+    private void sortByName(int[] handles, int[] buffer, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sortByName(handles, buffer, from, middle);
+        sortByName(handles, buffer, middle, to);
+        System.arraycopy(handles, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle
+                    && String.CASE_INSENSITIVE_ORDER.compare(name(buffer[left]), name(buffer[right])) <= 0)) {
+                handles[i] = buffer[left++];
+            } else {
+                handles[i] = buffer[right++];
+            }
+        }
+    }
+
+    /**
+     * Bir sayfadaki bileşenlerin sütunları.
+     */
+    private static final class Page {
+        private final String[] ids = new String[PAGE_SIZE];
+        private final String[] names = new String[PAGE_SIZE];
+        private final byte[] types = new byte[PAGE_SIZE];
+        private final double[] costs = new double[PAGE_SIZE];
+        private final double[] weights = new double[PAGE_SIZE];
+        // Dönem damgalı stok kelimeleri ve yalnızca anlık görüntü açıkken dolan geçmiş zincirleri
+        private final long[] stocks = new long[PAGE_SIZE];
+        private final StockHistory[] histories = new StockHistory[PAGE_SIZE];
+    }
+
+    /**
+     * Canlı tutamaçların listesi. Dizi yalnızca sona eklenerek büyür; silme yeni bir liste oluşturur,
+     * böylece okuyucunun aldığı (dizi, sayı) ikilisi her zaman tutarlıdır.
+     */
+    private static final class HandleList {
+        private final int[] handles;
+        private volatile int count;
+
+        private HandleList(int[] handles, int count) {
+            this.handles = handles;
+            this.count = count;
+        }
+
+        private HandleList append(int handle) {
+            if (count == handles.length) {
+                HandleList grown = new HandleList(Arrays.copyOf(handles, handles.length * 2), count);
+                return grown.append(handle);
+            }
+            handles[count] = handle;
+            count++;
+            return this;
+        }
+
+        private HandleList without(int handle) {
+            int[] remaining = new int[handles.length];
+            int remainingCount = 0;
+            for (int i = 0; i < count; i++) {
+                if (handles[i] != handle) {
+                    remaining[remainingCount++] = handles[i];
+                }
+            }
+            return new HandleList(remaining, remainingCount);
+        }
+    }
+
+    /**
+     * Tek bir tutamacın hafif görünümü. Durum tutmaz; tüm değerler depodaki dizilerden okunur.
+     * Görünüm aynı zamanda sayfadaki stok yuvasının sürümlü stok işlemlerini de sağlar; böylece stok
+     * okuma ve yazmaları ek nesne oluşturmaz.
+     */
+    private static final class View extends VersionedStock implements LeafComponent {
+        private final PrimitiveComponentStore store;
+        private final int handle;
+        private final Page page;
+        private final int slot;
+
+        private View(PrimitiveComponentStore store, int handle) {
+            this.store = store;
+            this.handle = handle;
+            this.page = store.page(handle);
+            this.slot = handle & PAGE_MASK;
+        }
+
+        @Override
+        protected long word() {
+            return (long) LONGS.getVolatile(page.stocks, slot);
+        }
+
+        @Override
+        protected boolean compareAndSetWord(long expected, long updated) {
+            return LONGS.compareAndSet(page.stocks, slot, expected, updated);
+        }
+
+        @Override
+        protected StockHistory history() {
+            return (StockHistory) HISTORIES.getVolatile(page.histories, slot);
+        }
+
+        @Override
+        protected boolean compareAndSetHistory(StockHistory expected, StockHistory updated) {
+            return HISTORIES.compareAndSet(page.histories, slot, expected, updated);
+        }
+
+        private boolean isRemoved() {
+            return page.types[slot] == REMOVED;
+        }
+
+        /**
+         * Silinmiş bir bileşenin eski görünümü üzerinden yapılan işlemleri açık bir hatayla reddeder
+         */
+        private void checkLive() {
+            if (isRemoved()) {
+                throw new IllegalStateException("Bileşen depodan silinmiş: " + getName() + " (ID: " + getId() + ")");
+            }
+        }
+
+        @Override
+        public ComponentType getType() {
+            checkLive();
+            return TYPES[page.types[slot]];
+        }
+
+        @Override
+        public double getCost() {
+            return store.cost(handle);
+        }
+
+        @Override
+        public double getWeight() {
+            return store.weight(handle);
+        }
+
+        @Override
+        public String getName() {
+            return store.name(handle);
+        }
+
+        @Override
+        public String getId() {
+            return store.id(handle);
+        }
+
+        @Override
+        public long getStockMilli() {
+            return get();
+        }
+
+        @Override
+        public long getStockMilli(InventorySnapshot snapshot) {
+            return get(snapshot);
+        }
+
+        @Override
+        public boolean useStockMilli(long quantityMilli) {
+            checkLive();
+            if (!tryTake(quantityMilli)) {
+                return false;
+            }
+            StockEvents.stockChanged(this, -quantityMilli);
+            return true;
+        }
+
+        @Override
+        public void releaseStockMilli(long quantityMilli) {
+            checkLive();
+            addClamped(quantityMilli);
+            StockEvents.stockChanged(this, quantityMilli);
+        }
+
+        @Override
+        public long adjustStockMilli(long deltaMilli) {
+            checkLive();
+            long previous = addClamped(deltaMilli);
+            long updated = Math.max(0, previous + deltaMilli);
+            StockEvents.stockAdjusted(this, updated - previous);
+            return updated;
+        }
+
+        @Override
+        public void setCost(double cost) {
+            checkLive();
+            store.setCost(handle, cost);
+        }
+
+        @Override
+        public void setWeight(double weight) {
+            checkLive();
+            store.setWeight(handle, weight);
+        }
+
+        @Override
+        public void addParent(Product parent) {
+            store.addParent(handle, parent);
+        }
+
+        @Override
+        public void removeParent(Product parent) {
+            store.removeParent(handle, parent);
+        }
+
+        @Override
+        public String generateReport() {
+            // Silinmiş bileşenin eski görünümü de günlüklere yazılabilmeli
+            return String.format("%s: %s (ID: %s) - Maliyet: %.2f, Ağırlık: %.2f, Stok: %s",
+                    isRemoved() ? "Silinmiş" : getType().getDisplayName(), getName(), getId(), getCost(), getWeight(), Quantities.format(getStockMilli()));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof View)) {
+                return false;
+            }
+            View view = (View) other;
+            return view.store == store && view.handle == handle;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(store) * 31 + handle;
+        }
+
+        @Override
+        public String toString() {
+            return generateReport();
+        }
+    }
+}
@@ -1,19 +1,25 @@
 package com.manufacturing.system.data;
 
+import com.manufacturing.system.domain.bom.BillOfMaterials;
 import com.manufacturing.system.domain.model.*;
 import com.manufacturing.system.presentation.Logger;
-import com.manufacturing.system.util.CSVReader;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
 /**
  * Ürün verilerini yönetmek için repository sınıfı.
  */
 public class ProductRepository {
     private final List<Product> products;
+    // getAll için yayınlanan değişmez kopya; yazmalarda geçersiz kılınır, ilk okumada yeniden oluşturulur
+    private volatile List<Product> snapshot;
+    private final CatalogIndex<Product> index = new CatalogIndex<>(Product::getId, Product::getName);
     private final List<ProductionOrder> productionOrders;
     private final ComponentRepository componentRepository;
     private final Logger logger;
@@ -29,105 +35,361 @@ public class ProductRepository {
 
     /**
      * CSV dosyasından ürünleri yükler.
+     * Dosya satır satır okunur; bileşen sütunlarının indeksleri başlıktan bir kez çözülür.
      */
     public void loadProducts() {
-        List<Map<String, String>> records = FileParser.parseCSV(productsCsvPath);
-        if (records.isEmpty()) {
-            logger.log("Uyarı: Ürün CSV dosyası boş veya okunamadı. Dosya yolu: " + productsCsvPath);
-            return;
+        try (CsvCursor cursor = FileParser.openCursor(productsCsvPath)) {
+            loadProducts(cursor);
+        } catch (IOException e) {
+            logger.log("Uyarı: Ürün CSV dosyası boş veya okunamadı. Dosya yolu: " + productsCsvPath + " (" + e.getMessage() + ")");
         }
+    }
 
+    /**
+     * Verilen satır okuyucudan ürünleri yükler. Okuyucuyu kapatmak çağıranın sorumluluğundadır.
+     *
+     * @param reader Başlığı okunmuş satır okuyucu
+     * @throws IOException Okuma hatası olursa
+     */
+    public void loadProducts(CsvRowReader reader) throws IOException {
         logger.log("Ürünler yükleniyor...");
+
+        ProductColumns columns = new ProductColumns(reader.getColumnCount(), reader::getHeader, componentRepository::findByName, this::findByName);
         int successCount = 0;
         int errorCount = 0;
 
-        for (Map<String, String> record : records) {
+        while (reader.next()) {
+            ProductRecord record = parseProduct(reader, columns);
+            if (record == null) {
+                errorCount++;
+                continue;
+            }
+            add(buildProduct(record, columns, true));
+            successCount++;
+        }
+
+        logger.log("Ürün yükleme tamamlandı. Başarılı: " + successCount + ", Hatalı: " + errorCount);
+        logger.log("Toplam ürün sayısı: " + products.size());
+    }
+
+    /**
+     * CSV dosyasını bellek eşlemeli parçalar halinde verilen havuzda paralel olarak yükler.
+     * Parçalarda yalnızca satırlar ayrıştırılır; bileşen referansları birleştirmeden sonra çözülür.
+     *
+     * @param pool Ayrıştırmanın yapılacağı fork-join havuzu
+     */
+    public void loadProductsParallel(ForkJoinPool pool) {
+        try (MappedCsvFile file = new MappedCsvFile(productsCsvPath)) {
+            logger.log("Ürünler paralel olarak yükleniyor (" + pool.getParallelism() + " iş parçacığı)...");
+            long startTime = System.nanoTime();
+
+            ProductColumns columns = new ProductColumns(file.getColumnCount(), file::getHeader, componentRepository::findByName, this::findByName);
+            List<ParallelCsvLoader.ChunkResult<ProductRecord>> results =
+                    ParallelCsvLoader.parse(file, pool, row -> parseProduct(row, columns));
+
+            // Parça sonuçlarını dosya sırasıyla birleştir ve bileşen referanslarını çöz
+            int successCount = 0;
+            int errorCount = 0;
+            for (ParallelCsvLoader.ChunkResult<ProductRecord> result : results) {
+                for (ProductRecord record : result.getValues()) {
+                    add(buildProduct(record, columns, false));
+                }
+                successCount += result.getValues().size();
+                errorCount += result.getErrorCount();
+            }
+
+            long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+            logger.log("Ürün yükleme tamamlandı. Başarılı: " + successCount + ", Hatalı: " + errorCount
+                    + " (" + results.size() + " parça, " + elapsedMillis + " ms)");
+            logger.log("Toplam ürün sayısı: " + products.size());
+        } catch (IOException e) {
+            logger.log("Uyarı: Ürün CSV dosyası boş veya okunamadı. Dosya yolu: " + productsCsvPath + " (" + e.getMessage() + ")");
+        }
+    }
+
+    public String getCsvPath() {
+        return productsCsvPath;
+    }
+
+    /**
+     * Değişmiş bir CSV satırını canlı depoya uygular. Bilinen ürünlerin reçetesi bütün olarak değiştirilir,
+     * bilinmeyen ürünler eklenir.
+     *
+     * @param row Değişmiş satır
+     * @param columns resolveColumns ile çözülmüş sütun indeksleri
+     * @return Satır uygulandıysa true
+     */
+    boolean applyChangedRow(CsvRow row, ProductColumns columns) {
+        ProductRecord record = parseProduct(row, columns);
+        if (record == null) {
+            return false;
+        }
+
+        Product rebuilt = buildProduct(record, columns, false);
+        Product existing = findByName(record.name);
+        if (existing == null) {
+            add(rebuilt);
+            logger.log("Yeniden yükleme: Yeni ürün eklendi - " + rebuilt.getName());
+        } else {
             try {
-                // CSV dosyasından gerekli alanları al
-                String name = record.get("Product Name");
-                String quantityStr = record.get("Quantity");
-
-                // Gerekli değerlerin varlığını kontrol et
-                if (name == null || name.isEmpty()) {
-                    logger.log("Hata: Ürün adı eksik - " + record);
-                    errorCount++;
-                    continue;
+                existing.replaceComponents(rebuilt.getBom());
+            } catch (IllegalArgumentException e) {
+                logger.log("Yeniden yükleme: " + existing.getName() + " reçetesi güncellenmedi - " + e.getMessage());
+                return false;
+            }
+            logger.log("Yeniden yükleme: " + existing.getName() + " reçetesi güncellendi (" + rebuilt.getBom().size() + " bileşen)");
+        }
+        return true;
+    }
+
+    ProductColumns resolveColumns(CsvRowReader header) {
+        return new ProductColumns(header.getColumnCount(), header::getHeader, componentRepository::findByName, this::findByName);
+    }
+
+    /**
+     * Tek bir CSV satırını ara kayda dönüştürür. Hatalar loglanır ve null döndürülür.
+     * Paralel yükleme sırasında farklı iş parçacıklarından çağrılabilir; depo durumunu değiştirmez.
+     */
+    private ProductRecord parseProduct(CsvRow row, ProductColumns columns) {
+        try {
+            // Gerekli değerlerin varlığını kontrol et
+            if (row.isEmpty(columns.name)) {
+                logger.log("Hata: Ürün adı eksik - " + row.currentLine());
+                return null;
+            }
+            String name = row.getString(columns.name);
+
+            // Benzersiz ID oluştur (ürün adını kullanarak)
+            String id = name.replaceAll("\\s+", "_").toLowerCase();
+
+            // Stok miktarını dönüştür
+            int quantity = 0;
+            try {
+                if (!row.isEmpty(columns.quantity)) {
+                    quantity = row.getInt(columns.quantity);
+                } else {
+                    logger.log("Uyarı: Miktar değeri eksik, 0 kullanılacak - Ürün: " + name);
                 }
+            } catch (NumberFormatException e) {
+                logger.log("Hata: Geçersiz miktar değeri '" + row.cell(columns.quantity) + "' - Ürün: " + name + ". Hata: " + e.getMessage());
+                return null;
+            }
 
-                // Benzersiz ID oluştur (ürün adını kullanarak)
-                String id = name.replaceAll("\\s+", "_").toLowerCase();
+            ProductRecord record = new ProductRecord(id, name, quantity);
 
-                // Stok miktarını dönüştür
-                int quantity = 0;
+            // Yalnızca sıfır olmayan bileşen hücrelerini ziyaret et
+            for (int column = row.nextNonZeroCell(0); column >= 0; column = row.nextNonZeroCell(column + 1)) {
+                if (!columns.isLineColumn(column)) {
+                    continue; // Ürün adı veya miktar sütunu
+                }
                 try {
-                    if (quantityStr != null && !quantityStr.isEmpty()) {
-                        quantity = Integer.parseInt(quantityStr.trim());
-                    } else {
-                        logger.log("Uyarı: Miktar değeri eksik, 0 kullanılacak - Ürün: " + name);
+                    // Virgüllü değerler yerinde, yuvarlanmadan binde bir birim olarak ayrıştırılır (1,5 -> 1500)
+                    long componentQuantity = row.getMilli(column);
+                    if (componentQuantity > 0) {
+                        record.addLine(column, componentQuantity);
                     }
                 } catch (NumberFormatException e) {
-                    logger.log("Hata: Geçersiz miktar değeri '" + quantityStr + "' - Ürün: " + name + ". Hata: " + e.getMessage());
-                    errorCount++;
-                    continue;
+                    logger.log("Hata: Geçersiz bileşen miktar değeri '" + row.cell(column) + "' - Bileşen: " + columns.titleAt(column));
                 }
+            }
+            return record;
+        } catch (Exception e) {
+            logger.log("Beklenmeyen hata: " + e.getMessage() + " kayıt işlenemedi: " + row.currentLine());
+            return null;
+        }
+    }
 
-                // Yeni ürün oluştur
-                Product product = new Product(id, name, 0);
-                logger.log("Ürün oluşturuluyor: " + name + " (ID: " + id + ")");
-
-                // CSV'deki tüm bileşenleri kontrol et ve ürüne ekle
-                List<Component> allComponents = componentRepository.getAll();
-                for (Component component : allComponents) {
-                    String componentQuantityStr = record.get(component.getName());
-                    if (componentQuantityStr != null && !componentQuantityStr.isEmpty() && !componentQuantityStr.equals("0")) {
-                        try {
-                            // Virgül yerine nokta kullanarak double parse et
-                            double componentQuantityDouble = Double.parseDouble(componentQuantityStr.replace(',', '.'));
-                            int componentQuantity = (int)Math.ceil(componentQuantityDouble); // 1,5 gibi değerleri yukarı yuvarla
-                            
-                            if (componentQuantity > 0) {
-                                product.addComponent(component, componentQuantity);
-                                logger.log("Bileşen eklendi: " + component.getName() + " (ID: " + component.getId() + ", Miktar: " + componentQuantity + ")");
-                            }
-                        } catch (NumberFormatException e) {
-                            logger.log("Hata: Geçersiz bileşen miktar değeri '" + componentQuantityStr + "' - Bileşen: " + component.getName());
-                        }
-                    }
+    /**
+     * Ara kayıttan ürünü oluşturur ve bileşen referanslarını çözer.
+     */
+    private Product buildProduct(ProductRecord record, ProductColumns columns, boolean verbose) {
+        Product product = new Product(record.id, record.name, 0);
+        if (verbose) {
+            logger.log("Ürün oluşturuluyor: " + record.name + " (ID: " + record.id + ")");
+        }
+
+        // Reçete bir kez, paralel dizilerde oluşturulur
+        BillOfMaterials.Builder bom = BillOfMaterials.builder(record.lineCount);
+        for (int i = 0; i < record.lineCount; i++) {
+            Component component = columns.resolve(record.componentColumns[i]);
+            if (component == null) {
+                continue; // Bilinmeyen bileşen sütunu
+            }
+            long componentQuantity = record.componentQuantities[i];
+            bom.add(component, componentQuantity);
+            if (verbose) {
+                logger.log("Bileşen eklendi: " + component.getName() + " (ID: " + component.getId() + ", Miktar: " + Quantities.format(componentQuantity) + ")");
+            }
+        }
+        // Yeni ürünü henüz hiçbir reçete kullanmadığı için döngü oluşamaz
+        product.replaceComponents(bom.build());
+
+        // Toplam maliyet ve ağırlığı hesapla ve göster
+        if (verbose) {
+            logger.log("Ürün detayları: " + record.name + " - Toplam Maliyet: " + product.getCost() + " TL, Toplam Ağırlık: " + product.getWeight() + " kg");
+        }
+        return product;
+    }
+
+    /**
+     * Ürün CSV'sinin başlıktan bir kez çözülen sütunları.
+     * Her başlık sütunu en fazla bir bileşene eşlenir, böylece satırlar okunurken ad araması yapılmaz.
+     * Bileşen deposunda bulunmayan sütunlar alt montaj olabilir; bunlar ürün oluşturulurken daha önce
+     * yüklenmiş ürünler arasında aranır (alt montajlar dosyada kendilerini kullanan ürünlerden önce gelmelidir).
+     */
+    static final class ProductColumns {
+        private final int name;
+        private final int quantity;
+        private final String[] titles;
+        // Sütun indeksine göre bileşen (null: bileşen sütunu değil veya alt montaj sütunu)
+        private final Component[] componentByColumn;
+        private final Function<String, Product> productByName;
+
+        private ProductColumns(int columnCount, IntFunction<String> header, Function<String, Component> componentByName,
+                               Function<String, Product> productByName) {
+            int nameColumn = -1;
+            int quantityColumn = -1;
+            this.titles = new String[columnCount];
+            this.componentByColumn = new Component[columnCount];
+            this.productByName = productByName;
+            for (int column = 0; column < columnCount; column++) {
+                String title = header.apply(column);
+                if (title.equals("Product Name")) {
+                    nameColumn = column;
+                } else if (title.equals("Quantity")) {
+                    quantityColumn = column;
+                } else {
+                    titles[column] = title;
+                    componentByColumn[column] = componentByName.apply(title);
                 }
+            }
+            this.name = nameColumn;
+            this.quantity = quantityColumn;
+        }
 
-                // Toplam maliyet ve ağırlığı hesapla ve göster
-                logger.log("Ürün detayları: " + name + " - Toplam Maliyet: " + product.getCost() + " TL, Toplam Ağırlık: " + product.getWeight() + " kg");
+        /**
+         * Sütun bir bileşen veya alt montaj sütunu olabilir mi
+         */
+        private boolean isLineColumn(int column) {
+            return column < titles.length && titles[column] != null;
+        }
 
-                // Ürün listesine ekle
-                products.add(product);
-                successCount++;
-            } catch (Exception e) {
-                logger.log("Beklenmeyen hata: " + e.getMessage() + " kayıt işlenemedi: " + record);
-                errorCount++;
+        private String titleAt(int column) {
+            return titles[column];
+        }
+
+        /**
+         * Sütunun bileşenini, yoksa aynı adlı (önceden yüklenmiş) alt montaj ürününü döndürür
+         */
+        private Component resolve(int column) {
+            Component component = componentByColumn[column];
+            return component != null ? component : productByName.apply(titles[column]);
+        }
+    }
+
+    /**
+     * Ayrıştırılmış ancak bileşen referansları henüz çözülmemiş ürün satırı.
+     */
+    private static final class ProductRecord {
+        private final String id;
+        private final String name;
+        private final int quantity;
+        private int[] componentColumns = new int[8];
+        private long[] componentQuantities = new long[8];
+        private int lineCount;
+
+        private ProductRecord(String id, String name, int quantity) {
+            this.id = id;
+            this.name = name;
+            this.quantity = quantity;
+        }
+
+        private void addLine(int componentColumn, long componentQuantity) {
+            if (lineCount == componentColumns.length) {
+                componentColumns = Arrays.copyOf(componentColumns, lineCount * 2);
+                componentQuantities = Arrays.copyOf(componentQuantities, lineCount * 2);
             }
+            componentColumns[lineCount] = componentColumn;
+            componentQuantities[lineCount] = componentQuantity;
+            lineCount++;
         }
+    }
 
-        logger.log("Ürün yükleme tamamlandı. Başarılı: " + successCount + ", Hatalı: " + errorCount);
-        logger.log("Toplam ürün sayısı: " + products.size());
+    /**
+     * Depoya hazır bir ürün ekler (ör. anlık görüntüden yükleme sırasında).
+     * Kimlik ve ad indeksleri birlikte güncellenir.
+     * @param product Eklenecek ürün
+     */
+    public synchronized void add(Product product) {
+        products.add(product);
+        snapshot = null;
+        index.add(product);
+    }
+
+    /**
+     * Ürünü depodan ve indekslerden çıkarır.
+     * @param product Çıkarılacak ürün
+     * @return Ürün depoda bulunduysa true
+     */
+    public synchronized boolean remove(Product product) {
+        if (!products.remove(product)) {
+            return false;
+        }
+        snapshot = null;
+        index.remove(product);
+        // Aynı kimlik veya adı taşıyan başka bir ürün varsa indekste onun yerini alır
+        for (Product other : products) {
+            if (other.getId().equals(product.getId()) || other.getName().equals(product.getName())) {
+                index.add(other);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Depodaki tüm ürünleri ve indeksleri temizler (ör. kataloğun baştan yüklenmesinden önce).
+     */
+    public synchronized void clear() {
+        products.clear();
+        snapshot = null;
+        index.clear();
     }
 
+    /**
+     * Depodaki ürünleri ekleme sırasıyla döndürür. Liste çağrı anındaki değişmez bir anlık görüntüdür;
+     * katalog izleyicisinin eşzamanlı değişiklikleri üzerinde dolaşılırken görünmez.
+     * @return Ürün listesi
+     */
     public List<Product> getAll() {
-        return products;
+        List<Product> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = List.copyOf(products);
+            }
+            return snapshot;
+        }
     }
 
     public Product findById(String id) {
-        return products.stream()
-                .filter(p -> p.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+        return index.findById(id);
     }
     
     // Ürün adına göre ürün bulma metodu
     public Product findByName(String name) {
-        return products.stream()
-                .filter(p -> p.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        return index.findByName(name);
+    }
+
+    /**
+     * Adı verilen önekle başlayan ürünleri ada göre sıralı döndürür (katalog araması için).
+     * @param prefix Ad öneki (büyük/küçük harf duyarsız)
+     * @param limit En fazla döndürülecek ürün sayısı
+     * @return Eşleşen ürünler
+     */
+    public List<Product> searchByName(String prefix, int limit) {
+        return index.searchByNamePrefix(prefix, limit);
     }
 
     public void addProductionOrder(ProductionOrder order) {
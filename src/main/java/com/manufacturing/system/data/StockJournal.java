@@ -0,0 +1,541 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.LeafComponent;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.StockListener;
+import com.manufacturing.system.presentation.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Üretim sırasındaki stok değişikliklerini kaydeden, yalnızca sona eklenen günlük (write-ahead log).
+ * <p>
+ * Değişiklikler bellekteki bir tampona eklenir; ayrı bir iş parçacığı biriken kayıtları tek bir çerçeve
+ * olarak yazar ve tek fsync ile kalıcı hale getirir (group commit). Günlük, CSV değerlerine göre net stok
+ * farklarını tutar; belirli sayıda kayıttan sonra bu farklar bir kontrol noktasına sıkıştırılır ve eski
+ * günlük dosyaları silinir. Açılışta son kontrol noktası üzerine sonraki günlük dosyaları oynatılır.
+ * <p>
+ * CSV yeniden yüklemesi gibi katalog düzeltmeleri kaynağında kayıtlı olduğu için günlüğe yazılmaz.
+ * <p>
+ * Farklar binde bir birim cinsinden tutulur. Tam birimli eski kayıt türleri ve sürüm 1 kontrol noktaları
+ * okunurken binde bir birime çevrilir; yeni kayıtlar her zaman güncel biçimde yazılır.
+ */
+public class StockJournal implements StockListener, AutoCloseable {
+    private static final int CHECKPOINT_MAGIC = 0x4D46434B; // "MFCK"
+    private static final int CHECKPOINT_VERSION = 2;
+    // Farkları tam birim olarak tutan eski kontrol noktası sürümü
+    private static final int CHECKPOINT_VERSION_UNITS = 1;
+    private static final String CHECKPOINT_FILE = "checkpoint.bin";
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    // Eski kayıt türleri: int, tam birim fark
+    private static final byte KIND_COMPONENT_UNITS = 1;
+    private static final byte KIND_PRODUCT_UNITS = 2;
+    // long, binde bir birim fark
+    private static final byte KIND_COMPONENT = 3;
+    private static final byte KIND_PRODUCT = 4;
+    // Çerçeve başlığı: yük uzunluğu + CRC32C
+    private static final int FRAME_HEADER_SIZE = 8;
+    private static final int MAX_FRAME_SIZE = 64 * 1024 * 1024;
+    // Bu kadar kayıttan sonra kontrol noktası yazılır
+    private static final long CHECKPOINT_INTERVAL_RECORDS = 1 << 16;
+
+    private final Path directory;
+    private final Logger logger;
+    private final Object lock = new Object();
+
+    // Aşağıdaki alanlar lock ile korunur
+    private ByteBuffer pending = ByteBuffer.allocate(64 * 1024);
+    private long appendedRecords;
+    private long durableRecords;
+    private long recordsSinceCheckpoint;
+    // Son kontrol noktasından sonra eklenen kayıtların net farkları; kontrol noktasında yenileriyle değiştirilir
+    private Map<String, long[]> componentDeltas = new HashMap<>();
+    private Map<String, long[]> productDeltas = new HashMap<>();
+    private boolean closed;
+    private IOException failure;
+
+    private Thread flusher;
+
+    // Aşağıdaki alanlar yalnızca yazan iş parçacığına aittir: kurtarma, yazma iş parçacığı ve (o bittikten sonra) close.
+    // Disk işlemleri bu yüzden kilit dışında yapılır.
+    private ByteBuffer flushing = ByteBuffer.allocate(64 * 1024);
+    // Son kontrol noktasına kadarki birleşik net farklar
+    private final Map<String, long[]> checkpointComponents = new HashMap<>();
+    private final Map<String, long[]> checkpointProducts = new HashMap<>();
+    private FileChannel segment;
+    private long segmentNumber;
+
+    public StockJournal(String directory, Logger logger) {
+        this.directory = Path.of(directory);
+        this.logger = logger;
+    }
+
+    /**
+     * Son kontrol noktasını ve sonraki günlük dosyalarını okuyarak net stok farklarını depolara uygular,
+     * ardından birleşik durumu yeni bir kontrol noktasına yazar ve yazma için yeni bir günlük dosyası açar.
+     * Depolar CSV veya anlık görüntüden yüklenmiş olmalı ve günlük henüz dinleyici olarak kaydedilmemiş olmalıdır.
+     *
+     * @param componentRepository Bileşen deposu
+     * @param productRepository Ürün deposu
+     * @throws IOException Günlük dizini okunamaz veya yazılamazsa
+     */
+    public void recover(ComponentRepository componentRepository, ProductRepository productRepository) throws IOException {
+        Files.createDirectories(directory);
+        long startTime = System.nanoTime();
+
+        long coveredSegment = readCheckpoint();
+        long replayedRecords = 0;
+        long lastSegment = coveredSegment;
+        for (long number : listSegments()) {
+            if (number > coveredSegment) {
+                replayedRecords += replaySegment(segmentPath(number));
+                lastSegment = Math.max(lastSegment, number);
+            }
+        }
+
+        int applied = 0;
+        for (Map.Entry<String, long[]> entry : checkpointComponents.entrySet()) {
+            Component component = componentRepository.findById(entry.getKey());
+            if (component instanceof LeafComponent) {
+                ((LeafComponent) component).adjustStockMilli(entry.getValue()[0]);
+                applied++;
+            } else {
+                logger.log("Uyarı: Günlükteki bileşen katalogda bulunamadı, farkı saklanacak: " + entry.getKey());
+            }
+        }
+        for (Map.Entry<String, long[]> entry : checkpointProducts.entrySet()) {
+            Product product = productRepository.findById(entry.getKey());
+            if (product != null) {
+                product.adjustStockMilli(entry.getValue()[0]);
+                applied++;
+            } else {
+                logger.log("Uyarı: Günlükteki ürün katalogda bulunamadı, farkı saklanacak: " + entry.getKey());
+            }
+        }
+
+        // Oynatılan dosyaları tek bir kontrol noktasında birleştir ve temiz bir dosyayla devam et
+        writeCheckpoint(lastSegment, checkpointComponents, checkpointProducts);
+        deleteSegmentsUpTo(lastSegment);
+        FileChannel channel = openSegment(lastSegment + 1);
+        synchronized (lock) {
+            segment = channel;
+            segmentNumber = lastSegment + 1;
+        }
+
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        logger.log("Stok günlüğü kurtarıldı: " + applied + " kalemin net farkı uygulandı, "
+                + replayedRecords + " kayıt oynatıldı (" + elapsedMillis + " ms)");
+    }
+
+    /**
+     * Günlük yazma iş parçacığını başlatır. Önce {@link #recover} çağrılmalıdır.
+     */
+    public void start() {
+        synchronized (lock) {
+            if (segment == null) {
+                throw new IllegalStateException("Stok günlüğü başlatılmadan önce kurtarma yapılmalı");
+            }
+            if (flusher != null) {
+                return;
+            }
+            flusher = new Thread(this::flushLoop, "stock-journal");
+            flusher.setDaemon(true);
+            flusher.start();
+        }
+    }
+
+    @Override
+    public void stockChanged(Component component, long delta) {
+        boolean product = component instanceof Product;
+        String key = component.getId();
+        // Kayıt kilit dışında kodlanır; kilit altında yalnızca tampona kopyalanır
+        byte[] id = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(1 + 2 + id.length + 8);
+        record.put(product ? KIND_PRODUCT : KIND_COMPONENT);
+        record.putShort((short) id.length);
+        record.put(id);
+        record.putLong(delta);
+        record.flip();
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            boolean wasEmpty = pending.position() == 0;
+            ensurePendingCapacity(record.remaining());
+            pending.put(record);
+            (product ? productDeltas : componentDeltas).computeIfAbsent(key, ignored -> new long[1])[0] += delta;
+            appendedRecords++;
+            if (wasEmpty) {
+                lock.notifyAll(); // Boş tamponu bekleyen yazma iş parçacığını uyandır
+            }
+        }
+    }
+
+    /**
+     * Şimdiye kadar eklenmiş tüm kayıtlar diske yazılıp fsync edilene kadar bekler.
+     * Eşzamanlı çağıranlar aynı fsync ile birlikte kalıcı hale gelir.
+     *
+     * @throws IOException Günlük yazılamadıysa
+     */
+    public void awaitDurable() throws IOException {
+        synchronized (lock) {
+            long target = appendedRecords;
+            while (durableRecords < target && failure == null && flusher != null) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Stok günlüğü beklenirken kesildi", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Bekleyen kayıtları yazar, son durumu kontrol noktasına sıkıştırır ve günlüğü kapatır.
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            thread = flusher;
+            lock.notifyAll();
+        }
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            if (segment != null) {
+                checkpoint();
+                segment.close();
+            }
+        } catch (IOException e) {
+            logger.log("Uyarı: Stok günlüğü kapatılırken yazılamadı: " + e.getMessage());
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            long target;
+            boolean compact;
+            synchronized (lock) {
+                while (pending.position() == 0 && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pending.position() == 0) {
+                    return; // Kapatıldı ve yazılacak kayıt kalmadı
+                }
+                // Tamponları değiştir; yazma sürerken yeni kayıtlar diğer tampona eklenir
+                ByteBuffer batch = pending;
+                pending = flushing;
+                flushing = batch;
+                target = appendedRecords;
+            }
+
+            try {
+                writeFrame(flushing);
+                segment.force(false);
+            } catch (IOException e) {
+                synchronized (lock) {
+                    failure = e;
+                    lock.notifyAll();
+                }
+                logger.log("Hata: Stok günlüğü yazılamadı, kalıcılık durduruldu: " + e.getMessage());
+                return;
+            }
+
+            synchronized (lock) {
+                recordsSinceCheckpoint += target - durableRecords;
+                durableRecords = target;
+                compact = recordsSinceCheckpoint >= CHECKPOINT_INTERVAL_RECORDS;
+                lock.notifyAll();
+            }
+            if (compact) {
+                try {
+                    checkpoint();
+                } catch (IOException e) {
+                    logger.log("Uyarı: Stok günlüğü kontrol noktası yazılamadı: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Bekleyen kayıtları geçerli dosyaya yazar, net farkları kontrol noktasına kaydeder ve yeni dosyaya geçer.
+     * Kilit altında yalnızca tampon ve fark tabloları yenileriyle değiştirilir; böylece alınan farklar ile
+     * dosya sınırı aynı noktayı gösterir. Yazma, fsync ve dosya değişimi kilit dışında yapılır; bu sırada
+     * eklenen kayıtlar yeni tampona ve tablolara girer ve sonraki dosyaya yazılır.
+     */
+    private void checkpoint() throws IOException {
+        FileChannel next = openSegment(segmentNumber + 1);
+        long target;
+        Map<String, long[]> components;
+        Map<String, long[]> products;
+        synchronized (lock) {
+            ByteBuffer batch = pending;
+            pending = flushing;
+            flushing = batch;
+            target = appendedRecords;
+            recordsSinceCheckpoint = 0;
+            components = componentDeltas;
+            products = productDeltas;
+            componentDeltas = new HashMap<>();
+            productDeltas = new HashMap<>();
+        }
+
+        try {
+            if (flushing.position() > 0) {
+                writeFrame(flushing);
+            }
+            segment.force(false);
+            segment.close();
+        } catch (IOException e) {
+            next.close();
+            throw e;
+        }
+        long coveredSegment = segmentNumber;
+        segment = next;
+        segmentNumber = coveredSegment + 1;
+        synchronized (lock) {
+            durableRecords = Math.max(durableRecords, target);
+            lock.notifyAll();
+        }
+
+        merge(checkpointComponents, components);
+        merge(checkpointProducts, products);
+        writeCheckpoint(coveredSegment, checkpointComponents, checkpointProducts);
+        deleteSegmentsUpTo(coveredSegment);
+    }
+
+    private void writeFrame(ByteBuffer records) throws IOException {
+        records.flip();
+        CRC32C crc = new CRC32C();
+        crc.update(records.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+        header.putInt(records.remaining());
+        header.putInt((int) crc.getValue());
+        header.flip();
+        while (header.hasRemaining()) {
+            segment.write(header);
+        }
+        while (records.hasRemaining()) {
+            segment.write(records);
+        }
+        records.clear();
+    }
+
+    private void ensurePendingCapacity(int bytes) {
+        if (pending.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + bytes));
+            pending.flip();
+            grown.put(pending);
+            pending = grown;
+        }
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        return FileChannel.open(segmentPath(number),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Bir günlük dosyasını oynatır. Yarım yazılmış veya bozuk son çerçeve (çökme anı) yok sayılır.
+     * @return Oynatılan kayıt sayısı
+     */
+    private long replaySegment(Path path) throws IOException {
+        long records = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length < 0 || length > MAX_FRAME_SIZE) {
+                    logger.log("Uyarı: Stok günlüğünde geçersiz çerçeve, dosyanın geri kalanı atlanıyor: " + path.getFileName());
+                    break;
+                }
+                int expectedCrc;
+                byte[] payload = new byte[length];
+                try {
+                    expectedCrc = in.readInt();
+                    in.readFully(payload);
+                } catch (EOFException e) {
+                    logger.log("Uyarı: Stok günlüğünün son çerçevesi yarım kalmış, atlanıyor: " + path.getFileName());
+                    break;
+                }
+                CRC32C crc = new CRC32C();
+                crc.update(payload);
+                if ((int) crc.getValue() != expectedCrc) {
+                    logger.log("Uyarı: Stok günlüğünde sağlama hatası, dosyanın geri kalanı atlanıyor: " + path.getFileName());
+                    break;
+                }
+
+                ByteBuffer buffer = ByteBuffer.wrap(payload);
+                while (buffer.hasRemaining()) {
+                    byte kind = buffer.get();
+                    byte[] id = new byte[buffer.getShort() & 0xFFFF];
+                    buffer.get(id);
+                    long delta;
+                    boolean product;
+                    if (kind == KIND_COMPONENT || kind == KIND_PRODUCT) {
+                        delta = buffer.getLong();
+                        product = kind == KIND_PRODUCT;
+                    } else if (kind == KIND_COMPONENT_UNITS || kind == KIND_PRODUCT_UNITS) {
+                        delta = Quantities.ofUnits(buffer.getInt());
+                        product = kind == KIND_PRODUCT_UNITS;
+                    } else {
+                        logger.log("Uyarı: Stok günlüğünde tanınmayan kayıt türü, çerçevenin geri kalanı atlanıyor: " + path.getFileName());
+                        break;
+                    }
+                    (product ? checkpointProducts : checkpointComponents)
+                            .computeIfAbsent(new String(id, StandardCharsets.UTF_8), key -> new long[1])[0] += delta;
+                    records++;
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Kontrol noktasını okur ve net farkları belleğe yükler.
+     * @return Kontrol noktasının kapsadığı son günlük dosyası numarası (kontrol noktası yoksa 0)
+     */
+    private long readCheckpoint() throws IOException {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.isRegularFile(path)) {
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != CHECKPOINT_MAGIC) {
+                throw new IOException("Stok günlüğü kontrol noktası tanınmadı: " + path);
+            }
+            int version = in.readInt();
+            if (version != CHECKPOINT_VERSION && version != CHECKPOINT_VERSION_UNITS) {
+                throw new IOException("Stok günlüğü kontrol noktası sürümü desteklenmiyor (" + version + "): " + path);
+            }
+            long scale = version == CHECKPOINT_VERSION_UNITS ? Quantities.SCALE : 1;
+            long coveredSegment = in.readLong();
+            readDeltas(in, checkpointComponents, scale);
+            readDeltas(in, checkpointProducts, scale);
+            return coveredSegment;
+        }
+    }
+
+    private static void readDeltas(DataInputStream in, Map<String, long[]> deltas, long scale) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            deltas.put(in.readUTF(), new long[] {Math.multiplyExact(in.readLong(), scale)});
+        }
+    }
+
+    /**
+     * Kontrol noktasını geçici dosyaya yazar ve atomik olarak yerine taşır.
+     */
+    private void writeCheckpoint(long coveredSegment, Map<String, long[]> components, Map<String, long[]> products) throws IOException {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        Path temporary = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(CHECKPOINT_VERSION);
+            out.writeLong(coveredSegment);
+            writeDeltas(out, components);
+            writeDeltas(out, products);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeDeltas(DataOutputStream out, Map<String, long[]> deltas) throws IOException {
+        int count = 0;
+        for (long[] delta : deltas.values()) {
+            if (delta[0] != 0) {
+                count++;
+            }
+        }
+        out.writeInt(count);
+        for (Map.Entry<String, long[]> entry : deltas.entrySet()) {
+            if (entry.getValue()[0] != 0) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue()[0]);
+            }
+        }
+    }
+
+    private List<Long> listSegments() throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    numbers.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    logger.log("Uyarı: Tanınmayan stok günlüğü dosyası atlandı: " + name);
+                }
+            }
+        }
+        Collections.sort(numbers);
+        return numbers;
+    }
+
+    private void deleteSegmentsUpTo(long coveredSegment) throws IOException {
+        for (long number : listSegments()) {
+            if (number <= coveredSegment) {
+                Files.deleteIfExists(segmentPath(number));
+            }
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private static void merge(Map<String, long[]> target, Map<String, long[]> deltas) {
+        for (Map.Entry<String, long[]> entry : deltas.entrySet()) {
+            target.computeIfAbsent(entry.getKey(), key -> new long[1])[0] += entry.getValue()[0];
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.manufacturing.system.domain.bom;
+
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.ComponentQuantity;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bir ürünün doğrudan reçete satırları: bileşenler ve binde bir birim cinsinden miktarları paralel dizilerde
+ * tutulur.
+ * Değiştirilemez; reçete değiştiğinde yeni bir örnek oluşturulur. Stok ve maliyet döngüleri satırları
+ * indeksle, nesne oluşturmadan dolaşır.
+ */
+public final class BillOfMaterials {
+    public static final BillOfMaterials EMPTY = new BillOfMaterials(new Component[0], new long[0]);
+
+    private final Component[] components;
+    private final long[] quantities;
+
+    private BillOfMaterials(Component[] components, long[] quantities) {
+        this.components = components;
+        this.quantities = quantities;
+    }
+
+    /**
+     * Satır listesinden reçete oluşturur
+     * @param lines Reçete satırları
+     * @return Reçete
+     */
+    public static BillOfMaterials of(List<ComponentQuantity> lines) {
+        Builder builder = new Builder(lines.size());
+        for (ComponentQuantity line : lines) {
+            builder.add(line.getComponent(), line.getQuantityMilli());
+        }
+        return builder.build();
+    }
+
+    public static Builder builder(int expectedLines) {
+        return new Builder(expectedLines);
+    }
+
+    public int size() {
+        return components.length;
+    }
+
+    public Component getComponent(int index) {
+        return components[index];
+    }
+
+    /**
+     * Satır miktarı (binde bir birim)
+     */
+    public long getQuantityMilli(int index) {
+        return quantities[index];
+    }
+
+    /**
+     * Sonuna bir satır eklenmiş yeni reçete döndürür
+     */
+    public BillOfMaterials with(Component component, long quantityMilli) {
+        int size = components.length;
+        Component[] grownComponents = Arrays.copyOf(components, size + 1);
+        long[] grownQuantities = Arrays.copyOf(quantities, size + 1);
+        grownComponents[size] = component;
+        grownQuantities[size] = quantityMilli;
+        return new BillOfMaterials(grownComponents, grownQuantities);
+    }
+
+    /**
+     * Satırların salt okunur, kopyasız liste görünümü. Satır nesneleri yalnızca istendiğinde oluşturulur.
+     */
+    public List<ComponentQuantity> asList() {
+        return new AbstractList<ComponentQuantity>() {
+            @Override
+            public ComponentQuantity get(int index) {
+                return new ComponentQuantity(components[index], quantities[index]);
+            }
+
+            @Override
+            public int size() {
+                return components.length;
+            }
+        };
+    }
+
+    /**
+     * Satırları bir kez toplayıp reçeteyi oluşturan yardımcı (ör. katalog yüklemesi).
+     */
+    public static final class Builder {
+        private Component[] components;
+        private long[] quantities;
+        private int count;
+
+        private Builder(int expectedLines) {
+            this.components = new Component[Math.max(4, expectedLines)];
+            this.quantities = new long[components.length];
+        }
+
+        /**
+         * @param component Bileşen veya alt montaj
+         * @param quantityMilli Miktar (binde bir birim)
+         */
+        public Builder add(Component component, long quantityMilli) {
+            if (count == components.length) {
+                components = Arrays.copyOf(components, count * 2);
+                quantities = Arrays.copyOf(quantities, count * 2);
+            }
+            components[count] = component;
+            quantities[count] = quantityMilli;
+            count++;
+            return this;
+        }
+
+        public BillOfMaterials build() {
+            if (count == 0) {
+                return EMPTY;
+            }
+            return new BillOfMaterials(Arrays.copyOf(components, count), Arrays.copyOf(quantities, count));
+        }
+    }
+}
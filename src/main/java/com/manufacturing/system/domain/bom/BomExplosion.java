@@ -0,0 +1,137 @@
+package com.manufacturing.system.domain.bom;
+
+import com.manufacturing.system.domain.inventory.InventoryVersions;
+import com.manufacturing.system.domain.inventory.ShardedInventory;
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.Quantities;
+
+/**
+ * Bir ürünün tüm alt montajları açılarak elde edilen düz reçetesi: bir adet ürün için gereken her yaprak
+ * bileşenin toplam miktarı. Değiştirilemez; ürünün reçete sürümüyle birlikte önbelleğe alınır.
+ */
+public final class BomExplosion {
+    private final long version;
+    private final Component[] components;
+    private final long[] quantities;
+
+    BomExplosion(long version, Component[] components, long[] quantities) {
+        this.version = version;
+        this.components = components;
+        this.quantities = quantities;
+    }
+
+    /**
+     * Açılımın hesaplandığı reçete sürümü
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Farklı yaprak bileşen sayısı
+     */
+    public int size() {
+        return components.length;
+    }
+
+    public Component getComponent(int index) {
+        return components[index];
+    }
+
+    /**
+     * Bir adet ürün için gereken toplam miktar (binde bir birim)
+     */
+    public long getQuantityMilli(int index) {
+        return quantities[index];
+    }
+
+    /**
+     * Tüm yaprak bileşenlerin stoğunun verilen adet için yeterli olup olmadığını kontrol eder
+     * @param multiplier Üretilecek adet
+     * @return Tüm stoklar yeterliyse true
+     */
+    public boolean isAvailable(int multiplier) {
+        for (int i = 0; i < components.length; i++) {
+            if (components[i].getStockMilli() < Quantities.times(quantities[i], multiplier)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Yaprak bileşenlerin güncel stoğuyla üretilebilecek tam adet sayısı (kesirli ihtiyaçlar dahil)
+     * @return Üretilebilecek adet; reçete boşsa Long.MAX_VALUE
+     */
+    public long buildableUnits() {
+        long units = Long.MAX_VALUE;
+        for (int i = 0; i < components.length && units > 0; i++) {
+            if (quantities[i] > 0) {
+                units = Math.min(units, Quantities.capacity(components[i].getStockMilli(), quantities[i]));
+            }
+        }
+        return units;
+    }
+
+    /**
+     * Tüm yaprak bileşenlerden verilen adet için gereken stoğu hepsi ya da hiçbiri olarak düşer.
+     * <p>
+     * Kilit kullanılmaz: her satır kendi stok hücresinde CAS ile düşülür, böylece stok hiçbir zaman eksiye
+     * inmez ve iki üretim aynı stoğu kullanamaz. Bir satır yetersizse o ana kadar düşülen satırlar ters
+     * sırayla geri verilir. Düşümler tek yazma kapsamında yapıldığı için anlık görüntüler rezervasyonu ya
+     * bütün olarak görür ya hiç görmez; eşzamanlı bir rezervasyon ise geri alınmakta olan bir rezervasyon
+     * yüzünden geçici olarak başarısız olabilir.
+     * <p>
+     * {@link ShardedInventory} açıksa satırlar bileşenlerin parçalarına ayrılır ve her parça kendi sahip
+     * iş parçacığında düşülür; hepsi ya da hiçbiri garantisi aynıdır.
+     *
+     * @param units Üretilecek adet
+     * @return Tüm satırlar düşüldüyse true; aksi halde stoklar değişmeden false
+     */
+    public boolean reserve(int units) {
+        // Yetersiz stokta CAS ve geri alma yapmadan hızlıca vazgeç
+        if (!isAvailable(units)) {
+            return false;
+        }
+        ShardedInventory sharded = ShardedInventory.routing();
+        if (sharded != null) {
+            return sharded.reserve(this, units);
+        }
+        InventoryVersions.beginWrite();
+        try {
+            for (int i = 0; i < components.length; i++) {
+                if (!components[i].useStockMilli(Quantities.times(quantities[i], units))) {
+                    rollback(i, units);
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            InventoryVersions.endWrite();
+        }
+    }
+
+    /**
+     * {@link #reserve(int)} ile düşülen stoğu geri verir
+     * @param units Rezervasyondaki adet
+     */
+    public void release(int units) {
+        ShardedInventory sharded = ShardedInventory.routing();
+        if (sharded != null) {
+            sharded.release(this, units);
+            return;
+        }
+        InventoryVersions.beginWrite();
+        try {
+            rollback(components.length, units);
+        } finally {
+            InventoryVersions.endWrite();
+        }
+    }
+
+    private void rollback(int reservedLines, int units) {
+        for (int i = reservedLines - 1; i >= 0; i--) {
+            components[i].releaseStockMilli(Quantities.times(quantities[i], units));
+        }
+    }
+}
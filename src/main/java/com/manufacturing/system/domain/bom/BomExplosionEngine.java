@@ -0,0 +1,141 @@
+package com.manufacturing.system.domain.bom;
+
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Çok seviyeli reçeteleri yaprak bileşen miktarlarına açan motor.
+ * <p>
+ * Her alt montajın açılımı kendi ürününde reçete sürümüyle önbelleğe alındığı için, ortak alt montajlar
+ * bir kez açılır ve değişmemiş ağaçlar yeniden dolaşılmaz. Çok sayıda alt montajı olan geniş reçetelerde
+ * alt montajlar fork-join havuzunda paralel açılır.
+ */
+public final class BomExplosionEngine {
+    // Bu sayıdan az alt montajı olan reçeteler sırayla açılır
+    private static final int FORK_THRESHOLD = 4;
+
+    private BomExplosionEngine() {
+        // Utility sınıfını örneklemeyi engellemek için private constructor
+    }
+
+    /**
+     * Ürünün verilen reçete sürümündeki satırlarını açar. Alt montajların açılımları
+     * {@link Product#explode()} üzerinden önbellekten alınır.
+     *
+     * @param product Açılacak ürün
+     * @param version Ürünün reçete sürümü
+     * @return Düz reçete
+     */
+    public static BomExplosion explode(Product product, long version) {
+        BillOfMaterials lines = product.getBom();
+        List<Product> subAssemblies = null;
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.getComponent(i) instanceof Product) {
+                if (subAssemblies == null) {
+                    subAssemblies = new ArrayList<>();
+                }
+                subAssemblies.add((Product) lines.getComponent(i));
+            }
+        }
+        if (subAssemblies != null && subAssemblies.size() >= FORK_THRESHOLD) {
+            explodeInParallel(subAssemblies);
+        }
+
+        Accumulator accumulator = new Accumulator(lines.size());
+        for (int line = 0; line < lines.size(); line++) {
+            Component component = lines.getComponent(line);
+            long quantity = lines.getQuantityMilli(line);
+            if (component instanceof Product) {
+                BomExplosion child = ((Product) component).explode();
+                for (int i = 0; i < child.size(); i++) {
+                    accumulator.add(child.getComponent(i), Quantities.multiply(child.getQuantityMilli(i), quantity));
+                }
+            } else {
+                accumulator.add(component, quantity);
+            }
+        }
+        return accumulator.toExplosion(version);
+    }
+
+    private static void explodeInParallel(List<Product> subAssemblies) {
+        List<ExplodeTask> tasks = new ArrayList<>(subAssemblies.size());
+        for (Product subAssembly : subAssemblies) {
+            tasks.add(new ExplodeTask(subAssembly));
+        }
+        if (ForkJoinTask.inForkJoinPool()) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            ForkJoinPool.commonPool().invoke(new RecursiveTask<Void>() {
+                @Override
+                protected Void compute() {
+                    ForkJoinTask.invokeAll(tasks);
+                    return null;
+                }
+            });
+        }
+    }
+
+    /**
+     * Tek bir alt montajın açılımını önbelleğe alan görev.
+     */
+    private static final class ExplodeTask extends RecursiveTask<BomExplosion> {
+        private static final long serialVersionUID = 1L;
+
+        // Görevler yalnızca havuz içinde yaşar, serileştirilmez
+        private final transient Product product;
+
+        private ExplodeTask(Product product) {
+            this.product = product;
+        }
+
+        @Override
+        protected BomExplosion compute() {
+            return product.explode();
+        }
+    }
+
+    /**
+     * Aynı yaprak bileşenin farklı satırlardan gelen miktarlarını ilk görülme sırasıyla toplar.
+     */
+    private static final class Accumulator {
+        private final Map<Component, Integer> slots;
+        private Component[] components;
+        private long[] quantities;
+        private int count;
+
+        private Accumulator(int expectedSize) {
+            this.slots = new HashMap<>(Math.max(16, expectedSize * 2));
+            this.components = new Component[Math.max(4, expectedSize)];
+            this.quantities = new long[components.length];
+        }
+
+        private void add(Component component, long quantity) {
+            Integer slot = slots.putIfAbsent(component, count);
+            if (slot != null) {
+                quantities[slot] = Math.addExact(quantities[slot], quantity);
+                return;
+            }
+            if (count == components.length) {
+                components = Arrays.copyOf(components, count * 2);
+                quantities = Arrays.copyOf(quantities, count * 2);
+            }
+            components[count] = component;
+            quantities[count] = quantity;
+            count++;
+        }
+
+        private BomExplosion toExplosion(long version) {
+            return new BomExplosion(version, Arrays.copyOf(components, count), Arrays.copyOf(quantities, count));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.manufacturing.system.domain.inventory;
+
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.Product;
+
+/**
+ * Bir ürünün güncel yaprak bileşen stoğuyla hemen üretilebilecek miktarı ve bu miktarı sınırlayan bileşen.
+ * Değiştirilemez; stok değiştikçe yenisi oluşturulur.
+ */
+public final class Availability {
+    private final Product product;
+    private final long buildableUnits;
+    private final Component bottleneck;
+
+    Availability(Product product, long buildableUnits, Component bottleneck) {
+        this.product = product;
+        this.buildableUnits = buildableUnits;
+        this.bottleneck = bottleneck;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    /**
+     * Hemen üretilebilecek tam adet; reçete boşsa Long.MAX_VALUE
+     */
+    public long getBuildableUnits() {
+        return buildableUnits;
+    }
+
+    /**
+     * Üretilebilecek miktarı sınırlayan yaprak bileşen; reçete boşsa null
+     */
+    public Component getBottleneck() {
+        return bottleneck;
+    }
+
+    @Override
+    public String toString() {
+        return product.getName() + ": " + buildableUnits + " adet"
+                + (bottleneck != null ? " (darboğaz: " + bottleneck.getName() + ")" : "");
+    }
+}
@@ -0,0 +1,231 @@
+package com.manufacturing.system.domain.inventory;
+
+import com.manufacturing.system.domain.bom.BomExplosion;
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.StockListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canlı stok üzerinde "şu anda kaç adet üretilebilir?" sorularını stok kullanmadan yanıtlayan motor
+ * (available-to-promise).
+ * <p>
+ * Her ürün için açılmış reçetenin satır başına kapasitesi (stok / birim ihtiyaç) ve bunların en küçüğü
+ * tutulur. Bir bileşenin stoğu değiştiğinde yalnızca o bileşeni kullanan ürünlerin ilgili satırı güncellenir;
+ * satır darboğazın altına inerse yeni darboğaz olur, yalnızca darboğaz satırı artarsa ürünün satırları
+ * (stok okunmadan) yeniden taranır. Sorgular önceden hesaplanmış sonucu döndürür.
+ * <p>
+ * Sonuçlar anlık değerlerdir ve stok ayırmaz; iki sipariş aynı stok için ayrı ayrı uygun görülebilir.
+ */
+public final class AvailableToPromise implements StockListener {
+    private static final Line[] NO_LINES = new Line[0];
+
+    private final Map<Product, Entry> entries = new ConcurrentHashMap<>();
+    // Yaprak bileşen -> onu kullanan ürün satırları; diziler değiştirilmez, yazma işlemleri this ile korunur
+    private final Map<Component, Line[]> dependents = new ConcurrentHashMap<>();
+
+    /**
+     * Verilen ürünleri izlemeye alır; sonraki sorgular hesaplama yapmaz
+     * @param products Ürünler
+     */
+    public void track(Collection<Product> products) {
+        for (Product product : products) {
+            entry(product);
+        }
+    }
+
+    /**
+     * Ürünün hemen üretilebilecek miktarını ve darboğaz bileşenini döndürür.
+     * İzlenmeyen ürün ilk sorguda izlemeye alınır.
+     * @param product Ürün
+     * @return Güncel üretilebilirlik
+     */
+    public Availability query(Product product) {
+        return entry(product).availability;
+    }
+
+    /**
+     * Ürünlerin tümü için üretilebilirlik sorgusu
+     * @param products Ürünler
+     * @return Ürünlerle aynı sırada sonuçlar
+     */
+    public List<Availability> queryAll(Collection<Product> products) {
+        List<Availability> result = new ArrayList<>(products.size());
+        for (Product product : products) {
+            result.add(query(product));
+        }
+        return result;
+    }
+
+    /**
+     * Verilen adet şu anki stokla üretilebilir mi?
+     * @param product Ürün
+     * @param quantity İstenen adet
+     * @return Üretilebilirse true
+     */
+    public boolean canPromise(Product product, int quantity) {
+        return query(product).getBuildableUnits() >= quantity;
+    }
+
+    @Override
+    public void stockChanged(Component component, long delta) {
+        update(component);
+    }
+
+    @Override
+    public void stockAdjusted(Component component, long delta) {
+        update(component);
+    }
+
+    private void update(Component component) {
+        Line[] lines = dependents.get(component);
+        if (lines != null) {
+            for (Line line : lines) {
+                line.entry.update(line.index);
+            }
+        }
+    }
+
+    /**
+     * Ürünün kaydını döndürür; reçetesi değiştiyse (katalog yeniden yüklemesi) kaydı yeniden oluşturur
+     */
+    private Entry entry(Product product) {
+        BomExplosion bom = product.explode();
+        Entry entry = entries.get(product);
+        if (entry != null && entry.bom.getVersion() == bom.getVersion()) {
+            return entry;
+        }
+        synchronized (this) {
+            entry = entries.get(product);
+            if (entry != null && entry.bom.getVersion() >= bom.getVersion()) {
+                return entry;
+            }
+            if (entry != null) {
+                unlink(entry);
+            }
+            Entry created = new Entry(product, bom);
+            // Önce kaydol, sonra stokları oku: aradaki değişiklikler ya taramada ya bildirimde görülür
+            for (int i = 0; i < bom.size(); i++) {
+                Line[] current = dependents.getOrDefault(bom.getComponent(i), NO_LINES);
+                Line[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[current.length] = new Line(created, i);
+                dependents.put(bom.getComponent(i), grown);
+            }
+            created.recompute();
+            entries.put(product, created);
+            return created;
+        }
+    }
+
+    /**
+     * Eski kaydın satırlarını bağımlılar dizinden çıkarır (this ile korunarak çağrılır)
+     */
+    private void unlink(Entry entry) {
+        for (int i = 0; i < entry.bom.size(); i++) {
+            Component component = entry.bom.getComponent(i);
+            Line[] current = dependents.get(component);
+            if (current == null) {
+                continue;
+            }
+            Line[] kept = Arrays.stream(current).filter(line -> line.entry != entry).toArray(Line[]::new);
+            if (kept.length == 0) {
+                dependents.remove(component);
+            } else {
+                dependents.put(component, kept);
+            }
+        }
+    }
+
+    /**
+     * Bir ürün reçetesinin satırı
+     */
+    private static final class Line {
+        private final Entry entry;
+        private final int index;
+
+        private Line(Entry entry, int index) {
+            this.entry = entry;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Bir ürünün satır kapasiteleri ve güncel sonucu
+     */
+    private static final class Entry {
+        private final Product product;
+        private final BomExplosion bom;
+        // capacities ve bottleneck this ile korunur; availability kilitsiz okunur
+        private final long[] capacities;
+        private int bottleneck = -1;
+        private volatile Availability availability;
+
+        private Entry(Product product, BomExplosion bom) {
+            this.product = product;
+            this.bom = bom;
+            this.capacities = new long[bom.size()];
+        }
+
+        /**
+         * Tüm satırların kapasitesini güncel stoktan hesaplar
+         */
+        synchronized void recompute() {
+            for (int i = 0; i < capacities.length; i++) {
+                capacities[i] = capacity(i);
+            }
+            rescan();
+        }
+
+        /**
+         * Tek satırın kapasitesini güncel stoktan hesaplar. Stok, bildirimden önce değiştiği için kilit
+         * altında okunan değer eşzamanlı bildirimlerin sonuncusunu da içerir.
+         */
+        synchronized void update(int index) {
+            if (availability == null) {
+                // Henüz ilk hesaplama yapılmadı; o hesaplama güncel stoğu zaten okuyacak
+                return;
+            }
+            long capacity = capacity(index);
+            long previous = capacities[index];
+            if (capacity == previous) {
+                return;
+            }
+            capacities[index] = capacity;
+            if (index == bottleneck && capacity > previous) {
+                // Darboğaz gevşedi; başka bir satır yeni darboğaz olabilir
+                rescan();
+            } else if (index == bottleneck || capacity < capacities[bottleneck]) {
+                publish(index);
+            }
+        }
+
+        private long capacity(int index) {
+            long required = bom.getQuantityMilli(index);
+            return required > 0 ? Quantities.capacity(bom.getComponent(index).getStockMilli(), required) : Long.MAX_VALUE;
+        }
+
+        private void rescan() {
+            int smallest = -1;
+            for (int i = 0; i < capacities.length; i++) {
+                if (smallest < 0 || capacities[i] < capacities[smallest]) {
+                    smallest = i;
+                }
+            }
+            publish(smallest);
+        }
+
+        private void publish(int index) {
+            bottleneck = index;
+            availability = index < 0
+                    ? new Availability(product, Long.MAX_VALUE, null)
+                    : new Availability(product, capacities[index], bom.getComponent(index));
+        }
+    }
+}
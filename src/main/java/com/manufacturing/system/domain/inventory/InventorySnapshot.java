@@ -0,0 +1,26 @@
+package com.manufacturing.system.domain.inventory;
+
+/**
+ * Envanterin belirli bir dönemdeki tutarlı görüntüsü.
+ * Açık kaldığı sürece yazmalar eski değerleri saklar; bu yüzden rapor bittiğinde kapatılmalıdır.
+ */
+public final class InventorySnapshot implements AutoCloseable {
+    private final int epoch;
+    private boolean closed;
+
+    InventorySnapshot(int epoch) {
+        this.epoch = epoch;
+    }
+
+    int getEpoch() {
+        return epoch;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            InventoryVersions.closeSnapshot(epoch);
+        }
+    }
+}
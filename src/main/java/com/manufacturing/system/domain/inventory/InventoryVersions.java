@@ -0,0 +1,179 @@
+package com.manufacturing.system.domain.inventory;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Envanter için çok sürümlü eşzamanlılık denetimi (MVCC) saati.
+ * <p>
+ * Stok yazan her işlem, başladığı andaki dönem (epoch) numarasıyla bir yazma kapsamına girer ve yazdığı
+ * hücreleri bu dönemle damgalar. Anlık görüntü açmak saati bir ilerletir ve yalnızca kapanan dönemde
+ * devam eden yazmaların bitmesini bekler; yeni yazmalar hiçbir zaman beklemez. Anlık görüntü açıkken
+ * hücreler eski dönemlerin değerlerini kısa bir geçmiş zincirinde saklar, böylece okuyucu tüm bileşen ve
+ * ürün stoklarını tek bir ana ait tutarlı değerlerle okur.
+ * <p>
+ * Yazma kapsamları aynı iş parçacığında iç içe girilebilir; bir ürünün tüm bileşen düşümleri tek kapsamda
+ * yapılırsa anlık görüntüde ya hepsi ya hiçbiri görünür.
+ * <p>
+ * Dönemler stok kelimesindeki 28 bite sığacak şekilde 1 ile {@link VersionedStock#MAX_EPOCH} - 1 arasında
+ * döner; 0 "tüm anlık görüntülerden eski" anlamına ayrılmıştır. Dönemler saat tükenmeden sınırsız kez
+ * dolaşabilir; karşılaştırmalar dönüşe göre yapılır (bkz. {@link VersionedStock}).
+ */
+public final class InventoryVersions {
+    private static final int FIRST_EPOCH = 1;
+    // Yazma sayaçları parça (stripe) başına ayrı önbellek satırında tutulur
+    private static final int PADDING = 16;
+    private static final int STRIPES = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4 - 1) << 1;
+    // Dönem paritesine göre devam eden yazma sayıları: [parite][stripe * PADDING]
+    private static final AtomicLongArray inFlightWriters = new AtomicLongArray(2 * STRIPES * PADDING);
+    private static final AtomicInteger clock = new AtomicInteger(FIRST_EPOCH);
+    private static final ThreadLocal<WriteScope> scopes = ThreadLocal.withInitial(WriteScope::new);
+
+    // Açık anlık görüntülerin dönemleri -> sayıları, açılış sırasıyla (sınıf kilidiyle korunur).
+    // Dönemler döndüğü için en eski dönem sayısal olarak en küçük olmayabilir; ilk eleman en eskidir.
+    private static final LinkedHashMap<Integer, Integer> openSnapshots = new LinkedHashMap<>();
+    private static volatile int oldestSnapshotEpoch = Integer.MAX_VALUE;
+
+    private InventoryVersions() {
+        // Utility sınıfını örneklemeyi engellemek için private constructor
+    }
+
+    /**
+     * Yazma kapsamına girer. İç içe çağrılarda dış kapsamın dönemi kullanılır.
+     * @return Yazmaların damgalanacağı dönem
+     */
+    public static int beginWrite() {
+        WriteScope scope = scopes.get();
+        if (scope.depth++ > 0) {
+            return scope.epoch;
+        }
+        while (true) {
+            int epoch = clock.get();
+            int index = counterIndex(epoch, scope.stripe);
+            inFlightWriters.incrementAndGet(index);
+            // Sayaç artırılırken bir anlık görüntü dönemi kapattıysa yeni dönemle tekrar dene
+            if (clock.get() == epoch) {
+                scope.epoch = epoch;
+                scope.counterIndex = index;
+                return epoch;
+            }
+            inFlightWriters.decrementAndGet(index);
+        }
+    }
+
+    /**
+     * Başka bir iş parçacığının açık yazma kapsamının dönemiyle yazma kapsamına girer. Parçalı envanterin
+     * sahip iş parçacıkları koordinatörün dönemiyle yazar; koordinatörün kapsamı sahip bitene kadar açık
+     * kaldığı için dönem bu arada kapanamaz. {@link #endWrite()} ile kapatılır.
+     * @param epoch Koordinatörün yazma dönemi
+     */
+    static void joinWrite(int epoch) {
+        WriteScope scope = scopes.get();
+        if (scope.depth++ > 0) {
+            return;
+        }
+        int index = counterIndex(epoch, scope.stripe);
+        inFlightWriters.incrementAndGet(index);
+        scope.epoch = epoch;
+        scope.counterIndex = index;
+    }
+
+    /**
+     * Yazma kapsamından çıkar
+     */
+    public static void endWrite() {
+        WriteScope scope = scopes.get();
+        if (--scope.depth == 0) {
+            inFlightWriters.decrementAndGet(scope.counterIndex);
+        }
+    }
+
+    /**
+     * O anki envanterin tutarlı bir anlık görüntüsünü açar. Yalnızca kapanan dönemde başlamış yazmaların
+     * bitmesi beklenir; bu süre en fazla birkaç CAS işlemi kadardır.
+     * @return Kapatılması gereken anlık görüntü
+     */
+    public static synchronized InventorySnapshot openSnapshot() {
+        if (scopes.get().depth > 0) {
+            throw new IllegalStateException("Yazma kapsamı içinde anlık görüntü açılamaz");
+        }
+        int epoch = clock.get();
+        openSnapshots.merge(epoch, 1, Integer::sum);
+        oldestSnapshotEpoch = openSnapshots.firstEntry().getKey();
+        // Bu noktadan sonra başlayan yazmalar yeni dönemi kullanır ve eski değerleri geçmişe kaydeder
+        clock.set(nextEpoch(epoch));
+
+        int spins = 0;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            int index = counterIndex(epoch, stripe);
+            while (inFlightWriters.get(index) != 0) {
+                if (++spins < 1000) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+        return new InventorySnapshot(epoch);
+    }
+
+    static synchronized void closeSnapshot(int epoch) {
+        Integer count = openSnapshots.get(epoch);
+        if (count == null) {
+            return;
+        }
+        if (count == 1) {
+            openSnapshots.remove(epoch);
+        } else {
+            openSnapshots.put(epoch, count - 1);
+        }
+        oldestSnapshotEpoch = openSnapshots.isEmpty() ? Integer.MAX_VALUE : openSnapshots.firstEntry().getKey();
+    }
+
+    /**
+     * Saatin gösterdiği güncel yazma dönemi
+     */
+    static int currentEpoch() {
+        return clock.get();
+    }
+
+    /**
+     * Saati verilen döneme kurar; dönüş davranışını sınamak için. Açık anlık görüntü veya yazma olmamalıdır.
+     */
+    static synchronized void resetClock(int epoch) {
+        if (epoch <= 0 || epoch >= VersionedStock.MAX_EPOCH || !openSnapshots.isEmpty()) {
+            throw new IllegalStateException("Saat kurulamaz: " + epoch);
+        }
+        clock.set(epoch);
+    }
+
+    /**
+     * Sıradaki dönem. Döngü uzunluğu çift olduğu için ardışık dönemlerin yazma sayaçları her zaman farklı
+     * paritededir; kapanan dönemin sayacı yeni dönemin yazmalarıyla karışmaz.
+     */
+    private static int nextEpoch(int epoch) {
+        return epoch + 1 < VersionedStock.MAX_EPOCH ? epoch + 1 : FIRST_EPOCH;
+    }
+
+    /**
+     * En eski açık anlık görüntünün dönemi, açık anlık görüntü yoksa Integer.MAX_VALUE
+     */
+    static int oldestSnapshotEpoch() {
+        return oldestSnapshotEpoch;
+    }
+
+    private static int counterIndex(int epoch, int stripe) {
+        return ((epoch & 1) * STRIPES + stripe) * PADDING;
+    }
+
+    /**
+     * İş parçacığının o anki yazma kapsamı.
+     */
+    private static final class WriteScope {
+        private final int stripe = (int) Thread.currentThread().threadId() & (STRIPES - 1);
+        private int depth;
+        private int epoch;
+        private int counterIndex;
+    }
+}
@@ -0,0 +1,265 @@
+package com.manufacturing.system.domain.inventory;
+
+import com.manufacturing.system.domain.bom.BomExplosion;
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.Quantities;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Bileşen kimliğine göre N parçaya (shard) bölünmüş stok rezervasyonu.
+ * <p>
+ * Her parçanın tek bir sahip iş parçacığı vardır. Parçalı envanter açıkken reçete rezervasyonları
+ * ({@link BomExplosion#reserve(int)}) satırlarını parçalarına ayırır ve her parçanın satırlarını o parçanın
+ * sahibinde düşer; aynı bileşen için yarışan rezervasyonlar CAS üzerinde çekişmek yerine sahibin
+ * kuyruğunda sıralanır. Birden fazla parçaya dağılan rezervasyonu çağıran iş parçacığı koordine eder:
+ * parçalar paralel yürütülür ve biri yetersizse başarılı parçalardaki düşümler sahiplerinde geri alınır
+ * (hepsi ya da hiçbiri).
+ * <p>
+ * Sahipler koordinatörün yazma döneminde yazar; rezervasyon anlık görüntülerde yine bütün olarak görünür.
+ * Stok hücreleri kilitsiz kalır: ikmal ve katalog düzeltmeleri ile sahip iş parçacığında çalışan stok
+ * olayı dinleyicilerinin rezervasyonları doğrudan CAS ile yapılır. Parça seçimi yalnızca kimliğe bağlı
+ * olduğu için yeniden yüklemeyle eklenen bileşenler kayıt gerekmeden yönlendirilir.
+ */
+public final class ShardedInventory {
+    private static volatile ShardedInventory active;
+
+    private final ExecutorService[] owners;
+
+    private ShardedInventory(int shardCount) {
+        this.owners = new ExecutorService[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            String name = "inventory-shard-" + i;
+            owners[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new OwnerThread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Parçalı envanteri açar; bundan sonraki reçete rezervasyonları parçaların sahiplerine yönlendirilir
+     * @param shardCount Parça sayısı (genellikle çekirdek sayısı)
+     */
+    public static synchronized void open(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Parça sayısı en az 1 olmalı: " + shardCount);
+        }
+        if (active != null) {
+            throw new IllegalStateException("Parçalı envanter zaten açık");
+        }
+        active = new ShardedInventory(shardCount);
+    }
+
+    /**
+     * Parçalı envanteri kapatır. Sahiplerin kuyruğundaki rezervasyonlar bitirilir; sonraki rezervasyonlar
+     * doğrudan CAS ile yapılır.
+     */
+    public static synchronized void close() {
+        ShardedInventory current = active;
+        if (current == null) {
+            return;
+        }
+        active = null;
+        for (ExecutorService owner : current.owners) {
+            owner.close();
+        }
+    }
+
+    public static boolean isOpen() {
+        return active != null;
+    }
+
+    /**
+     * Rezervasyonların yönlendirileceği parçalı envanter
+     * @return Açık parçalı envanter; açık değilse veya çağıran bir parçanın sahibiyse (ör. sahipte çalışan
+     *         stok olayı dinleyicisi) null, bu durumda rezervasyon doğrudan yapılır
+     */
+    public static ShardedInventory routing() {
+        ShardedInventory current = active;
+        return current == null || Thread.currentThread() instanceof OwnerThread ? null : current;
+    }
+
+    public int getShardCount() {
+        return owners.length;
+    }
+
+    /**
+     * Bileşenin ait olduğu parçanın indeksini döndürür
+     * @param component Bileşen
+     * @return Parça indeksi
+     */
+    public int shardOf(Component component) {
+        int hash = component.getId().hashCode();
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash * 0x9E3779B1, owners.length);
+    }
+
+    /**
+     * Reçetenin verilen adet için gereken stoğunu parçaların sahiplerinde hepsi ya da hiçbiri olarak düşer
+     * ve sonucu bekler
+     * @param bom Düz reçete
+     * @param units Üretilecek adet
+     * @return Tüm satırlar düşüldüyse true; aksi halde stoklar değişmeden false
+     */
+    public boolean reserve(BomExplosion bom, int units) {
+        int[] shardOfLine = new int[bom.size()];
+        int shards = assignShards(bom, shardOfLine);
+        if (shards == 0) {
+            return true;
+        }
+        int epoch = InventoryVersions.beginWrite();
+        try {
+            if (shards == 1) {
+                int shard = shardOfLine[0];
+                return await(submit(shard, () -> reserveLines(bom, shardOfLine, shard, units, epoch)));
+            }
+            // Koordinatör: her parçaya bir alt rezervasyon, hepsi paralel
+            CompletableFuture<?>[] results = new CompletableFuture<?>[owners.length];
+            for (int shard : shardOfLine) {
+                if (results[shard] == null) {
+                    results[shard] = submit(shard, () -> reserveLines(bom, shardOfLine, shard, units, epoch));
+                }
+            }
+            boolean reserved = true;
+            for (CompletableFuture<?> result : results) {
+                reserved &= result == null || await(result);
+            }
+            if (!reserved) {
+                // Başarılı parçalardaki düşümleri sahiplerinde geri al
+                CompletableFuture<?>[] releases = new CompletableFuture<?>[owners.length];
+                for (int shard = 0; shard < owners.length; shard++) {
+                    if (results[shard] != null && await(results[shard])) {
+                        int releasing = shard;
+                        releases[shard] = submit(shard, () -> releaseLines(bom, shardOfLine, releasing, units, epoch));
+                    }
+                }
+                awaitAll(releases);
+            }
+            return reserved;
+        } finally {
+            InventoryVersions.endWrite();
+        }
+    }
+
+    /**
+     * {@link #reserve} ile düşülen stoğu parçaların sahiplerinde geri verir ve bitmesini bekler
+     * @param bom Düz reçete
+     * @param units Rezervasyondaki adet
+     */
+    public void release(BomExplosion bom, int units) {
+        int[] shardOfLine = new int[bom.size()];
+        if (assignShards(bom, shardOfLine) == 0) {
+            return;
+        }
+        int epoch = InventoryVersions.beginWrite();
+        try {
+            CompletableFuture<?>[] releases = new CompletableFuture<?>[owners.length];
+            for (int shard : shardOfLine) {
+                if (releases[shard] == null) {
+                    releases[shard] = submit(shard, () -> releaseLines(bom, shardOfLine, shard, units, epoch));
+                }
+            }
+            awaitAll(releases);
+        } finally {
+            InventoryVersions.endWrite();
+        }
+    }
+
+    /**
+     * Satırların parçalarını doldurur
+     * @return Kullanılan farklı parça sayısı (0, 1 veya birden fazla için 2)
+     */
+    private int assignShards(BomExplosion bom, int[] shardOfLine) {
+        int shards = 0;
+        for (int i = 0; i < shardOfLine.length; i++) {
+            shardOfLine[i] = shardOf(bom.getComponent(i));
+            if (i == 0) {
+                shards = 1;
+            } else if (shardOfLine[i] != shardOfLine[0]) {
+                shards = 2;
+            }
+        }
+        return shards;
+    }
+
+    private CompletableFuture<Boolean> submit(int shard, Supplier<Boolean> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, owners[shard]);
+        } catch (RejectedExecutionException e) {
+            // Parçalı envanter arada kapatıldı: satırlar çağıranda doğrudan işlenir
+            return CompletableFuture.completedFuture(task.get());
+        }
+    }
+
+    private static boolean await(CompletableFuture<?> result) {
+        try {
+            return (Boolean) result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void awaitAll(CompletableFuture<?>[] results) {
+        for (CompletableFuture<?> result : results) {
+            if (result != null) {
+                await(result);
+            }
+        }
+    }
+
+    /**
+     * Parçanın satırlarını sahibinde sırayla düşer; yetersiz bir satırda o ana kadar düşülenleri geri verir
+     */
+    private static boolean reserveLines(BomExplosion bom, int[] shardOfLine, int shard, int units, int epoch) {
+        InventoryVersions.joinWrite(epoch);
+        try {
+            for (int i = 0; i < shardOfLine.length; i++) {
+                if (shardOfLine[i] == shard
+                        && !bom.getComponent(i).useStockMilli(Quantities.times(bom.getQuantityMilli(i), units))) {
+                    rollback(bom, shardOfLine, shard, units, i);
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            InventoryVersions.endWrite();
+        }
+    }
+
+    private static boolean releaseLines(BomExplosion bom, int[] shardOfLine, int shard, int units, int epoch) {
+        InventoryVersions.joinWrite(epoch);
+        try {
+            rollback(bom, shardOfLine, shard, units, shardOfLine.length);
+            return true;
+        } finally {
+            InventoryVersions.endWrite();
+        }
+    }
+
+    private static void rollback(BomExplosion bom, int[] shardOfLine, int shard, int units, int reservedLines) {
+        for (int i = reservedLines - 1; i >= 0; i--) {
+            if (shardOfLine[i] == shard) {
+                bom.getComponent(i).releaseStockMilli(Quantities.times(bom.getQuantityMilli(i), units));
+            }
+        }
+    }
+
+    /**
+     * Bir parçanın sahip iş parçacığı
+     */
+    private static final class OwnerThread extends Thread {
+        private OwnerThread(Runnable task, String name) {
+            super(task, name);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.manufacturing.system.domain.inventory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Tek bir stok değerini tutan, önbellek satırı düzeyinde yalıtılmış hücre.
+ * Değerin önüne ve arkasına dolgu alanları eklenir; böylece bellekte yan yana duran iki bileşenin
+ * stoğunu güncelleyen çekirdekler aynı önbellek satırı için yarışmaz (false sharing).
+ * Tüm güncellemeler kilitsiz CAS ile yapılır; değer dönem damgalıdır ve anlık görüntülerden okunabilir
+ * (bkz. {@link VersionedStock}).
+ */
+public final class StockCell extends StockCellValue {
+    // Değerden sonraki önbellek satırı için dolgu
+    long p11, p12, p13, p14, p15, p16, p17;
+
+    private static final VarHandle WORD;
+    private static final VarHandle HISTORY;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            WORD = lookup.findVarHandle(StockCellValue.class, "word", long.class);
+            HISTORY = lookup.findVarHandle(StockCellValue.class, "history", StockHistory.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public StockCell(long initialValue) {
+        this.word = initialWord(initialValue);
+    }
+
+    @Override
+    protected long word() {
+        return word;
+    }
+
+    @Override
+    protected boolean compareAndSetWord(long expected, long updated) {
+        return WORD.compareAndSet(this, expected, updated);
+    }
+
+    @Override
+    protected StockHistory history() {
+        return history;
+    }
+
+    @Override
+    protected boolean compareAndSetHistory(StockHistory expected, StockHistory updated) {
+        return HISTORY.compareAndSet(this, expected, updated);
+    }
+}
+
+/**
+ * Değerden önceki önbellek satırı için dolgu.
+ */
+abstract class StockCellLeftPadding extends VersionedStock {
+    long p01, p02, p03, p04, p05, p06, p07;
+}
+
+/**
+ * Dolgu alanları arasında kalan dönem damgalı stok değeri ve geçmişi.
+ */
+abstract class StockCellValue extends StockCellLeftPadding {
+    volatile long word;
+    volatile StockHistory history;
+}
@@ -0,0 +1,45 @@
+package com.manufacturing.system.domain.inventory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Bir stok hücresinin eski bir dönemin sonundaki değeri. Zincir en yeni dönemden eskiye doğru sıralıdır.
+ */
+public final class StockHistory {
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(StockHistory.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    final int epoch;
+    volatile long value;
+    volatile StockHistory next;
+
+    StockHistory(int epoch, long value, StockHistory next) {
+        this.epoch = epoch;
+        this.value = value;
+        this.next = next;
+    }
+
+    void add(long delta) {
+        VALUE.getAndAdd(this, delta);
+    }
+
+    /**
+     * En eski açık anlık görüntünün ihtiyaç duyduğu düğümden sonraki düğümleri bırakır
+     */
+    void pruneBelow(int oldestSnapshotEpoch) {
+        for (StockHistory node = this; node != null; node = node.next) {
+            if (!VersionedStock.isNewer(node.epoch, oldestSnapshotEpoch)) {
+                node.next = null;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.manufacturing.system.domain.inventory;
+
+import com.manufacturing.system.domain.bom.BomExplosion;
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.StockListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Stok yetersizliği nedeniyle bekleyen üretim birimlerinin bileşen başına kuyrukları.
+ * <p>
+ * Bekleyen birim, reçetesinde stoğu yetmeyen her yaprak bileşenin kuyruğuna kaydolur ve hiçbir iş parçacığını
+ * meşgul etmez. Bir bileşenin stoğu arttığında (ikmal, katalog düzeltmesi veya geri verilen rezervasyon)
+ * yalnızca o bileşenin kuyruğu öncelik, eşit öncelikte geliş sırasıyla dolaşılır; tüm reçetesi
+ * karşılanabilen birimin stoğu hepsi ya da hiçbiri olarak kullanılır ve birim devam ettirilir. Süresi
+ * dolan birimler zamanlayıcıyla, yoklama yapılmadan başarısız olarak devam ettirilir.
+ * <p>
+ * Rezervasyon denemeleri kuyruğun kilidi dışında yapılır: kilit altında yalnızca denenecek birimler
+ * kuyruklardan alınır ve başarısız olanlar yeniden kaydedilir. Böylece stok dinleyicileri (ör. stok
+ * günlüğü) kilit altında çalışmaz ve farklı bileşenlerin ikmalleri birbirini beklemez. Deneme sürerken
+ * gelen ikmaller kaçırılmaz; başarısız deneme, arada ikmal olduysa kaydolmadan önce tekrarlanır.
+ * <p>
+ * Devam ettirme geri çağrıları stoğu artıran iş parçacığında değil, kuyruğun kendi iş parçacığında çalışır.
+ */
+public final class StockWaitQueue implements StockListener, AutoCloseable {
+    // Yüksek öncelik önce, eşit öncelikte önce gelen önce
+    private static final Comparator<Waiter> ORDER = Comparator.comparingInt((Waiter waiter) -> -waiter.priority)
+            .thenComparingLong(waiter -> waiter.sequence);
+
+    private final Object lock = new Object();
+    // Aşağıdaki alanlar lock ile korunur
+    private final Map<Component, PriorityQueue<Waiter>> byComponent = new HashMap<>();
+    private int waiting;
+    private boolean closed;
+    // Bildirilen ikmal sayısı; kilit dışındaki bir deneme sırasında ikmal gelip gelmediğini anlamak için
+    private long replenishments;
+
+    // Bu iş parçacığında bir rezervasyon denemesi sürüyor; denemenin geri aldığı stok kendi bildirimini tetiklememeli
+    private final ThreadLocal<Boolean> reserving = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private final AtomicLong sequence = new AtomicLong();
+    private final ScheduledThreadPoolExecutor executor;
+
+    public StockWaitQueue() {
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "stock-waiters");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Ürünün verilen adedini stok gelene kadar bekletir. Stok o anda yeterliyse birim hemen devam ettirilir.
+     *
+     * @param product Üretilecek ürün
+     * @param units Bekleyen adet
+     * @param priority Öncelik; büyük değer önce uyandırılır
+     * @param timeoutMillis Bekleme süresi; negatifse süresiz
+     * @param resume Stok kullanıldıysa true, süre dolduysa veya kuyruk kapandıysa false ile çağrılır
+     * @return Bekleyen birim
+     */
+    public Waiter park(Product product, int units, int priority, long timeoutMillis, Consumer<Boolean> resume) {
+        Waiter waiter = new Waiter(product, units, priority, sequence.incrementAndGet(), resume);
+        boolean closedNow;
+        long seen;
+        synchronized (lock) {
+            closedNow = closed;
+            if (closed) {
+                waiter.done = true;
+            } else {
+                waiter.attempting = true;
+                waiter.registered = true;
+                waiting++;
+                if (timeoutMillis >= 0) {
+                    waiter.timeout = executor.schedule(() -> expire(waiter), timeoutMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+            seen = replenishments;
+        }
+        if (closedNow) {
+            resume(waiter, false);
+            return waiter;
+        }
+        // Çağıranın kontrolünden bu yana stok gelmiş olabilir; kaydolmadan önce tekrar denenir
+        attempt(waiter, seen);
+        return waiter;
+    }
+
+    /**
+     * Bekleyen birim sayısı
+     */
+    public int getWaitingCount() {
+        synchronized (lock) {
+            return waiting;
+        }
+    }
+
+    @Override
+    public void stockChanged(Component component, long delta) {
+        if (delta > 0) {
+            replenished(component);
+        }
+    }
+
+    @Override
+    public void stockAdjusted(Component component, long delta) {
+        if (delta > 0) {
+            replenished(component);
+        }
+    }
+
+    /**
+     * Kuyruğu kapatır; bekleyen tüm birimler false ile devam ettirilir. O anda denenmekte olan birimler
+     * deneme bittiğinde sonuçlandırılır.
+     */
+    @Override
+    public void close() {
+        List<Waiter> cancelled = new ArrayList<>();
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            Set<Waiter> all = new LinkedHashSet<>();
+            for (PriorityQueue<Waiter> queue : byComponent.values()) {
+                all.addAll(queue);
+            }
+            byComponent.clear();
+            for (Waiter waiter : all) {
+                finish(waiter);
+                cancelled.add(waiter);
+            }
+        }
+        for (Waiter waiter : cancelled) {
+            resume(waiter, false);
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Stoğu artan bileşenin bekleyenlerini kuyruktan alır ve kilit dışında öncelik sırasıyla dener
+     */
+    private void replenished(Component component) {
+        if (reserving.get()) {
+            return;
+        }
+        List<Waiter> claimed;
+        long seen;
+        synchronized (lock) {
+            replenishments++;
+            PriorityQueue<Waiter> queue = byComponent.remove(component);
+            if (queue == null) {
+                return;
+            }
+            claimed = new ArrayList<>(queue.size());
+            while (!queue.isEmpty()) {
+                Waiter waiter = queue.poll();
+                waiter.components.remove(component);
+                claim(waiter);
+                claimed.add(waiter);
+            }
+            seen = replenishments;
+        }
+        for (Waiter waiter : claimed) {
+            attempt(waiter, seen);
+        }
+    }
+
+    private void expire(Waiter waiter) {
+        synchronized (lock) {
+            if (waiter.done) {
+                return;
+            }
+            if (waiter.attempting) {
+                // Deneme sürüyor; başarısız olursa deneme sonunda sonuçlandırılır
+                waiter.expired = true;
+                return;
+            }
+            finish(waiter);
+        }
+        waiter.resume.accept(false);
+    }
+
+    /**
+     * Kuyruklardan alınmış birimin tüm reçetesini kilit dışında kullanmayı dener. Başarısız olursa ve süresi
+     * dolmadıysa, stoğu yetmeyen bileşenlerin kuyruklarına yeniden kaydeder; deneme sırasında ikmal geldiyse
+     * veya stok artık yeterli görünüyorsa kaydolmadan önce tekrar dener.
+     *
+     * @param seen Denemeden önce okunan ikmal sayısı
+     */
+    private void attempt(Waiter waiter, long seen) {
+        while (true) {
+            boolean reserved = tryReserve(waiter);
+            synchronized (lock) {
+                if (reserved || closed || waiter.expired) {
+                    finish(waiter);
+                } else if (replenishments != seen || !register(waiter)) {
+                    seen = replenishments;
+                    continue;
+                } else {
+                    waiter.attempting = false;
+                    return;
+                }
+            }
+            resume(waiter, reserved);
+            return;
+        }
+    }
+
+    /**
+     * Birimin tüm reçetesini tek seferde kullanmayı dener (lock dışında çağrılır)
+     */
+    private boolean tryReserve(Waiter waiter) {
+        reserving.set(Boolean.TRUE);
+        try {
+            return waiter.product.useComponentsStock(waiter.units);
+        } finally {
+            reserving.set(Boolean.FALSE);
+        }
+    }
+
+    /**
+     * Birimi, stoğu yetmeyen her yaprak bileşenin kuyruğuna kaydeder (lock altında çağrılır)
+     * @return Yetmeyen bileşen bulunamadıysa (stok deneme sonrasında gelmiş veya eşzamanlı bir rezervasyon
+     *         geri alınmış) false; birim hiçbir kuyruğa kaydedilmez ve yeniden denenmelidir
+     */
+    private boolean register(Waiter waiter) {
+        BomExplosion bom = waiter.product.explode();
+        for (int i = 0; i < bom.size(); i++) {
+            Component component = bom.getComponent(i);
+            if (component.getStockMilli() < Quantities.times(bom.getQuantityMilli(i), waiter.units)
+                    && waiter.components.add(component)) {
+                byComponent.computeIfAbsent(component, key -> new PriorityQueue<>(ORDER)).add(waiter);
+            }
+        }
+        return !waiter.components.isEmpty();
+    }
+
+    /**
+     * Birimi denemek için tüm kuyruklardan alır; başka bir bileşenin ikmali aynı birimi aynı anda denemez
+     * (lock altında çağrılır)
+     */
+    private void claim(Waiter waiter) {
+        for (Component component : waiter.components) {
+            PriorityQueue<Waiter> queue = byComponent.get(component);
+            if (queue != null) {
+                queue.remove(waiter);
+                if (queue.isEmpty()) {
+                    byComponent.remove(component);
+                }
+            }
+        }
+        waiter.components.clear();
+        waiter.attempting = true;
+    }
+
+    /**
+     * Birimi tüm kuyruklardan çıkarır (lock altında çağrılır)
+     */
+    private void finish(Waiter waiter) {
+        waiter.done = true;
+        waiter.attempting = false;
+        for (Component component : waiter.components) {
+            PriorityQueue<Waiter> queue = byComponent.get(component);
+            if (queue != null) {
+                queue.remove(waiter);
+                if (queue.isEmpty()) {
+                    byComponent.remove(component);
+                }
+            }
+        }
+        waiter.components.clear();
+        if (waiter.timeout != null) {
+            waiter.timeout.cancel(false);
+        }
+        if (waiter.registered) {
+            waiter.registered = false;
+            waiting--;
+        }
+    }
+
+    private void resume(Waiter waiter, boolean reserved) {
+        if (executor.isShutdown()) {
+            waiter.resume.accept(reserved);
+        } else {
+            executor.execute(() -> waiter.resume.accept(reserved));
+        }
+    }
+
+    /**
+     * Stok bekleyen bir üretim birimi.
+     */
+    public static final class Waiter {
+        private final Product product;
+        private final int units;
+        private final int priority;
+        private final long sequence;
+        private final Consumer<Boolean> resume;
+        // Aşağıdaki alanlar kuyruğun lock'u ile korunur
+        private final Set<Component> components = new LinkedHashSet<>();
+        private ScheduledFuture<?> timeout;
+        private boolean registered;
+        private boolean done;
+        // Kuyruklardan alınmış, kilit dışında deneniyor
+        private boolean attempting;
+        // Deneme sırasında süresi doldu
+        private boolean expired;
+
+        private Waiter(Product product, int units, int priority, long sequence, Consumer<Boolean> resume) {
+            this.product = product;
+            this.units = units;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.resume = resume;
+        }
+
+        public Product getProduct() {
+            return product;
+        }
+
+        public int getUnits() {
+            return units;
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+    }
+}
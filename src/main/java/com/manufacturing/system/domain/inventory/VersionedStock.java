@@ -0,0 +1,216 @@
+package com.manufacturing.system.domain.inventory;
+
+/**
+ * Dönem damgalı stok değeri üzerindeki kilitsiz işlemler.
+ * <p>
+ * Değer, son yazmanın dönemiyle birlikte tek bir 64 bitlik kelimede tutulur (üst 28 bit dönem, alt 36 bit
+ * binde bir birim cinsinden stok; bkz. {@link com.manufacturing.system.domain.model.Quantities}). Açık bir anlık görüntü varken daha yeni bir dönemde yapılan ilk yazma, hücrenin önceki dönemdeki
+ * değerini geçmiş zincirine ekler; anlık görüntü okuyucusu kendi dönemine ait değeri bu zincirden bulur.
+ * Anlık görüntü yoksa yazmalar geçmiş tutmaz, kelimeyi "tüm anlık görüntülerden eski" anlamındaki 0
+ * dönemiyle damgalar ve tek bir CAS ile tamamlanır.
+ * <p>
+ * Dönem saati 28 bitte döner. İki dönem, aralarındaki farkın 28 bitlik işaretli değeriyle (sıra numarası
+ * aritmetiği) karşılaştırılır; saatten ileride görünen bir damga önceki turlardan kalmıştır ve 0 gibi
+ * değerlendirilir. Sıfır olmayan damgalar yalnızca bir anlık görüntü açıkken yazılır ve hücreye anlık
+ * görüntüsüz ilk yazmada temizlenir; bu yüzden karşılaştırmalar yalnızca yakın dönemler arasında yapılır.
+ * <p>
+ * Kelimenin ve geçmişin nerede saklandığı alt sınıflara bırakılmıştır.
+ */
+public abstract class VersionedStock {
+    private static final int VALUE_BITS = 36;
+    private static final long VALUE_MASK = (1L << VALUE_BITS) - 1;
+
+    /** Bir hücrede tutulabilecek en büyük stok (binde bir birim, yaklaşık 68,7 milyon birim) */
+    public static final long MAX_VALUE = VALUE_MASK;
+
+    /** Kelimeye sığan en büyük dönem */
+    static final int MAX_EPOCH = (1 << (Long.SIZE - VALUE_BITS)) - 1;
+
+    /** Tüm anlık görüntülerden önce yazılmış değerlerin dönemi */
+    static final int NO_EPOCH = 0;
+
+    // int farkının üst bitlerini atarak 28 bitlik işaretli farkı elde etmek için kaydırma
+    private static final int EPOCH_SHIFT = Integer.SIZE - (Long.SIZE - VALUE_BITS);
+
+    protected abstract long word();
+
+    protected abstract boolean compareAndSetWord(long expected, long updated);
+
+    protected abstract StockHistory history();
+
+    protected abstract boolean compareAndSetHistory(StockHistory expected, StockHistory updated);
+
+    /**
+     * Verilen başlangıç stoğu için dönemsiz kelimeyi döndürür
+     */
+    public static long initialWord(long value) {
+        return checkedValue(value);
+    }
+
+    /**
+     * Güncel stok değeri (binde bir birim)
+     */
+    public final long get() {
+        return valueOf(word());
+    }
+
+    /**
+     * Anlık görüntünün dönemindeki stok değeri
+     * @param snapshot Açık anlık görüntü
+     * @return Anlık görüntü anındaki stok (binde bir birim)
+     */
+    public final long get(InventorySnapshot snapshot) {
+        int epoch = snapshot.getEpoch();
+        long word = word();
+        if (!isNewer(epochOf(word), epoch)) {
+            return valueOf(word);
+        }
+        for (StockHistory node = history(); node != null; node = node.next) {
+            if (!isNewer(node.epoch, epoch)) {
+                // Dönem sınırında geç kalan bir yazma değeri geçici olarak eksiye düşürebilir
+                return Math.max(0, node.value);
+            }
+        }
+        return valueOf(word);
+    }
+
+    /**
+     * Yeterli stok varsa verilen miktarı düşer.
+     * @param quantity Düşülecek miktar (binde bir birim)
+     * @return Stok yeterliyse ve düşüldüyse true
+     */
+    public final boolean tryTake(long quantity) {
+        int epoch = InventoryVersions.beginWrite();
+        try {
+            while (true) {
+                long current = word();
+                long value = valueOf(current);
+                if (value < quantity) {
+                    return false;
+                }
+                if (write(epoch, current, value - quantity)) {
+                    return true;
+                }
+            }
+        } finally {
+            InventoryVersions.endWrite();
+        }
+    }
+
+    /**
+     * Değeri verilen fark kadar değiştirir; sonuç sıfırın altına düşürülmez.
+     * @param delta Stok farkı (binde bir birim)
+     * @return Değişiklikten önceki değer
+     * @throws IllegalArgumentException Sonuç {@link #MAX_VALUE} değerini aşarsa
+     */
+    public final long addClamped(long delta) {
+        int epoch = InventoryVersions.beginWrite();
+        try {
+            while (true) {
+                long current = word();
+                long value = valueOf(current);
+                long updated = checkedValue(Math.max(0, Math.addExact(value, delta)));
+                if (write(epoch, current, updated)) {
+                    return value;
+                }
+            }
+        } finally {
+            InventoryVersions.endWrite();
+        }
+    }
+
+    private boolean write(int epoch, long current, long updated) {
+        int oldest = InventoryVersions.oldestSnapshotEpoch();
+        if (oldest == Integer.MAX_VALUE) {
+            // Açık anlık görüntü yok: sonradan açılacak her anlık görüntü bu değeri görmeli, geçmiş gerekmez
+            StockHistory history = history();
+            if (history != null) {
+                compareAndSetHistory(history, null);
+            }
+            return compareAndSetWord(current, pack(NO_EPOCH, updated));
+        }
+        int currentEpoch = epochOf(current);
+        long value = valueOf(current);
+        if (isNewer(currentEpoch, epoch)) {
+            // Kapanan dönemin yazması, yeni dönemin yazmasından sonra geldi: güncel değer yeni dönemde kalır,
+            // fark kapanan dönemin geçmiş değerine de yansıtılır. Anlık görüntü bu yazmanın bitmesini bekler.
+            if (!compareAndSetWord(current, pack(currentEpoch, updated))) {
+                return false;
+            }
+            addToHistory(epoch, updated - value);
+            return true;
+        }
+        if (isNewer(epoch, currentEpoch)) {
+            // Önceki dönemin değeri CAS'tan önce zincire eklenir; CAS başarısız olsa da kayıt geçerli bir durumdur
+            pushHistory(currentEpoch, value, oldest);
+        }
+        return compareAndSetWord(current, pack(epoch, updated));
+    }
+
+    private void pushHistory(int epoch, long value, int oldestSnapshotEpoch) {
+        while (true) {
+            StockHistory head = history();
+            if (head != null && head.epoch == epoch && (epoch != NO_EPOCH || head.value == value)) {
+                return;
+            }
+            // Değer tüm anlık görüntülerden eskiyse zincirde kalan düğümler de eskidir; zincir yeniden başlar
+            StockHistory node = new StockHistory(epoch, value, epoch == NO_EPOCH ? null : head);
+            if (compareAndSetHistory(head, node)) {
+                node.pruneBelow(oldestSnapshotEpoch);
+                return;
+            }
+        }
+    }
+
+    private void addToHistory(int epoch, long delta) {
+        while (true) {
+            StockHistory head = history();
+            if (head != null && head.epoch == epoch) {
+                head.add(delta);
+                return;
+            }
+            // Yeni dönemin yazması yalnızca daha eski bir dönemin değerini kaydetmiş; bu dönem için türet
+            long base = head == null ? 0 : head.value;
+            if (compareAndSetHistory(head, new StockHistory(epoch, base + delta, head))) {
+                return;
+            }
+        }
+    }
+
+    private static long checkedValue(long value) {
+        if (value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException("Stok değeri aralık dışında: " + value);
+        }
+        return value;
+    }
+
+    private static long pack(int epoch, long value) {
+        return ((long) epoch << VALUE_BITS) | value;
+    }
+
+    /**
+     * Kelimenin dönemi; önceki turlardan kalmış (saatten ileride görünen) damgalar için {@link #NO_EPOCH}
+     */
+    private static int epochOf(long word) {
+        int epoch = (int) (word >>> VALUE_BITS);
+        if (epoch != NO_EPOCH && isNewer(epoch, InventoryVersions.currentEpoch())) {
+            return NO_EPOCH;
+        }
+        return epoch;
+    }
+
+    /**
+     * Dönen saatte ilk dönemin ikinciden daha yeni olup olmadığı. {@link #NO_EPOCH} hiçbir dönemden yeni değildir
+     * ve her dönemden eskidir.
+     */
+    static boolean isNewer(int epoch, int than) {
+        if (epoch == NO_EPOCH || than == NO_EPOCH) {
+            return epoch != NO_EPOCH;
+        }
+        return (epoch - than) << EPOCH_SHIFT >> EPOCH_SHIFT > 0;
+    }
+
+    private static long valueOf(long word) {
+        return word & VALUE_MASK;
+    }
+}
@@ -1,22 +1,29 @@
 package com.manufacturing.system.domain.model;
 
+import com.manufacturing.system.domain.inventory.InventorySnapshot;
+import com.manufacturing.system.domain.inventory.StockCell;
+
 /**
  * Component arayüzünü uygulayan temel soyut sınıf.
  * Tüm leaf (yaprak) bileşenler için ortak özellikleri barındırır.
  */
-public abstract class BaseComponent implements Component {
+public abstract class BaseComponent implements LeafComponent {
     private final String id;
     private final String name;
-    private final double cost;
-    private final double weight;
-    private int stock;
+    // Maliyet ve ağırlık çalışma sırasında katalog yeniden yüklemesiyle güncellenebilir
+    private volatile double cost;
+    private volatile double weight;
+    // Eşzamanlı üretimde komşu bileşenlerle önbellek satırı paylaşmayan, kilitsiz güncellenen stok hücresi
+    private final StockCell stock;
+    // Bu bileşeni reçetesinde kullanan ürünler; maliyet/ağırlık değişiminde bilgilendirilir
+    private final ParentLinks parents = new ParentLinks();
     
-    public BaseComponent(String id, String name, double cost, double weight, int stock) {
+    public BaseComponent(String id, String name, double cost, double weight, long stockMilli) {
         this.id = id;
         this.name = name;
         this.cost = cost;
         this.weight = weight;
-        this.stock = stock;
+        this.stock = new StockCell(stockMilli);
     }
     
     @Override
@@ -39,23 +46,64 @@ public abstract class BaseComponent implements Component {
     }
     
     @Override
-    public int getStock() {
-        return stock;
+    public long getStockMilli() {
+        return stock.get();
+    }
+    
+    @Override
+    public long getStockMilli(InventorySnapshot snapshot) {
+        return stock.get(snapshot);
     }
     
     @Override
-    public boolean useStock(int quantity) {
-        if (stock >= quantity) {
-            stock -= quantity;
-            return true;
+    public boolean useStockMilli(long quantityMilli) {
+        if (!stock.tryTake(quantityMilli)) {
+            return false;
         }
-        return false;
+        StockEvents.stockChanged(this, -quantityMilli);
+        return true;
+    }
+    
+    @Override
+    public void releaseStockMilli(long quantityMilli) {
+        stock.addClamped(quantityMilli);
+        StockEvents.stockChanged(this, quantityMilli);
+    }
+    
+    @Override
+    public long adjustStockMilli(long deltaMilli) {
+        long previous = stock.addClamped(deltaMilli);
+        long updated = Math.max(0, previous + deltaMilli);
+        StockEvents.stockAdjusted(this, updated - previous);
+        return updated;
+    }
+    
+    @Override
+    public void setCost(double cost) {
+        this.cost = cost;
+        parents.invalidateParents();
+    }
+    
+    @Override
+    public void setWeight(double weight) {
+        this.weight = weight;
+        parents.invalidateParents();
+    }
+    
+    @Override
+    public void addParent(Product parent) {
+        parents.add(parent);
+    }
+    
+    @Override
+    public void removeParent(Product parent) {
+        parents.remove(parent);
     }
     
     @Override
     public String generateReport() {
-        return String.format("%s (ID: %s) - Maliyet: %.2f, Ağırlık: %.2f, Stok: %d", 
-                            name, id, cost, weight, stock);
+        return String.format("%s (ID: %s) - Maliyet: %.2f, Ağırlık: %.2f, Stok: %s", 
+                            name, id, cost, weight, Quantities.format(getStockMilli()));
     }
     
     @Override
@@ -1,5 +1,7 @@
 package com.manufacturing.system.domain.model;
 
+import com.manufacturing.system.domain.inventory.InventorySnapshot;
+
 /**
  * Composite Pattern'de Component arayüzü.
  * Tüm bileşenler (hammadde, boya, donanım ve ürünler) bu arayüzü uygular.
@@ -30,10 +32,25 @@ public interface Component {
     String getId();
     
     /**
-     * Bileşenin stok miktarını döndürür
+     * Bileşenin stok miktarını binde bir birim cinsinden döndürür (bkz. {@link Quantities})
+     * @return Stok miktarı (binde bir birim)
+     */
+    long getStockMilli();
+    
+    /**
+     * Bileşenin anlık görüntü anındaki stok miktarını döndürür; devam eden üretimi engellemez
+     * @param snapshot Açık envanter anlık görüntüsü
+     * @return Anlık görüntü anındaki stok miktarı (binde bir birim)
+     */
+    long getStockMilli(InventorySnapshot snapshot);
+    
+    /**
+     * Bileşenin stoğundaki tam birim sayısını döndürür (kesirli kısım aşağı yuvarlanır)
      * @return Stok miktarı
      */
-    int getStock();
+    default int getStock() {
+        return (int) Math.min(Integer.MAX_VALUE, Quantities.toWholeUnits(getStockMilli()));
+    }
     
     /**
      * Bileşeni rapor formatında döndürür
@@ -50,10 +67,46 @@ public interface Component {
         throw new UnsupportedOperationException(getName() + " bileşenine alt bileşen eklenemez");
     }
     
+    /**
+     * Bileşeni reçetesinde kullanan ürünü kaydeder; bileşenin maliyeti veya ağırlığı değiştiğinde
+     * ürünün önbelleğe alınmış toplamları geçersiz kılınır
+     * @param parent Üst ürün
+     */
+    void addParent(Product parent);
+    
+    /**
+     * addParent ile yapılan kaydı kaldırır
+     * @param parent Üst ürün
+     */
+    void removeParent(Product parent);
+    
     /**
      * Bileşenden belirtilen miktarda stok kullanır
+     * @param quantityMilli Kullanılacak miktar (binde bir birim)
+     * @return Stok kullanımı başarılı ise true, değilse false
+     */
+    boolean useStockMilli(long quantityMilli);
+    
+    /**
+     * Daha önce useStockMilli ile kullanılan stoğu geri verir (ör. başarısız bir rezervasyonun geri alınması)
+     * @param quantityMilli Geri verilecek miktar (binde bir birim)
+     */
+    void releaseStockMilli(long quantityMilli);
+    
+    /**
+     * Bileşenden belirtilen sayıda tam birim stok kullanır
      * @param quantity Kullanılacak miktar
      * @return Stok kullanımı başarılı ise true, değilse false
      */
-    boolean useStock(int quantity);
+    default boolean useStock(int quantity) {
+        return useStockMilli(Quantities.ofUnits(quantity));
+    }
+    
+    /**
+     * Daha önce useStock ile kullanılan stoğu geri verir
+     * @param quantity Geri verilecek miktar
+     */
+    default void releaseStock(int quantity) {
+        releaseStockMilli(Quantities.ofUnits(quantity));
+    }
 } 
\ No newline at end of file
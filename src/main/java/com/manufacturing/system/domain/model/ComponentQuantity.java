@@ -1,35 +1,36 @@
 package com.manufacturing.system.domain.model;
 
 /**
- * Bir ürünün içindeki bileşen ve miktarını tutan yardımcı sınıf
+ * Bir ürünün içindeki bileşen ve miktarını tutan yardımcı sınıf.
+ * Miktar binde bir birim cinsindendir; 1,5 adet tahta 1500 olarak tutulur (bkz. {@link Quantities}).
  */
 public class ComponentQuantity {
     private final Component component;
-    private final int quantity;
+    private final long quantityMilli;
     
-    public ComponentQuantity(Component component, int quantity) {
+    public ComponentQuantity(Component component, long quantityMilli) {
         this.component = component;
-        this.quantity = quantity;
+        this.quantityMilli = quantityMilli;
     }
     
     public Component getComponent() {
         return component;
     }
     
-    public int getQuantity() {
-        return quantity;
+    public long getQuantityMilli() {
+        return quantityMilli;
     }
     
     public double getTotalCost() {
-        return component.getCost() * quantity;
+        return Quantities.scale(component.getCost(), quantityMilli);
     }
     
     public double getTotalWeight() {
-        return component.getWeight() * quantity;
+        return Quantities.scale(component.getWeight(), quantityMilli);
     }
     
     @Override
     public String toString() {
-        return String.format("%dx %s", quantity, component.getName());
+        return Quantities.format(quantityMilli) + "x " + component.getName();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.manufacturing.system.domain.model;
+
+/**
+ * Yaprak bileşen tipleri.
+ */
+public enum ComponentType {
+    RAW_MATERIAL("Hammadde"),
+    PAINT("Boya"),
+    HARDWARE("Donanım");
+
+    private final String displayName;
+
+    ComponentType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Raporlarda kullanılan Türkçe tip adını döndürür
+     * @return Tip adı
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -5,8 +5,13 @@ package com.manufacturing.system.domain.model;
  */
 public class Hardware extends BaseComponent {
     
-    public Hardware(String id, String name, double cost, double weight, int stock) {
-        super(id, name, cost, weight, stock);
+    public Hardware(String id, String name, double cost, double weight, long stockMilli) {
+        super(id, name, cost, weight, stockMilli);
+    }
+    
+    @Override
+    public ComponentType getType() {
+        return ComponentType.HARDWARE;
     }
     
     @Override
@@ -0,0 +1,34 @@
+package com.manufacturing.system.domain.model;
+
+/**
+ * Katalogda tutulan yaprak bileşenlerin (hammadde, boya, donanım) arayüzü.
+ * Nesne tabanlı {@link BaseComponent} ve depolardaki ilkel dizi tabanlı görünümler bu arayüzü uygular;
+ * böylece katalog yeniden yüklemesi bileşenin nasıl saklandığından bağımsız çalışır.
+ */
+public interface LeafComponent extends Component {
+    /**
+     * Bileşenin tipini döndürür
+     * @return Bileşen tipi
+     */
+    ComponentType getType();
+
+    /**
+     * Birim maliyeti günceller
+     * @param cost Yeni birim maliyet
+     */
+    void setCost(double cost);
+
+    /**
+     * Birim ağırlığı günceller
+     * @param weight Yeni birim ağırlık
+     */
+    void setWeight(double weight);
+
+    /**
+     * Stok miktarını verilen fark kadar değiştirir (ikmal veya sayım düzeltmesi).
+     * Stok sıfırın altına düşürülmez.
+     * @param deltaMilli Stok farkı, binde bir birim (pozitif: artış, negatif: azalış)
+     * @return Güncel stok miktarı (binde bir birim)
+     */
+    long adjustStockMilli(long deltaMilli);
+}
@@ -0,0 +1,42 @@
+package com.manufacturing.system.domain.model;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Bir bileşeni reçetesinde kullanan ürünlerin listesi.
+ * Bileşenin maliyeti veya ağırlığı değiştiğinde bu ürünlerin önbelleğe alınmış toplamları geçersiz kılınır.
+ * Bir ürün bileşeni birden fazla satırda kullanıyorsa her satır için bir kez listelenir.
+ */
+public final class ParentLinks {
+    private final CopyOnWriteArrayList<Product> parents = new CopyOnWriteArrayList<>();
+
+    public void add(Product parent) {
+        parents.add(parent);
+    }
+
+    public void remove(Product parent) {
+        parents.remove(parent);
+    }
+
+    public boolean isEmpty() {
+        return parents.isEmpty();
+    }
+
+    /**
+     * Tüm üst ürünlerin maliyet ve ağırlık toplamlarını geçersiz kılar
+     */
+    public void invalidateParents() {
+        for (Product parent : parents) {
+            parent.invalidateRollups();
+        }
+    }
+
+    /**
+     * Tüm üst ürünlerin reçete açılımlarını ve toplamlarını geçersiz kılar (alt montaj reçetesi değiştiğinde)
+     */
+    public void invalidateParentStructures() {
+        for (Product parent : parents) {
+            parent.invalidateStructure();
+        }
+    }
+}
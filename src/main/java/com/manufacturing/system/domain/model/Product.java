@@ -1,22 +1,50 @@
 package com.manufacturing.system.domain.model;
 
+import com.manufacturing.system.domain.bom.BillOfMaterials;
+import com.manufacturing.system.domain.bom.BomExplosion;
+import com.manufacturing.system.domain.bom.BomExplosionEngine;
+import com.manufacturing.system.domain.inventory.InventorySnapshot;
+import com.manufacturing.system.domain.inventory.InventoryVersions;
+import com.manufacturing.system.domain.inventory.StockCell;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Ürün bileşeni (Composite)
- * Hammadde, boya ve donanım gibi alt bileşenleri içerebilir
+ * Hammadde, boya ve donanım gibi alt bileşenleri ve alt montaj olarak başka ürünleri içerebilir
+ * (ör. çerçeve → çekmece → şifonyer). Döngüsel reçeteler eklenirken reddedilir.
+ * <p>
+ * Toplam maliyet ve ağırlık ilk istendiğinde hesaplanıp önbelleğe alınır. Ürün o anda alt bileşenlerine
+ * üst ürün olarak kaydolur; bir alt bileşenin maliyeti/ağırlığı değiştiğinde veya reçeteye satır
+ * eklendiğinde yalnızca etkilenen ürünlerin önbelleği geçersiz kılınır.
  */
 public class Product implements Component {
     private final String id;
     private final String name;
-    private int stock;
-    private final List<ComponentQuantity> components = new ArrayList<>();
+    private final StockCell stock;
+    // Reçete değiştirilemez paralel dizilerde tutulur ve değişince bütün olarak değiştirilir (copy-on-write),
+    // böylece devam eden üretim eski reçeteyi tutarlı şekilde görmeye devam eder
+    private volatile BillOfMaterials bom = BillOfMaterials.EMPTY;
+    // Reçete yapısının sürümü; bu üründe veya bir alt montajında satır değişince artar
+    private final AtomicLong structureVersion = new AtomicLong();
+    private volatile BomExplosion explosion;
+    // Maliyet/ağırlık önbelleği; sürüm değişmişse yeniden hesaplanır
+    private final AtomicLong rollupVersion = new AtomicLong();
+    private volatile Rollup rollup;
+    // Alt bileşenlere üst ürün olarak kaydolundu mu (ilk hesaplamada yapılır, reçete değişince yenilenir)
+    private boolean linkedToChildren;
+    // Bu ürünü reçetesinde kullanan ürünler
+    private final ParentLinks parents = new ParentLinks();
     
-    public Product(String id, String name, int stock) {
+    public Product(String id, String name, long stockMilli) {
         this.id = id;
         this.name = name;
-        this.stock = stock;
+        this.stock = new StockCell(stockMilli);
     }
     
     @Override
@@ -24,26 +52,168 @@ public class Product implements Component {
         add(component, 1);
     }
     
+    /**
+     * Reçeteye bir satır ekler. Bileşen bir ürünse alt montaj olarak eklenir.
+     * @param component Bileşen veya alt montaj
+     * @param quantity Tam birim miktar
+     * @throws IllegalArgumentException Alt montaj bu ürünü (dolaylı olarak) içeriyorsa
+     */
     public void add(Component component, int quantity) {
-        components.add(new ComponentQuantity(component, quantity));
+        addMilli(component, Quantities.ofUnits(quantity));
+    }
+    
+    /**
+     * Reçeteye kesirli miktarlı bir satır ekler (ör. 1,5 adet tahta için 1500)
+     * @param component Bileşen veya alt montaj
+     * @param quantityMilli Miktar (binde bir birim)
+     * @throws IllegalArgumentException Alt montaj bu ürünü (dolaylı olarak) içeriyorsa
+     */
+    public void addMilli(Component component, long quantityMilli) {
+        synchronized (this) {
+            checkNoCycle(component);
+            bom = bom.with(component, quantityMilli);
+            if (linkedToChildren) {
+                component.addParent(this);
+            }
+        }
+        invalidateStructure();
+    }
+    
+    /**
+     * Bileşenin eklenmesi reçetede döngü oluşturacaksa hata fırlatır
+     */
+    private void checkNoCycle(Component component) {
+        if (component == this || (component instanceof Product && ((Product) component).dependsOn(this))) {
+            throw new IllegalArgumentException("Döngüsel reçete: " + component.getName() + " zaten " + name + " ürününü içeriyor");
+        }
+    }
+    
+    /**
+     * Bu ürünün reçete ağacında verilen ürünün bulunup bulunmadığını döndürür
+     */
+    private boolean dependsOn(Product target) {
+        Set<Product> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Product> pending = new ArrayList<>();
+        pending.add(this);
+        while (!pending.isEmpty()) {
+            Product current = pending.remove(pending.size() - 1);
+            if (!visited.add(current)) {
+                continue;
+            }
+            BillOfMaterials lines = current.bom;
+            for (int i = 0; i < lines.size(); i++) {
+                Component component = lines.getComponent(i);
+                if (component == target) {
+                    return true;
+                }
+                if (component instanceof Product) {
+                    pending.add((Product) component);
+                }
+            }
+        }
+        return false;
     }
     
     @Override
     public double getCost() {
-        double totalCost = 0;
-        for (ComponentQuantity cq : components) {
-            totalCost += cq.getTotalCost();
-        }
-        return totalCost;
+        return currentRollup().cost;
     }
     
     @Override
     public double getWeight() {
+        return currentRollup().weight;
+    }
+    
+    /**
+     * Önbelleğe alınmış maliyet ve ağırlık toplamlarını geçersiz kılar ve bu ürünü kullanan ürünlere iletir.
+     * Alt bileşenler maliyet veya ağırlıkları değiştiğinde bu metodu çağırır.
+     */
+    public void invalidateRollups() {
+        rollupVersion.incrementAndGet();
+        parents.invalidateParents();
+    }
+    
+    /**
+     * Reçete açılımını ve maliyet/ağırlık toplamlarını geçersiz kılar ve bu ürünü kullanan ürünlere iletir.
+     * Bu üründe veya bir alt montajında reçete satırları değiştiğinde çağrılır.
+     */
+    public void invalidateStructure() {
+        structureVersion.incrementAndGet();
+        rollupVersion.incrementAndGet();
+        parents.invalidateParentStructures();
+    }
+    
+    /**
+     * Ürünü yaprak bileşenlerin toplam miktarlarına açar. Sonuç reçete sürümüyle önbelleğe alınır;
+     * reçete değişmedikçe tekrar eden çağrılar ağacı dolaşmaz.
+     * @return Bir adet ürün için düz reçete
+     */
+    public BomExplosion explode() {
+        BomExplosion current = explosion;
+        long version = structureVersion.get();
+        if (current != null && current.getVersion() == version) {
+            return current;
+        }
+        // Alt montajlardaki değişikliklerden haberdar olmak için önce kaydol, sonra sürümü oku
+        linkToChildren();
+        version = structureVersion.get();
+        current = BomExplosionEngine.explode(this, version);
+        // Eşzamanlı hesaplamalardan en yeni sürümlü olan kalır
+        BomExplosion published = explosion;
+        if (published == null || published.getVersion() <= version) {
+            explosion = current;
+        }
+        return current;
+    }
+    
+    private synchronized void linkToChildren() {
+        if (!linkedToChildren) {
+            BillOfMaterials lines = bom;
+            for (int i = 0; i < lines.size(); i++) {
+                lines.getComponent(i).addParent(this);
+            }
+            linkedToChildren = true;
+        }
+    }
+    
+    @Override
+    public void addParent(Product parent) {
+        parents.add(parent);
+    }
+    
+    @Override
+    public void removeParent(Product parent) {
+        parents.remove(parent);
+    }
+    
+    private Rollup currentRollup() {
+        Rollup current = rollup;
+        if (current != null && current.version == rollupVersion.get()) {
+            return current;
+        }
+        return computeRollup();
+    }
+    
+    private synchronized Rollup computeRollup() {
+        // Hesaplama sırasında bir alt bileşen değişirse sürüm ilerler ve sonuç bir sonraki çağrıda yenilenir
+        long version = rollupVersion.get();
+        Rollup current = rollup;
+        if (current != null && current.version == version) {
+            return current;
+        }
+        linkToChildren();
+        double totalCost = 0;
         double totalWeight = 0;
-        for (ComponentQuantity cq : components) {
-            totalWeight += cq.getTotalWeight();
+        BillOfMaterials lines = bom;
+        for (int i = 0; i < lines.size(); i++) {
+            Component component = lines.getComponent(i);
+            long quantityMilli = lines.getQuantityMilli(i);
+            totalCost += Quantities.scale(component.getCost(), quantityMilli);
+            totalWeight += Quantities.scale(component.getWeight(), quantityMilli);
         }
-        return totalWeight;
+        current = new Rollup(version, totalCost, totalWeight);
+        rollup = current;
+        return current;
     }
     
     @Override
@@ -56,69 +226,140 @@ public class Product implements Component {
     }
     
     @Override
-    public int getStock() {
-        return stock;
+    public long getStockMilli() {
+        return stock.get();
     }
     
+    @Override
+    public long getStockMilli(InventorySnapshot snapshot) {
+        return stock.get(snapshot);
+    }
+    
+    /**
+     * Ürün stoğunu verilen fark kadar değiştirir (ör. kurtarma sırasında). Stok sıfırın altına düşürülmez.
+     * @param deltaMilli Stok farkı (binde bir birim)
+     * @return Güncel stok miktarı (binde bir birim)
+     */
+    public long adjustStockMilli(long deltaMilli) {
+        long previous = stock.addClamped(deltaMilli);
+        long updated = Math.max(0, previous + deltaMilli);
+        StockEvents.stockAdjusted(this, updated - previous);
+        return updated;
+    }
+    
+    /**
+     * Reçete satırlarının salt okunur, kopyasız görünümü
+     * @return Reçete satırları
+     */
     public List<ComponentQuantity> getComponents() {
-        return new ArrayList<>(components);
+        return bom.asList();
+    }
+    
+    /**
+     * Ürünün doğrudan reçetesi; satırlar indeksle, nesne oluşturmadan dolaşılabilir
+     * @return Değiştirilemez reçete
+     */
+    public BillOfMaterials getBom() {
+        return bom;
+    }
+    
+    /**
+     * Ürün reçetesini verilen satırlarla değiştirir (katalog yeniden yüklemesi için).
+     * @param lines Yeni reçete satırları
+     */
+    public void replaceComponents(List<ComponentQuantity> lines) {
+        replaceComponents(BillOfMaterials.of(lines));
+    }
+    
+    /**
+     * Ürün reçetesini bütün olarak değiştirir (ör. yükleme sırasında bir kez oluşturulan reçete).
+     * @param lines Yeni reçete
+     * @throws IllegalArgumentException Reçete döngü oluşturuyorsa
+     */
+    public void replaceComponents(BillOfMaterials lines) {
+        synchronized (this) {
+            for (int i = 0; i < lines.size(); i++) {
+                checkNoCycle(lines.getComponent(i));
+            }
+            if (linkedToChildren) {
+                BillOfMaterials previous = bom;
+                for (int i = 0; i < previous.size(); i++) {
+                    previous.getComponent(i).removeParent(this);
+                }
+                linkedToChildren = false;
+            }
+            this.bom = lines;
+        }
+        invalidateStructure();
     }
     
     @Override
-    public boolean useStock(int quantity) {
-        if (stock >= quantity) {
-            stock -= quantity;
-            return true;
+    public boolean useStockMilli(long quantityMilli) {
+        if (!stock.tryTake(quantityMilli)) {
+            return false;
         }
-        return false;
+        StockEvents.stockChanged(this, -quantityMilli);
+        return true;
+    }
+    
+    @Override
+    public void releaseStockMilli(long quantityMilli) {
+        stock.addClamped(quantityMilli);
+        StockEvents.stockChanged(this, quantityMilli);
     }
     
     /**
-     * Ürünün içerdiği tüm bileşenlerin stoklarını kontrol eder
+     * Ürünün içerdiği tüm yaprak bileşenlerin (alt montajlar açılarak) stoklarını kontrol eder
      * @return Tüm bileşenlerin stoğu yeterliyse true, değilse false
      */
     public boolean checkComponentsStock() {
-        for (ComponentQuantity cq : components) {
-            Component c = cq.getComponent();
-            if (c.getStock() < cq.getQuantity()) {
-                return false;
-            }
-        }
-        return true;
+        return explode().isAvailable(1);
     }
     
     /**
-     * Ürünün tüm bileşenlerinden belirtilen miktarda kullanır
+     * Ürünün tüm yaprak bileşenlerinden (alt montajlar açılarak) bir adet için gereken miktarı kullanır
      * @return İşlem başarılı ise true, değilse false
      */
     public boolean useComponentsStock() {
-        // Önce stokların yeterli olduğunu kontrol et
-        if (!checkComponentsStock()) {
-            return false;
-        }
+        return useComponentsStock(1);
+    }
+    
+    /**
+     * Ürünün tüm yaprak bileşenlerinden verilen adet için gereken miktarı tek seferde, hepsi ya da hiçbiri
+     * olarak kullanır ve ürün stoğunu artırır. Eşzamanlı üretimler aynı stoğu iki kez kullanamaz.
+     * @param units Üretilecek adet
+     * @return İşlem başarılı ise true; değilse hiçbir stok değişmez
+     */
+    public boolean useComponentsStock(int units) {
+        // Reçete yeniden yüklenirse tutarlılık için aynı açılımla çalış
+        BomExplosion bom = explode();
+        long produced = Quantities.ofUnits(units);
         
-        // Bileşenlerin stoklarını azalt
-        for (ComponentQuantity cq : components) {
-            Component c = cq.getComponent();
-            if (!c.useStock(cq.getQuantity())) {
-                return false; // Bu noktada gerçekleşmemeli çünkü zaten kontrol ettik
+        // Düşümler ve ürün stoğu artışı tek yazma kapsamında yapılır; anlık görüntüler ya hepsini ya hiçbirini görür
+        InventoryVersions.beginWrite();
+        try {
+            if (!bom.reserve(units)) {
+                return false;
             }
+            stock.addClamped(produced);
+        } finally {
+            InventoryVersions.endWrite();
         }
-        
-        // Ürünün kendi stoğunu bir artır (üretim sonrası)
-        stock++;
+        StockEvents.stockChanged(this, produced);
         return true;
     }
     
     @Override
     public String generateReport() {
         StringBuilder report = new StringBuilder();
-        report.append(String.format("Ürün: %s (ID: %s) - Toplam Maliyet: %.2f, Toplam Ağırlık: %.2f, Stok: %d\n", 
-                                    name, id, getCost(), getWeight(), stock));
+        report.append(String.format("Ürün: %s (ID: %s) - Toplam Maliyet: %.2f, Toplam Ağırlık: %.2f, Stok: %s\n", 
+                                    name, id, getCost(), getWeight(), Quantities.format(stock.get())));
         report.append("Bileşenler:\n");
         
-        for (ComponentQuantity cq : components) {
-            report.append("  - ").append(cq.toString()).append("\n");
+        BillOfMaterials lines = bom;
+        for (int i = 0; i < lines.size(); i++) {
+            report.append("  - ").append(Quantities.format(lines.getQuantityMilli(i))).append("x ")
+                  .append(lines.getComponent(i).getName()).append("\n");
         }
         
         return report.toString();
@@ -139,4 +380,19 @@ public class Product implements Component {
     public void addComponent(Component component, int quantity) {
         add(component, quantity);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Belirli bir önbellek sürümünde hesaplanmış maliyet ve ağırlık toplamları.
+     */
+    private static final class Rollup {
+        private final long version;
+        private final double cost;
+        private final double weight;
+        
+        private Rollup(long version, double cost, double weight) {
+            this.version = version;
+            this.cost = cost;
+            this.weight = weight;
+        }
+    }
+}
\ No newline at end of file
@@ -7,11 +7,28 @@ package com.manufacturing.system.domain.model;
 public class ProductionOrder {
     private final Product product;
     private final int quantity;
+    // Stok beklerken uyandırma önceliği; büyük değer önce, eşit öncelikte önce gelen önce
+    private final int priority;
+    // Sipariş verildikten sonra teslim için tanınan süre (ms); 0 ise teslim tarihi yoktur
+    private final long dueMillis;
+    // Birim satış fiyatı (TL); zamanlayıcının kâr marjı hesabında kullanılır
+    private final double unitPrice;
     private boolean completed;
     
     public ProductionOrder(Product product, int quantity) {
+        this(product, quantity, 0);
+    }
+    
+    public ProductionOrder(Product product, int quantity, int priority) {
+        this(product, quantity, priority, 0, 0);
+    }
+    
+    public ProductionOrder(Product product, int quantity, int priority, long dueMillis, double unitPrice) {
         this.product = product;
         this.quantity = quantity;
+        this.priority = priority;
+        this.dueMillis = dueMillis;
+        this.unitPrice = unitPrice;
         this.completed = false;
     }
 
@@ -23,6 +40,31 @@ public class ProductionOrder {
         return quantity;
     }
     
+    public int getPriority() {
+        return priority;
+    }
+    
+    public long getDueMillis() {
+        return dueMillis;
+    }
+    
+    public boolean hasDueDate() {
+        return dueMillis > 0;
+    }
+    
+    public double getUnitPrice() {
+        return unitPrice;
+    }
+    
+    /**
+     * Siparişin toplam kâr marjını hesaplar (satış fiyatı eksi üretim maliyeti).
+     * 
+     * @return Toplam kâr marjı
+     */
+    public double getTotalMargin() {
+        return (unitPrice - product.getCost()) * quantity;
+    }
+    
     public boolean isCompleted() {
         return completed;
     }
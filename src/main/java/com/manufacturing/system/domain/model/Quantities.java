@@ -0,0 +1,96 @@
+package com.manufacturing.system.domain.model;
+
+/**
+ * Stok ve reçete miktarları için sabit noktalı (binde bir birim) aritmetik.
+ * <p>
+ * Miktarlar {@link #SCALE} ile ölçeklenmiş long değerler olarak tutulur: 1,5 adet tahta 1500, 0,2 kutu boya
+ * 200 olarak saklanır. Stok kontrolü ve düşümü yalnızca tam sayı işlemleriyle, nesne oluşturmadan yapılır;
+ * double yalnızca maliyet/ağırlık gibi raporlanan değerlerde kullanılır.
+ */
+public final class Quantities {
+    /** Bir tam birimin binde bir birim karşılığı */
+    public static final long SCALE = 1000;
+    private static final int SCALE_DIGITS = 3;
+
+    private Quantities() {
+        // Utility sınıfını örneklemeyi engellemek için private constructor
+    }
+
+    /**
+     * Tam birimi binde bir birime çevirir
+     * @param units Tam birim
+     * @return Binde bir birim
+     * @throws ArithmeticException Taşma olursa
+     */
+    public static long ofUnits(long units) {
+        return Math.multiplyExact(units, SCALE);
+    }
+
+    /**
+     * Binde bir birimi aşağı yuvarlayarak tam birime çevirir
+     */
+    public static long toWholeUnits(long milli) {
+        return Math.floorDiv(milli, SCALE);
+    }
+
+    /**
+     * Birim miktarı adetle çarpar (ör. reçete miktarı × üretilecek adet)
+     * @throws ArithmeticException Taşma olursa
+     */
+    public static long times(long milli, long count) {
+        return Math.multiplyExact(milli, count);
+    }
+
+    /**
+     * İki binde bir birimlik miktarı çarpar (ör. alt montajdaki miktar × alt montaj miktarı). Üç basamağa
+     * sığmayan kısım yukarı yuvarlanır; böylece stok ihtiyacı hiçbir zaman eksik hesaplanmaz.
+     * @throws ArithmeticException Taşma olursa
+     */
+    public static long multiply(long milli, long otherMilli) {
+        return Math.ceilDiv(Math.multiplyExact(milli, otherMilli), SCALE);
+    }
+
+    /**
+     * Verilen stokla, birim başına gereken miktardan kaç tam adet karşılanabileceğini döndürür
+     * @param stockMilli Stok (binde bir birim)
+     * @param requiredMilli Bir adet için gereken miktar (binde bir birim, pozitif)
+     * @return Karşılanabilecek adet
+     */
+    public static long capacity(long stockMilli, long requiredMilli) {
+        return stockMilli / requiredMilli;
+    }
+
+    /**
+     * Maliyet veya ağırlık gibi birim değeri miktarla çarpar (raporlama için)
+     */
+    public static double scale(double perUnit, long milli) {
+        return perUnit * milli / SCALE;
+    }
+
+    /**
+     * Miktarı gereksiz sıfırlar olmadan yazar: 1500 -> "1.5", 2000 -> "2", 200 -> "0.2"
+     * @param milli Binde bir birim
+     * @return Metin gösterimi
+     */
+    public static String format(long milli) {
+        long whole = milli / SCALE;
+        long fraction = Math.abs(milli % SCALE);
+        if (fraction == 0) {
+            return Long.toString(whole);
+        }
+        StringBuilder text = new StringBuilder(24);
+        if (milli < 0 && whole == 0) {
+            text.append('-');
+        }
+        text.append(whole).append('.');
+        String digits = Long.toString(fraction);
+        for (int i = digits.length(); i < SCALE_DIGITS; i++) {
+            text.append('0');
+        }
+        int end = digits.length();
+        while (digits.charAt(end - 1) == '0') {
+            end--;
+        }
+        return text.append(digits, 0, end).toString();
+    }
+}
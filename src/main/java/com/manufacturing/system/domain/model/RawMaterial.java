@@ -5,8 +5,13 @@ package com.manufacturing.system.domain.model;
  */
 public class RawMaterial extends BaseComponent {
     
-    public RawMaterial(String id, String name, double cost, double weight, int stock) {
-        super(id, name, cost, weight, stock);
+    public RawMaterial(String id, String name, double cost, double weight, long stockMilli) {
+        super(id, name, cost, weight, stockMilli);
+    }
+    
+    @Override
+    public ComponentType getType() {
+        return ComponentType.RAW_MATERIAL;
     }
     
     @Override
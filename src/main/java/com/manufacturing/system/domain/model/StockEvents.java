@@ -0,0 +1,51 @@
+package com.manufacturing.system.domain.model;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Stok değişikliklerini kayıtlı dinleyicilere ileten yardımcı sınıf.
+ * Bileşenler milyonlarca olabileceği için dinleyiciler nesne başına değil, süreç genelinde tutulur.
+ */
+public final class StockEvents {
+    private static final CopyOnWriteArrayList<StockListener> listeners = new CopyOnWriteArrayList<>();
+
+    private StockEvents() {
+        // Utility sınıfını örneklemeyi engellemek için private constructor
+    }
+
+    public static void addListener(StockListener listener) {
+        listeners.addIfAbsent(listener);
+    }
+
+    public static void removeListener(StockListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Üretim kaynaklı stok değişikliğini bildirir
+     * @param component Stoğu değişen bileşen veya ürün
+     * @param delta Stok farkı (binde bir birim)
+     */
+    public static void stockChanged(Component component, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        for (StockListener listener : listeners) {
+            listener.stockChanged(component, delta);
+        }
+    }
+
+    /**
+     * Katalog düzeltmesi kaynaklı stok değişikliğini bildirir
+     * @param component Stoğu değişen bileşen veya ürün
+     * @param delta Uygulanan stok farkı (binde bir birim)
+     */
+    public static void stockAdjusted(Component component, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        for (StockListener listener : listeners) {
+            listener.stockAdjusted(component, delta);
+        }
+    }
+}
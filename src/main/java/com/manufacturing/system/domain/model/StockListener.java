@@ -0,0 +1,24 @@
+package com.manufacturing.system.domain.model;
+
+/**
+ * Bileşen ve ürün stok değişikliklerini dinleyen arayüz (Observer).
+ * Bildirimler değişikliği yapan iş parçacığında, stok güncellendikten sonra yapılır;
+ * uygulamalar hızlı olmalı ve bloklamamalıdır.
+ */
+public interface StockListener {
+    /**
+     * Üretim sırasında stok değişti (bileşen tüketimi veya üretilen ürün)
+     * @param component Stoğu değişen bileşen veya ürün
+     * @param delta Stok farkı (binde bir birim)
+     */
+    void stockChanged(Component component, long delta);
+
+    /**
+     * Stok katalog düzeltmesiyle değişti (CSV yeniden yüklemesi, ikmal veya kurtarma).
+     * Bu değişiklikler kaynağında zaten kayıtlı olduğu için varsayılan olarak yok sayılır.
+     * @param component Stoğu değişen bileşen veya ürün
+     * @param delta Uygulanan stok farkı (binde bir birim)
+     */
+    default void stockAdjusted(Component component, long delta) {
+    }
+}
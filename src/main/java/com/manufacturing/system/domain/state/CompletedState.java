@@ -4,15 +4,21 @@ package com.manufacturing.system.domain.state;
  * Tamamlanmış durum.
  * Üretim süreci başarıyla tamamlandığında kullanılır.
  */
-public class CompletedState implements ManufacturingState {
+public final class CompletedState implements ManufacturingState {
+    public static final CompletedState INSTANCE = new CompletedState();
+    
+    private CompletedState() {
+    }
     
     @Override
-    public void handle(ManufacturingProcess context) {
-        System.out.println("Üretim başarıyla tamamlandı.");
+    public StageResult handle(ManufacturingProcess context) {
+        context.trace("Üretim başarıyla tamamlandı.");
+        context.incrementSuccessCount();
+        return StageResult.FINISHED;
     }
     
     @Override
     public String getName() {
         return "Tamamlandı";
     }
-} 
\ No newline at end of file
+}
@@ -1,27 +1,54 @@
 package com.manufacturing.system.domain.state;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Başarısız durum.
- * Üretim süreci başarısız olduğunda kullanılır.
+ * Üretim süreci başarısız olduğunda kullanılır. Her başarısızlık nedeni için tek bir örnek vardır.
  */
-public class FailedState implements ManufacturingState {
-    private final String reason;
+public final class FailedState implements ManufacturingState {
+    private static final Map<FailureReason, FailedState> INSTANCES = new EnumMap<>(FailureReason.class);
+    
+    static {
+        for (FailureReason reason : FailureReason.values()) {
+            INSTANCES.put(reason, new FailedState(reason));
+        }
+    }
     
-    public FailedState(String reason) {
+    private final FailureReason reason;
+    // Geçişlerde metin birleştirmemek için önceden oluşturulur
+    private final String name;
+    private final String message;
+    
+    private FailedState(FailureReason reason) {
         this.reason = reason;
+        this.name = "Başarısız: " + reason.getDisplayName();
+        this.message = "Üretim başarısız oldu. Neden: " + reason.getDisplayName();
+    }
+    
+    /**
+     * Verilen nedenin başarısız durumunu döndürür
+     * @param reason Başarısızlık nedeni
+     * @return Başarısız durum
+     */
+    public static FailedState of(FailureReason reason) {
+        return INSTANCES.get(reason);
     }
     
     @Override
-    public void handle(ManufacturingProcess context) {
-        System.out.println("Üretim başarısız oldu. Neden: " + reason);
+    public StageResult handle(ManufacturingProcess context) {
+        context.trace(message);
+        context.incrementFailureCount(reason);
+        return StageResult.FINISHED;
     }
     
     @Override
     public String getName() {
-        return "Başarısız: " + reason;
+        return name;
     }
     
-    public String getReason() {
+    public FailureReason getReason() {
         return reason;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.manufacturing.system.domain.state;
+
+/**
+ * Üretim biriminin başarısızlık nedenleri.
+ */
+public enum FailureReason {
+    STOCK_SHORTAGE("Stok Yetersizliği"),
+    SYSTEM_ERROR("Sistem Hatası"),
+    DAMAGED_COMPONENT("Hasarlı Bileşen"),
+    UNEXPECTED_STOCK_ERROR("Beklenmeyen Stok Hatası");
+
+    private final String displayName;
+
+    FailureReason(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Raporlarda kullanılan Türkçe neden adını döndürür
+     * @return Neden adı
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -6,51 +6,44 @@ import com.manufacturing.system.infrastructure.RandomGenerator;
  * Üretim aşaması durumu.
  * Bu aşamada ürün üretilir, başarılı veya başarısız olabilir.
  */
-public class InManufacturingState implements ManufacturingState {
+public final class InManufacturingState implements ManufacturingState {
+    public static final InManufacturingState INSTANCE = new InManufacturingState();
+    
+    private InManufacturingState() {
+    }
     
     @Override
-    public void handle(ManufacturingProcess context) {
-        System.out.println("Üretim aşamasında...");
+    public StageResult handle(ManufacturingProcess context) {
+        context.trace("Üretim aşamasında...");
         
-        // Bileşen stoklarını kullan
-        if (!context.getProduct().useComponentsStock()) {
-            // Bu duruma gelinmemeli, çünkü WaitingForStockState'de kontrol edildi
-            System.out.println("Beklenmeyen hata: Stok kullanılamadı.");
-            context.setFailureReason("Stok Hatası");
-            context.setState(new FailedState("Beklenmeyen Stok Hatası"));
-            context.incrementSystemErrorCount();
-            return;
+        // Bileşen stoklarını kullan (stok kontrolü, rezervasyon veya bekleme kuyruğu zaten ayırdıysa kullanılmaz)
+        if (!context.takeUsedComponentsStock() && !context.getProduct().useComponentsStock()) {
+            // Yalnızca stoğu önceden ayırmayan özel akışlarda gelinebilir
+            context.trace("Beklenmeyen hata: Stok kullanılamadı.");
+            context.setFailureReason(FailureReason.UNEXPECTED_STOCK_ERROR);
+            return StageResult.FAILED;
         }
         
-        // Infrastructure katmanındaki RandomGenerator kullanarak rastgele değer al
-        // 1: Başarılı, 2: Sistem Hatası, 3: Hasarlı Bileşen
-        int outcome = RandomGenerator.generateManufacturingOutcome();
-        
-        switch (outcome) {
-            case 1:
-                System.out.println("Üretim başarılı.");
-                context.setState(new CompletedState());
-                context.incrementSuccessCount();
-                break;
-            case 2:
-                System.out.println("Üretim başarısız: Sistem hatası.");
-                context.setFailureReason("Sistem Hatası");
-                context.setState(new FailedState("Sistem Hatası"));
-                context.incrementSystemErrorCount();
-                break;
-            case 3:
-                System.out.println("Üretim başarısız: Hasarlı bileşen.");
-                context.setFailureReason("Hasarlı Bileşen");
-                context.setState(new FailedState("Hasarlı Bileşen"));
-                context.incrementDamagedComponentCount();
-                break;
+        // Sonuç sayaçları son durumlarda güncellenir; böylece sonraki aşamalar (ör. kalite kontrol) birimi
+        // hâlâ başarısız sayabilir
+        // Sonuç süreçten alınır: tek birimde RandomGenerator ile örneklenir, toplu üretimde grubun sonucudur
+        switch (context.nextManufacturingOutcome()) {
+            case RandomGenerator.OUTCOME_SUCCESS:
+                context.trace("Üretim başarılı.");
+                return StageResult.PASSED;
+            case RandomGenerator.OUTCOME_SYSTEM_ERROR:
+                context.trace("Üretim başarısız: Sistem hatası.");
+                context.setFailureReason(FailureReason.SYSTEM_ERROR);
+                return StageResult.FAILED;
+            default:
+                context.trace("Üretim başarısız: Hasarlı bileşen.");
+                context.setFailureReason(FailureReason.DAMAGED_COMPONENT);
+                return StageResult.FAILED;
         }
-        
-        context.getCurrentState().handle(context);
     }
     
     @Override
     public String getName() {
         return "Üretim Aşaması";
     }
-} 
\ No newline at end of file
+}
@@ -1,41 +1,342 @@
 package com.manufacturing.system.domain.state;
 
+import com.manufacturing.system.domain.inventory.StockWaitQueue;
 import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.ProductionOrder;
+import com.manufacturing.system.infrastructure.RandomGenerator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * State Design Pattern'de Context sınıfı.
- * Üretim sürecinin durumunu tutar ve durumlar arası geçişi sağlar.
+ * Üretim sürecinin durumunu tutar; her birim {@link ManufacturingStateMachine} geçiş tablosuyla
+ * durumdan duruma yürütülür. Durum izleme çıktısı kapatılırsa birim başına nesne oluşturulmaz.
+ * <p>
+ * Stok bekleme kuyruğu verilmişse stoğu yetmeyen birim başarısız sayılmaz; kuyrukta iş parçacığı tutmadan
+ * bekletilir ve stok geldiğinde veya bekleme süresi dolduğunda kalan birimlerle birlikte devam ettirilir.
+ * Devam ettirme kuyruğun iş parçacığında değil, siparişin yürütücüsünde çalışır.
+ * Birimler her zaman sırayla işlenir; aynı anda en fazla bir birim bekler.
+ * <p>
+ * Toplu üretim modunda (parti büyüklüğü 1'den büyükse) k birimin stoğu reçete üzerinden tek geçişte
+ * rezerve edilir ve k birimin sonuçları toplu örneklenir. Aynı sonuçlu birimler durum makinesinde tek
+ * birim gibi, aynı geçişler ve aşamalardan yürütülür; sayaçlar grubun birim sayısı kadar artar. Stok
+ * partinin yalnızca bir kısmına yetiyorsa o kısım üretilir; hiç yetmiyorsa kalan birimler stok
+ * yetersizliğiyle başarısız olur veya bekleme kuyruğu varsa birim birim beklenir.
  */
 public class ManufacturingProcess {
     private ManufacturingState currentState;
     private final Product product;
     private final int quantity;
-    private String failureReason;
+    private final int priority;
+    private final StockWaitQueue stockWaitQueue;
+    private final long stockWaitMillis;
+    private final int batchSize;
+    private final ManufacturingStateMachine stateMachine;
+    // Stok bekledikten sonra kalan birimlerin yürütüleceği yürütücü
+    private Executor resumeExecutor = ForkJoinPool.commonPool();
+    private FailureReason failureReason;
+    // Olay yolu açıksa geçişler olay olarak yayımlandığı için konsol çıktısı varsayılan olarak kapalıdır
+    private boolean traceEnabled = !ProductionEvents.isOpen();
+    
+    // Sıradaki birim ve bekleme durumu; bir anda yalnızca bir iş parçacığı sürece dokunur
+    private boolean started;
+    private int nextUnit;
+    private boolean waitingForStock;
+    private boolean componentsStockUsed;
+    // Toplu üretimde makineden yürütülen grubun birim sayısı (sayaçlar bu kadar artar) ve grubun önceden
+    // örneklenmiş sonucu (0 ise birimin sonucu üretim aşamasında örneklenir)
+    private int groupUnits = 1;
+    private int groupOutcome;
+    private final CompletableFuture<ManufacturingProcess> completion = new CompletableFuture<>();
     
-    // Üretim sonucu istatistikleri
-    private int successCount = 0;
-    private int systemErrorCount = 0;
-    private int damagedComponentCount = 0;
-    private int stockShortageCount = 0;
+    // Üretim sonucu istatistikleri; eşzamanlı yürütmede ve raporlamada çekişmesiz sayaçlar
+    // (birim bağlamları siparişin sayaçlarını paylaşır)
+    private final LongAdder successCount;
+    private final LongAdder systemErrorCount;
+    private final LongAdder damagedComponentCount;
+    private final LongAdder stockShortageCount;
     
     public ManufacturingProcess(Product product, int quantity) {
-        this.product = product;
-        this.quantity = quantity;
+        this(new ProductionOrder(product, quantity), null, 0);
+    }
+    
+    /**
+     * @param order Üretim emri
+     * @param stockWaitQueue Stok bekleme kuyruğu; null ise stok yetersizliği hemen başarısızlıktır
+     * @param stockWaitMillis Birim başına en uzun stok bekleme süresi; negatifse süresiz
+     */
+    public ManufacturingProcess(ProductionOrder order, StockWaitQueue stockWaitQueue, long stockWaitMillis) {
+        this(order, stockWaitQueue, stockWaitMillis, 1);
+    }
+    
+    /**
+     * @param order Üretim emri
+     * @param stockWaitQueue Stok bekleme kuyruğu; null ise stok yetersizliği hemen başarısızlıktır
+     * @param stockWaitMillis Birim başına en uzun stok bekleme süresi; negatifse süresiz
+     * @param batchSize Toplu üretimde parti başına birim sayısı; 1 ise birimler tek tek üretilir
+     */
+    public ManufacturingProcess(ProductionOrder order, StockWaitQueue stockWaitQueue, long stockWaitMillis, int batchSize) {
+        this(order, stockWaitQueue, stockWaitMillis, batchSize, ManufacturingStateMachine.DEFAULT);
+    }
+    
+    /**
+     * @param order Üretim emri
+     * @param stockWaitQueue Stok bekleme kuyruğu; null ise stok yetersizliği hemen başarısızlıktır
+     * @param stockWaitMillis Birim başına en uzun stok bekleme süresi; negatifse süresiz
+     * @param batchSize Toplu üretimde parti başına birim sayısı; 1 ise birimler tek tek üretilir
+     * @param stateMachine Birimlerin yürütüleceği durum makinesi (ör. ek aşamalı akış)
+     */
+    public ManufacturingProcess(ProductionOrder order, StockWaitQueue stockWaitQueue, long stockWaitMillis, int batchSize,
+                                ManufacturingStateMachine stateMachine) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Parti büyüklüğü en az 1 olmalı: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.product = order.getProduct();
+        this.quantity = order.getQuantity();
+        this.priority = order.getPriority();
+        this.stockWaitQueue = stockWaitQueue;
+        this.stockWaitMillis = stockWaitMillis;
+        this.stateMachine = stateMachine;
         // Başlangıç durumu: Stok için beklemede
-        this.currentState = new WaitingForStockState();
+        this.currentState = stateMachine.getInitialState();
+        this.successCount = new LongAdder();
+        this.systemErrorCount = new LongAdder();
+        this.damagedComponentCount = new LongAdder();
+        this.stockShortageCount = new LongAdder();
+    }
+    
+    private ManufacturingProcess(ManufacturingProcess order) {
+        this.batchSize = 1;
+        this.product = order.product;
+        this.quantity = order.quantity;
+        this.priority = order.priority;
+        this.stockWaitQueue = null;
+        this.stockWaitMillis = 0;
+        this.stateMachine = order.stateMachine;
+        this.currentState = stateMachine.getInitialState();
+        this.traceEnabled = false;
+        this.successCount = order.successCount;
+        this.systemErrorCount = order.systemErrorCount;
+        this.damagedComponentCount = order.damagedComponentCount;
+        this.stockShortageCount = order.stockShortageCount;
+    }
+    
+    /**
+     * Bu siparişin sonuç sayaçlarını paylaşan, yalnızca tek bir birimin durumunu tutan bağlam oluşturur.
+     * Boru hattında aynı siparişin birimleri farklı aşamalarda eşzamanlı bulunabildiği için her birim
+     * kendi bağlamıyla yürütülür; sonuçlar yine bu sürecin raporunda toplanır. Bağlamlar stok beklemez,
+     * izleme çıktısı yazmaz ve birimler arasında yeniden kullanılabilir.
+     * @return Birim bağlamı
+     */
+    public ManufacturingProcess createUnitContext() {
+        return new ManufacturingProcess(this);
     }
     
     /**
-     * Üretim sürecini yürütür
+     * Üretim sürecini yürütür ve tüm birimler işlenene kadar bekler
      */
     public void run() {
-        for (int i = 0; i < quantity; i++) {
-            System.out.println("\n" + product.getName() + " üretimi başlıyor (" + (i + 1) + "/" + quantity + ")...");
-            // Her üretim işlemi için durumu WaitingForStock olarak başlat
-            this.currentState = new WaitingForStockState();
-            // Durum işleyicisini çalıştır
-            this.currentState.handle(this);
+        start().join();
+    }
+    
+    /**
+     * Üretim sürecini başlatır. Stok bekleyen birim yoksa süreç çağıran iş parçacığında tamamlanır;
+     * varsa kalan birimler stok geldiğinde {@link #setResumeExecutor devam ettirme yürütücüsünde} işlenir.
+     * @return Tüm birimler işlendiğinde tamamlanan sonuç
+     */
+    public CompletableFuture<ManufacturingProcess> start() {
+        if (!started) {
+            started = true;
+            processUnits();
         }
+        return completion;
+    }
+    
+    private void processUnits() {
+        while (nextUnit < quantity) {
+            if (batchSize > 1 && processBatch()) {
+                continue;
+            }
+            int unit = ++nextUnit;
+            if (traceEnabled) {
+                System.out.println("\n" + product.getName() + " üretimi başlıyor (" + unit + "/" + quantity + ")...");
+            }
+            // Her üretim işlemi için durumu başlangıç durumundan (stok kontrolü) başlat
+            resetToInitialState();
+            stateMachine.run(this, currentState);
+            if (waitingForStock) {
+                // Kuyruğa bırakıldıktan sonra süreç yalnızca devam ettirme geri çağrısında ilerler
+                waitingForStock = false;
+                stockWaitQueue.park(product, 1, priority, stockWaitMillis, this::resumeAfterWait);
+                return;
+            }
+        }
+        completion.complete(this);
+    }
+    
+    /**
+     * Sıradaki partiyi üretir: stoğun yettiği kadar birim tek rezervasyonla ayrılır, sonuçları toplu örneklenir
+     * ve her sonuç grubu durum makinesinden bir kez geçirilir.
+     * @return Parti işlendiyse true; hiç stok yoksa ve birim beklemeliyse false (birim tek tek işlenir)
+     */
+    private boolean processBatch() {
+        int units = Math.min(batchSize, quantity - nextUnit);
+        int first = nextUnit + 1;
+        while (true) {
+            int buildable = (int) Math.min(units, product.explode().buildableUnits());
+            if (buildable == 0) {
+                if (canWaitForStock()) {
+                    return false;
+                }
+                if (traceEnabled) {
+                    System.out.println("\n" + product.getName() + " toplu üretim (" + first + "-" + (nextUnit + units) + "/"
+                            + quantity + "): Stok yetersiz, " + units + " adet üretilemedi.");
+                }
+                setFailureReason(FailureReason.STOCK_SHORTAGE);
+                runGroup(units, StageResult.FAILED, 0);
+                nextUnit += units;
+                return true;
+            }
+            // Eşzamanlı bir sipariş arada stoğu kullandıysa yetebilen adet yeniden hesaplanır
+            if (product.useComponentsStock(buildable)) {
+                int[] outcomes = RandomGenerator.generateManufacturingOutcomeCounts(buildable);
+                if (traceEnabled) {
+                    System.out.println("\n" + product.getName() + " toplu üretim (" + first + "-" + (first + buildable - 1) + "/"
+                            + quantity + "): " + "Başarılı: " + outcomes[RandomGenerator.OUTCOME_SUCCESS]
+                            + ", Sistem Hatası: " + outcomes[RandomGenerator.OUTCOME_SYSTEM_ERROR]
+                            + ", Hasarlı Bileşen: " + outcomes[RandomGenerator.OUTCOME_DAMAGED_COMPONENT]);
+                }
+                // Hasarlı bileşen grubu en son yürütülür; böylece başarısızlık nedeni önceki gibi ona öncelik verir
+                for (int outcome = RandomGenerator.OUTCOME_SUCCESS; outcome <= RandomGenerator.OUTCOME_DAMAGED_COMPONENT; outcome++) {
+                    if (outcomes[outcome] > 0) {
+                        runGroup(outcomes[outcome], StageResult.PASSED, outcome);
+                    }
+                }
+                nextUnit += buildable;
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Aynı sonuçlu birim grubunu durum makinesinden tek birim gibi yürütür. Başlangıç durumunun işi (stok
+     * ayırma) parti için zaten yapıldığından gruba başlangıç durumunun sonucuyla geçilir.
+     * @param units Gruptaki birim sayısı
+     * @param initialResult Başlangıç durumunun grup için sonucu
+     * @param outcome Grubun üretim sonucu; 0 ise üretim aşamasına gelinmez
+     */
+    private void runGroup(int units, StageResult initialResult, int outcome) {
+        resetToInitialState();
+        if (initialResult == StageResult.PASSED) {
+            componentsStockUsed = true;
+        }
+        groupUnits = units;
+        groupOutcome = outcome;
+        try {
+            ManufacturingState next = stateMachine.next(currentState, initialResult, this);
+            setState(next);
+            stateMachine.run(this, next);
+        } finally {
+            groupUnits = 1;
+            groupOutcome = 0;
+        }
+    }
+    
+    /**
+     * Stok bekleme kuyruğunun geri çağrısı; birimin devamını siparişin yürütücüsüne bırakır. Kuyruğun tek
+     * iş parçacığı bir siparişin kalan birimleriyle meşgul edilmez.
+     * @param stockUsed Bileşen stoğu birim için kullanıldıysa true, bekleme süresi dolduysa false
+     */
+    private void resumeAfterWait(boolean stockUsed) {
+        try {
+            resumeExecutor.execute(() -> continueAfterWait(stockUsed));
+        } catch (RejectedExecutionException e) {
+            // Yürütücü kapatılmışsa sipariş yarım kalmasın diye burada devam edilir
+            continueAfterWait(stockUsed);
+        }
+    }
+    
+    /**
+     * Stok bekleyen birimi ve ardından kalan birimleri yürütür
+     * @param stockUsed Bileşen stoğu birim için kullanıldıysa true, bekleme süresi dolduysa false
+     */
+    private void continueAfterWait(boolean stockUsed) {
+        ManufacturingState next;
+        if (stockUsed) {
+            if (traceEnabled) {
+                System.out.println("\n" + product.getName() + ": Beklenen stok geldi (" + nextUnit + "/" + quantity + ").");
+            }
+            markComponentsStockUsed();
+            next = stateMachine.next(currentState, StageResult.PASSED, this);
+        } else {
+            if (traceEnabled) {
+                System.out.println("\n" + product.getName() + ": Stok beklenirken süre doldu (" + nextUnit + "/" + quantity + ").");
+            }
+            setFailureReason(FailureReason.STOCK_SHORTAGE);
+            next = stateMachine.next(currentState, StageResult.FAILED, this);
+        }
+        setState(next);
+        stateMachine.run(this, next);
+        processUnits();
+    }
+    
+    /**
+     * Birimin üretim sonucunu belirler; toplu üretimde grubun önceden örneklenmiş sonucu döndürülür
+     * @return 1: Başarılı, 2: Sistem Hatası, 3: Hasarlı Bileşen
+     */
+    public int nextManufacturingOutcome() {
+        return groupOutcome != 0 ? groupOutcome : RandomGenerator.generateManufacturingOutcome();
+    }
+    
+    /**
+     * Stok bekledikten sonra kalan birimlerin yürütüleceği yürütücüyü belirler; süreç başlatılmadan önce
+     * çağrılmalıdır. Varsayılan ortak ForkJoinPool'dur; eşzamanlı yürütmede siparişlerin yürütücüsü verilir.
+     * @param resumeExecutor Devam ettirme yürütücüsü
+     */
+    public void setResumeExecutor(Executor resumeExecutor) {
+        if (resumeExecutor == null) {
+            throw new IllegalArgumentException("Devam ettirme yürütücüsü boş olamaz");
+        }
+        this.resumeExecutor = resumeExecutor;
+    }
+    
+    /**
+     * Stok yetersizliğinde birimin bekletilip bekletilemeyeceğini döndürür
+     */
+    public boolean canWaitForStock() {
+        return stockWaitQueue != null && stockWaitMillis != 0;
+    }
+    
+    /**
+     * Birimi stok bekleme kuyruğuna bırakır; durum işleyicisi döndükten sonra uygulanır
+     */
+    public void waitForStock() {
+        if (!canWaitForStock()) {
+            throw new IllegalStateException("Stok bekleme kuyruğu yapılandırılmamış");
+        }
+        waitingForStock = true;
+    }
+    
+    /**
+     * Birimin bileşen stoğunun önceki bir aşamada (stok bekleme kuyruğu veya rezervasyon) kullanıldığını kaydeder
+     */
+    public void markComponentsStockUsed() {
+        componentsStockUsed = true;
+    }
+    
+    /**
+     * Birimin bileşen stoğu bekleme kuyruğunda zaten kullanıldıysa bunu bir kez bildirir
+     * @return Stok önceden kullanıldıysa true
+     */
+    public boolean takeUsedComponentsStock() {
+        boolean used = componentsStockUsed;
+        componentsStockUsed = false;
+        return used;
     }
     
     /**
@@ -43,8 +344,41 @@ public class ManufacturingProcess {
      * @param state Yeni durum
      */
     public void setState(ManufacturingState state) {
+        ProductionEvents.stateChanged(this, currentState, state);
         this.currentState = state;
-        System.out.println("Durum değişti: " + state.getName());
+        if (traceEnabled) {
+            System.out.print("Durum değişti: ");
+            System.out.println(state.getName());
+        }
+    }
+    
+    /**
+     * Sıradaki birim için durumu durum makinesinin başlangıç durumuna alır
+     */
+    public void resetToInitialState() {
+        ManufacturingState initialState = stateMachine.getInitialState();
+        ProductionEvents.stateChanged(this, null, initialState);
+        this.currentState = initialState;
+        // Önceki birimin kullanılmamış ayırma işareti yeni birime taşınmaz
+        this.componentsStockUsed = false;
+    }
+    
+    /**
+     * Durum izleme çıktısını yazar
+     * @param message Çıktı satırı
+     */
+    public void trace(String message) {
+        if (traceEnabled) {
+            System.out.println(message);
+        }
+    }
+    
+    /**
+     * Birim ve durum geçişi çıktısını açar veya kapatır (olay yolu açık değilse varsayılan açık)
+     * @param traceEnabled Çıktı yazılsın mı?
+     */
+    public void setTraceEnabled(boolean traceEnabled) {
+        this.traceEnabled = traceEnabled;
     }
     
     /**
@@ -67,43 +401,69 @@ public class ManufacturingProcess {
      * Başarılı üretim sayısını artırır
      */
     public void incrementSuccessCount() {
-        successCount++;
+        successCount.add(groupUnits);
     }
     
     /**
      * Sistem hatası sayısını artırır
      */
     public void incrementSystemErrorCount() {
-        systemErrorCount++;
+        systemErrorCount.add(groupUnits);
     }
     
     /**
      * Hasarlı bileşen sayısını artırır
      */
     public void incrementDamagedComponentCount() {
-        damagedComponentCount++;
+        damagedComponentCount.add(groupUnits);
     }
     
     /**
      * Stok yetersizliği sayısını artırır
      */
     public void incrementStockShortageCount() {
-        stockShortageCount++;
+        stockShortageCount.add(groupUnits);
+    }
+    
+    /**
+     * Başarısızlık nedenine göre ilgili sayacı artırır
+     * @param reason Başarısızlık nedeni
+     */
+    public void incrementFailureCount(FailureReason reason) {
+        switch (reason) {
+            case STOCK_SHORTAGE:
+                incrementStockShortageCount();
+                break;
+            case DAMAGED_COMPONENT:
+                incrementDamagedComponentCount();
+                break;
+            default:
+                incrementSystemErrorCount();
+                break;
+        }
     }
     
     /**
      * Başarısızlık nedenini belirler
      * @param reason Başarısızlık nedeni
      */
-    public void setFailureReason(String reason) {
+    public void setFailureReason(FailureReason reason) {
         this.failureReason = reason;
     }
     
     /**
      * Başarısızlık nedenini döndürür
-     * @return Başarısızlık nedeni
+     * @return Başarısızlık nedeni; başarısız birim yoksa null
      */
     public String getFailureReason() {
+        return failureReason != null ? failureReason.getDisplayName() : null;
+    }
+    
+    /**
+     * Başarısızlık nedeni kodunu döndürür
+     * @return Başarısızlık nedeni; başarısız birim yoksa null
+     */
+    public FailureReason getFailureReasonCode() {
         return failureReason;
     }
     
@@ -112,6 +472,10 @@ public class ManufacturingProcess {
      * @return Rapor metni
      */
     public String generateReport() {
+        int successCount = getSuccessCount();
+        int systemErrorCount = getSystemErrorCount();
+        int damagedComponentCount = getDamagedComponentCount();
+        int stockShortageCount = getStockShortageCount();
         StringBuilder report = new StringBuilder();
         report.append("\n==== ").append(product.getName()).append(" Üretim Raporu ====\n");
         report.append("Üretim İsteği: ").append(quantity).append(" adet\n");
@@ -146,7 +510,7 @@ public class ManufacturingProcess {
      * @return Toplam sayı
      */
     public int getTotalProcessedCount() {
-        return successCount + systemErrorCount + damagedComponentCount + stockShortageCount;
+        return getSuccessCount() + getSystemErrorCount() + getDamagedComponentCount() + getStockShortageCount();
     }
     
     /**
@@ -154,7 +518,7 @@ public class ManufacturingProcess {
      * @return Başarılı üretim sayısı
      */
     public int getSuccessCount() {
-        return successCount;
+        return successCount.intValue();
     }
     
     /**
@@ -162,7 +526,7 @@ public class ManufacturingProcess {
      * @return Sistem hatası sayısı
      */
     public int getSystemErrorCount() {
-        return systemErrorCount;
+        return systemErrorCount.intValue();
     }
     
     /**
@@ -170,7 +534,7 @@ public class ManufacturingProcess {
      * @return Hasarlı bileşen sayısı
      */
     public int getDamagedComponentCount() {
-        return damagedComponentCount;
+        return damagedComponentCount.intValue();
     }
     
     /**
@@ -178,6 +542,6 @@ public class ManufacturingProcess {
      * @return Stok yetersizliği sayısı
      */
     public int getStockShortageCount() {
-        return stockShortageCount;
+        return stockShortageCount.intValue();
     }
 } 
\ No newline at end of file
@@ -2,18 +2,21 @@ package com.manufacturing.system.domain.state;
 
 /**
  * State Design Pattern'de State arayüzü.
- * Üretim sürecinin farklı durumlarını temsil eder.
+ * Üretim sürecinin farklı durumlarını temsil eder. Durumlar durumsuz tekil nesnelerdir; birime ait
+ * bilgiler süreçte (context) tutulur. Durumlar arası geçişler {@link ManufacturingStateMachine}
+ * geçiş tablosunda tanımlanır.
  */
 public interface ManufacturingState {
     /**
-     * Durumun işlevini gerçekleştirir ve gerekirse yeni duruma geçiş yapar
+     * Durumun işlevini gerçekleştirir
      * @param context Üretim süreci (context)
+     * @return Geçiş tablosunda sıradaki durumu seçen sonuç
      */
-    void handle(ManufacturingProcess context);
+    StageResult handle(ManufacturingProcess context);
     
     /**
      * Durumun adını döndürür
      * @return Durum adı
      */
     String getName();
-} 
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package com.manufacturing.system.domain.state;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Üretim birimini geçiş tablosuna göre durumdan duruma yürüten durum makinesi.
+ * <p>
+ * Durumlar tekil nesnelerdir ve yalnızca kendi işlerini yapıp bir {@link StageResult} döndürür; sıradaki
+ * durumu tablo belirler. Makine özyinelemesiz bir döngüdür ve geçişlerde nesne oluşturmaz, böylece
+ * kalite kontrol veya boyama gibi ek aşamalar yığını derinleştirmeden tabloya eklenebilir.
+ * Başarısızlık için özel bir geçiş tanımlanmamışsa sürecin başarısızlık nedeninin
+ * {@link FailedState}'ine geçilir.
+ */
+public final class ManufacturingStateMachine {
+    private static final int RESULTS = StageResult.values().length;
+
+    /**
+     * Varsayılan akış: stok kontrolü, üretim, tamamlanma
+     */
+    public static final ManufacturingStateMachine DEFAULT = builder(WaitingForStockState.INSTANCE)
+            .on(WaitingForStockState.INSTANCE, StageResult.PASSED, InManufacturingState.INSTANCE)
+            .on(InManufacturingState.INSTANCE, StageResult.PASSED, CompletedState.INSTANCE)
+            .build();
+
+    private final ManufacturingState initialState;
+    // Durum -> sonuç sırasına göre indekslenmiş sıradaki durumlar
+    private final Map<ManufacturingState, ManufacturingState[]> transitions;
+
+    private ManufacturingStateMachine(ManufacturingState initialState, Map<ManufacturingState, ManufacturingState[]> transitions) {
+        this.initialState = initialState;
+        this.transitions = transitions;
+    }
+
+    /**
+     * Verilen başlangıç durumuyla yeni bir geçiş tablosu oluşturmaya başlar
+     * @param initialState Her birimin başladığı durum
+     * @return Tablo oluşturucu
+     */
+    public static Builder builder(ManufacturingState initialState) {
+        return new Builder(initialState);
+    }
+
+    /**
+     * Her birimin başladığı durum
+     */
+    public ManufacturingState getInitialState() {
+        return initialState;
+    }
+
+    /**
+     * Birimi verilen durumdan başlayarak birim bitene veya stok beklemeye başlayana kadar yürütür
+     * @param context Üretim süreci
+     * @param from Başlangıç durumu
+     * @return Makinenin durduğu durum
+     */
+    public ManufacturingState run(ManufacturingProcess context, ManufacturingState from) {
+        ManufacturingState state = from;
+        while (true) {
+            StageResult result = state.handle(context);
+            if (result == StageResult.FINISHED || result == StageResult.SUSPENDED) {
+                return state;
+            }
+            state = next(state, result, context);
+            context.setState(state);
+        }
+    }
+
+    /**
+     * Durumun verilen sonucu için sıradaki durumu tablodan bulur
+     * @param state Sonucu üreten durum
+     * @param result Durumun sonucu
+     * @param context Üretim süreci (başarısızlık nedeni için)
+     * @return Sıradaki durum
+     * @throws IllegalStateException Başarı sonucu için geçiş tanımlanmamışsa
+     */
+    public ManufacturingState next(ManufacturingState state, StageResult result, ManufacturingProcess context) {
+        ManufacturingState[] row = transitions.get(state);
+        ManufacturingState next = row != null ? row[result.ordinal()] : null;
+        if (next != null) {
+            return next;
+        }
+        if (result == StageResult.FAILED) {
+            return FailedState.of(context.getFailureReasonCode());
+        }
+        throw new IllegalStateException("Tanımsız geçiş: " + state.getName() + " / " + result);
+    }
+
+    /**
+     * Geçiş tablosu oluşturucu
+     */
+    public static final class Builder {
+        private final ManufacturingState initialState;
+        private final Map<ManufacturingState, ManufacturingState[]> transitions = new IdentityHashMap<>();
+
+        private Builder(ManufacturingState initialState) {
+            this.initialState = initialState;
+        }
+
+        /**
+         * Geçiş ekler
+         * @param from Kaynak durum
+         * @param result Kaynak durumun sonucu
+         * @param to Sıradaki durum
+         * @return Bu oluşturucu
+         */
+        public Builder on(ManufacturingState from, StageResult result, ManufacturingState to) {
+            if (result == StageResult.FINISHED || result == StageResult.SUSPENDED) {
+                throw new IllegalArgumentException("Bu sonuç için geçiş tanımlanamaz: " + result);
+            }
+            transitions.computeIfAbsent(from, state -> new ManufacturingState[RESULTS])[result.ordinal()] = to;
+            return this;
+        }
+
+        public ManufacturingStateMachine build() {
+            Map<ManufacturingState, ManufacturingState[]> copy = new IdentityHashMap<>();
+            for (Map.Entry<ManufacturingState, ManufacturingState[]> entry : transitions.entrySet()) {
+                copy.put(entry.getKey(), entry.getValue().clone());
+            }
+            return new ManufacturingStateMachine(initialState, copy);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.manufacturing.system.domain.state;
+
+import com.manufacturing.system.domain.model.Component;
+
+/**
+ * Olay yolunda taşınan durum geçişi veya stok değişikliği olayı.
+ * Nesneler halka tamponda önceden oluşturulur ve her yayımda yeniden doldurulur; aboneler değerleri
+ * saklayacaksa kopyalamalıdır.
+ */
+public final class ProductionEvent {
+    /**
+     * Olay türü
+     */
+    public enum Type {
+        // Birim bir durumdan diğerine geçti
+        STATE_CHANGED,
+        // Üretim sırasında stok değişti (bileşen tüketimi veya üretilen ürün)
+        STOCK_CHANGED,
+        // Stok katalog düzeltmesiyle değişti
+        STOCK_ADJUSTED
+    }
+
+    private Type type;
+    private ManufacturingProcess process;
+    private ManufacturingState fromState;
+    private ManufacturingState toState;
+    private Component component;
+    private long deltaMilli;
+
+    void setStateChanged(ManufacturingProcess process, ManufacturingState fromState, ManufacturingState toState) {
+        this.type = Type.STATE_CHANGED;
+        this.process = process;
+        this.fromState = fromState;
+        this.toState = toState;
+        this.component = null;
+        this.deltaMilli = 0;
+    }
+
+    void setStockChanged(Type type, Component component, long deltaMilli) {
+        this.type = type;
+        this.process = null;
+        this.fromState = null;
+        this.toState = null;
+        this.component = component;
+        this.deltaMilli = deltaMilli;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Geçişi yapan süreç (boru hattında birim bağlamı); stok olaylarında null
+     */
+    public ManufacturingProcess getProcess() {
+        return process;
+    }
+
+    /**
+     * Önceki durum; birimin başlangıç durumuna girişinde null
+     */
+    public ManufacturingState getFromState() {
+        return fromState;
+    }
+
+    public ManufacturingState getToState() {
+        return toState;
+    }
+
+    /**
+     * Stoğu değişen bileşen veya ürün; geçiş olaylarında null
+     */
+    public Component getComponent() {
+        return component;
+    }
+
+    /**
+     * Stok farkı (binde bir birim)
+     */
+    public long getDeltaMilli() {
+        return deltaMilli;
+    }
+}
@@ -0,0 +1,135 @@
+package com.manufacturing.system.domain.state;
+
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.StockEvents;
+import com.manufacturing.system.domain.model.StockListener;
+import com.manufacturing.system.infrastructure.EventHandler;
+import com.manufacturing.system.infrastructure.RingBuffer;
+import com.manufacturing.system.presentation.Logger;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Durum geçişlerini ve stok değişikliklerini süreç genelindeki halka tampon olay yoluna yayımlayan
+ * yardımcı sınıf.
+ * <p>
+ * Olay yolu açık değilse yayım tek bir okuma maliyetindedir. Açıkken üretim iş parçacığı yalnızca bir
+ * yuva alır ve alanları doldurur; raporlama, metrik veya günlük gibi aboneler olayları kendi iş
+ * parçacıklarında işler. Stok değişiklikleri {@link StockEvents} üzerinden köprülenir. Olay yolu açıkken
+ * oluşturulan süreçlerin konsol izleme çıktısı varsayılan olarak kapalıdır.
+ * <p>
+ * Olay yolu kapatıldıktan sonra yayımlanan olaylar abonelere ulaşmaz; sessizce kaybolmamaları için
+ * sayılır ve {@link #getDroppedEvents()} ile raporlanır.
+ */
+public final class ProductionEvents {
+    private static final StockListener STOCK_BRIDGE = new StockListener() {
+        @Override
+        public void stockChanged(Component component, long delta) {
+            publishStock(ProductionEvent.Type.STOCK_CHANGED, component, delta);
+        }
+
+        @Override
+        public void stockAdjusted(Component component, long delta) {
+            publishStock(ProductionEvent.Type.STOCK_ADJUSTED, component, delta);
+        }
+    };
+
+    private static final LongAdder DROPPED = new LongAdder();
+
+    private static volatile RingBuffer<ProductionEvent> ring;
+    // Olay yolu açılıp kapatıldıysa true; hiç açılmamış yolda yayım kayıp sayılmaz
+    private static volatile boolean closed;
+
+    private ProductionEvents() {
+        // Utility sınıfını örneklemeyi engellemek için private constructor
+    }
+
+    /**
+     * Olay yolunu açar. Aboneler yayım başlamadan önce {@link #subscribe} ile eklenmelidir.
+     * @param capacity Halka tampon yuva sayısı
+     * @param logger Abonelerin işleyemediği olayların yazılacağı logger
+     */
+    public static synchronized void open(int capacity, Logger logger) {
+        if (ring != null) {
+            throw new IllegalStateException("Olay yolu zaten açık");
+        }
+        ring = new RingBuffer<>(capacity, ProductionEvent::new, logger);
+        closed = false;
+        DROPPED.reset();
+        StockEvents.addListener(STOCK_BRIDGE);
+    }
+
+    /**
+     * Olay yoluna abone ekler
+     * @param name Abonenin iş parçacığı adı
+     * @param handler Olay işleyici
+     */
+    public static synchronized void subscribe(String name, EventHandler<ProductionEvent> handler) {
+        if (ring == null) {
+            throw new IllegalStateException("Olay yolu açık değil");
+        }
+        ring.subscribe(name, handler);
+    }
+
+    /**
+     * Olay yolunu kapatır ve abonelerin yayımlanan tüm olayları işlemesini bekler
+     */
+    public static synchronized void close() {
+        RingBuffer<ProductionEvent> current = ring;
+        if (current == null) {
+            return;
+        }
+        StockEvents.removeListener(STOCK_BRIDGE);
+        closed = true;
+        ring = null;
+        current.close();
+    }
+
+    public static boolean isOpen() {
+        return ring != null;
+    }
+
+    /**
+     * Son açılan olay yolu kapatıldıktan sonra yayımlanamayan olay sayısı
+     */
+    public static long getDroppedEvents() {
+        return DROPPED.sum();
+    }
+
+    /**
+     * Durum geçişini yayımlar
+     * @param process Geçişi yapan süreç
+     * @param fromState Önceki durum; birim başlangıç durumuna giriyorsa null
+     * @param toState Yeni durum
+     */
+    static void stateChanged(ManufacturingProcess process, ManufacturingState fromState, ManufacturingState toState) {
+        RingBuffer<ProductionEvent> current = ring;
+        long sequence = current != null ? current.next() : -1;
+        if (sequence < 0) {
+            dropped();
+            return;
+        }
+        current.get(sequence).setStateChanged(process, fromState, toState);
+        current.publish(sequence);
+    }
+
+    /**
+     * Yayımlanamayan olayı sayar; olay yolu hiç açılmadıysa yayım kapalıdır ve olay kayıp sayılmaz
+     */
+    private static void dropped() {
+        if (closed) {
+            DROPPED.increment();
+        }
+    }
+
+    private static void publishStock(ProductionEvent.Type type, Component component, long delta) {
+        RingBuffer<ProductionEvent> current = ring;
+        long sequence = current != null ? current.next() : -1;
+        if (sequence < 0) {
+            dropped();
+            return;
+        }
+        current.get(sequence).setStockChanged(type, component, delta);
+        current.publish(sequence);
+    }
+}
@@ -0,0 +1,24 @@
+package com.manufacturing.system.domain.state;
+
+/**
+ * Kalite kontrol durumu.
+ * Üretilen birimin teslimden önce incelendiği aşama. Simülasyonda üretim sonucu zaten üretim aşamasında
+ * belirlendiği için birimler geçer; aşama boru hattında incelemenin kapladığı yeri ve süreyi modeller.
+ */
+public final class QualityCheckState implements ManufacturingState {
+    public static final QualityCheckState INSTANCE = new QualityCheckState();
+    
+    private QualityCheckState() {
+    }
+    
+    @Override
+    public StageResult handle(ManufacturingProcess context) {
+        context.trace("Kalite kontrolü yapılıyor...");
+        return StageResult.PASSED;
+    }
+    
+    @Override
+    public String getName() {
+        return "Kalite Kontrol";
+    }
+}
@@ -0,0 +1,24 @@
+package com.manufacturing.system.domain.state;
+
+/**
+ * Bir durumun işlenmesinin sonucu; durum makinesi sıradaki durumu bu sonuca göre geçiş tablosundan seçer.
+ */
+public enum StageResult {
+    /**
+     * Aşama başarıyla bitti; tablodaki sıradaki aşamaya geçilir
+     */
+    PASSED,
+    /**
+     * Aşama başarısız oldu; neden süreçte kayıtlıdır ve tabloda özel bir geçiş yoksa nedenin
+     * başarısız durumuna geçilir
+     */
+    FAILED,
+    /**
+     * Birim stok bekliyor; süreç devam ettirilene kadar makine durur
+     */
+    SUSPENDED,
+    /**
+     * Son durum işlendi; birim bitti
+     */
+    FINISHED
+}
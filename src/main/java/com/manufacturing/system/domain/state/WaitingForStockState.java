@@ -2,30 +2,39 @@ package com.manufacturing.system.domain.state;
 
 /**
  * Stok için bekleme durumu.
- * Üretim sürecinin ilk durumudur.
+ * Üretim sürecinin ilk durumudur. Stok kontrolü ayırmanın kendisidir: birimin stoğu hepsi ya da hiçbiri
+ * olarak ayrılır, böylece eşzamanlı bir sipariş kontrol ile kullanım arasında stoğu alamaz. Stok yetersizse
+ * ve süreçte bekleme kuyruğu varsa birim bekletilir.
  */
-public class WaitingForStockState implements ManufacturingState {
+public final class WaitingForStockState implements ManufacturingState {
+    public static final WaitingForStockState INSTANCE = new WaitingForStockState();
+    
+    private WaitingForStockState() {
+    }
     
     @Override
-    public void handle(ManufacturingProcess context) {
-        System.out.println("Stok kontrolü yapılıyor...");
+    public StageResult handle(ManufacturingProcess context) {
+        context.trace("Stok kontrolü yapılıyor...");
         
-        // Ürünün bileşenlerinin stok kontrolü
-        if (context.getProduct().checkComponentsStock()) {
-            System.out.println("Stok yeterli. Üretim aşamasına geçiliyor.");
-            context.setState(new InManufacturingState());
-            context.getCurrentState().handle(context);
-        } else {
-            System.out.println("Stok yetersiz. Üretim başarısız.");
-            context.setFailureReason("Stok Yetersizliği");
-            context.setState(new FailedState("Stok Yetersizliği"));
-            context.incrementStockShortageCount();
-            context.getCurrentState().handle(context);
+        // Ürünün bileşenlerinin stoğunu ayır; yarışı kaybeden birim stok yetersizliği yoluna düşer
+        if (context.getProduct().useComponentsStock()) {
+            context.markComponentsStockUsed();
+            context.trace("Stok yeterli ve ayrıldı. Üretim aşamasına geçiliyor.");
+            return StageResult.PASSED;
+        }
+        if (context.canWaitForStock()) {
+            // Birim başarısız sayılmaz; stok gelene veya bekleme süresi dolana kadar kuyrukta bekler
+            context.trace("Stok yetersiz. Stok bekleniyor.");
+            context.waitForStock();
+            return StageResult.SUSPENDED;
         }
+        context.trace("Stok yetersiz. Üretim başarısız.");
+        context.setFailureReason(FailureReason.STOCK_SHORTAGE);
+        return StageResult.FAILED;
     }
     
     @Override
     public String getName() {
         return "Stok Kontrolü";
     }
-} 
\ No newline at end of file
+}
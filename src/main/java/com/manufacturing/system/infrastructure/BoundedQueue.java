@@ -0,0 +1,98 @@
+package com.manufacturing.system.infrastructure;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sabit kapasiteli, kilitsiz, çok üreticili ve çok tüketicili kuyruk (halka tampon).
+ * <p>
+ * Her yuvanın bir sıra numarası vardır: üretici yuvanın boş olduğunu, tüketici dolu olduğunu sıra
+ * numarasından anlar ve konumu CAS ile ilerletir. Dolu kuyruğa ekleme ve boş kuyruktan alma beklemeden
+ * false/null döner; geri basınç (backpressure) çağıranın yeniden denemesiyle uygulanır.
+ * Kapasite ikinin kuvvetine, en az 2'ye yuvarlanır: tek yuvalı halkada dolu yuvanın sıra numarası bir
+ * sonraki üreticinin konumuna eşit olur ve yuva boş sanılarak üzerine yazılırdı.
+ *
+ * @param <E> Eleman tipi
+ */
+public final class BoundedQueue<E> {
+    private final int mask;
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity En az kapasite
+     */
+    public BoundedQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Geçersiz kuyruk kapasitesi: " + capacity);
+        }
+        int size = Math.max(2, Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1);
+        this.mask = size - 1;
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Elemanı kuyruğun sonuna ekler
+     * @param element Eleman (null olamaz)
+     * @return Kuyruk doluysa false
+     */
+    public boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    // Sıra numarasının yazılması elemanı tüketicilere yayınlar
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Kuyruğun başındaki elemanı alır
+     * @return Eleman; kuyruk boşsa null
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        while (true) {
+            long position = head.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = (E) elements[index];
+                    elements[index] = null;
+                    // Yuvayı bir tur sonraki üreticiye bırak
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+            } else if (difference < 0) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Yaklaşık eleman sayısı (eşzamanlı değişiklikler sırasında anlık bir tahmindir)
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, mask + 1));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,17 @@
+package com.manufacturing.system.infrastructure;
+
+/**
+ * {@link RingBuffer} olaylarını kendi iş parçacığında işleyen abone.
+ *
+ * @param <E> Olay tipi
+ */
+public interface EventHandler<E> {
+    /**
+     * Yayımlanan olayı işler. Olay nesnesi halka tamponun yuvasıdır ve yeniden kullanılır; değerleri
+     * saklanacaksa kopyalanmalıdır.
+     * @param event Olay
+     * @param sequence Olayın sıra numarası
+     * @param endOfBatch Aynı anda hazır olan olayların sonuncusuysa true (ör. toplu yazma için)
+     */
+    void onEvent(E event, long sequence, boolean endOfBatch);
+}
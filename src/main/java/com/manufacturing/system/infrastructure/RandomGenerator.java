@@ -1,14 +1,21 @@
 package com.manufacturing.system.infrastructure;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Rastgele sayı üretimi için altyapı sınıfı.
  * GRASP - Indirection/Low Coupling prensiplerine uygun olarak
  * rastgele sayı üretimini sağlayan bir aracı sınıf.
+ * Eşzamanlı üretimde iş parçacıkları ortak bir tohum için yarışmasın diye iş parçacığına özel üreteç kullanılır.
  */
 public class RandomGenerator {
-    private static final Random random = new Random();
+    public static final int OUTCOME_SUCCESS = 1;
+    public static final int OUTCOME_SYSTEM_ERROR = 2;
+    public static final int OUTCOME_DAMAGED_COMPONENT = 3;
+    
+    // 3^19 int'e sığan en büyük 3 kuvvetidir; tek bir sayı 19 bağımsız, eşit olasılıklı sonuç taşır
+    private static final int OUTCOMES_PER_DRAW = 19;
+    private static final int OUTCOME_DRAW_BOUND = 1_162_261_467;
     
     private RandomGenerator() {
         // Utility sınıfını örneklemeyi engellemek için private constructor
@@ -22,7 +29,7 @@ public class RandomGenerator {
      */
     public static int generateNumber(int min, int max) {
         // min dahil, max dahil olacak şekilde değer üretir
-        return min + random.nextInt(max - min + 1);
+        return ThreadLocalRandom.current().nextInt(min, max + 1);
     }
     
     /**
@@ -33,12 +40,31 @@ public class RandomGenerator {
         return generateNumber(1, 3);
     }
     
+    /**
+     * Verilen sayıda üretim sonucunu toplu olarak örnekler. Sonuçlar generateManufacturingOutcome ile aynı
+     * dağılımdadır, ancak 19 sonuç için tek bir rastgele sayı üretilir.
+     * @param count Örneklenecek sonuç sayısı
+     * @return Sonuç koduna göre (1-3) indekslenmiş sayılar; 0. indeks kullanılmaz
+     */
+    public static int[] generateManufacturingOutcomeCounts(int count) {
+        int[] counts = new int[4];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int remaining = count; remaining > 0; remaining -= OUTCOMES_PER_DRAW) {
+            int value = random.nextInt(OUTCOME_DRAW_BOUND);
+            for (int i = Math.min(remaining, OUTCOMES_PER_DRAW); i > 0; i--) {
+                counts[1 + value % 3]++;
+                value /= 3;
+            }
+        }
+        return counts;
+    }
+    
     /**
      * Belirli bir olasılıkla başarı durumunu belirler
      * @param successProbability Başarı olasılığı (0.0 - 1.0 arası)
      * @return Başarılı ise true, değilse false
      */
     public static boolean isSuccessful(double successProbability) {
-        return random.nextDouble() < successProbability;
+        return ThreadLocalRandom.current().nextDouble() < successProbability;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,245 @@
+package com.manufacturing.system.infrastructure;
+
+import com.manufacturing.system.presentation.Logger;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Önceden oluşturulmuş olay nesnelerini taşıyan halka tampon (olay yolu).
+ * <p>
+ * Yayımcı bir yuva sıra numarası alır, yuvadaki olay nesnesinin alanlarını doldurur ve yayımlar; yayım
+ * yolunda nesne oluşturulmaz, kilit alınmaz ve metin biçimlendirilmez. Her abonenin kendi iş parçacığı ve
+ * okuma konumu vardır; aboneler aynı olayları birbirinden bağımsız, toplu olarak işler. Olaylar kaybolmaz:
+ * en yavaş abone bir tur geride kalırsa yayımcı yer açılana kadar bekler.
+ * <p>
+ * Aboneler yayım başlamadan önce eklenmelidir; sonradan eklenen abone yalnızca eklendikten sonra
+ * alınan sıra numaralarını görür. Kapatıldıktan sonra yuva alınamaz; kapatmadan önce alınan her olay
+ * abonelere ulaşır.
+ *
+ * @param <E> Olay tipi
+ */
+public final class RingBuffer<E> {
+    // Boş halkada meşgul beklemeden uykuya geçiş eşikleri
+    private static final int SPIN_LIMIT = 100;
+    private static final int YIELD_LIMIT = 200;
+    private static final long PARK_NANOS = 50_000;
+    // Alınan sıra numarasının işaret biti: halka kapatıldı, yeni yuva alınamaz
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final int mask;
+    private final Object[] events;
+    // Yuvada yayımlanmış son sıra numarası
+    private final AtomicLongArray published;
+    // Sıradaki alınacak sıra numarası; kapatılınca CLOSED bitiyle işaretlenir
+    private final AtomicLong claimed = new AtomicLong();
+    private final Logger logger;
+    private volatile Consumer<?>[] consumers = new Consumer<?>[0];
+    // Aboneler için en küçük okuma konumunun alt sınırı; her alımda aboneleri dolaşmamak için tutulur
+    private volatile long gatingCache;
+
+    /**
+     * @param capacity En az yuva sayısı (ikinin kuvvetine yuvarlanır)
+     * @param factory Yuvaları dolduracak olay nesnesi üreteci
+     * @param logger Abonelerin işleyemediği olayların yazılacağı logger
+     */
+    public RingBuffer(int capacity, Supplier<E> factory, Logger logger) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Geçersiz halka kapasitesi: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = size - 1;
+        this.events = new Object[size];
+        this.published = new AtomicLongArray(size);
+        this.logger = logger;
+        for (int i = 0; i < size; i++) {
+            events[i] = factory.get();
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Abone ekler ve abonenin iş parçacığını başlatır
+     * @param name İş parçacığı adı
+     * @param handler Olay işleyici
+     */
+    public synchronized void subscribe(String name, EventHandler<E> handler) {
+        if (isClosed()) {
+            throw new IllegalStateException("Halka tampon kapatılmış");
+        }
+        Consumer<E> consumer = new Consumer<>(this, handler, claimedSequence());
+        Consumer<?>[] current = consumers;
+        Consumer<?>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = consumer;
+        consumers = updated;
+        consumer.thread = Thread.ofPlatform().daemon().name(name).start(consumer::run);
+    }
+
+    /**
+     * Sıradaki yuvayı alır; en yavaş abone bir tur gerideyse yer açılana kadar bekler.
+     * Alınan yuva mutlaka {@link #publish(long)} ile yayımlanmalıdır.
+     * @return Yuvanın sıra numarası; halka kapatılmışsa -1 (olay yayımlanmaz)
+     */
+    public long next() {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if ((sequence & CLOSED) != 0) {
+                return -1;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        long wrapPoint = sequence - mask - 1;
+        if (wrapPoint >= gatingCache) {
+            awaitConsumers(wrapPoint);
+        }
+        return sequence;
+    }
+
+    /**
+     * Sıra numarasının yuvasındaki olay nesnesi
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) events[(int) (sequence & mask)];
+    }
+
+    /**
+     * Doldurulan yuvayı abonelere yayımlar
+     * @param sequence {@link #next()} ile alınan sıra numarası
+     */
+    public void publish(long sequence) {
+        published.setRelease((int) (sequence & mask), sequence);
+    }
+
+    public boolean hasSubscribers() {
+        return consumers.length > 0;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public boolean isClosed() {
+        return (claimed.get() & CLOSED) != 0;
+    }
+
+    /**
+     * Yeni yayımları sonlandırır; aboneler alınmış tüm olayları işledikten sonra durur ve beklenir
+     */
+    public void close() {
+        Consumer<?>[] current;
+        synchronized (this) {
+            // İşaretten sonra yuva alınamaz; aboneler işaretten önce alınanların tümünü işler
+            claimed.getAndUpdate(sequence -> sequence | CLOSED);
+            current = consumers;
+        }
+        for (Consumer<?> consumer : current) {
+            try {
+                consumer.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void awaitConsumers(long wrapPoint) {
+        int idle = 0;
+        long minimum;
+        while (wrapPoint >= (minimum = minimumCursor(wrapPoint + 1))) {
+            idle = backOff(idle);
+        }
+        // Okuma konumları yalnızca ilerlediği için eski bir en küçük değer de güvenli bir alt sınırdır
+        gatingCache = minimum;
+    }
+
+    private long minimumCursor(long defaultValue) {
+        Consumer<?>[] current = consumers;
+        if (current.length == 0) {
+            return Math.max(defaultValue, claimedSequence());
+        }
+        long minimum = Long.MAX_VALUE;
+        for (Consumer<?> consumer : current) {
+            minimum = Math.min(minimum, consumer.cursor.get());
+        }
+        return minimum;
+    }
+
+    private long claimedSequence() {
+        return claimed.get() & ~CLOSED;
+    }
+
+    private synchronized void remove(Consumer<?> consumer) {
+        Consumer<?>[] current = consumers;
+        Consumer<?>[] updated = new Consumer<?>[current.length - 1];
+        int i = 0;
+        for (Consumer<?> other : current) {
+            if (other != consumer) {
+                updated[i++] = other;
+            }
+        }
+        consumers = updated;
+    }
+
+    private static int backOff(int idle) {
+        if (idle < SPIN_LIMIT) {
+            Thread.onSpinWait();
+        } else if (idle < YIELD_LIMIT) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return idle + 1;
+    }
+
+    /**
+     * Bir abonenin okuma konumu ve iş parçacığı
+     */
+    private static final class Consumer<E> {
+        private final RingBuffer<E> ring;
+        private final EventHandler<E> handler;
+        // Abonenin sıradaki okuyacağı sıra numarası
+        private final AtomicLong cursor;
+        private Thread thread;
+
+        private Consumer(RingBuffer<E> ring, EventHandler<E> handler, long start) {
+            this.ring = ring;
+            this.handler = handler;
+            this.cursor = new AtomicLong(start);
+        }
+
+        private void run() {
+            long next = cursor.get();
+            int idle = 0;
+            while (true) {
+                // Ardışık yayımlanmış olayların sonunu bul
+                long available = next;
+                while (available - next <= ring.mask && ring.published.getAcquire((int) (available & ring.mask)) == available) {
+                    available++;
+                }
+                if (available == next) {
+                    if (ring.isClosed() && next >= ring.claimedSequence()) {
+                        break;
+                    }
+                    idle = backOff(idle);
+                    continue;
+                }
+                idle = 0;
+                for (long sequence = next; sequence < available; sequence++) {
+                    try {
+                        handler.onEvent(ring.get(sequence), sequence, sequence == available - 1);
+                    } catch (RuntimeException e) {
+                        // Bozuk bir abone yayımcıları bekletmemeli; olay atlanır
+                        ring.logger.error("Olay işlenemedi (" + Thread.currentThread().getName() + "): " + e);
+                    }
+                }
+                next = available;
+                cursor.setRelease(next);
+            }
+            ring.remove(this);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.manufacturing.system.application.pipeline;
+
+import com.manufacturing.system.domain.model.Hardware;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.ProductionOrder;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.RawMaterial;
+import com.manufacturing.system.domain.state.ManufacturingProcess;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ProductionPipelineTest {
+
+    @Test
+    void everyUnitFinishesWithSingleSlotQueues() {
+        int quantity = 25;
+        int buildable = 20;
+        RawMaterial plank = new RawMaterial("plank", "Plank", 5, 2, Quantities.ofUnits(1000));
+        Hardware screw = new Hardware("screw", "Screw", 0.5, 0.05, Quantities.ofUnits(4 * buildable));
+        Product chair = new Product("chair", "Chair", 0);
+        chair.add(plank, 2);
+        chair.add(screw, 4);
+
+        // run() yalnızca her birim tamamlama aşamasında FINISHED olunca döner
+        PipelineReport report = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> new ProductionPipeline(1, 1, 0).run(new ProductionOrder(chair, quantity)));
+
+        ManufacturingProcess process = report.getProcess();
+        int failures = process.getSystemErrorCount() + process.getDamagedComponentCount() + process.getStockShortageCount();
+        assertEquals(quantity, process.getSuccessCount() + failures);
+        assertEquals(quantity, process.getTotalProcessedCount());
+        // Bekleme kuyruğu olmadığı için stoğu yetmeyen birimler beklemeden stok yetersizliğiyle biter
+        assertEquals(quantity - buildable, process.getStockShortageCount());
+        assertEquals(0, screw.getStockMilli());
+    }
+}
@@ -0,0 +1,107 @@
+package com.manufacturing.system.application.planning;
+
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.ProductionOrder;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.RawMaterial;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BranchAndBoundAllocatorTest {
+    private static final long TIME_LIMIT_MILLIS = 10_000;
+
+    @Test
+    void matchesBruteForceOnRandomProblems() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            PlanningObjective objective = round % 2 == 0 ? PlanningObjective.UNITS : PlanningObjective.MARGIN;
+            AllocationProblem problem = new AllocationProblem(randomOrders(random), objective);
+            BranchAndBoundAllocator.Result result = BranchAndBoundAllocator.solve(problem, GreedyAllocator.allocate(problem),
+                    TIME_LIMIT_MILLIS);
+
+            assertTrue(result.optimal, "round " + round);
+            assertTrue(feasible(problem, result.allocation), "round " + round);
+            assertEquals(bruteForce(problem), problem.value(result.allocation), 1e-6, "round " + round);
+        }
+    }
+
+    @Test
+    void greedyIncumbentIsFeasibleAndNeverBetter() {
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            AllocationProblem problem = new AllocationProblem(randomOrders(random), PlanningObjective.MARGIN);
+            int[] greedy = GreedyAllocator.allocate(problem);
+            BranchAndBoundAllocator.Result result = BranchAndBoundAllocator.solve(problem, greedy, TIME_LIMIT_MILLIS);
+
+            assertTrue(feasible(problem, greedy), "round " + round);
+            assertTrue(problem.value(greedy) <= problem.value(result.allocation) + 1e-6, "round " + round);
+        }
+    }
+
+    /**
+     * Ortak bileşenler için yarışan, kıt stoklu 2-5 sipariş
+     */
+    private static List<ProductionOrder> randomOrders(Random random) {
+        int componentCount = 2 + random.nextInt(3);
+        List<RawMaterial> components = new ArrayList<>();
+        for (int i = 0; i < componentCount; i++) {
+            components.add(new RawMaterial("c" + i, "Part " + i, 1 + random.nextInt(5), 1,
+                    Quantities.ofUnits(random.nextInt(13))));
+        }
+        int orderCount = 2 + random.nextInt(4);
+        List<ProductionOrder> orders = new ArrayList<>();
+        for (int j = 0; j < orderCount; j++) {
+            Product product = new Product("p" + j, "Product " + j, 0);
+            for (RawMaterial component : components) {
+                if (random.nextInt(3) > 0) {
+                    product.add(component, 1 + random.nextInt(3));
+                }
+            }
+            orders.add(new ProductionOrder(product, 1 + random.nextInt(4), 0, 0, 5 + random.nextInt(40)));
+        }
+        return orders;
+    }
+
+    /**
+     * Tüm adet birleşimlerini dener ve uygun olanların en büyük değerini döndürür
+     */
+    private static double bruteForce(AllocationProblem problem) {
+        int[] allocation = new int[problem.orderCount];
+        double best = 0;
+        while (true) {
+            if (feasible(problem, allocation)) {
+                best = Math.max(best, problem.value(allocation));
+            }
+            int j = 0;
+            while (j < problem.orderCount && allocation[j] == problem.quantities[j]) {
+                allocation[j++] = 0;
+            }
+            if (j == problem.orderCount) {
+                return best;
+            }
+            allocation[j]++;
+        }
+    }
+
+    private static boolean feasible(AllocationProblem problem, int[] allocation) {
+        long[] remaining = problem.stock.clone();
+        for (int j = 0; j < problem.orderCount; j++) {
+            if (allocation[j] < 0 || allocation[j] > problem.quantities[j]) {
+                return false;
+            }
+            problem.take(j, allocation[j], remaining);
+        }
+        for (long left : remaining) {
+            if (left < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,92 @@
+package com.manufacturing.system.application.scheduling;
+
+import com.manufacturing.system.domain.inventory.StockWaitQueue;
+import com.manufacturing.system.domain.model.Hardware;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.ProductionOrder;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.RawMaterial;
+import com.manufacturing.system.domain.model.StockEvents;
+import com.manufacturing.system.domain.state.ManufacturingProcess;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OrderSchedulerTest {
+    private StockWaitQueue queue;
+    private RawMaterial plank;
+    private Hardware screw;
+    private Product chair;
+
+    @BeforeEach
+    void setUp() {
+        queue = new StockWaitQueue();
+        StockEvents.addListener(queue);
+        plank = new RawMaterial("plank", "Plank", 5, 2, Quantities.ofUnits(1000));
+        screw = new Hardware("screw", "Screw", 0.5, 0.05, 0);
+        chair = new Product("chair", "Chair", 0);
+        chair.add(plank, 2);
+        chair.add(screw, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        StockEvents.removeListener(queue);
+        queue.close();
+    }
+
+    @Test
+    void everyOrderCompletesIncludingStockWaiters() throws InterruptedException {
+        int orders = 3;
+        int unitsPerOrder = 2;
+        List<ProductionOrder> production = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            production.add(new ProductionOrder(chair, unitsPerOrder, 0, 100 + i, 10));
+        }
+        OrderScheduler scheduler = new OrderScheduler(2, queue, -1, 1);
+        CompletableFuture<SchedulingReport> report =
+                CompletableFuture.supplyAsync(() -> scheduler.run(production, SchedulingPolicies.EARLIEST_DEADLINE));
+
+        // Tüm siparişlerin ilk birimi vida beklerken stok gelir
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queue.getWaitingCount() < orders && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(orders, queue.getWaitingCount());
+        screw.adjustStockMilli(Quantities.ofUnits(4 * unitsPerOrder * orders));
+
+        SchedulingReport result = report.orTimeout(5, TimeUnit.SECONDS).join();
+        assertEquals((long) orders * unitsPerOrder, result.getUnits());
+        assertEquals(orders, result.getProcesses().size());
+        for (ManufacturingProcess process : result.getProcesses()) {
+            assertEquals(unitsPerOrder, process.getTotalProcessedCount());
+            assertEquals(0, process.getStockShortageCount());
+        }
+        assertEquals(0, screw.getStockMilli());
+    }
+
+    @Test
+    void runsEveryOrderOnceAcrossLines() {
+        screw.adjustStockMilli(Quantities.ofUnits(1000));
+        List<ProductionOrder> production = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            production.add(new ProductionOrder(chair, 1 + i % 3));
+        }
+        SchedulingReport result = new OrderScheduler(4, null, 0, 1).run(production, SchedulingPolicies.SHORTEST_BOM);
+
+        long units = 0;
+        for (ProductionOrder order : production) {
+            units += order.getQuantity();
+        }
+        assertEquals(units, result.getUnits());
+        assertEquals(production.size(), result.getProcesses().size());
+        assertEquals(0, result.getDeadlineMisses());
+    }
+}
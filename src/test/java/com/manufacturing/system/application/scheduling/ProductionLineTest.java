@@ -0,0 +1,85 @@
+package com.manufacturing.system.application.scheduling;
+
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.ProductionOrder;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.RawMaterial;
+import com.manufacturing.system.domain.state.ManufacturingProcess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ProductionLineTest {
+    private Product stool;
+
+    @BeforeEach
+    void setUp() {
+        RawMaterial plank = new RawMaterial("plank", "Plank", 5, 2, Quantities.ofUnits(100));
+        stool = new Product("stool", "Stool", 0);
+        stool.add(plank, 1);
+    }
+
+    @Test
+    void ownQueueRunsFromHead() {
+        ProductionLine[] lines = lines(2);
+        List<ScheduledOrder> orders = offer(lines[0], 3);
+
+        lines[0].run(lines, null, 0, 1, Runnable::run);
+
+        assertRunOrder(lines[0], orders.get(0), orders.get(1), orders.get(2));
+        assertEquals(3, lines[0].getOrdersRun());
+        assertEquals(0, lines[0].getOrdersStolen());
+    }
+
+    @Test
+    void idleLineStealsFromVictimTail() {
+        ProductionLine[] lines = lines(3);
+        List<ScheduledOrder> second = offer(lines[1], 3);
+        List<ScheduledOrder> third = offer(lines[2], 1);
+
+        // Boş hat önce sıradaki hattın en az öncelikli siparişlerini, o boşalınca sonraki hattınkini çalar
+        lines[0].run(lines, null, 0, 1, Runnable::run);
+
+        assertRunOrder(lines[0], second.get(2), second.get(1), second.get(0), third.get(0));
+        assertEquals(4, lines[0].getOrdersRun());
+        assertEquals(4, lines[0].getOrdersStolen());
+        for (ScheduledOrder order : second) {
+            assertEquals(1, order.getLine());
+        }
+    }
+
+    private static ProductionLine[] lines(int count) {
+        ProductionLine[] lines = new ProductionLine[count];
+        for (int i = 0; i < count; i++) {
+            lines[i] = new ProductionLine(i + 1);
+        }
+        return lines;
+    }
+
+    private List<ScheduledOrder> offer(ProductionLine line, int count) {
+        List<ScheduledOrder> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ScheduledOrder order = new ScheduledOrder(new ProductionOrder(stool, 1), i, System.nanoTime());
+            line.offer(order);
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    /**
+     * Hattın siparişleri verilen sırayla başlattığını doğrular
+     */
+    private static void assertRunOrder(ProductionLine line, ScheduledOrder... expected) {
+        List<CompletableFuture<ManufacturingProcess>> completions = line.getCompletions();
+        assertEquals(expected.length, completions.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertSame(expected[i].getProcess(), completions.get(i).join());
+        }
+    }
+}
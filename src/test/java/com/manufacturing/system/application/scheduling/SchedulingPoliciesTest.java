@@ -0,0 +1,102 @@
+package com.manufacturing.system.application.scheduling;
+
+import com.manufacturing.system.domain.model.Hardware;
+import com.manufacturing.system.domain.model.Paint;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.ProductionOrder;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.RawMaterial;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SchedulingPoliciesTest {
+    private static final long RELEASE_NANOS = 1_000_000_000L;
+
+    private Product stool;
+    private Product chair;
+    private Product table;
+
+    @BeforeEach
+    void setUp() {
+        RawMaterial plank = new RawMaterial("plank", "Plank", 5, 2, Quantities.ofUnits(100));
+        Hardware screw = new Hardware("screw", "Screw", 0.5, 0.05, Quantities.ofUnits(100));
+        Paint varnish = new Paint("varnish", "Varnish", 3, 1, Quantities.ofUnits(100));
+        stool = new Product("stool", "Stool", 0);
+        stool.add(plank, 1);
+        chair = new Product("chair", "Chair", 0);
+        chair.add(plank, 2);
+        chair.add(screw, 4);
+        table = new Product("table", "Table", 0);
+        table.add(plank, 5);
+        table.add(screw, 8);
+        table.add(varnish, 1);
+    }
+
+    @Test
+    void earliestDeadlineOrdersByDeadlineThenSequence() {
+        List<ScheduledOrder> orders = schedule(
+                new ProductionOrder(chair, 1, 0, 0, 10),    // teslim tarihi yok
+                new ProductionOrder(chair, 1, 0, 50, 10),
+                new ProductionOrder(table, 1, 0, 20, 10),
+                new ProductionOrder(stool, 1, 0, 50, 10),
+                new ProductionOrder(stool, 1, 0, 0, 10),    // teslim tarihi yok
+                new ProductionOrder(chair, 1, 0, 20, 10));
+
+        // Aynı teslim tarihli siparişler ve teslim tarihi olmayanlar geliş sırasını korur
+        assertEquals(List.of(2, 5, 1, 3, 0, 4), sequences(sorted(orders, SchedulingPolicies.EARLIEST_DEADLINE)));
+    }
+
+    @Test
+    void shortestBomOrdersByLinesThenQuantityThenSequence() {
+        List<ScheduledOrder> orders = schedule(
+                new ProductionOrder(table, 1),
+                new ProductionOrder(chair, 3),
+                new ProductionOrder(stool, 2),
+                new ProductionOrder(chair, 1),
+                new ProductionOrder(stool, 2),
+                new ProductionOrder(chair, 3));
+
+        assertEquals(List.of(2, 4, 3, 1, 5, 0), sequences(sorted(orders, SchedulingPolicies.SHORTEST_BOM)));
+    }
+
+    @Test
+    void fifoKeepsArrivalOrder() {
+        List<ScheduledOrder> orders = schedule(
+                new ProductionOrder(table, 1, 0, 5, 10),
+                new ProductionOrder(stool, 1, 0, 1, 10),
+                new ProductionOrder(chair, 1));
+
+        assertEquals(List.of(0, 1, 2), sequences(sorted(orders, SchedulingPolicies.FIFO)));
+    }
+
+    private static List<ScheduledOrder> schedule(ProductionOrder... orders) {
+        List<ScheduledOrder> scheduled = new ArrayList<>();
+        for (int i = 0; i < orders.length; i++) {
+            scheduled.add(new ScheduledOrder(orders[i], i, RELEASE_NANOS));
+        }
+        return scheduled;
+    }
+
+    /**
+     * Siparişleri ters çevrilmiş sıradan başlayarak sıralar; böylece sonuç girdi sırasına
+     * değil yalnızca politikaya bağlıdır
+     */
+    private static List<ScheduledOrder> sorted(List<ScheduledOrder> orders, SchedulingPolicy policy) {
+        List<ScheduledOrder> sorted = new ArrayList<>(orders.reversed());
+        sorted.sort(policy.order(orders));
+        return sorted;
+    }
+
+    private static List<Integer> sequences(List<ScheduledOrder> orders) {
+        List<Integer> sequences = new ArrayList<>();
+        for (ScheduledOrder order : orders) {
+            sequences.add(order.getSequence());
+        }
+        return sequences;
+    }
+}
@@ -0,0 +1,71 @@
+package com.manufacturing.system.application.scheduling;
+
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.ProductionOrder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchedulingReportTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Product stool = new Product("stool", "Stool", 0);
+
+    @Test
+    void queueingPercentilesUseNearestRank() {
+        // i. sipariş i + 1 saniye önce gelmiş ve şimdi başlıyor: gecikmeler 1..10 saniye
+        long now = System.nanoTime();
+        List<ScheduledOrder> orders = new ArrayList<>();
+        for (int i = 9; i >= 0; i--) {
+            orders.add(run(new ProductionOrder(stool, 1), now - (i + 1) * SECOND));
+        }
+        SchedulingReport report = new SchedulingReport("fifo", orders, new ProductionLine[] {new ProductionLine(1)}, SECOND);
+
+        assertQueueing(1, report.getQueueingPercentile(0));
+        assertQueueing(1, report.getQueueingPercentile(10));
+        assertQueueing(2, report.getQueueingPercentile(11));
+        assertQueueing(5, report.getQueueingPercentile(50));
+        assertQueueing(10, report.getQueueingPercentile(95));
+        assertQueueing(10, report.getQueueingPercentile(100));
+    }
+
+    @Test
+    void emptyReportHasZeroPercentiles() {
+        SchedulingReport report = new SchedulingReport("edf", List.of(), new ProductionLine[] {new ProductionLine(1)}, 0);
+        assertEquals(0, report.getQueueingPercentile(99));
+        assertEquals(0, report.getDeadlineMisses());
+    }
+
+    @Test
+    void deadlineMissesCountOnlyOrdersFinishedAfterTheirDueDate() {
+        long fiveSecondsAgo = System.nanoTime() - 5 * SECOND;
+        List<ScheduledOrder> orders = List.of(
+                run(new ProductionOrder(stool, 1, 0, 1_000, 10), fiveSecondsAgo),      // 4 sn gecikti
+                run(new ProductionOrder(stool, 1, 0, 4_000, 10), fiveSecondsAgo),      // 1 sn gecikti
+                run(new ProductionOrder(stool, 1, 0, 3_600_000, 10), fiveSecondsAgo),  // zamanında
+                run(new ProductionOrder(stool, 1), fiveSecondsAgo));                   // teslim tarihi yok
+        SchedulingReport report = new SchedulingReport("edf", orders, new ProductionLine[] {new ProductionLine(1)}, SECOND);
+
+        assertEquals(2, report.getDeadlineMisses());
+    }
+
+    /**
+     * Verilen anda gelmiş siparişi şimdi başlatıp bitirir
+     */
+    private static ScheduledOrder run(ProductionOrder order, long releaseNanos) {
+        ScheduledOrder scheduled = new ScheduledOrder(order, 0, releaseNanos);
+        scheduled.started(1, null);
+        scheduled.finished();
+        return scheduled;
+    }
+
+    private static void assertQueueing(long expectedSeconds, long queueingNanos) {
+        assertTrue(queueingNanos >= expectedSeconds * SECOND && queueingNanos < (expectedSeconds + 1) * SECOND,
+                "queueing " + queueingNanos + " ns, expected " + expectedSeconds + " s");
+    }
+}
@@ -0,0 +1,124 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.RawMaterial;
+import com.manufacturing.system.presentation.Logger;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Depo aramalarının ({@link ComponentRepository} ve {@link ProductRepository} findById/findByName/searchByName,
+ * {@link CatalogIndex} üzerinden) katalog boyutuyla nasıl değiştiğini ölçen kıyaslama. Testlerle birlikte
+ * çalışmaz; elle başlatılır:
+ * <pre>
+ * mvn test-compile
+ * java -Xmx8g -cp target/classes:target/test-classes \
+ *     com.manufacturing.system.data.CatalogIndexBenchmark [en büyük boyut] [arama] [tekrar]
+ * </pre>
+ * Boyut 1000'den başlayarak en büyük boyuta (varsayılan 10 milyon) kadar onar kat artırılır; ürün deposu
+ * her boyutta aynı sayıda ürünle doldurulur. Her boyut için arama başına ortalama süre yazılır. İndeks
+ * öncesi davranışla karşılaştırmak için 100000 kayda kadar tüm kayıtları dolaşan doğrusal arama da ölçülür.
+ */
+public final class CatalogIndexBenchmark {
+    private static final int FIRST_SIZE = 1_000;
+    // Doğrusal aramanın ölçüldüğü en büyük boyut
+    private static final int LINEAR_SCAN_LIMIT = 100_000;
+    private static final int PREFIX_LIMIT = 10;
+
+    private CatalogIndexBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int maxSize = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int lookups = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        int repeats = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        System.out.printf("boyut başına %d arama (ns/arama)%n", lookups);
+        for (long size = FIRST_SIZE; size <= maxSize; size *= 10) {
+            run((int) size, lookups, repeats);
+        }
+    }
+
+    private static void run(int size, int lookups, int repeats) {
+        Logger logger = new QuietLogger();
+        ComponentRepository components = new ComponentRepository("components.csv", logger);
+        ProductRepository products = new ProductRepository("products.csv", components, logger);
+        for (int i = 0; i < size; i++) {
+            components.add(new RawMaterial("C" + i, "Part " + i, 1, 1, 0));
+            products.add(new Product("P" + i, "Product " + i, 0));
+        }
+        List<Component> all = components.getAll();
+
+        double componentById = best(repeats, lookups, random -> components.findById("C" + random.nextInt(size)));
+        double componentByName = best(repeats, lookups, random -> components.findByName("Part " + random.nextInt(size)));
+        double productById = best(repeats, lookups, random -> products.findById("P" + random.nextInt(size)));
+        double productByName = best(repeats, lookups, random -> products.findByName("Product " + random.nextInt(size)));
+        double prefix = best(repeats, lookups / 10,
+                random -> components.searchByName("part " + random.nextInt(size), PREFIX_LIMIT));
+        System.out.printf("%,11d kayıt: bileşen id %6.0f, ad %6.0f | ürün id %6.0f, ad %6.0f | önek %7.0f", size,
+                componentById, componentByName, productById, productByName, prefix);
+        if (size <= LINEAR_SCAN_LIMIT) {
+            // Doğrusal arama O(n) olduğu için arama sayısı boyutla ters orantılı azaltılır
+            int scans = Math.max(1, (int) Math.min(lookups, 100_000_000L / size));
+            double linear = best(repeats, scans, random -> linearFindById(all, "C" + random.nextInt(size)));
+            System.out.printf(" | doğrusal id %,10.0f", linear);
+        }
+        System.out.println();
+    }
+
+    /**
+     * İndeks öncesi arama: tüm kayıtları sırayla dolaşır
+     */
+    private static Component linearFindById(List<Component> all, String id) {
+        for (Component component : all) {
+            if (component.getId().equals(id)) {
+                return component;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Aramaları tekrar sayısı kadar çalıştırır ve arama başına en iyi ortalama süreyi döndürür
+     * @return Arama başına süre (ns)
+     */
+    private static double best(int repeats, int lookups, Lookup lookup) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < repeats; i++) {
+            // Her tekrar aynı anahtarları arar
+            Random random = new Random(42);
+            int misses = 0;
+            long startTime = System.nanoTime();
+            for (int j = 0; j < lookups; j++) {
+                if (lookup.find(random) == null) {
+                    misses++;
+                }
+            }
+            best = Math.min(best, System.nanoTime() - startTime);
+            if (misses > 0) {
+                throw new IllegalStateException(misses + " arama sonuç bulamadı");
+            }
+        }
+        return (double) best / lookups;
+    }
+
+    @FunctionalInterface
+    private interface Lookup {
+        Object find(Random random);
+    }
+
+    /**
+     * Depoların özet satırlarını susturan logger
+     */
+    private static final class QuietLogger extends Logger {
+        private QuietLogger() {
+            super(false);
+        }
+
+        @Override
+        public void log(String message) {
+        }
+    }
+}
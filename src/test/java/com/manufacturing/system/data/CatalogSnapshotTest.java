@@ -0,0 +1,148 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.domain.bom.BillOfMaterials;
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.presentation.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogSnapshotTest {
+    private static final Logger LOGGER = new Logger(false);
+
+    @TempDir
+    Path directory;
+
+    private Path components;
+    private Path products;
+    private Path snapshot;
+
+    @BeforeEach
+    void writeCatalog() throws IOException {
+        components = directory.resolve("components.csv");
+        products = directory.resolve("products.csv");
+        snapshot = directory.resolve("catalog.snapshot");
+        Files.writeString(components, """
+                id;Component;Unit Cost (TL);Unit Weight (kg);Type;Stock Quantity
+                C001;Wood Plank;5.00;2;Raw Material;1000 m²
+                C002;Screw;0.50;0.05;Hardware;10000 pieces
+                C003;White Paint;20.00;5;Paint;70 boxes
+                """);
+        // Frame, Chair için alt montajdır
+        Files.writeString(products, """
+                Product Name;Wood Plank;Screw;White Paint;Frame;Quantity
+                Frame;2;4;0;0;5
+                Chair;1,5;10;0,2;1;3
+                """);
+    }
+
+    @Test
+    void roundTripRestoresComponentsStocksAndBoms() {
+        ComponentRepository sourceComponents = new ComponentRepository(components.toString(), LOGGER);
+        ProductRepository sourceProducts = new ProductRepository(products.toString(), sourceComponents, LOGGER);
+        sourceComponents.loadComponents();
+        sourceProducts.loadProducts();
+        // Yüklemeden sonraki stok değişiklikleri de anlık görüntüye girer
+        assertTrue(sourceComponents.findByName("Screw").useStockMilli(Quantities.ofUnits(7)));
+        new CatalogSnapshot(snapshot.toString(), LOGGER).write(fingerprint(), sourceComponents, sourceProducts);
+
+        ComponentRepository loadedComponents = new ComponentRepository(components.toString(), LOGGER);
+        ProductRepository loadedProducts = new ProductRepository(products.toString(), loadedComponents, LOGGER);
+        assertTrue(new CatalogSnapshot(snapshot.toString(), LOGGER).load(fingerprint(), loadedComponents, loadedProducts));
+
+        assertEquals(3, loadedComponents.getAll().size());
+        assertEquals(2, loadedProducts.getAll().size());
+        Component screw = loadedComponents.findByName("Screw");
+        assertEquals(Quantities.ofUnits(10000 - 7), screw.getStockMilli());
+        assertEquals(0.5, screw.getCost());
+
+        Product chair = loadedProducts.findByName("Chair");
+        Product frame = loadedProducts.findByName("Frame");
+        BillOfMaterials bom = chair.getBom();
+        assertEquals(4, bom.size());
+        for (int i = 0; i < bom.size(); i++) {
+            String name = bom.getComponent(i).getName();
+            long quantity = bom.getQuantityMilli(i);
+            switch (name) {
+                case "Wood Plank" -> assertEquals(1500, quantity);
+                case "Screw" -> assertEquals(Quantities.ofUnits(10), quantity);
+                case "White Paint" -> assertEquals(200, quantity);
+                // Alt montaj, depodaki ürün örneğine bağlanmalıdır
+                case "Frame" -> assertSame(frame, bom.getComponent(i));
+                default -> throw new AssertionError("Beklenmeyen reçete satırı: " + name);
+            }
+        }
+        assertNotNull(loadedComponents.findById("white_paint"));
+    }
+
+    @Test
+    void rejectsSnapshotWhenSourceCsvChanged() throws IOException {
+        writeSnapshot();
+        Files.writeString(products, Files.readString(products).replace("Chair;1,5", "Chair;2,5"));
+
+        ComponentRepository loadedComponents = new ComponentRepository(components.toString(), LOGGER);
+        ProductRepository loadedProducts = new ProductRepository(products.toString(), loadedComponents, LOGGER);
+        assertFalse(new CatalogSnapshot(snapshot.toString(), LOGGER).load(fingerprint(), loadedComponents, loadedProducts));
+        assertTrue(loadedComponents.getAll().isEmpty());
+        assertTrue(loadedProducts.getAll().isEmpty());
+    }
+
+    @Test
+    void rejectsTruncatedSnapshotWithoutPartialLoad() throws IOException {
+        writeSnapshot();
+        try (RandomAccessFile file = new RandomAccessFile(snapshot.toFile(), "rw")) {
+            file.setLength(file.length() - 10);
+        }
+
+        ComponentRepository loadedComponents = new ComponentRepository(components.toString(), LOGGER);
+        ProductRepository loadedProducts = new ProductRepository(products.toString(), loadedComponents, LOGGER);
+        assertFalse(new CatalogSnapshot(snapshot.toString(), LOGGER).load(fingerprint(), loadedComponents, loadedProducts));
+        // Bileşen bölümü okunabilse bile depoya hiçbir şey eklenmemeli
+        assertTrue(loadedComponents.getAll().isEmpty());
+        assertTrue(loadedProducts.getAll().isEmpty());
+    }
+
+    @Test
+    void rejectsUnsupportedVersion() throws IOException {
+        writeSnapshot();
+        try (RandomAccessFile file = new RandomAccessFile(snapshot.toFile(), "rw")) {
+            file.seek(Integer.BYTES);
+            file.writeInt(1);
+        }
+
+        ComponentRepository loadedComponents = new ComponentRepository(components.toString(), LOGGER);
+        ProductRepository loadedProducts = new ProductRepository(products.toString(), loadedComponents, LOGGER);
+        assertFalse(new CatalogSnapshot(snapshot.toString(), LOGGER).load(fingerprint(), loadedComponents, loadedProducts));
+        assertTrue(loadedComponents.getAll().isEmpty());
+    }
+
+    private void writeSnapshot() throws IOException {
+        ComponentRepository sourceComponents = new ComponentRepository(components.toString(), LOGGER);
+        ProductRepository sourceProducts = new ProductRepository(products.toString(), sourceComponents, LOGGER);
+        sourceComponents.loadComponents();
+        sourceProducts.loadProducts();
+        new CatalogSnapshot(snapshot.toString(), LOGGER).write(fingerprint(), sourceComponents, sourceProducts);
+        assertTrue(Files.isRegularFile(snapshot));
+    }
+
+    private CatalogSnapshot.SourceFingerprint fingerprint() {
+        try {
+            return CatalogSnapshot.fingerprint(components.toString(), products.toString());
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
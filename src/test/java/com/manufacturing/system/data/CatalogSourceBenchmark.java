@@ -0,0 +1,178 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.presentation.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aynı sentetik katalog üzerinde "csv", "commons-csv" ve "binary" katalog kaynaklarının yükleme hızını
+ * ve ayırdığı belleği karşılaştıran kıyaslama. Testlerle birlikte çalışmaz; elle başlatılır:
+ * <pre>
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes:&lt;commons-csv.jar&gt; \
+ *     com.manufacturing.system.data.CatalogSourceBenchmark [bileşen MB] [ürün MB] [tekrar]
+ * </pre>
+ * Varsayılan boyutlar 64 MB ve 16 MB'dır. "binary" kaynağı için anlık görüntü ölçümden önce CSV'lerden bir
+ * kez yazılır. Her kaynak için en iyi süre, okunan dosyalara göre MB/s ve yükleme sırasında tüm iş
+ * parçacıklarının ayırdığı bellek ({@code ThreadMXBean.getThreadAllocatedBytes}) yazılır; büyük CSV'ler
+ * ortak fork-join havuzunda paralel yüklendiği için havuz iş parçacıkları da sayılır.
+ */
+public final class CatalogSourceBenchmark {
+    private static final long MB = 1024L * 1024;
+    // Ürün satırlarında kullanılan bileşen sütunu sayısı
+    private static final int PRODUCT_COLUMNS = 32;
+    private static final List<String> SOURCES =
+            List.of(CsvCatalogSource.NAME, CommonsCsvCatalogSource.NAME, BinaryCatalogSource.NAME);
+
+    private CatalogSourceBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        long componentBytes = (args.length > 0 ? Long.parseLong(args[0]) : 64) * MB;
+        long productBytes = (args.length > 1 ? Long.parseLong(args[1]) : 16) * MB;
+        int repeats = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        Path directory = Files.createTempDirectory("catalog-source-bench");
+        Path components = directory.resolve("components.csv");
+        Path products = directory.resolve("products.csv");
+        Path snapshot = directory.resolve("catalog.snapshot");
+        try {
+            writeComponents(components, componentBytes);
+            writeProducts(products, productBytes);
+            writeSnapshot(components, products, snapshot);
+            long csvBytes = Files.size(components) + Files.size(products);
+            System.out.printf("components.csv + products.csv: %d MB, anlık görüntü: %d MB%n", csvBytes / MB,
+                    Files.size(snapshot) / MB);
+
+            for (String name : SOURCES) {
+                long inputBytes = BinaryCatalogSource.NAME.equals(name) ? Files.size(snapshot) : csvBytes;
+                Measurement best = null;
+                for (int i = 0; i < repeats; i++) {
+                    System.gc();
+                    Measurement measurement = load(name, components, products, snapshot);
+                    if (best == null || measurement.nanos < best.nanos) {
+                        best = measurement;
+                    }
+                }
+                System.out.printf("%-12s %6d ms, %8.1f MB/s, %6d MB bellek ayrıldı (%d bileşen)%n", name,
+                        best.nanos / 1_000_000, inputBytes * 1e9 / MB / best.nanos, best.allocatedBytes / MB,
+                        best.components);
+            }
+        } finally {
+            Files.deleteIfExists(components);
+            Files.deleteIfExists(products);
+            Files.deleteIfExists(snapshot);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Kataloğu adı verilen kaynaktan boş depolara yükler
+     */
+    private static Measurement load(String name, Path components, Path products, Path snapshot) {
+        Logger logger = new QuietLogger();
+        ComponentRepository componentRepository = new ComponentRepository(components.toString(), logger);
+        ProductRepository productRepository = new ProductRepository(products.toString(), componentRepository, logger);
+        CatalogSource source = CatalogSources.forName(name, snapshot.toString(), logger);
+
+        Map<Long, Long> allocationBefore = allocatedBytesByThread();
+        long startTime = System.nanoTime();
+        if (!source.load(componentRepository, productRepository)) {
+            throw new IllegalStateException("Katalog '" + name + "' kaynağından yüklenemedi");
+        }
+        long elapsed = System.nanoTime() - startTime;
+        long allocated = 0;
+        for (Map.Entry<Long, Long> thread : allocatedBytesByThread().entrySet()) {
+            allocated += thread.getValue() - allocationBefore.getOrDefault(thread.getKey(), 0L);
+        }
+        return new Measurement(elapsed, allocated, componentRepository.getAll().size());
+    }
+
+    /**
+     * Canlı iş parçacıklarının şimdiye kadar ayırdığı bellek miktarları (desteklenmiyorsa boş)
+     */
+    private static Map<Long, Long> allocatedBytesByThread() {
+        Map<Long, Long> allocated = new HashMap<>();
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean) {
+            long[] ids = threadBean.getAllThreadIds();
+            long[] bytes = threadBean.getThreadAllocatedBytes(ids);
+            for (int i = 0; i < ids.length; i++) {
+                if (bytes[i] >= 0) {
+                    allocated.put(ids[i], bytes[i]);
+                }
+            }
+        }
+        return allocated;
+    }
+
+    private static void writeSnapshot(Path components, Path products, Path snapshot) {
+        Logger logger = new QuietLogger();
+        ComponentRepository componentRepository = new ComponentRepository(components.toString(), logger);
+        ProductRepository productRepository = new ProductRepository(products.toString(), componentRepository, logger);
+        new CsvCatalogSource().load(componentRepository, productRepository);
+        new BinaryCatalogSource(snapshot.toString(), logger).store(componentRepository, productRepository);
+    }
+
+    private static void writeComponents(Path path, long bytes) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("id;Component;Unit Cost (TL);Unit Weight (kg);Type;Stock Quantity\n");
+            long written = 0;
+            for (long i = 0; written < bytes; i++) {
+                String line = "C" + i + ";Part " + i + ";" + (i % 100) + ",25;" + (i % 7) + ";"
+                        + (i % 3 == 0 ? "Raw Material" : i % 3 == 1 ? "Hardware" : "Paint") + ";" + (1000 + i % 5000) + " pieces\n";
+                writer.write(line);
+                written += line.length();
+            }
+        }
+    }
+
+    private static void writeProducts(Path path, long bytes) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            StringBuilder header = new StringBuilder("Product Name");
+            for (int column = 0; column < PRODUCT_COLUMNS; column++) {
+                header.append(";Part ").append(column);
+            }
+            writer.write(header.append(";Quantity\n").toString());
+            long written = 0;
+            StringBuilder line = new StringBuilder();
+            for (long i = 0; written < bytes; i++) {
+                line.setLength(0);
+                line.append("Product ").append(i);
+                for (int column = 0; column < PRODUCT_COLUMNS; column++) {
+                    // Seyrek reçete: her satırda birkaç bileşen kullanılır
+                    line.append(';').append((i + column) % 8 == 0 ? "1,5" : "0");
+                }
+                line.append(';').append(1 + i % 20).append('\n');
+                writer.write(line.toString());
+                written += line.length();
+            }
+        }
+    }
+
+    /**
+     * Bir yüklemenin süresi (ns), ayrılan bellek ve yüklenen bileşen sayısı
+     */
+    private record Measurement(long nanos, long allocatedBytes, int components) {
+    }
+
+    /**
+     * Yükleyicilerin özet satırlarını susturan logger
+     */
+    private static final class QuietLogger extends Logger {
+        private QuietLogger() {
+            super(false);
+        }
+
+        @Override
+        public void log(String message) {
+        }
+    }
+}
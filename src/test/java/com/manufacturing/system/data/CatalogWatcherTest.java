@@ -0,0 +1,138 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.domain.bom.BillOfMaterials;
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.presentation.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogWatcherTest {
+    private static final Logger LOGGER = new Logger(false);
+
+    @TempDir
+    Path directory;
+
+    private Path components;
+    private Path products;
+    private ComponentRepository componentRepository;
+    private ProductRepository productRepository;
+    private CatalogWatcher watcher;
+
+    @BeforeEach
+    void loadCatalog() throws IOException {
+        components = directory.resolve("components.csv");
+        products = directory.resolve("products.csv");
+        Files.writeString(components, """
+                id;Component;Unit Cost (TL);Unit Weight (kg);Type;Stock Quantity
+                C001;Wood Plank;5.00;2;Raw Material;1000 m²
+                C002;Screw;0.50;0.05;Hardware;10000 pieces
+                C003;White Paint;20.00;5;Paint;70 boxes
+                """);
+        Files.writeString(products, """
+                Product Name;Wood Plank;Screw;White Paint;Quantity
+                Chair;1,5;10;0,2;3
+                """);
+        componentRepository = new ComponentRepository(components.toString(), LOGGER);
+        productRepository = new ProductRepository(products.toString(), componentRepository, LOGGER);
+        componentRepository.loadComponents();
+        productRepository.loadProducts();
+        watcher = new CatalogWatcher(componentRepository, productRepository, LOGGER);
+        watcher.start();
+    }
+
+    @AfterEach
+    void closeWatcher() {
+        watcher.close();
+    }
+
+    @Test
+    void stockChangeIsAppliedAsDeltaOnTopOfConsumption() throws IOException {
+        Component screw = componentRepository.findByName("Screw");
+        assertTrue(screw.useStockMilli(Quantities.ofUnits(100)));
+
+        replace(components, "10000 pieces", "10500 pieces");
+        watcher.reload(true, false);
+        assertEquals(Quantities.ofUnits(10000 - 100 + 500), screw.getStockMilli());
+
+        // Satır değişmediği sürece fark ikinci kez uygulanmaz
+        watcher.reload(true, false);
+        assertEquals(Quantities.ofUnits(10400), screw.getStockMilli());
+    }
+
+    @Test
+    void onlyChangedRowsAreApplied() throws IOException {
+        Component plank = componentRepository.findByName("Wood Plank");
+        Component paint = componentRepository.findByName("White Paint");
+        assertTrue(plank.useStockMilli(Quantities.ofUnits(10)));
+
+        replace(components, "White Paint;20.00", "White Paint;25.00");
+        watcher.reload(true, false);
+
+        assertEquals(25.0, paint.getCost());
+        assertSame(paint, componentRepository.findByName("White Paint"));
+        assertEquals(Quantities.ofUnits(990), plank.getStockMilli());
+        assertEquals(5.0, plank.getCost());
+    }
+
+    @Test
+    void newRowIsAddedWithoutChangingEarlierSnapshot() throws IOException {
+        List<Component> before = componentRepository.getAll();
+        List<Product> productsBefore = productRepository.getAll();
+
+        Files.writeString(components, Files.readString(components) + "C004;Glue;3.00;0.1;Hardware;50 pieces\n");
+        Files.writeString(products, Files.readString(products) + "Stool;1;4;0;7\n");
+        watcher.reload(true, true);
+
+        Component glue = componentRepository.findByName("Glue");
+        assertNotNull(glue);
+        assertEquals(Quantities.ofUnits(50), glue.getStockMilli());
+        assertEquals(4, componentRepository.getAll().size());
+        assertNotNull(productRepository.findByName("Stool"));
+        assertEquals(2, productRepository.getAll().size());
+
+        // Daha önce alınan listeler anlık görüntüdür; yeniden yükleme onları değiştirmez
+        assertEquals(3, before.size());
+        assertNull(before.stream().filter(component -> component == glue).findFirst().orElse(null));
+        assertEquals(1, productsBefore.size());
+        assertThrows(UnsupportedOperationException.class, () -> before.add(glue));
+    }
+
+    @Test
+    void changedProductRowReplacesBom() throws IOException {
+        Product chair = productRepository.findByName("Chair");
+
+        replace(products, "Chair;1,5;10;0,2", "Chair;1,5;12;0");
+        watcher.reload(false, true);
+
+        assertSame(chair, productRepository.findByName("Chair"));
+        BillOfMaterials bom = chair.getBom();
+        assertEquals(2, bom.size());
+        for (int i = 0; i < bom.size(); i++) {
+            if (bom.getComponent(i).getName().equals("Screw")) {
+                assertEquals(Quantities.ofUnits(12), bom.getQuantityMilli(i));
+            }
+        }
+    }
+
+    private static void replace(Path path, String target, String replacement) throws IOException {
+        String content = Files.readString(path);
+        assertTrue(content.contains(target));
+        Files.writeString(path, content.replace(target, replacement));
+    }
+}
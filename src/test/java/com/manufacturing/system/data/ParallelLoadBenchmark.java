@@ -0,0 +1,162 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.presentation.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Sentetik components.csv ve products.csv dosyalarının yüklenme süresinin iş parçacığı sayısıyla nasıl
+ * ölçeklendiğini ölçen kıyaslama. Testlerle birlikte çalışmaz; elle başlatılır:
+ * <pre>
+ * mvn test-compile
+ * java -Xmx8g -cp target/classes:target/test-classes:&lt;commons-csv.jar&gt; \
+ *     com.manufacturing.system.data.ParallelLoadBenchmark [bileşen MB] [ürün MB] [tekrar]
+ * </pre>
+ * Varsayılan boyutlar 256 MB ve 64 MB'dır; çok GB'lık dosyalar için boyutlar argümanla verilir.
+ * Bileşenler bellek kullanımını düşük tutmak için {@link PrimitiveComponentStore} içinde tutulur.
+ * Her iş parçacığı sayısı için en iyi süre ve tek iş parçacıklı okumaya göre hızlanma yazılır.
+ */
+public final class ParallelLoadBenchmark {
+    private static final long MB = 1024L * 1024;
+    // Ürün satırlarında kullanılan bileşen sütunu sayısı
+    private static final int PRODUCT_COLUMNS = 32;
+
+    private ParallelLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        long componentBytes = (args.length > 0 ? Long.parseLong(args[0]) : 256) * MB;
+        long productBytes = (args.length > 1 ? Long.parseLong(args[1]) : 64) * MB;
+        int repeats = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        Path directory = Files.createTempDirectory("catalog-bench");
+        Path components = directory.resolve("components.csv");
+        Path products = directory.resolve("products.csv");
+        try {
+            writeComponents(components, componentBytes);
+            writeProducts(products, productBytes);
+            System.out.printf("components.csv: %d MB, products.csv: %d MB, %d işlemci%n",
+                    Files.size(components) / MB, Files.size(products) / MB, Runtime.getRuntime().availableProcessors());
+
+            long sequential = best(repeats, () -> load(components, products, null));
+            System.out.printf("sıralı okuma: %d ms%n", sequential / 1_000_000);
+            for (int threads : threadCounts()) {
+                long parallel = best(repeats, () -> {
+                    ForkJoinPool pool = new ForkJoinPool(threads);
+                    try {
+                        return load(components, products, pool);
+                    } finally {
+                        pool.shutdown();
+                    }
+                });
+                System.out.printf("%2d iş parçacığı: %d ms (hızlanma %.2fx)%n", threads, parallel / 1_000_000,
+                        (double) sequential / parallel);
+            }
+        } finally {
+            Files.deleteIfExists(components);
+            Files.deleteIfExists(products);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static List<Integer> threadCounts() {
+        List<Integer> counts = new ArrayList<>();
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads < processors; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(processors);
+        return counts;
+    }
+
+    /**
+     * Kataloğu yükler
+     * @param pool Paralel yükleme havuzu; null ise sıralı okuma
+     * @return Geçen süre (ns)
+     */
+    private static long load(Path components, Path products, ForkJoinPool pool) {
+        Logger logger = new QuietLogger();
+        long startTime = System.nanoTime();
+        ComponentRepository componentRepository = new ComponentRepository(components.toString(), logger,
+                new PrimitiveComponentStore());
+        ProductRepository productRepository = new ProductRepository(products.toString(), componentRepository, logger);
+        if (pool == null) {
+            componentRepository.loadComponents();
+            productRepository.loadProducts();
+        } else {
+            componentRepository.loadComponentsParallel(pool);
+            productRepository.loadProductsParallel(pool);
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    private static long best(int repeats, LoadRun run) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < repeats; i++) {
+            System.gc();
+            best = Math.min(best, run.run());
+        }
+        return best;
+    }
+
+    private static void writeComponents(Path path, long bytes) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("id;Component;Unit Cost (TL);Unit Weight (kg);Type;Stock Quantity\n");
+            long written = 0;
+            for (long i = 0; written < bytes; i++) {
+                String line = "C" + i + ";Part " + i + ";" + (i % 100) + ",25;" + (i % 7) + ";"
+                        + (i % 3 == 0 ? "Raw Material" : i % 3 == 1 ? "Hardware" : "Paint") + ";" + (1000 + i % 5000) + " pieces\n";
+                writer.write(line);
+                written += line.length();
+            }
+        }
+    }
+
+    private static void writeProducts(Path path, long bytes) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            StringBuilder header = new StringBuilder("Product Name");
+            for (int column = 0; column < PRODUCT_COLUMNS; column++) {
+                header.append(";Part ").append(column);
+            }
+            writer.write(header.append(";Quantity\n").toString());
+            long written = 0;
+            StringBuilder line = new StringBuilder();
+            for (long i = 0; written < bytes; i++) {
+                line.setLength(0);
+                line.append("Product ").append(i);
+                for (int column = 0; column < PRODUCT_COLUMNS; column++) {
+                    // Seyrek reçete: her satırda birkaç bileşen kullanılır
+                    line.append(';').append((i + column) % 8 == 0 ? "1,5" : "0");
+                }
+                line.append(';').append(1 + i % 20).append('\n');
+                writer.write(line.toString());
+                written += line.length();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface LoadRun {
+        long run();
+    }
+
+    /**
+     * Yükleyicilerin özet satırlarını susturan logger
+     */
+    private static final class QuietLogger extends Logger {
+        private QuietLogger() {
+            super(false);
+        }
+
+        @Override
+        public void log(String message) {
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.manufacturing.system.data;
+
+import com.manufacturing.system.domain.model.Component;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.presentation.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockJournalTest {
+    private static final Logger LOGGER = new Logger(false);
+
+    @TempDir
+    Path directory;
+
+    private Path components;
+    private Path products;
+    private Path journalDirectory;
+
+    @BeforeEach
+    void writeCatalog() throws IOException {
+        components = directory.resolve("components.csv");
+        products = directory.resolve("products.csv");
+        journalDirectory = directory.resolve("journal");
+        Files.writeString(components, """
+                id;Component;Unit Cost (TL);Unit Weight (kg);Type;Stock Quantity
+                C001;Wood Plank;5.00;2;Raw Material;1000 m²
+                C002;Screw;0.50;0.05;Hardware;10000 pieces
+                """);
+        Files.writeString(products, """
+                Product Name;Wood Plank;Screw;Quantity
+                Chair;1,5;10;3
+                """);
+    }
+
+    @Test
+    void replaysSegmentsWrittenBeforeCrash() throws IOException {
+        Catalog catalog = new Catalog();
+        StockJournal journal = new StockJournal(journalDirectory.toString(), LOGGER);
+        journal.recover(catalog.components, catalog.products);
+        journal.start();
+        journal.stockChanged(catalog.component("Screw"), -Quantities.ofUnits(40));
+        journal.stockChanged(catalog.component("Wood Plank"), -1500);
+        journal.stockChanged(catalog.products.findByName("Chair"), Quantities.ofUnits(1));
+        journal.awaitDurable();
+        // Kapatmadan bırak: kontrol noktası yazılmaz, yalnızca günlük dosyası kalır
+
+        Catalog recovered = new Catalog();
+        StockJournal reopened = new StockJournal(journalDirectory.toString(), LOGGER);
+        reopened.recover(recovered.components, recovered.products);
+        reopened.close();
+
+        assertEquals(Quantities.ofUnits(10000 - 40), recovered.component("Screw").getStockMilli());
+        assertEquals(Quantities.ofUnits(1000) - 1500, recovered.component("Wood Plank").getStockMilli());
+        assertEquals(Quantities.ofUnits(1), recovered.products.findByName("Chair").getStockMilli());
+    }
+
+    @Test
+    void ignoresTornTailFrame() throws IOException {
+        Catalog catalog = new Catalog();
+        StockJournal journal = new StockJournal(journalDirectory.toString(), LOGGER);
+        journal.recover(catalog.components, catalog.products);
+        journal.start();
+        journal.stockChanged(catalog.component("Screw"), -Quantities.ofUnits(7));
+        journal.awaitDurable();
+
+        // Çökme anında yarım kalmış bir çerçeve: uzunluk başlığı var, yük yok
+        Path segment = segments().get(0);
+        Files.write(segment, new byte[] {0, 0, 0, 64, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        Catalog recovered = new Catalog();
+        StockJournal reopened = new StockJournal(journalDirectory.toString(), LOGGER);
+        reopened.recover(recovered.components, recovered.products);
+        reopened.close();
+        assertEquals(Quantities.ofUnits(10000 - 7), recovered.component("Screw").getStockMilli());
+    }
+
+    @Test
+    void checkpointsAccumulateAcrossRestarts() throws IOException {
+        Catalog first = new Catalog();
+        StockJournal journal = new StockJournal(journalDirectory.toString(), LOGGER);
+        journal.recover(first.components, first.products);
+        journal.start();
+        journal.stockChanged(first.component("Screw"), -Quantities.ofUnits(5));
+        journal.close();
+        assertTrue(Files.isRegularFile(journalDirectory.resolve("checkpoint.bin")));
+
+        Catalog second = new Catalog();
+        journal = new StockJournal(journalDirectory.toString(), LOGGER);
+        journal.recover(second.components, second.products);
+        assertEquals(Quantities.ofUnits(10000 - 5), second.component("Screw").getStockMilli());
+        journal.start();
+        journal.stockChanged(second.component("Screw"), -Quantities.ofUnits(3));
+        journal.close();
+        // Kontrol noktasının kapsadığı günlük dosyaları silinir; yalnızca boş yeni dosya kalır
+        assertEquals(1, segments().size());
+        assertEquals(0, Files.size(segments().get(0)));
+
+        Catalog third = new Catalog();
+        journal = new StockJournal(journalDirectory.toString(), LOGGER);
+        journal.recover(third.components, third.products);
+        journal.close();
+        assertEquals(Quantities.ofUnits(10000 - 8), third.component("Screw").getStockMilli());
+    }
+
+    @Test
+    void concurrentWritersAcrossBackgroundCheckpointsLoseNothing() throws Exception {
+        Catalog catalog = new Catalog();
+        StockJournal journal = new StockJournal(journalDirectory.toString(), LOGGER);
+        journal.recover(catalog.components, catalog.products);
+        journal.start();
+        Component screw = catalog.component("Screw");
+        int threads = 4;
+        // Yazma iş parçacığının en az bir kez kontrol noktası alması için aralıktan fazla kayıt
+        int recordsPerThread = 50_000;
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            writers.add(Thread.ofPlatform().start(() -> {
+                for (int record = 0; record < recordsPerThread; record++) {
+                    journal.stockChanged(screw, -1);
+                }
+            }));
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        journal.awaitDurable();
+        journal.close();
+
+        Catalog recovered = new Catalog();
+        StockJournal reopened = new StockJournal(journalDirectory.toString(), LOGGER);
+        reopened.recover(recovered.components, recovered.products);
+        reopened.close();
+        assertEquals(Quantities.ofUnits(10000) - (long) threads * recordsPerThread,
+                recovered.component("Screw").getStockMilli());
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    /**
+     * CSV'den taze yüklenmiş bir katalog
+     */
+    private final class Catalog {
+        private final ComponentRepository components;
+        private final ProductRepository products;
+
+        private Catalog() {
+            components = new ComponentRepository(StockJournalTest.this.components.toString(), LOGGER);
+            products = new ProductRepository(StockJournalTest.this.products.toString(), components, LOGGER);
+            components.loadComponents();
+            products.loadProducts();
+        }
+
+        private Component component(String name) {
+            return components.findByName(name);
+        }
+    }
+}
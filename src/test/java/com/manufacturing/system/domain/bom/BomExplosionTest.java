@@ -0,0 +1,113 @@
+package com.manufacturing.system.domain.bom;
+
+import com.manufacturing.system.domain.model.Hardware;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.RawMaterial;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BomExplosionTest {
+
+    @Test
+    void reserveTakesEveryLineIncludingSubAssemblies() {
+        RawMaterial plank = new RawMaterial("plank", "Plank", 5, 2, Quantities.ofUnits(100));
+        Hardware screw = new Hardware("screw", "Screw", 0.5, 0.05, Quantities.ofUnits(100));
+        Product frame = new Product("frame", "Frame", 0);
+        frame.addMilli(plank, 1500);
+        frame.add(screw, 4);
+        Product chair = new Product("chair", "Chair", 0);
+        chair.add(frame, 2);
+        chair.add(screw, 2);
+
+        BomExplosion bom = chair.explode();
+        // Alt montaj açılır, aynı yaprak bileşenin satırları toplanır
+        assertEquals(2, bom.size());
+        assertTrue(bom.reserve(3));
+        assertEquals(Quantities.ofUnits(100 - 9), plank.getStockMilli());
+        assertEquals(Quantities.ofUnits(100 - 30), screw.getStockMilli());
+
+        bom.release(3);
+        assertEquals(Quantities.ofUnits(100), plank.getStockMilli());
+        assertEquals(Quantities.ofUnits(100), screw.getStockMilli());
+    }
+
+    @Test
+    void failedLineRollsBackEarlierLines() {
+        RawMaterial plank = new RawMaterial("plank", "Plank", 5, 2, Quantities.ofUnits(10));
+        // Ön kontrolden sonra tükenen bileşen: başka bir üretimin stoğu kaptığı anı taklit eder
+        Hardware screw = new Hardware("screw", "Screw", 0.5, 0.05, Quantities.ofUnits(10)) {
+            @Override
+            public boolean useStockMilli(long quantityMilli) {
+                return false;
+            }
+        };
+        Product chair = new Product("chair", "Chair", 0);
+        chair.add(plank, 2);
+        chair.add(screw, 4);
+
+        assertFalse(chair.useComponentsStock(1));
+        assertEquals(Quantities.ofUnits(10), plank.getStockMilli());
+        assertEquals(Quantities.ofUnits(10), screw.getStockMilli());
+        assertEquals(0, chair.getStockMilli());
+    }
+
+    @Test
+    void insufficientStockChangesNothing() {
+        RawMaterial plank = new RawMaterial("plank", "Plank", 5, 2, Quantities.ofUnits(10));
+        Hardware screw = new Hardware("screw", "Screw", 0.5, 0.05, Quantities.ofUnits(7));
+        Product chair = new Product("chair", "Chair", 0);
+        chair.add(plank, 2);
+        chair.add(screw, 4);
+
+        assertFalse(chair.explode().reserve(2));
+        assertEquals(Quantities.ofUnits(10), plank.getStockMilli());
+        assertEquals(Quantities.ofUnits(7), screw.getStockMilli());
+    }
+
+    @Test
+    void concurrentReservationsNeverOversell() throws InterruptedException {
+        int buildable = 500;
+        RawMaterial plank = new RawMaterial("plank", "Plank", 5, 2, Quantities.ofUnits(2 * buildable));
+        Hardware screw = new Hardware("screw", "Screw", 0.5, 0.05, Quantities.ofUnits(3 * buildable + 2));
+        Product chair = new Product("chair", "Chair", 0);
+        chair.add(plank, 2);
+        chair.add(screw, 3);
+
+        int threads = 8;
+        AtomicInteger produced = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int attempt = 0; attempt < buildable; attempt++) {
+                    if (chair.useComponentsStock(1)) {
+                        produced.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(buildable, produced.get());
+        assertEquals(0, plank.getStockMilli());
+        assertEquals(Quantities.ofUnits(2), screw.getStockMilli());
+        assertEquals(Quantities.ofUnits(buildable), chair.getStockMilli());
+    }
+}
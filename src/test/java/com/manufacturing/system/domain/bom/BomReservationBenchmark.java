@@ -0,0 +1,136 @@
+package com.manufacturing.system.domain.bom;
+
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.RawMaterial;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Hepsi ya da hiçbiri reçete rezervasyonunun ({@link BomExplosion#reserve(int)},
+ * {@link Product#useComponentsStock(int)}) çekişme altındaki verimini ölçen kıyaslama. Testlerle birlikte
+ * çalışmaz; elle başlatılır:
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes \
+ *     com.manufacturing.system.domain.bom.BomReservationBenchmark [en fazla iş parçacığı] [rezervasyon] [tekrar]
+ * </pre>
+ * Varsayılan en fazla iş parçacığı sayısı 64, iş parçacığı başına rezervasyon 100000'dir. İş parçacığı
+ * sayısı 1'den başlayarak ikiye katlanır. Her sayı için iki senaryo ölçülür: tüm iş parçacıklarının aynı
+ * bileşenleri kullandığı "ortak" reçete (en kötü CAS çekişmesi) ve her iş parçacığının kendi bileşenlerini
+ * kullandığı "ayrık" reçeteler. Saniyedeki rezervasyon sayısı ve tek iş parçacığına göre hızlanma yazılır.
+ */
+public final class BomReservationBenchmark {
+    // Reçetedeki bileşen sayısı
+    private static final int LINES = 4;
+    private static final long INITIAL_STOCK = Quantities.ofUnits(50_000_000);
+
+    private BomReservationBenchmark() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int reservations = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int repeats = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        System.out.printf("%d satırlı reçete, iş parçacığı başına %d rezervasyon, %d işlemci%n", LINES, reservations,
+                Runtime.getRuntime().availableProcessors());
+        // Isınma: tek iş parçacıklı taban ölçümü JIT derlemesinden etkilenmesin
+        run(1, reservations, true);
+        run(1, reservations, false);
+        double sharedBase = 0;
+        double disjointBase = 0;
+        for (int threads : threadCounts(maxThreads)) {
+            double total = (double) threads * reservations;
+            double shared = total * 1e9 / best(repeats, () -> run(threads, reservations, true));
+            double disjoint = total * 1e9 / best(repeats, () -> run(threads, reservations, false));
+            if (threads == 1) {
+                sharedBase = shared;
+                disjointBase = disjoint;
+            }
+            System.out.printf("%2d iş parçacığı: ortak %.0f rez/s (%.2fx), ayrık %.0f rez/s (%.2fx)%n", threads,
+                    shared, shared / sharedBase, disjoint, disjoint / disjointBase);
+        }
+    }
+
+    private static List<Integer> threadCounts(int maxThreads) {
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(maxThreads);
+        return counts;
+    }
+
+    /**
+     * Her iş parçacığına kendi ürününün rezervasyonlarını yaptırır ve stok hesabını doğrular
+     * @param shared Tüm ürünler aynı bileşenleri kullanıyorsa true
+     * @return Geçen süre (ns)
+     */
+    private static long run(int threads, int reservations, boolean shared) throws InterruptedException {
+        List<RawMaterial> components = new ArrayList<>();
+        Product[] products = new Product[threads];
+        for (int t = 0; t < threads; t++) {
+            products[t] = new Product("P" + t, "Product " + t, 0);
+            for (int line = 0; line < LINES; line++) {
+                if (t == 0 || !shared) {
+                    components.add(new RawMaterial("C" + components.size(), "Part " + components.size(), 1, 1,
+                            INITIAL_STOCK));
+                }
+                products[t].add(components.get(shared ? line : t * LINES + line), 1);
+            }
+            // Açılımı ölçümden önce önbelleğe al
+            products[t].explode();
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Product product = products[t];
+            workers.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < reservations; i++) {
+                    if (!product.useComponentsStock(1)) {
+                        throw new IllegalStateException("Rezervasyon başarısız: " + product.getName());
+                    }
+                }
+            }));
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        long used = 0;
+        for (RawMaterial component : components) {
+            used += INITIAL_STOCK - component.getStockMilli();
+        }
+        if (used != Quantities.ofUnits((long) threads * reservations * LINES)) {
+            throw new IllegalStateException("Stok hesabı tutmuyor: kullanılan " + used);
+        }
+        return elapsed;
+    }
+
+    private static long best(int repeats, ReservationRun run) throws InterruptedException {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < repeats; i++) {
+            System.gc();
+            best = Math.min(best, run.run());
+        }
+        return best;
+    }
+
+    @FunctionalInterface
+    private interface ReservationRun {
+        long run() throws InterruptedException;
+    }
+}
@@ -0,0 +1,110 @@
+package com.manufacturing.system.domain.inventory;
+
+import com.manufacturing.system.domain.model.Hardware;
+import com.manufacturing.system.domain.model.LeafComponent;
+import com.manufacturing.system.domain.model.Paint;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.RawMaterial;
+import com.manufacturing.system.domain.model.StockEvents;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AvailableToPromiseTest {
+    private AvailableToPromise atp;
+    private RawMaterial plank;
+    private Hardware screw;
+    private Paint varnish;
+    private Product chair;
+    private Product table;
+
+    @BeforeEach
+    void setUp() {
+        atp = new AvailableToPromise();
+        StockEvents.addListener(atp);
+        plank = new RawMaterial("plank", "Plank", 5, 2, Quantities.ofUnits(100));
+        screw = new Hardware("screw", "Screw", 0.5, 0.05, Quantities.ofUnits(40));
+        varnish = new Paint("varnish", "Varnish", 3, 1, Quantities.ofUnits(30));
+        chair = new Product("chair", "Chair", 0);
+        chair.add(plank, 2);
+        chair.add(screw, 4);
+        table = new Product("table", "Table", 0);
+        table.add(plank, 5);
+        table.add(varnish, 1);
+        atp.track(List.of(chair, table));
+    }
+
+    @AfterEach
+    void tearDown() {
+        StockEvents.removeListener(atp);
+    }
+
+    @Test
+    void bottleneckMovesWhenStockChanges() {
+        Availability initial = atp.query(chair);
+        assertEquals(10, initial.getBuildableUnits());
+        assertSame(screw, initial.getBottleneck());
+
+        // Darboğaz gevşeyince diğer satır yeni darboğaz olur
+        screw.adjustStockMilli(Quantities.ofUnits(400));
+        assertEquals(50, atp.query(chair).getBuildableUnits());
+        assertSame(plank, atp.query(chair).getBottleneck());
+
+        // Darboğaz olmayan satırın darboğazın altına inmesi
+        varnish.useStockMilli(Quantities.ofUnits(28));
+        assertEquals(2, atp.query(table).getBuildableUnits());
+        assertSame(varnish, atp.query(table).getBottleneck());
+
+        // Ortak bileşenin tüketimi onu kullanan tüm ürünleri günceller
+        plank.useStockMilli(Quantities.ofUnits(96));
+        assertEquals(2, atp.query(chair).getBuildableUnits());
+        assertEquals(0, atp.query(table).getBuildableUnits());
+        assertSame(plank, atp.query(table).getBottleneck());
+        assertTrue(atp.canPromise(chair, 2));
+        assertFalse(atp.canPromise(chair, 3));
+    }
+
+    @Test
+    void matchesFullScanAfterRandomStockChanges() {
+        Random random = new Random(42);
+        for (int step = 0; step < 2000; step++) {
+            long delta = Quantities.ofUnits(random.nextInt(21) - 10);
+            switch (random.nextInt(3)) {
+                case 0 -> adjust(plank, delta);
+                case 1 -> adjust(screw, delta);
+                default -> adjust(varnish, delta);
+            }
+            assertEquals(chair.explode().buildableUnits(), atp.query(chair).getBuildableUnits());
+            assertEquals(table.explode().buildableUnits(), atp.query(table).getBuildableUnits());
+        }
+    }
+
+    @Test
+    void recipeChangeRebuildsEntry() {
+        assertEquals(10, atp.query(chair).getBuildableUnits());
+        chair.add(varnish, 10);
+        Availability changed = atp.query(chair);
+        assertEquals(3, changed.getBuildableUnits());
+        assertSame(varnish, changed.getBottleneck());
+
+        varnish.adjustStockMilli(Quantities.ofUnits(70));
+        assertEquals(10, atp.query(chair).getBuildableUnits());
+        assertSame(screw, atp.query(chair).getBottleneck());
+    }
+
+    /**
+     * Stoğu sıfırın altına düşürmeden değiştirir
+     */
+    private static void adjust(LeafComponent component, long delta) {
+        component.adjustStockMilli(Math.max(delta, -component.getStockMilli()));
+    }
+}
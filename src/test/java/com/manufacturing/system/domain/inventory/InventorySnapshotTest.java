@@ -0,0 +1,116 @@
+package com.manufacturing.system.domain.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InventorySnapshotTest {
+
+    @Test
+    void snapshotKeepsValuesFromOpenTime() {
+        StockCell cell = new StockCell(10_000);
+        try (InventorySnapshot first = InventoryVersions.openSnapshot()) {
+            assertTrue(cell.tryTake(3_000));
+            try (InventorySnapshot second = InventoryVersions.openSnapshot()) {
+                cell.addClamped(500);
+                assertEquals(10_000, cell.get(first));
+                assertEquals(7_000, cell.get(second));
+                assertEquals(7_500, cell.get());
+            }
+            assertEquals(10_000, cell.get(first));
+        }
+        assertEquals(7_500, cell.get());
+    }
+
+    @Test
+    void snapshotsKeepWorkingAcrossClockWrap() {
+        InventoryVersions.resetClock(VersionedStock.MAX_EPOCH - 3);
+        StockCell cell = new StockCell(1_000);
+        StockCell untouched = new StockCell(500);
+        try (InventorySnapshot beforeWrap = InventoryVersions.openSnapshot()) {
+            // Anlık görüntü açıkken yazılan hücre sıfır olmayan bir dönemle damgalanır
+            untouched.addClamped(1);
+            long expected = 1_000;
+            for (int i = 0; i < 8; i++) {
+                try (InventorySnapshot snapshot = InventoryVersions.openSnapshot()) {
+                    assertTrue(cell.tryTake(10));
+                    assertEquals(expected, cell.get(snapshot));
+                    assertEquals(1_000, cell.get(beforeWrap));
+                    assertEquals(500, untouched.get(beforeWrap));
+                    assertEquals(501, untouched.get(snapshot));
+                    expected -= 10;
+                }
+            }
+            assertTrue(InventoryVersions.currentEpoch() < VersionedStock.MAX_EPOCH - 3);
+            assertEquals(expected, cell.get());
+        }
+        try (InventorySnapshot afterWrap = InventoryVersions.openSnapshot()) {
+            assertEquals(920, cell.get(afterWrap));
+            assertEquals(501, untouched.get(afterWrap));
+        }
+    }
+
+    @Test
+    void staleStampFromEarlierTurnReadsAsOld() {
+        InventoryVersions.resetClock(1_000);
+        StockCell cell = new StockCell(100);
+        try (InventorySnapshot earlier = InventoryVersions.openSnapshot()) {
+            cell.addClamped(1);
+            assertEquals(100, cell.get(earlier));
+        }
+        // Hücre dokunulmadan saat önceki damganın gerisine döner
+        InventoryVersions.resetClock(10);
+        try (InventorySnapshot snapshot = InventoryVersions.openSnapshot()) {
+            assertEquals(101, cell.get(snapshot));
+            assertTrue(cell.tryTake(50));
+            assertEquals(101, cell.get(snapshot));
+        }
+        assertEquals(51, cell.get());
+    }
+
+    @Test
+    void snapshotCannotBeOpenedInsideWriteScope() {
+        InventoryVersions.beginWrite();
+        try {
+            assertThrows(IllegalStateException.class, InventoryVersions::openSnapshot);
+        } finally {
+            InventoryVersions.endWrite();
+        }
+    }
+
+    @Test
+    void transfersInOneWriteScopeAreSeenAllOrNothing() throws InterruptedException {
+        long total = 1_000_000;
+        StockCell source = new StockCell(total);
+        StockCell target = new StockCell(0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = Thread.ofPlatform().start(() -> {
+            while (running.get() && source.get() > 0) {
+                // Bir ürünün bileşen düşümleri gibi: iki hücre tek kapsamda güncellenir
+                InventoryVersions.beginWrite();
+                try {
+                    if (source.tryTake(1)) {
+                        target.addClamped(1);
+                    }
+                } finally {
+                    InventoryVersions.endWrite();
+                }
+            }
+        });
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                try (InventorySnapshot snapshot = InventoryVersions.openSnapshot()) {
+                    assertEquals(total, source.get(snapshot) + target.get(snapshot));
+                }
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+        assertEquals(total, source.get() + target.get());
+    }
+}
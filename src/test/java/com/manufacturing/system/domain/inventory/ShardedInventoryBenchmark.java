@@ -0,0 +1,137 @@
+package com.manufacturing.system.domain.inventory;
+
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.RawMaterial;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Reçete rezervasyonlarının ({@link Product#useComponentsStock(int)}) iş parçacığı sayısıyla nasıl
+ * ölçeklendiğini doğrudan CAS ve parçalı envanter ({@link ShardedInventory}) için karşılaştıran kıyaslama.
+ * Testlerle birlikte çalışmaz; elle başlatılır:
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes \
+ *     com.manufacturing.system.domain.inventory.ShardedInventoryBenchmark [en fazla iş parçacığı] [rezervasyon] [tekrar]
+ * </pre>
+ * Varsayılan en fazla iş parçacığı sayısı işlemci sayısı, iş parçacığı başına rezervasyon 200000'dir.
+ * Parçalı envanter işlemci sayısı kadar parçayla açılır. Her iş parçacığı sayısı için saniyedeki
+ * rezervasyon sayısı ve parçalı envanterin doğrudan CAS'a göre hızlanması yazılır.
+ */
+public final class ShardedInventoryBenchmark {
+    private static final int COMPONENTS = 1024;
+    private static final int PRODUCTS = 256;
+    // Ürün reçetesindeki bileşen sayısı
+    private static final int LINES = 3;
+
+    private ShardedInventoryBenchmark() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : processors;
+        int reservations = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        int repeats = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        System.out.printf("%d bileşen, %d ürün, %d işlemci, %d parça%n", COMPONENTS, PRODUCTS, processors, processors);
+        for (int threads : threadCounts(maxThreads)) {
+            long direct = best(repeats, () -> run(threads, reservations));
+            ShardedInventory.open(processors);
+            long sharded;
+            try {
+                sharded = best(repeats, () -> run(threads, reservations));
+            } finally {
+                ShardedInventory.close();
+            }
+            double total = (double) threads * reservations;
+            System.out.printf("%2d iş parçacığı: doğrudan %.0f rez/s, parçalı %.0f rez/s (hızlanma %.2fx)%n", threads,
+                    total * 1e9 / direct, total * 1e9 / sharded, (double) direct / sharded);
+        }
+    }
+
+    private static List<Integer> threadCounts(int maxThreads) {
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(maxThreads);
+        return counts;
+    }
+
+    /**
+     * Yeni bir katalog üzerinde her iş parçacığına rastgele ürünlerin rezervasyonlarını yaptırır ve stok
+     * hesabını doğrular
+     * @return Geçen süre (ns)
+     */
+    private static long run(int threads, int reservations) throws InterruptedException {
+        Random random = new Random(42);
+        List<RawMaterial> components = new ArrayList<>();
+        for (int i = 0; i < COMPONENTS; i++) {
+            components.add(new RawMaterial("C" + i, "Part " + i, 1, 1, Quantities.ofUnits(10_000_000)));
+        }
+        Product[] products = new Product[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            products[i] = new Product("P" + i, "Product " + i, 0);
+            for (int line = 0; line < LINES; line++) {
+                products[i].add(components.get(random.nextInt(COMPONENTS)), 1);
+            }
+            // Açılımı ölçümden önce önbelleğe al
+            products[i].explode();
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            workers.add(Thread.ofPlatform().start(() -> {
+                Random choice = new Random(seed);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < reservations; i++) {
+                    products[choice.nextInt(PRODUCTS)].useComponentsStock(1);
+                }
+            }));
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        long produced = 0;
+        for (Product product : products) {
+            produced += product.getStockMilli();
+        }
+        long used = 0;
+        for (RawMaterial component : components) {
+            used += Quantities.ofUnits(10_000_000) - component.getStockMilli();
+        }
+        if (produced != Quantities.ofUnits((long) threads * reservations) || used != LINES * produced) {
+            throw new IllegalStateException("Stok hesabı tutmuyor: üretilen " + produced + ", kullanılan " + used);
+        }
+        return elapsed;
+    }
+
+    private static long best(int repeats, ReservationRun run) throws InterruptedException {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < repeats; i++) {
+            System.gc();
+            best = Math.min(best, run.run());
+        }
+        return best;
+    }
+
+    @FunctionalInterface
+    private interface ReservationRun {
+        long run() throws InterruptedException;
+    }
+}
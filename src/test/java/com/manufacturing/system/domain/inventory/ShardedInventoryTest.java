@@ -0,0 +1,120 @@
+package com.manufacturing.system.domain.inventory;
+
+import com.manufacturing.system.domain.model.Hardware;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.RawMaterial;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedInventoryTest {
+    private static final int SHARDS = 4;
+
+    @BeforeEach
+    void setUp() {
+        ShardedInventory.open(SHARDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ShardedInventory.close();
+    }
+
+    @Test
+    void failingShardRollsBackOtherShards() {
+        // Farklı parçalara düşen iki bileşen: biri yeterli, biri yetersiz
+        RawMaterial plank = new RawMaterial("plank", "Plank", 5, 2, Quantities.ofUnits(100));
+        Hardware screw = otherShard(plank);
+        Product chair = new Product("chair", "Chair", 0);
+        chair.add(plank, 2);
+        chair.add(screw, 4);
+
+        assertTrue(chair.useComponentsStock(2));
+        assertEquals(Quantities.ofUnits(96), plank.getStockMilli());
+        assertEquals(0, screw.getStockMilli());
+        assertEquals(Quantities.ofUnits(2), chair.getStockMilli());
+
+        // Ön kontrol atlanırsa yeterli parçanın düşümü sahibinde geri alınır
+        assertFalse(ShardedInventory.routing().reserve(chair.explode(), 1));
+        assertEquals(Quantities.ofUnits(96), plank.getStockMilli());
+        assertEquals(0, screw.getStockMilli());
+
+        chair.explode().release(2);
+        assertEquals(Quantities.ofUnits(100), plank.getStockMilli());
+        assertEquals(Quantities.ofUnits(8), screw.getStockMilli());
+    }
+
+    @Test
+    void concurrentReservationsNeverOversell() throws InterruptedException {
+        List<RawMaterial> components = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            components.add(new RawMaterial("c" + i, "Part " + i, 1, 1, Quantities.ofUnits(500)));
+        }
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Product product = new Product("p" + i, "Product " + i, 0);
+            product.add(components.get(i), 1);
+            product.add(components.get(i + 8), 1);
+            product.add(components.get((i * 5) % 16), 1);
+            products.add(product);
+        }
+        AtomicInteger reserved = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int offset = t;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 400; i++) {
+                    if (products.get((offset + i) % products.size()).useComponentsStock(1)) {
+                        reserved.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long produced = 0;
+        for (Product product : products) {
+            produced += product.getStockMilli();
+        }
+        long used = 0;
+        for (RawMaterial component : components) {
+            assertTrue(component.getStockMilli() >= 0);
+            used += Quantities.ofUnits(500) - component.getStockMilli();
+        }
+        assertEquals(Quantities.ofUnits(reserved.get()), produced);
+        assertEquals(3 * produced, used);
+    }
+
+    /**
+     * Verilen bileşenden farklı parçaya düşen, 8 birim stoklu bir donanım bileşeni
+     */
+    private static Hardware otherShard(RawMaterial component) {
+        ShardedInventory sharded = ShardedInventory.routing();
+        for (int i = 0; ; i++) {
+            Hardware candidate = new Hardware("screw" + i, "Screw", 0.5, 0.05, Quantities.ofUnits(8));
+            if (sharded.shardOf(candidate) != sharded.shardOf(component)) {
+                return candidate;
+            }
+        }
+    }
+}
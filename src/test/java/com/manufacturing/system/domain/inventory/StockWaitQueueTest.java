@@ -0,0 +1,116 @@
+package com.manufacturing.system.domain.inventory;
+
+import com.manufacturing.system.domain.model.Hardware;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.RawMaterial;
+import com.manufacturing.system.domain.model.StockEvents;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockWaitQueueTest {
+    private StockWaitQueue queue;
+    private RawMaterial plank;
+    private Hardware screw;
+    private Product chair;
+
+    @BeforeEach
+    void setUp() {
+        queue = new StockWaitQueue();
+        StockEvents.addListener(queue);
+        plank = new RawMaterial("plank", "Plank", 5, 2, Quantities.ofUnits(100));
+        screw = new Hardware("screw", "Screw", 0.5, 0.05, 0);
+        chair = new Product("chair", "Chair", 0);
+        chair.add(plank, 2);
+        chair.add(screw, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        StockEvents.removeListener(queue);
+        queue.close();
+    }
+
+    @Test
+    void waiterWakesOnlyWhenLackingComponentArrives() throws InterruptedException {
+        BlockingQueue<Boolean> results = new LinkedBlockingQueue<>();
+        queue.park(chair, 1, 0, -1, results::add);
+        assertEquals(1, queue.getWaitingCount());
+
+        // Yeterli olan bileşenin ikmali birimi uyandırmaz
+        plank.adjustStockMilli(Quantities.ofUnits(10));
+        assertNull(results.poll(50, TimeUnit.MILLISECONDS));
+
+        screw.adjustStockMilli(Quantities.ofUnits(4));
+        assertEquals(Boolean.TRUE, results.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, queue.getWaitingCount());
+        assertEquals(0, screw.getStockMilli());
+        assertEquals(Quantities.ofUnits(108), plank.getStockMilli());
+        assertEquals(Quantities.ofUnits(1), chair.getStockMilli());
+    }
+
+    @Test
+    void expiredWaiterResumesWithFalse() throws InterruptedException {
+        BlockingQueue<Boolean> results = new LinkedBlockingQueue<>();
+        queue.park(chair, 1, 0, 20, results::add);
+        assertEquals(Boolean.FALSE, results.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, queue.getWaitingCount());
+
+        // Süresi dolan birim sonraki ikmalde stok kullanmaz
+        screw.adjustStockMilli(Quantities.ofUnits(4));
+        assertNull(results.poll(50, TimeUnit.MILLISECONDS));
+        assertEquals(Quantities.ofUnits(4), screw.getStockMilli());
+    }
+
+    @Test
+    void concurrentReplenishmentsResumeEachWaiterOnce() throws InterruptedException {
+        int waiters = 200;
+        plank.adjustStockMilli(Quantities.ofUnits(2 * waiters - 100));
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger resumed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(waiters);
+        for (int i = 0; i < waiters; i++) {
+            queue.park(chair, 1, i % 3, -1, success -> {
+                if (success) {
+                    reserved.incrementAndGet();
+                }
+                resumed.incrementAndGet();
+                done.countDown();
+            });
+        }
+        assertEquals(waiters, queue.getWaitingCount());
+
+        // Tam olarak tüm bekleyenlere yetecek vida, birer birer ve birkaç iş parçacığından gelir
+        List<Thread> suppliers = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            suppliers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < waiters; i++) {
+                    screw.adjustStockMilli(Quantities.ofUnits(1));
+                }
+            }));
+        }
+        for (Thread supplier : suppliers) {
+            supplier.join();
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(waiters, reserved.get());
+        assertEquals(waiters, resumed.get());
+        assertEquals(0, queue.getWaitingCount());
+        assertEquals(0, screw.getStockMilli());
+        assertEquals(Quantities.ofUnits(waiters), chair.getStockMilli());
+    }
+}
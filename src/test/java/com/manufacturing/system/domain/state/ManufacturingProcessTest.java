@@ -0,0 +1,137 @@
+package com.manufacturing.system.domain.state;
+
+import com.manufacturing.system.domain.inventory.StockWaitQueue;
+import com.manufacturing.system.domain.model.Hardware;
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.domain.model.ProductionOrder;
+import com.manufacturing.system.domain.model.Quantities;
+import com.manufacturing.system.domain.model.RawMaterial;
+import com.manufacturing.system.domain.model.StockEvents;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ManufacturingProcessTest {
+    private RawMaterial plank;
+    private Hardware screw;
+    private Product chair;
+
+    @BeforeEach
+    void setUp() {
+        plank = new RawMaterial("plank", "Plank", 5, 2, Quantities.ofUnits(1000));
+        screw = new Hardware("screw", "Screw", 0.5, 0.05, 0);
+        chair = new Product("chair", "Chair", 0);
+        chair.add(plank, 2);
+        chair.add(screw, 4);
+    }
+
+    @Test
+    void concurrentOrdersLosingStockRaceCountAsStockShortage() throws InterruptedException {
+        int orders = 8;
+        int unitsPerOrder = 20;
+        int buildable = 50;
+        screw.adjustStockMilli(Quantities.ofUnits(4 * buildable));
+        List<ManufacturingProcess> processes = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            ManufacturingProcess process = new ManufacturingProcess(chair, unitsPerOrder);
+            process.setTraceEnabled(false);
+            processes.add(process);
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                process.run();
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Stok kontrolü ayırmanın kendisi olduğu için stoğu alamayan her birim stok yetersizliğidir
+        int shortages = 0;
+        for (ManufacturingProcess process : processes) {
+            assertEquals(unitsPerOrder, process.getTotalProcessedCount());
+            shortages += process.getStockShortageCount();
+        }
+        assertEquals(orders * unitsPerOrder - buildable, shortages);
+        assertEquals(0, screw.getStockMilli());
+    }
+
+    @Test
+    void unitsWaitingForStockResumeOnResumeExecutor() throws InterruptedException {
+        StockWaitQueue queue = new StockWaitQueue();
+        StockEvents.addListener(queue);
+        try {
+            List<String> resumedOn = new CopyOnWriteArrayList<>();
+            Executor orderExecutor = task -> Thread.ofPlatform().name("order-executor").start(() -> {
+                resumedOn.add(Thread.currentThread().getName());
+                task.run();
+            });
+            ManufacturingProcess process = new ManufacturingProcess(new ProductionOrder(chair, 3), queue, -1);
+            process.setTraceEnabled(false);
+            process.setResumeExecutor(orderExecutor);
+            CompletableFuture<ManufacturingProcess> completion = process.start();
+            assertFalse(completion.isDone());
+
+            screw.adjustStockMilli(Quantities.ofUnits(12));
+            assertEquals(process, completion.orTimeout(5, TimeUnit.SECONDS).join());
+            assertEquals(3, process.getTotalProcessedCount());
+            assertEquals(0, process.getStockShortageCount());
+            assertEquals(0, screw.getStockMilli());
+            assertFalse(resumedOn.isEmpty());
+            for (String thread : resumedOn) {
+                assertEquals("order-executor", thread);
+            }
+        } finally {
+            StockEvents.removeListener(queue);
+            queue.close();
+        }
+    }
+
+    @Test
+    void batchesRunThroughStateMachineStages() {
+        screw.adjustStockMilli(Quantities.ofUnits(4 * 30));
+        // Üretimden geçen her birimi reddeden ek aşama: partiler de bu aşamadan geçmeli
+        ManufacturingState rejecting = new ManufacturingState() {
+            @Override
+            public StageResult handle(ManufacturingProcess context) {
+                context.setFailureReason(FailureReason.SYSTEM_ERROR);
+                return StageResult.FAILED;
+            }
+
+            @Override
+            public String getName() {
+                return "Red";
+            }
+        };
+        ManufacturingStateMachine machine = ManufacturingStateMachine.builder(WaitingForStockState.INSTANCE)
+                .on(WaitingForStockState.INSTANCE, StageResult.PASSED, InManufacturingState.INSTANCE)
+                .on(InManufacturingState.INSTANCE, StageResult.PASSED, rejecting)
+                .build();
+        ManufacturingProcess process = new ManufacturingProcess(new ProductionOrder(chair, 40), null, 0, 8, machine);
+        process.setTraceEnabled(false);
+        process.run();
+
+        assertEquals(0, process.getSuccessCount());
+        assertEquals(10, process.getStockShortageCount());
+        assertEquals(30, process.getSystemErrorCount() + process.getDamagedComponentCount());
+        assertEquals(40, process.getTotalProcessedCount());
+        assertEquals(0, screw.getStockMilli());
+    }
+}
@@ -0,0 +1,29 @@
+package com.manufacturing.system.domain.state;
+
+import com.manufacturing.system.domain.model.Product;
+import com.manufacturing.system.presentation.Logger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ProductionEventsTest {
+    @Test
+    void eventsPublishedAfterCloseAreCounted() {
+        ManufacturingProcess process = new ManufacturingProcess(new Product("chair", "Chair", 0), 1);
+        ProductionEvents.open(16, new Logger(false));
+        ProductionEvents.stateChanged(process, null, WaitingForStockState.INSTANCE);
+        ProductionEvents.close();
+        assertFalse(ProductionEvents.isOpen());
+        assertEquals(0, ProductionEvents.getDroppedEvents());
+
+        ProductionEvents.stateChanged(process, WaitingForStockState.INSTANCE, InManufacturingState.INSTANCE);
+        ProductionEvents.stateChanged(process, InManufacturingState.INSTANCE, CompletedState.INSTANCE);
+        assertEquals(2, ProductionEvents.getDroppedEvents());
+
+        // Yeniden açılan yol sayacı sıfırlar
+        ProductionEvents.open(16, new Logger(false));
+        ProductionEvents.close();
+        assertEquals(0, ProductionEvents.getDroppedEvents());
+    }
+}
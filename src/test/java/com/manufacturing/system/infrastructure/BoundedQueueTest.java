@@ -0,0 +1,27 @@
+package com.manufacturing.system.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedQueueTest {
+
+    @Test
+    void smallestQueueNeverOverwritesFullSlot() {
+        BoundedQueue<Integer> queue = new BoundedQueue<>(1);
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < queue.capacity(); i++) {
+                assertTrue(queue.offer(round * 10 + i));
+            }
+            // Dolu kuyruğa ekleme reddedilir, hiçbir eleman kaybolmaz
+            assertFalse(queue.offer(-1));
+            for (int i = 0; i < queue.capacity(); i++) {
+                assertEquals(round * 10 + i, queue.poll());
+            }
+            assertNull(queue.poll());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.manufacturing.system.infrastructure;
+
+import com.manufacturing.system.presentation.Logger;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferTest {
+    @Test
+    void closeDeliversClaimedEventsAndRejectsLaterOnes() {
+        RingBuffer<long[]> ring = new RingBuffer<>(4, () -> new long[1], new RecordingLogger());
+        List<Long> received = new CopyOnWriteArrayList<>();
+        ring.subscribe("ring-test", (event, sequence, endOfBatch) -> received.add(event[0]));
+        for (long value = 0; value < 10; value++) {
+            publish(ring, value);
+        }
+        ring.close();
+
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), received);
+        assertTrue(ring.isClosed());
+        assertEquals(-1, ring.next());
+        assertThrows(IllegalStateException.class, () -> ring.subscribe("late", (event, sequence, endOfBatch) -> { }));
+    }
+
+    @Test
+    void failingHandlerIsLoggedAndSkipsOnlyItsEvent() {
+        RecordingLogger logger = new RecordingLogger();
+        RingBuffer<long[]> ring = new RingBuffer<>(8, () -> new long[1], logger);
+        List<Long> received = new CopyOnWriteArrayList<>();
+        ring.subscribe("ring-failing", (event, sequence, endOfBatch) -> {
+            if (event[0] == 1) {
+                throw new IllegalArgumentException("bozuk olay");
+            }
+            received.add(event[0]);
+        });
+        for (long value = 0; value < 3; value++) {
+            publish(ring, value);
+        }
+        ring.close();
+
+        assertEquals(List.of(0L, 2L), received);
+        assertEquals(1, logger.errors.size());
+        assertTrue(logger.errors.get(0).contains("bozuk olay"));
+    }
+
+    private static void publish(RingBuffer<long[]> ring, long value) {
+        long sequence = ring.next();
+        ring.get(sequence)[0] = value;
+        ring.publish(sequence);
+    }
+
+    /**
+     * Hata mesajlarını biriktiren logger
+     */
+    private static final class RecordingLogger extends Logger {
+        private final List<String> errors = new CopyOnWriteArrayList<>();
+
+        private RecordingLogger() {
+            super(false);
+        }
+
+        @Override
+        public void error(String message) {
+            errors.add(message);
+        }
+    }
+}